@@ -29,6 +29,8 @@ import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticUtils;
 import io.ballerina.architecturemodelgenerator.extension.Utils;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
@@ -55,10 +57,13 @@ import java.util.concurrent.CompletableFuture;
 public class ArchitectureModelGeneratorService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private ServerExecutors executors;
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -99,7 +104,7 @@ public class ArchitectureModelGeneratorService implements ExtendedLanguageServer
             }
             response.setComponentModels(componentModelMap);
             return response;
-        });
+        }, executors.interactive());
     }
 
     private Project getCurrentProject(Path path) throws ArchitectureModelException, WorkspaceDocumentException,
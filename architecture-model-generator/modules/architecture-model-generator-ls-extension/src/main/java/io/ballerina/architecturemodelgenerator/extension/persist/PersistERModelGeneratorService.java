@@ -32,9 +32,13 @@ import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.directory.SingleFileProject;
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
+import org.eclipse.lsp4j.services.LanguageServer;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -54,6 +58,14 @@ import java.util.concurrent.atomic.AtomicBoolean;
 @JsonSegment("persistERGeneratorService")
 public class PersistERModelGeneratorService implements ExtendedLanguageServerService {
 
+    private ServerExecutors executors;
+
+    @Override
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
+        this.executors = serverContext.executors();
+    }
+
     @Override
     public Class<?> getRemoteInterface() {
         return getClass();
@@ -103,6 +115,6 @@ public class PersistERModelGeneratorService implements ExtendedLanguageServerSer
 
             response.setPersistERModels(persistERModel);
             return response;
-        });
+        }, executors.interactive());
     }
 }
@@ -26,6 +26,7 @@ import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManagerProxy;
@@ -42,6 +43,7 @@ public class CopilotAgentService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
     private WorkspaceManager aiWorkspaceManager;
+    private ServerExecutors executors;
 
     @Override
     public void init(LanguageServer langServer,
@@ -49,6 +51,7 @@ public class CopilotAgentService implements ExtendedLanguageServerService {
                      LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManagerProxy.get();
         this.aiWorkspaceManager = workspaceManagerProxy.get("ai://file.bal");
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -75,6 +78,6 @@ public class CopilotAgentService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 }
@@ -32,6 +32,7 @@ import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManagerProxy;
@@ -47,6 +48,7 @@ import java.util.concurrent.CompletableFuture;
 public class DesignModelGeneratorService implements ExtendedLanguageServerService {
 
     private WorkspaceManagerProxy workspaceManagerProxy;
+    private ServerExecutors executors;
 
     @Override
     public void init(LanguageServer langServer,
@@ -54,6 +56,7 @@ public class DesignModelGeneratorService implements ExtendedLanguageServerServic
                      LanguageServerContext serverContext) {
         this.workspaceManagerProxy = workspaceManagerProxy;
         ArtifactsCache.initialize();
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -76,7 +79,7 @@ public class DesignModelGeneratorService implements ExtendedLanguageServerServic
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -97,7 +100,7 @@ public class DesignModelGeneratorService implements ExtendedLanguageServerServic
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -114,6 +117,6 @@ public class DesignModelGeneratorService implements ExtendedLanguageServerServic
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 }
@@ -36,6 +36,7 @@ import io.ballerina.projectservice.extension.response.ImportTibcoResponse;
 import io.ballerina.projectservice.extension.response.MigrationToolListResponse;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManagerProxy;
@@ -64,6 +65,7 @@ public class ProjectService implements ExtendedLanguageServerService {
     public static final String CAPABILITY_NAME = "projectService";
     private LanguageServerContext context;
     private final List<MigrationTool> migrationTools;
+    private ServerExecutors executors;
 
     public ProjectService() {
         Type toolListType = new TypeToken<List<MigrationTool>>() {
@@ -85,6 +87,7 @@ public class ProjectService implements ExtendedLanguageServerService {
                      WorkspaceManagerProxy workspaceManagerProxy,
                      LanguageServerContext serverContext) {
         this.context = serverContext;
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -122,7 +125,7 @@ public class ProjectService implements ExtendedLanguageServerService {
                 return ImportTibcoResponse.from(result);
             }
             return new ImportTibcoResponse("Migration failed", null, null, null);
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -155,7 +158,7 @@ public class ProjectService implements ExtendedLanguageServerService {
                 return ImportMuleResponse.from(result);
             }
             return new ImportMuleResponse("Migration failed", null, null, null);
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -182,6 +185,6 @@ public class ProjectService implements ExtendedLanguageServerService {
         return CompletableFuture.supplyAsync(() -> {
             List<MigrationTool> tools = BalToolsUtil.getToolsCompatibility(this.migrationTools);
             return new MigrationToolListResponse(tools);
-        });
+        }, executors.interactive());
     }
 }
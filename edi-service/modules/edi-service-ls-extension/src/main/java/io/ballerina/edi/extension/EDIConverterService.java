@@ -22,6 +22,7 @@ import com.google.gson.JsonElement;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
@@ -41,12 +42,14 @@ import java.util.concurrent.CompletableFuture;
 public class EDIConverterService implements ExtendedLanguageServerService {
     private WorkspaceManager workspaceManager;
     private LSClientLogger lsClientLogger;
+    private ServerExecutors executors;
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
                      LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
         this.lsClientLogger = LSClientLogger.getInstance(serverContext);
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -97,6 +100,6 @@ public class EDIConverterService implements ExtendedLanguageServerService {
             }
 
             return response;
-        });
+        }, executors.interactive());
     }
 }
@@ -0,0 +1,358 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.centralconnector;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Caches the responses of the Ballerina Central in a persistent cache under the Ballerina user home.
+ *
+ * <p>
+ * A response is served from the cache until its time to live passes, after which it is revalidated with the ETag of
+ * the response, if Central provided one, or fetched again. Concurrent requests for the same response are coalesced into
+ * a single request to Central. A cached response is served when Central cannot be reached, regardless of its age.
+ * </p>
+ *
+ * <p>
+ * In the offline-first mode, enabled by the {@value #OFFLINE_FIRST_PROPERTY} system property, an expired response is
+ * served right away and refreshed in the background, so that only the first request of a response waits on Central.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+class CentralResponseCache {
+
+    static final String OFFLINE_FIRST_PROPERTY = "ballerina.central.cache.offlineFirst";
+
+    private static final Logger LOGGER = Logger.getLogger(CentralResponseCache.class.getName());
+    private static final String CACHE_DIR_NAME = "ls-central-cache";
+    private static final String ENTRY_EXTENSION = ".json";
+    private static final Duration STALE_ENTRY_AGE = Duration.ofDays(30);
+    private static final int MAX_MEMORY_ENTRIES = 256;
+
+    private final Path cacheDir;
+    private final Clock clock;
+    private final boolean offlineFirst;
+    private final Gson gson;
+    private final Map<String, Entry> entries;
+    private final Map<String, CompletableFuture<Entry>> inFlightRequests;
+    private volatile Executor refreshExecutor;
+
+    private static class Holder {
+
+        private static final CentralResponseCache INSTANCE = new CentralResponseCache(
+                RepoUtils.createAndGetHomeReposPath().resolve(CACHE_DIR_NAME), Clock.systemUTC(),
+                Boolean.getBoolean(OFFLINE_FIRST_PROPERTY));
+    }
+
+    static CentralResponseCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    CentralResponseCache(Path cacheDir, Clock clock, boolean offlineFirst) {
+        this.cacheDir = cacheDir;
+        this.clock = clock;
+        this.offlineFirst = offlineFirst;
+        this.gson = new Gson();
+        // The least recently used responses are read back from the disk when requested again
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(MAX_MEMORY_ENTRIES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MAX_MEMORY_ENTRIES;
+            }
+        });
+        this.inFlightRequests = new ConcurrentHashMap<>();
+        this.refreshExecutor = runnable -> Thread.ofVirtual().name("central-cache-refresh").start(runnable);
+        this.refreshExecutor.execute(this::removeStaleEntries);
+    }
+
+    /**
+     * Sets the executor the expired responses are refreshed on, which is a virtual thread per refresh by default.
+     *
+     * @param executor executor to refresh the responses on
+     */
+    void useExecutor(Executor executor) {
+        this.refreshExecutor = executor;
+    }
+
+    /**
+     * Returns the response of the given request, from the cache if the cached response is still valid.
+     *
+     * @param key        key identifying the request
+     * @param timeToLive duration a response is served without revalidating it
+     * @param fetcher    fetches the response from Central
+     * @return body of the response
+     */
+    String get(String key, Duration timeToLive, Fetcher fetcher) {
+        Entry cached = lookup(key);
+        if (cached != null && !cached.isExpired(clock.instant(), timeToLive)) {
+            return cached.body();
+        }
+
+        if (cached != null && offlineFirst) {
+            refreshExecutor.execute(() -> {
+                try {
+                    fetch(key, cached, fetcher).join();
+                } catch (CompletionException e) {
+                    LOGGER.log(Level.FINE, "Failed to refresh the cached Central response: " + key, e.getCause());
+                }
+            });
+            return cached.body();
+        }
+
+        try {
+            return fetch(key, cached, fetcher).join().body();
+        } catch (CompletionException e) {
+            if (cached != null) {
+                LOGGER.log(Level.FINE, "Serving the cached Central response: " + key, e.getCause());
+                return cached.body();
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Fetches the response of the given request, or joins the request already in flight for the same key.
+     */
+    private CompletableFuture<Entry> fetch(String key, Entry cached, Fetcher fetcher) {
+        CompletableFuture<Entry> request = new CompletableFuture<>();
+        CompletableFuture<Entry> inFlightRequest = inFlightRequests.putIfAbsent(key, request);
+        if (inFlightRequest != null) {
+            return inFlightRequest;
+        }
+
+        try {
+            // A request for the same key may have completed since the cache was looked up
+            Entry latest = entries.get(key);
+            if (latest != null && (cached == null || latest.fetchedAt() > cached.fetchedAt())) {
+                request.complete(latest);
+                return request;
+            }
+
+            Response response = fetcher.fetch(cached != null ? cached.etag() : null);
+            long fetchedAt = clock.millis();
+            if (!response.cacheable()) {
+                // A failed response is not cached, and the cached response is preferred over it
+                request.complete(cached != null ? cached : new Entry(key, response.body(), null, fetchedAt));
+                return request;
+            }
+            Entry entry = response.notModified() && cached != null
+                    ? new Entry(key, cached.body(), cached.etag(), fetchedAt)
+                    : new Entry(key, response.body(), response.etag(), fetchedAt);
+            entries.put(key, entry);
+            store(entry);
+            request.complete(entry);
+        } catch (Throwable e) {
+            request.completeExceptionally(e);
+        } finally {
+            inFlightRequests.remove(key, request);
+        }
+        return request;
+    }
+
+    private Entry lookup(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            return entry;
+        }
+
+        Path entryPath = cacheDir.resolve(fileName(key));
+        if (!Files.isRegularFile(entryPath)) {
+            return null;
+        }
+        try {
+            entry = Entry.fromJson(gson.fromJson(Files.readString(entryPath, StandardCharsets.UTF_8),
+                    JsonObject.class));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Failed to read the cached Central response: " + key, e);
+            return null;
+        }
+        if (entry == null || !key.equals(entry.key())) {
+            return null;
+        }
+        Entry existingEntry = entries.putIfAbsent(key, entry);
+        return existingEntry != null ? existingEntry : entry;
+    }
+
+    private void store(Entry entry) {
+        try {
+            Files.createDirectories(cacheDir);
+            Path tempFile = Files.createTempFile(cacheDir, "entry", ".tmp");
+            try {
+                Files.writeString(tempFile, gson.toJson(entry.toJson()), StandardCharsets.UTF_8);
+                Path target = cacheDir.resolve(fileName(entry.key()));
+                try {
+                    Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE,
+                            StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            // The response remains cached in memory
+            LOGGER.log(Level.FINE, "Failed to persist the Central response: " + entry.key(), e);
+        }
+    }
+
+    private void removeStaleEntries() {
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+        Instant staleBefore = clock.instant().minus(STALE_ENTRY_AGE);
+        try (DirectoryStream<Path> entryPaths = Files.newDirectoryStream(cacheDir)) {
+            for (Path entryPath : entryPaths) {
+                try {
+                    if (Files.getLastModifiedTime(entryPath).toInstant().isBefore(staleBefore)) {
+                        Files.deleteIfExists(entryPath);
+                    }
+                } catch (IOException e) {
+                    // The entry may have been replaced by another language server instance
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Failed to remove the stale Central responses", e);
+        }
+    }
+
+    private static String fileName(String key) {
+        return digest(key) + ENTRY_EXTENSION;
+    }
+
+    /**
+     * Returns the hex encoded SHA-256 digest of the given value, which is used to keep the secrets out of the keys.
+     *
+     * @param value value to digest
+     * @return digest of the value
+     */
+    static String digest(String value) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Fetches a response from Central.
+     */
+    @FunctionalInterface
+    interface Fetcher {
+
+        /**
+         * Fetches the response, conditionally on the given ETag if it is not null.
+         *
+         * @param etag ETag of the cached response, or null if the response is not cached
+         * @return response of Central
+         */
+        Response fetch(String etag);
+    }
+
+    /**
+     * Response of Central.
+     *
+     * @param body        body of the response, or null if the response is not modified
+     * @param etag        ETag of the response, or null if Central did not provide one
+     * @param notModified whether the cached response is still valid
+     * @param cacheable   whether the response can be cached, which is not the case for a failed response
+     */
+    record Response(String body, String etag, boolean notModified, boolean cacheable) {
+
+        static Response of(String body, String etag) {
+            return new Response(body, etag, false, true);
+        }
+
+        static Response of(String body) {
+            return new Response(body, null, false, true);
+        }
+
+        static Response notModifiedResponse() {
+            return new Response(null, null, true, true);
+        }
+
+        static Response uncacheable(String body) {
+            return new Response(body, null, false, false);
+        }
+    }
+
+    /**
+     * Cached response of Central.
+     *
+     * @param key       key identifying the request
+     * @param body      body of the response
+     * @param etag      ETag of the response, or null if Central did not provide one
+     * @param fetchedAt time the response was last fetched or revalidated, in milliseconds since the epoch
+     */
+    private record Entry(String key, String body, String etag, long fetchedAt) {
+
+        boolean isExpired(Instant now, Duration timeToLive) {
+            return !now.isBefore(Instant.ofEpochMilli(fetchedAt).plus(timeToLive));
+        }
+
+        JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("key", key);
+            json.addProperty("body", body);
+            json.addProperty("etag", etag);
+            json.addProperty("fetchedAt", fetchedAt);
+            return json;
+        }
+
+        static Entry fromJson(JsonObject json) {
+            if (json == null || !json.has("key") || !json.has("body") || !json.has("fetchedAt")) {
+                return null;
+            }
+            JsonElement etag = json.get("etag");
+            return new Entry(json.get("key").getAsString(), json.get("body").getAsString(),
+                    etag == null || etag.isJsonNull() ? null : etag.getAsString(), json.get("fetchedAt").getAsLong());
+        }
+    }
+}
@@ -25,6 +25,7 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import io.ballerina.centralconnector.response.ConnectorApiResponse;
 import io.ballerina.centralconnector.response.Function;
@@ -43,6 +44,7 @@ import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -58,6 +60,8 @@ class GraphQlClient {
 
     private final Map<String, String> queryMap;
     private final Gson gson;
+    private final String graphQlApi;
+    private final CentralResponseCache cache;
 
     private static final String GRAPHQL_API = "https://api.central.ballerina.io/2.0/graphql";
     private static final String QUERY_DIRECTORY = "graphql_queries";
@@ -66,7 +70,16 @@ class GraphQlClient {
     private static final String GET_LISTENERS_QUERY = "GetListeners.graphql";
     private static final String GET_CONNECTION_QUERY = "GetConnector.graphql";
 
+    // The queries are for the API docs of a specific package version, which do not change once published
+    private static final Duration TIME_TO_LIVE = Duration.ofDays(7);
+
     public GraphQlClient() {
+        this(GRAPHQL_API, CentralResponseCache.getInstance());
+    }
+
+    GraphQlClient(String graphQlApi, CentralResponseCache cache) {
+        this.graphQlApi = graphQlApi;
+        this.cache = cache;
         queryMap = new HashMap<>();
 
         gson = new GsonBuilder()
@@ -121,9 +134,36 @@ class GraphQlClient {
 
     private String query(String queryBody) {
         String query = String.format("{\"query\": \"%s\"}", queryBody);
+        return cache.get(graphQlApi + " " + query, TIME_TO_LIVE, etag -> {
+            String response = post(query);
+            return isSuccessful(response) ? CentralResponseCache.Response.of(response)
+                    : CentralResponseCache.Response.uncacheable(response);
+        });
+    }
+
+    /**
+     * Returns whether the given GraphQL response holds data without errors. GraphQL reports the errors in the body of
+     * a successful HTTP response, hence a failed query is detected from the body.
+     */
+    private static boolean isSuccessful(String response) {
+        try {
+            JsonElement json = JsonParser.parseString(response);
+            if (!json.isJsonObject()) {
+                return false;
+            }
+            JsonObject jsonObject = json.getAsJsonObject();
+            JsonElement errors = jsonObject.get("errors");
+            JsonElement data = jsonObject.get("data");
+            return (errors == null || errors.isJsonNull()) && data != null && !data.isJsonNull();
+        } catch (JsonParseException e) {
+            return false;
+        }
+    }
+
+    private String post(String query) {
         HttpURLConnection conn = null;
         try {
-            URL url = new URL(GRAPHQL_API);
+            URL url = new URL(graphQlApi);
             conn = (HttpURLConnection) url.openConnection();
 
             conn.setRequestMethod("POST");
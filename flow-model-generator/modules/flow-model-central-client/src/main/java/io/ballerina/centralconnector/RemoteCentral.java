@@ -28,6 +28,7 @@ import io.ballerina.centralconnector.response.PackageResponse;
 import io.ballerina.centralconnector.response.SymbolResponse;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * An implementation {@code CentralAPI} to interact with the Ballerina central to obtain information about the Ballerina
@@ -54,6 +55,15 @@ public class RemoteCentral implements CentralAPI {
         this.graphQlClient = new GraphQlClient();
     }
 
+    /**
+     * Sets the executor the cached Central responses are refreshed on in the background.
+     *
+     * @param executor executor to refresh the responses on
+     */
+    public void useExecutor(Executor executor) {
+        CentralResponseCache.getInstance().useExecutor(executor);
+    }
+
     @Override
     public PackageResponse searchPackages(Map<String, String> queryMap) {
         return restClient.searchPackages(queryMap);
@@ -40,6 +40,7 @@ import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -59,15 +60,25 @@ class RestClient {
     private static final String SEARCH_SYMBOLS = "search-symbols";
     private static final String SEARCH_PACKAGES = "search-packages";
     private static final String CONNECTOR = "connector";
+    private static final Duration SEARCH_TIME_TO_LIVE = Duration.ofHours(1);
+    private static final Duration VERSIONED_TIME_TO_LIVE = Duration.ofDays(7);
     private final Gson gson;
     private final CentralAPIClient centralClient;
     private final String accessToken;
+    private final String baseUrl;
+    private final CentralResponseCache cache;
 
     private static final String supportedPlatform = Arrays.stream(JvmTarget.values())
             .map(JvmTarget::code)
             .collect(Collectors.joining(","));
 
     public RestClient() {
+        this(BASE_URL, CentralResponseCache.getInstance());
+    }
+
+    RestClient(String baseUrl, CentralResponseCache cache) {
+        this.baseUrl = baseUrl;
+        this.cache = cache;
         gson = new Gson();
         Settings settings = RepoUtils.readSettings();
         Central central = settings.getCentral();
@@ -79,28 +90,36 @@ class RestClient {
     }
 
     public ConnectorsResponse connectors(Map<String, String> queryMap) {
-        JsonElement connectorSearchResult;
-        try {
-            connectorSearchResult = centralClient.getConnectors(queryMap, "any", RepoUtils.getBallerinaVersion());
-        } catch (CentralClientException e) {
-            throw new RuntimeException(e);
-        }
-        return gson.fromJson(connectorSearchResult.getAsString(), ConnectorsResponse.class);
+        String response = cache.get(cacheKey("connectors?" + getQueryMapString(queryMap)), SEARCH_TIME_TO_LIVE,
+                etag -> {
+                    JsonElement connectorSearchResult;
+                    try {
+                        connectorSearchResult =
+                                centralClient.getConnectors(queryMap, "any", RepoUtils.getBallerinaVersion());
+                    } catch (CentralClientException e) {
+                        throw new RuntimeException(e);
+                    }
+                    return CentralResponseCache.Response.of(connectorSearchResult.getAsString());
+                });
+        return gson.fromJson(response, ConnectorsResponse.class);
     }
 
     public ConnectorResponse connector(String id) {
-        JsonObject connectorSearchResult;
-        try {
-            connectorSearchResult = centralClient.getConnector(id, "any", RepoUtils.getBallerinaVersion());
-        } catch (CentralClientException e) {
-            throw new RuntimeException(e);
-        }
-        return gson.fromJson(connectorSearchResult, ConnectorResponse.class);
+        String response = cache.get(cacheKey("connector/" + id), VERSIONED_TIME_TO_LIVE, etag -> {
+            JsonObject connectorSearchResult;
+            try {
+                connectorSearchResult = centralClient.getConnector(id, "any", RepoUtils.getBallerinaVersion());
+            } catch (CentralClientException e) {
+                throw new RuntimeException(e);
+            }
+            return CentralResponseCache.Response.of(connectorSearchResult.toString());
+        });
+        return gson.fromJson(response, ConnectorResponse.class);
     }
 
     public ConnectorResponse connector(String org, String module, String version, String connector) {
-        String path = String.format("%s/connectors/%s/%s/%s/%s/%s", BASE_URL, org, module, version, module, connector);
-        String response = query(path);
+        String path = String.format("%s/connectors/%s/%s/%s/%s/%s", baseUrl, org, module, version, module, connector);
+        String response = query(path, VERSIONED_TIME_TO_LIVE);
         return gson.fromJson(response, ConnectorResponse.class);
     }
 
@@ -117,6 +136,11 @@ class RestClient {
     }
 
     public String latestPackageVersion(String org, String name) {
+        return cache.get(cacheKey("latest-version/" + org + "/" + name), SEARCH_TIME_TO_LIVE,
+                etag -> CentralResponseCache.Response.of(fetchLatestPackageVersion(org, name)));
+    }
+
+    private String fetchLatestPackageVersion(String org, String name) {
         try {
             List<String> packageVersions =
                     centralClient.getPackageVersions(org, name, supportedPlatform, RepoUtils.getBallerinaVersion());
@@ -153,7 +177,20 @@ class RestClient {
         return queryParams.toString();
     }
 
-    private String query(String api) {
+    /**
+     * The responses are cached per access token, since an authorized request may return the private packages of the
+     * account. The token is digested, so that it is not persisted along with the responses.
+     */
+    private String cacheKey(String request) {
+        return hasAuthorizedAccess() ? "authorized:" + CentralResponseCache.digest(accessToken) + ":" + request
+                : request;
+    }
+
+    private String query(String api, Duration timeToLive) {
+        return cache.get(cacheKey(api), timeToLive, etag -> get(api, etag));
+    }
+
+    private CentralResponseCache.Response get(String api, String etag) {
         HttpURLConnection conn = null;
         try {
             URL url = new URL(api);
@@ -164,8 +201,14 @@ class RestClient {
             if (hasAuthorizedAccess()) {
                 conn.setRequestProperty("Authorization", "Bearer " + this.accessToken);
             }
+            if (etag != null) {
+                conn.setRequestProperty("If-None-Match", etag);
+            }
 
             int responseCode = conn.getResponseCode();
+            if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return CentralResponseCache.Response.notModifiedResponse();
+            }
             if (responseCode == HttpURLConnection.HTTP_OK) { // success
                 try (BufferedReader in = new BufferedReader(
                         new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
@@ -175,7 +218,7 @@ class RestClient {
                     while ((inputLine = in.readLine()) != null) {
                         response.append(inputLine);
                     }
-                    return response.toString();
+                    return CentralResponseCache.Response.of(response.toString(), conn.getHeaderField("ETag"));
                 }
             }
             throw new RuntimeException("GET request not worked");
@@ -190,7 +233,7 @@ class RestClient {
     }
 
     private String query(String api, String queryMap) {
-        String fullUrl = String.format("%s/%s?%s", BASE_URL, api, queryMap);
-        return query(fullUrl);
+        String fullUrl = String.format("%s/%s?%s", baseUrl, api, queryMap);
+        return query(fullUrl, SEARCH_TIME_TO_LIVE);
     }
 }
@@ -0,0 +1,238 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.centralconnector;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Tests the caching of the Central responses against a local stand-in of the Central REST API.
+ *
+ * @since 1.7.0
+ */
+public class CentralResponseCacheTest {
+
+    private static final Map<String, String> QUERY = Map.of("q", "http");
+
+    private HttpServer server;
+    private String baseUrl;
+    private Path cacheDir;
+    private MutableClock clock;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+    private volatile int packageCount;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        requests.set(0);
+        notModifiedResponses.set(0);
+        packageCount = 1;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/search-packages", this::handleSearchPackages);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+        cacheDir = Files.createTempDirectory("central-cache");
+        clock = new MutableClock(Instant.now());
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        server.stop(0);
+        try (Stream<Path> paths = Files.walk(cacheDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testResponsesAreCachedAndPersisted() {
+        RestClient restClient = new RestClient(baseUrl, new CentralResponseCache(cacheDir, clock, false));
+        Assert.assertEquals(restClient.searchPackages(QUERY).count(), 1);
+        Assert.assertEquals(restClient.searchPackages(QUERY).count(), 1);
+        Assert.assertEquals(requests.get(), 1);
+
+        // A new cache instance serves the response persisted by the previous instance
+        RestClient newRestClient = new RestClient(baseUrl, new CentralResponseCache(cacheDir, clock, false));
+        Assert.assertEquals(newRestClient.searchPackages(QUERY).count(), 1);
+        Assert.assertEquals(requests.get(), 1);
+    }
+
+    @Test
+    public void testExpiredResponsesAreRevalidated() {
+        RestClient restClient = new RestClient(baseUrl, new CentralResponseCache(cacheDir, clock, false));
+        Assert.assertEquals(restClient.searchPackages(QUERY).count(), 1);
+
+        clock.advance(Duration.ofHours(2));
+        Assert.assertEquals(restClient.searchPackages(QUERY).count(), 1);
+        Assert.assertEquals(requests.get(), 2);
+        Assert.assertEquals(notModifiedResponses.get(), 1);
+
+        packageCount = 2;
+        clock.advance(Duration.ofHours(2));
+        Assert.assertEquals(restClient.searchPackages(QUERY).count(), 2);
+        Assert.assertEquals(notModifiedResponses.get(), 1);
+    }
+
+    @Test
+    public void testConcurrentRequestsAreCoalesced() throws Exception {
+        RestClient restClient = new RestClient(baseUrl, new CentralResponseCache(cacheDir, clock, false));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> restClient.searchPackages(QUERY).count()));
+            }
+            for (Future<Integer> result : results) {
+                Assert.assertEquals(result.get().intValue(), 1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(requests.get(), 1);
+    }
+
+    @Test
+    public void testOfflineFirstServesStaleResponses() throws InterruptedException {
+        RestClient restClient = new RestClient(baseUrl, new CentralResponseCache(cacheDir, clock, true));
+        Assert.assertEquals(restClient.searchPackages(QUERY).count(), 1);
+
+        packageCount = 2;
+        clock.advance(Duration.ofHours(2));
+        Assert.assertEquals(restClient.searchPackages(QUERY).count(), 1);
+
+        // The stale response is refreshed in the background
+        long deadline = System.currentTimeMillis() + 10000;
+        while (restClient.searchPackages(QUERY).count() != 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Assert.assertEquals(restClient.searchPackages(QUERY).count(), 2);
+    }
+
+    @Test
+    public void testStaleResponsesAreServedWhenCentralIsUnreachable() {
+        RestClient restClient = new RestClient(baseUrl, new CentralResponseCache(cacheDir, clock, false));
+        Assert.assertEquals(restClient.searchPackages(QUERY).count(), 1);
+
+        server.stop(0);
+        clock.advance(Duration.ofDays(2));
+        Assert.assertEquals(restClient.searchPackages(QUERY).count(), 1);
+        Assert.assertThrows(RuntimeException.class, () -> restClient.searchPackages(Map.of("q", "grpc")));
+    }
+
+    @Test
+    public void testUncacheableResponsesAreNotCached() throws IOException {
+        CentralResponseCache cache = new CentralResponseCache(cacheDir, clock, false);
+        AtomicInteger fetches = new AtomicInteger();
+        String failedResponse = "{\"errors\": [{\"message\": \"Internal error\"}], \"data\": null}";
+        CentralResponseCache.Fetcher failingFetcher = etag -> {
+            fetches.incrementAndGet();
+            return CentralResponseCache.Response.uncacheable(failedResponse);
+        };
+        Assert.assertEquals(cache.get("graphql", Duration.ofDays(7), failingFetcher), failedResponse);
+        Assert.assertEquals(cache.get("graphql", Duration.ofDays(7), failingFetcher), failedResponse);
+        Assert.assertEquals(fetches.get(), 2, "A failed response should be fetched again");
+        try (Stream<Path> entries = Files.list(cacheDir)) {
+            Assert.assertEquals(entries.filter(path -> path.toString().endsWith(".json")).count(), 0L);
+        }
+
+        // A cached response is preferred over a failed response
+        String response = "{\"data\": {}}";
+        Assert.assertEquals(cache.get("graphql", Duration.ofDays(7),
+                etag -> CentralResponseCache.Response.of(response)), response);
+        clock.advance(Duration.ofDays(8));
+        Assert.assertEquals(cache.get("graphql", Duration.ofDays(7), failingFetcher), response);
+    }
+
+    private void handleSearchPackages(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        int count = packageCount;
+        String etag = "\"" + count + "\"";
+        exchange.getResponseHeaders().add("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModifiedResponses.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] body = String.format("{\"packages\": [], \"count\": %d, \"offset\": 0, \"limit\": 10}", count)
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    /**
+     * Clock which is moved forward by the tests to expire the cached responses.
+     */
+    private static class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
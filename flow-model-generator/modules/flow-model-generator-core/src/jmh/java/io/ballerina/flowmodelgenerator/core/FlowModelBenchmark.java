@@ -0,0 +1,215 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.flowmodelgenerator.core.model.JsonModel;
+import io.ballerina.flowmodelgenerator.core.search.SearchCommand;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.benchmark.BenchmarkWorkspace;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of generating the flow model of a function, the data mapper model of a variable and the search
+ * index queries of the node palette. The allocation per request is reported by the gc profiler, and the results are
+ * written as JSON so that they can be compared between commits.
+ *
+ * <p>
+ * The search benchmarks read the search index bundled with the ls extension, hence the index should be generated
+ * before running them.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+public class FlowModelBenchmark {
+
+    private static final String FLOW_MODEL_SOURCE = "order_service.bal";
+    private static final String FLOW_MODEL_FUNCTION = "processOrder";
+    private static final String DATA_MAPPING_SOURCE = "customer_mapping.bal";
+    private static final Gson GSON = new Gson();
+
+    private BenchmarkWorkspace workspace;
+    private WorkspaceManager workspaceManager;
+    private Document flowModelDocument;
+    private LineRange flowModelLineRange;
+    private ModelGenerator modelGenerator;
+    private Path dataMappingPath;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        workspace = BenchmarkWorkspace.create("flow-model-benchmark");
+        workspaceManager = new BallerinaWorkspaceManager(new LanguageServerContextImpl());
+
+        Path flowModelPath = workspace.copy(FLOW_MODEL_SOURCE);
+        Project project = workspaceManager.loadProject(flowModelPath);
+        SemanticModel semanticModel = workspaceManager.semanticModel(flowModelPath).orElseThrow();
+        flowModelDocument = workspaceManager.document(flowModelPath).orElseThrow();
+        modelGenerator = new ModelGenerator(project, semanticModel, flowModelPath, workspaceManager);
+        ModulePartNode modulePartNode = flowModelDocument.syntaxTree().rootNode();
+        flowModelLineRange = modulePartNode.members().stream()
+                .filter(member -> member instanceof FunctionDefinitionNode functionDefinitionNode &&
+                        functionDefinitionNode.functionName().text().equals(FLOW_MODEL_FUNCTION))
+                .findFirst()
+                .orElseThrow()
+                .lineRange();
+
+        dataMappingPath = workspace.copy(DATA_MAPPING_SOURCE);
+        workspaceManager.loadProject(dataMappingPath);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        workspace.close();
+    }
+
+    @Benchmark
+    public JsonModel flowModel() {
+        return modelGenerator.getFlowModel(flowModelDocument, flowModelLineRange, null, null);
+    }
+
+    @Benchmark
+    public JsonElement dataMapperMappings(DataMapping dataMapping) {
+        return new DataMapManager(dataMapping.document).getMappings(dataMapping.semanticModel, dataMapping.codedata,
+                dataMapping.position, dataMapping.target, null, null);
+    }
+
+    @Benchmark
+    public JsonArray searchFunctions(Search search) {
+        return search.execute(SearchCommand.Kind.FUNCTION);
+    }
+
+    @Benchmark
+    public JsonArray searchConnectors(Search search) {
+        return search.execute(SearchCommand.Kind.CONNECTOR);
+    }
+
+    @Benchmark
+    public JsonArray searchTypes(Search search) {
+        return search.execute(SearchCommand.Kind.TYPE);
+    }
+
+    /**
+     * Finds the variable declaration of the given variable, which spans until the end of the statement.
+     */
+    private static LineRange findStatement(Document document, String variableName) {
+        List<String> lines = document.textDocument().textLines();
+        String anchor = " " + variableName + " = ";
+        for (int line = 0; line < lines.size(); line++) {
+            int column = lines.get(line).indexOf(anchor);
+            if (column < 0) {
+                continue;
+            }
+            int start = lines.get(line).length() - lines.get(line).stripLeading().length();
+            int endLine = line;
+            while (!lines.get(endLine).stripTrailing().endsWith(";")) {
+                endLine++;
+            }
+            return LineRange.from(document.name(), LinePosition.from(line, start),
+                    LinePosition.from(endLine, lines.get(endLine).stripTrailing().length()));
+        }
+        throw new IllegalStateException("Variable not found in the benchmark source: " + variableName);
+    }
+
+    /**
+     * Data mapper request on a variable, which is initialized with either a mapping constructor or a query expression.
+     */
+    @State(Scope.Benchmark)
+    public static class DataMapping {
+
+        @Param({"contact", "contacts"})
+        public String target;
+
+        private Document document;
+        private SemanticModel semanticModel;
+        private JsonElement codedata;
+        private LinePosition position;
+
+        @Setup(Level.Trial)
+        public void setup(FlowModelBenchmark benchmark) {
+            document = benchmark.workspaceManager.document(benchmark.dataMappingPath).orElseThrow();
+            semanticModel = benchmark.workspaceManager.semanticModel(benchmark.dataMappingPath).orElseThrow();
+            LineRange lineRange = findStatement(document, target);
+            position = lineRange.startLine();
+            JsonObject codedataObject = new JsonObject();
+            codedataObject.addProperty("node", "VARIABLE");
+            codedataObject.add("lineRange", GSON.toJsonTree(lineRange));
+            codedata = codedataObject;
+        }
+    }
+
+    /**
+     * Search request of the node palette, where an empty query returns the default view.
+     */
+    @State(Scope.Benchmark)
+    public static class Search {
+
+        @Param({"", "get"})
+        public String query;
+
+        private Project project;
+        private LineRange position;
+
+        @Setup(Level.Trial)
+        public void setup(FlowModelBenchmark benchmark) {
+            project = benchmark.workspaceManager.project(benchmark.dataMappingPath).orElseThrow();
+            LinePosition start = LinePosition.from(0, 0);
+            position = LineRange.from(DATA_MAPPING_SOURCE, start, start);
+        }
+
+        private JsonArray execute(SearchCommand.Kind kind) {
+            return SearchCommand.from(kind, project, position, Map.of("q", query), null).execute();
+        }
+    }
+}
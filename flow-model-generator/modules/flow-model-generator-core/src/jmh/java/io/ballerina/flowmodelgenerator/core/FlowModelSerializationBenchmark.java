@@ -0,0 +1,205 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import com.google.gson.JsonElement;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.flowmodelgenerator.core.model.JsonModel;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Project;
+import org.ballerinalang.benchmark.BenchmarkWorkspace;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization of the flow model responses to the JSON-RPC output, when the model is converted to a
+ * {@link JsonElement} tree before it is written and when the model is streamed to the output. The payload size is
+ * reported as an auxiliary counter, and the allocation per request is reported by the gc profiler.
+ *
+ * @since 1.7.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+public class FlowModelSerializationBenchmark {
+
+    private static final String SOURCE_FILE = "order_service.bal";
+    private static final String FLOW_MODEL_FUNCTION = "processOrder";
+
+    @Param({"flowModel", "moduleNodes", "serviceFieldNodes"})
+    public String api;
+
+    private final MessageJsonHandler jsonHandler = new MessageJsonHandler(Collections.emptyMap());
+    private BenchmarkWorkspace workspace;
+    private JsonModel model;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        workspace = BenchmarkWorkspace.create("flow-model-benchmark");
+        Path filePath = workspace.copy(SOURCE_FILE);
+
+        WorkspaceManager workspaceManager = new BallerinaWorkspaceManager(new LanguageServerContextImpl());
+        Project project = workspaceManager.loadProject(filePath);
+        SemanticModel semanticModel = workspaceManager.semanticModel(filePath).orElseThrow();
+        Document document = workspaceManager.document(filePath).orElseThrow();
+        ModelGenerator modelGenerator = new ModelGenerator(project, semanticModel, filePath, workspaceManager);
+
+        ModulePartNode modulePartNode = document.syntaxTree().rootNode();
+        model = switch (api) {
+            case "flowModel" -> {
+                FunctionDefinitionNode functionNode = modulePartNode.members().stream()
+                        .filter(member -> member instanceof FunctionDefinitionNode functionDefinitionNode &&
+                                functionDefinitionNode.functionName().text().equals(FLOW_MODEL_FUNCTION))
+                        .map(FunctionDefinitionNode.class::cast)
+                        .findFirst()
+                        .orElseThrow();
+                yield modelGenerator.getFlowModel(document, functionNode.lineRange(), null, null);
+            }
+            case "moduleNodes" -> modelGenerator.getModuleNodes();
+            case "serviceFieldNodes" -> {
+                ModuleMemberDeclarationNode serviceNode = modulePartNode.members().stream()
+                        .filter(ServiceDeclarationNode.class::isInstance)
+                        .findFirst()
+                        .orElseThrow();
+                yield modelGenerator.getServiceFieldNodes(serviceNode.lineRange().startLine());
+            }
+            default -> throw new IllegalArgumentException("Unsupported API: " + api);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        workspace.close();
+    }
+
+    @Benchmark
+    public long jsonTree(Payload payload) {
+        return write(new TreeResponse(model.toJsonTree()), payload);
+    }
+
+    @Benchmark
+    public long streaming(Payload payload) {
+        return write(new StreamingResponse(model), payload);
+    }
+
+    private long write(Object result, Payload payload) {
+        ResponseMessage message = new ResponseMessage();
+        message.setId("1");
+        message.setResult(result);
+        CountingWriter writer = new CountingWriter();
+        jsonHandler.serialize(message, writer);
+        payload.bytes = writer.count;
+        return writer.count;
+    }
+
+    /**
+     * Reports the size of the serialized response.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        public long bytes;
+    }
+
+    /**
+     * Response holding the model as a JSON tree, as the responses did before the model was streamed.
+     */
+    private record TreeResponse(JsonElement flowModel) {
+    }
+
+    private record StreamingResponse(JsonModel flowModel) {
+    }
+
+    /**
+     * Writer that discards the output, counting the UTF-8 encoded size of it.
+     */
+    private static class CountingWriter extends Writer {
+
+        private long count;
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                count(cbuf[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                count(str.charAt(i));
+            }
+        }
+
+        @Override
+        public void write(int c) {
+            count((char) c);
+        }
+
+        private void count(char c) {
+            if (c < 0x80) {
+                count++;
+            } else if (c < 0x800 || Character.isSurrogate(c)) {
+                // A surrogate pair is encoded in 4 bytes, hence each char of the pair is counted as 2 bytes
+                count += 2;
+            } else {
+                count += 3;
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,36 @@
+type Address record {|
+    string street;
+    string city;
+    string zip;
+    string country;
+|};
+
+type Customer record {|
+    string id;
+    string firstName;
+    string lastName;
+    string email;
+    Address address;
+    string[] tags;
+|};
+
+type Contact record {|
+    string id;
+    string name;
+    string email;
+    string city;
+    string postalCode;
+    string country;
+    int tagCount;
+|};
+
+function toContact(Customer customer) returns Contact {
+    Contact contact = {id: customer.id, name: customer.firstName + " " + customer.lastName, email: customer.email, city: customer.address.city, postalCode: customer.address.zip, country: customer.address.country, tagCount: customer.tags.length()};
+    return contact;
+}
+
+function toContacts(Customer[] customers) returns Contact[] {
+    Contact[] contacts = from Customer customer in customers
+        select {id: customer.id, name: customer.firstName, email: customer.email, city: customer.address.city, postalCode: customer.address.zip, country: customer.address.country, tagCount: customer.tags.length()};
+    return contacts;
+}
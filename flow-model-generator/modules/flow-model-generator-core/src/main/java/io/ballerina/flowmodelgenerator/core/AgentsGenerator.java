@@ -76,6 +76,8 @@ import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.workspace.ProjectSnapshot;
+import org.ballerinalang.langserver.workspace.ProjectSnapshots;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextEdit;
@@ -680,7 +682,8 @@ public class AgentsGenerator {
         return hasDescription;
     }
 
-    public JsonArray getActions(JsonElement node, Path filePath, Project project, WorkspaceManager workspaceManager) {
+    public JsonArray getActions(JsonElement node, Path filePath, Project project, WorkspaceManager workspaceManager,
+                                ProjectSnapshots projectSnapshots) {
         FlowNode flowNode = gson.fromJson(node, FlowNode.class);
         Document document = workspaceManager.document(filePath).orElseThrow();
         TextDocument textDocument = document.textDocument();
@@ -702,11 +705,15 @@ public class AgentsGenerator {
             textEdits[i] = textEdit;
         }
         TextDocument modifiedTextDoc = textDocument.apply(TextDocumentChange.from(textEdits));
-        Document modifiedDoc =
-                project.duplicate().currentPackage().module(document.module().moduleId())
-                        .document(document.documentId()).modify().withContent(String.join(System.lineSeparator(),
-                                modifiedTextDoc.textLines())).apply();
+        try (ProjectSnapshot snapshot = projectSnapshots.acquire(project)) {
+            Document modifiedDoc = snapshot.modify(document.documentId(),
+                    String.join(System.lineSeparator(), modifiedTextDoc.textLines()));
+            return getActions(modifiedDoc, flowNode, filePath, workspaceManager);
+        }
+    }
 
+    private JsonArray getActions(Document modifiedDoc, FlowNode flowNode, Path filePath,
+                                 WorkspaceManager workspaceManager) {
         SemanticModel newSemanticModel = PackageUtil.getCompilation(modifiedDoc.module().packageInstance())
                 .getSemanticModel(modifiedDoc.module().moduleId());
         Optional<Property> property = flowNode.getProperty(Property.VARIABLE_KEY);
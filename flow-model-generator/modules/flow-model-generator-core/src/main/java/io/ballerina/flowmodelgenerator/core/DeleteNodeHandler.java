@@ -51,6 +51,8 @@ import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocumentChange;
 import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.langserver.common.utils.PositionUtil;
+import org.ballerinalang.langserver.workspace.ProjectSnapshot;
+import org.ballerinalang.langserver.workspace.ProjectSnapshots;
 import org.ballerinalang.util.diagnostic.DiagnosticErrorCode;
 import org.eclipse.lsp4j.TextEdit;
 
@@ -85,29 +87,31 @@ public class DeleteNodeHandler {
     }
 
     @Deprecated
-    public JsonElement getTextEditsToDeletedNode(Document document, Project project) {
+    public JsonElement getTextEditsToDeletedNode(Document document, Project project,
+                                                 ProjectSnapshots projectSnapshots) {
         if ((nodeToDelete.codedata() != null && nodeToDelete.codedata().node() == NodeKind.ERROR_HANDLER)) {
-            return handleErrorHandlerDeletion(nodeToDelete.codedata().lineRange(), filePath, document, project);
+            return handleErrorHandlerDeletion(nodeToDelete.codedata().lineRange(), filePath, document, project,
+                    projectSnapshots);
         }
 
         LineRange lineRange = nodeToDelete.codedata().lineRange();
-        return getTextEditsToDeletedNode(lineRange, filePath, document, project);
+        return getTextEditsToDeletedNode(lineRange, filePath, document, project, projectSnapshots);
     }
 
-    public static JsonElement getTextEditsToDeletedNode(JsonElement node, Path filePath,
-                                                        Document document, Project project) {
+    public static JsonElement getTextEditsToDeletedNode(JsonElement node, Path filePath, Document document,
+                                                        Project project, ProjectSnapshots projectSnapshots) {
         FlowNode flowNode = gson.fromJson(node, FlowNode.class);
         LineRange lineRange = getNodeLineRange(node);
 
         if (flowNode.codedata() != null && flowNode.codedata().node() == NodeKind.ERROR_HANDLER) {
-            return handleErrorHandlerDeletion(lineRange, filePath, document, project);
+            return handleErrorHandlerDeletion(lineRange, filePath, document, project, projectSnapshots);
         }
 
-        return getTextEditsToDeletedNode(lineRange, filePath, document, project);
+        return getTextEditsToDeletedNode(lineRange, filePath, document, project, projectSnapshots);
     }
 
-    private static JsonElement getTextEditsToDeletedNode(LineRange lineRange, Path filePath,
-                                                         Document document, Project project) {
+    private static JsonElement getTextEditsToDeletedNode(LineRange lineRange, Path filePath, Document document,
+                                                         Project project, ProjectSnapshots projectSnapshots) {
         TextDocument textDocument = document.textDocument();
         int startTextPosition = textDocument.textPositionFrom(lineRange.startLine());
         int endTextPosition = textDocument.textPositionFrom(lineRange.endLine());
@@ -116,10 +120,25 @@ public class DeleteNodeHandler {
                 endTextPosition - startTextPosition), "");
         TextDocument apply = textDocument
                 .apply(TextDocumentChange.from(List.of(te).toArray(new io.ballerina.tools.text.TextEdit[0])));
-        Document modifiedDoc =
-                project.duplicate().currentPackage().module(document.module().moduleId())
-                        .document(document.documentId()).modify().withContent(String.join(System.lineSeparator(),
-                                apply.textLines())).apply();
+        List<TextEdit> textEdits;
+        try (ProjectSnapshot snapshot = projectSnapshots.acquire(project)) {
+            Document modifiedDoc = snapshot.modify(document.documentId(),
+                    String.join(System.lineSeparator(), apply.textLines()));
+            textEdits = getUnusedImportTextEdits(modifiedDoc);
+        }
+
+        LineRange nodeRangeToDelete = checkElseToDelete(document, startTextPosition, endTextPosition);
+        if (nodeRangeToDelete == null) {
+            nodeRangeToDelete = lineRange;
+        }
+        TextEdit textEdit = new TextEdit(CommonUtils.toRange(nodeRangeToDelete), "");
+        textEdits.add(textEdit);
+        Map<Path, List<TextEdit>> textEditsMap = new HashMap<>();
+        textEditsMap.put(filePath, textEdits);
+        return gson.toJsonTree(textEditsMap);
+    }
+
+    private static List<TextEdit> getUnusedImportTextEdits(Document modifiedDoc) {
         ModulePartNode modulePartNode = modifiedDoc.syntaxTree().rootNode();
         NodeList<ImportDeclarationNode> imports = modulePartNode.imports();
 
@@ -160,16 +179,7 @@ public class DeleteNodeHandler {
                 }
             }
         }
-
-        LineRange nodeRangeToDelete = checkElseToDelete(document, startTextPosition, endTextPosition);
-        if (nodeRangeToDelete == null) {
-            nodeRangeToDelete = lineRange;
-        }
-        TextEdit textEdit = new TextEdit(CommonUtils.toRange(nodeRangeToDelete), "");
-        textEdits.add(textEdit);
-        Map<Path, List<TextEdit>> textEditsMap = new HashMap<>();
-        textEditsMap.put(filePath, textEdits);
-        return gson.toJsonTree(textEditsMap);
+        return textEdits;
     }
 
     private static LineRange getNodeLineRange(JsonElement node) {
@@ -224,14 +234,15 @@ public class DeleteNodeHandler {
     /**
      * Handles deletion of ERROR_HANDLER nodes by replacing the do-on-fail block with just the body statements.
      *
-     * @param lineRange the line range of the ERROR_HANDLER node
-     * @param filePath  the file path
-     * @param document  the document
-     * @param project   the project
+     * @param lineRange        the line range of the ERROR_HANDLER node
+     * @param filePath         the file path
+     * @param document         the document
+     * @param project          the project
+     * @param projectSnapshots the snapshots of the projects to apply the scratch edits on
      * @return the text edits to replace the do-on-fail block with just the body statements
      */
-    private static JsonElement handleErrorHandlerDeletion(LineRange lineRange, Path filePath,
-                                                          Document document, Project project) {
+    private static JsonElement handleErrorHandlerDeletion(LineRange lineRange, Path filePath, Document document,
+                                                          Project project, ProjectSnapshots projectSnapshots) {
         TextDocument textDocument = document.textDocument();
         int startTextPosition = textDocument.textPositionFrom(lineRange.startLine());
         int endTextPosition = textDocument.textPositionFrom(lineRange.endLine());
@@ -240,7 +251,7 @@ public class DeleteNodeHandler {
                 endTextPosition - startTextPosition));
 
         if (foundNode == null || foundNode.kind() != SyntaxKind.DO_STATEMENT) {
-            return getTextEditsToDeletedNode(lineRange, filePath, document, project);
+            return getTextEditsToDeletedNode(lineRange, filePath, document, project, projectSnapshots);
         }
 
         DoStatementNode doStatementNode = (DoStatementNode) foundNode;
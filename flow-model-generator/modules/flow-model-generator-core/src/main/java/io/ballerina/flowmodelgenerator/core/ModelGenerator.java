@@ -18,9 +18,6 @@
 
 package io.ballerina.flowmodelgenerator.core;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.ClassFieldSymbol;
 import io.ballerina.compiler.api.symbols.ClassSymbol;
@@ -48,6 +45,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.flowmodelgenerator.core.model.Diagram;
 import io.ballerina.flowmodelgenerator.core.model.ExtendedDiagram;
 import io.ballerina.flowmodelgenerator.core.model.FlowNode;
+import io.ballerina.flowmodelgenerator.core.model.JsonModel;
 import io.ballerina.flowmodelgenerator.core.model.NodeKind;
 import io.ballerina.flowmodelgenerator.core.model.Property;
 import io.ballerina.modelgenerator.commons.CommonUtils;
@@ -93,7 +91,6 @@ public class ModelGenerator {
 
     private final SemanticModel semanticModel;
     private final Path filePath;
-    private final Gson gson;
     private final Project project;
     private final WorkspaceManager workspaceManager;
 
@@ -109,7 +106,6 @@ public class ModelGenerator {
         this.semanticModel = model;
         this.filePath = filePath;
         this.project = project;
-        this.gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
         this.workspaceManager = workspaceManager;
     }
 
@@ -118,8 +114,8 @@ public class ModelGenerator {
      *
      * @return JSON representation of the flow model
      */
-    public JsonElement getFlowModel(Document document, LineRange lineRange, Document dataMappingDoc,
-                                    Document functionsDoc) {
+    public JsonModel getFlowModel(Document document, LineRange lineRange, Document dataMappingDoc,
+                                  Document functionsDoc) {
         // Obtain the code block representing the canvas
         SyntaxTree syntaxTree = document.syntaxTree();
         ModulePartNode modulePartNode = syntaxTree.rootNode();
@@ -174,10 +170,10 @@ public class ModelGenerator {
 
         // Generate the flow model
         Diagram diagram = new Diagram(filePath.toString(), codeAnalyzer.getFlowNodes(), moduleConnections);
-        return gson.toJsonTree(diagram);
+        return JsonModel.of(diagram);
     }
 
-    public JsonElement getModuleNodes() {
+    public JsonModel getModuleNodes() {
         List<FlowNode> connectionsList = new ArrayList<>();
         List<FlowNode> variablesList = new ArrayList<>();
 
@@ -236,10 +232,10 @@ public class ModelGenerator {
         variablesList.sort(FLOW_NODE_COMPARATOR);
 
         ExtendedDiagram diagram = new ExtendedDiagram(filePath.toString(), List.of(), connectionsList, variablesList);
-        return gson.toJsonTree(diagram);
+        return JsonModel.of(diagram);
     }
 
-    public JsonElement getServiceFieldNodes(LinePosition pos) {
+    public JsonModel getServiceFieldNodes(LinePosition pos) {
         for (Symbol symbol : semanticModel.moduleSymbols()) {
             if (symbol.kind() != SymbolKind.SERVICE_DECLARATION) {
                 continue;
@@ -298,7 +294,7 @@ public class ModelGenerator {
                 }
             }
             Diagram diagram = new Diagram(filePath.toString(), List.of(), connections);
-            return gson.toJsonTree(diagram);
+            return JsonModel.of(diagram);
         }
         return null;
     }
@@ -59,6 +59,7 @@ import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.ModuleInfo;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
@@ -66,6 +67,8 @@ import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocumentChange;
 import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
+import org.ballerinalang.langserver.workspace.ProjectSnapshot;
+import org.ballerinalang.langserver.workspace.ProjectSnapshots;
 import org.eclipse.lsp4j.TextEdit;
 
 import java.nio.file.Path;
@@ -197,7 +200,7 @@ public class TypesManager {
     }
 
     public JsonElement getTypeOfExpression(Project project, String fileName, Document document, LinePosition position,
-                                           String expression) {
+                                           String expression, ProjectSnapshots projectSnapshots) {
         String statement = String.format(ANY_ERROR_VARIABLE + "%s;", expression);
         TextDocument textDocument = document.textDocument();
         int startTextPosition = textDocument.textPositionFrom(position);
@@ -207,26 +210,27 @@ public class TypesManager {
         TextDocument apply = textDocument
                 .apply(TextDocumentChange.from(List.of(te).toArray(new io.ballerina.tools.text.TextEdit[0])));
 
-        Project proj = project.duplicate();
-        Document modifiedDoc = proj.currentPackage().module(document.module().moduleId())
-                        .document(document.documentId()).modify().withContent(String.join(System.lineSeparator(),
-                                apply.textLines())).apply();
-        int line = position.line();
-        int offset = position.offset() + ANY_ERROR_VARIABLE.length();
-        LinePosition exprStart = LinePosition.from(line, offset);
-        LinePosition exprEnd = LinePosition.from(line, offset + expression.length());
-        SemanticModel semanticModel =
-                proj.currentPackage().getCompilation().getSemanticModel(modifiedDoc.module().moduleId());
-        Optional<TypeSymbol> optTypeSymbol = semanticModel.typeOf(LineRange.from(fileName, exprStart, exprEnd));
-        if (optTypeSymbol.isEmpty()) {
-            return null;
-        }
+        try (ProjectSnapshot snapshot = projectSnapshots.acquire(project)) {
+            Document modifiedDoc = snapshot.modify(document.documentId(),
+                    String.join(System.lineSeparator(), apply.textLines()));
+            Package modifiedPackage = modifiedDoc.module().packageInstance();
+            int line = position.line();
+            int offset = position.offset() + ANY_ERROR_VARIABLE.length();
+            LinePosition exprStart = LinePosition.from(line, offset);
+            LinePosition exprEnd = LinePosition.from(line, offset + expression.length());
+            SemanticModel semanticModel =
+                    modifiedPackage.getCompilation().getSemanticModel(modifiedDoc.module().moduleId());
+            Optional<TypeSymbol> optTypeSymbol = semanticModel.typeOf(LineRange.from(fileName, exprStart, exprEnd));
+            if (optTypeSymbol.isEmpty()) {
+                return null;
+            }
 
-        TypeSymbol typeSymbol = optTypeSymbol.get();
-        ModuleInfo defaultModuleInfo = ModuleInfo.from(proj.currentPackage().getDefaultModule().descriptor());
-        String importStatements = CommonUtils.getImportStatements(typeSymbol, defaultModuleInfo).orElse("");
-        String typeName = CommonUtils.getTypeSignature(typeSymbol, defaultModuleInfo);
-        return gson.toJsonTree(new TypeImports(typeName, getImports(importStatements)));
+            TypeSymbol typeSymbol = optTypeSymbol.get();
+            ModuleInfo defaultModuleInfo = ModuleInfo.from(modifiedPackage.getDefaultModule().descriptor());
+            String importStatements = CommonUtils.getImportStatements(typeSymbol, defaultModuleInfo).orElse("");
+            String typeName = CommonUtils.getTypeSignature(typeSymbol, defaultModuleInfo);
+            return gson.toJsonTree(new TypeImports(typeName, getImports(importStatements)));
+        }
     }
 
     public TypeDataWithRefs getTypeDataWithRefs(TypeDefinitionSymbol typeDefSymbol) {
@@ -58,6 +58,8 @@ import org.ballerinalang.formatter.core.FormatterException;
 import org.ballerinalang.formatter.core.options.ForceFormattingOptions;
 import org.ballerinalang.formatter.core.options.FormattingOptions;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.workspace.ProjectSnapshot;
+import org.ballerinalang.langserver.workspace.ProjectSnapshots;
 
 import java.nio.file.Path;
 import java.util.AbstractMap;
@@ -99,15 +101,17 @@ public final class JsonToRecordMapper {
     private final Document document;
     private final Path filePath;
     private final TypesManager typesManager;
+    private final ProjectSnapshots projectSnapshots;
 
     public JsonToRecordMapper(String recordName, String prefix, Project project, Document document, Path filePath,
-                              TypesManager typesManager) {
+                              TypesManager typesManager, ProjectSnapshots projectSnapshots) {
         this.recordName = recordName;
         this.prefix = prefix;
         this.project = project;
         this.document = document;
         this.filePath = filePath;
         this.typesManager = typesManager;
+        this.projectSnapshots = projectSnapshots;
     }
 
     private static final String NEW_RECORD_NAME = "NewRecord";
@@ -186,20 +190,21 @@ public final class JsonToRecordMapper {
         String str = Formatter.format(modulePartNode.syntaxTree(), formattingOptions).toSourceCode();
 
         // TODO: Check on how we can use package compilation here
-        Document newDoc = project.duplicate().currentPackage().module(document.module().moduleId())
-                .document(document.documentId()).modify().withContent(str).apply();
-        List<Symbol> moduleSymbols = newDoc.module().getCompilation().getSemanticModel().moduleSymbols();
-
-        List<TypesManager.TypeDataWithRefs> typeDataList = new ArrayList<>();
-        for (Symbol symbol : moduleSymbols) {
-            if (symbol.kind() == SymbolKind.TYPE_DEFINITION) {
-                TypeDefinitionSymbol typeDefSymbol = (TypeDefinitionSymbol) symbol;
-                if (typeNames.contains(typeDefSymbol.getName().orElse(""))) {
-                    typeDataList.add(typesManager.getTypeDataWithRefs(typeDefSymbol));
+        try (ProjectSnapshot snapshot = projectSnapshots.acquire(project)) {
+            Document newDoc = snapshot.modify(document.documentId(), str);
+            List<Symbol> moduleSymbols = newDoc.module().getCompilation().getSemanticModel().moduleSymbols();
+
+            List<TypesManager.TypeDataWithRefs> typeDataList = new ArrayList<>();
+            for (Symbol symbol : moduleSymbols) {
+                if (symbol.kind() == SymbolKind.TYPE_DEFINITION) {
+                    TypeDefinitionSymbol typeDefSymbol = (TypeDefinitionSymbol) symbol;
+                    if (typeNames.contains(typeDefSymbol.getName().orElse(""))) {
+                        typeDataList.add(typesManager.getTypeDataWithRefs(typeDefSymbol));
+                    }
                 }
             }
+            return gson.toJsonTree(typeDataList);
         }
-        return gson.toJsonTree(typeDataList);
     }
 
     /**
@@ -57,6 +57,8 @@ import org.ballerinalang.formatter.core.FormatterException;
 import org.ballerinalang.formatter.core.options.ForceFormattingOptions;
 import org.ballerinalang.formatter.core.options.FormattingOptions;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.workspace.ProjectSnapshot;
+import org.ballerinalang.langserver.workspace.ProjectSnapshots;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
@@ -103,14 +105,16 @@ public final class XMLToRecordConverter {
     private final io.ballerina.projects.Document document;
     private final Path filePath;
     private final TypesManager typesManager;
+    private final ProjectSnapshots projectSnapshots;
     private boolean hasXmlDataUsed;
 
     public XMLToRecordConverter(Project project, io.ballerina.projects.Document document, Path filePath,
-                                TypesManager typesManager) {
+                                TypesManager typesManager, ProjectSnapshots projectSnapshots) {
         this.project = project;
         this.document = document;
         this.filePath = filePath;
         this.typesManager = typesManager;
+        this.projectSnapshots = projectSnapshots;
         hasXmlDataUsed = false;
     }
 
@@ -192,22 +196,22 @@ public final class XMLToRecordConverter {
         String importSrc = hasXmlDataUsed ? BALLERINA_XMLDATA_IMPORT_STATEMENT : "";
 
         // TODO: Check on how we can use package compilation here
-        io.ballerina.projects.Document newDoc =
-                project.duplicate().currentPackage().module(document.module().moduleId())
-                        .document(document.documentId()).modify().withContent(importSrc + typesSrc).apply();
-        List<Symbol> moduleSymbols = newDoc.module().getCompilation().getSemanticModel().moduleSymbols();
-
-        List<TypesManager.TypeDataWithRefs> typeDataList = new ArrayList<>();
-        for (Symbol symbol : moduleSymbols) {
-            if (symbol.kind() == SymbolKind.TYPE_DEFINITION) {
-                TypeDefinitionSymbol typeDefSymbol = (TypeDefinitionSymbol) symbol;
-                if (typeNames.contains(typeDefSymbol.getName().get())) {
-                    typeDataList.add(typesManager.getTypeDataWithRefs(typeDefSymbol));
+        try (ProjectSnapshot snapshot = projectSnapshots.acquire(project)) {
+            io.ballerina.projects.Document newDoc = snapshot.modify(document.documentId(), importSrc + typesSrc);
+            List<Symbol> moduleSymbols = newDoc.module().getCompilation().getSemanticModel().moduleSymbols();
+
+            List<TypesManager.TypeDataWithRefs> typeDataList = new ArrayList<>();
+            for (Symbol symbol : moduleSymbols) {
+                if (symbol.kind() == SymbolKind.TYPE_DEFINITION) {
+                    TypeDefinitionSymbol typeDefSymbol = (TypeDefinitionSymbol) symbol;
+                    if (typeNames.contains(typeDefSymbol.getName().get())) {
+                        typeDataList.add(typesManager.getTypeDataWithRefs(typeDefSymbol));
+                    }
                 }
             }
-        }
 
-        return gson.toJsonTree(typeDataList);
+            return gson.toJsonTree(typeDataList);
+        }
     }
 
     public JsonElement convert(String xmlValue, boolean isRecordTypeDesc, boolean isClosed,
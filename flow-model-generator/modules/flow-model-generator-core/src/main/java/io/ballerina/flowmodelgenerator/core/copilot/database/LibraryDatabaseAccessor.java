@@ -18,10 +18,10 @@
 
 package io.ballerina.flowmodelgenerator.core.copilot.database;
 
+import io.ballerina.modelgenerator.commons.PooledConnection;
 import io.ballerina.modelgenerator.commons.SearchDatabaseManager;
+import io.ballerina.modelgenerator.commons.SqliteConnectionPool;
 
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -59,8 +59,6 @@ public class LibraryDatabaseAccessor {
     public static Map<String, String> loadAllPackages(String mode) throws SQLException {
         Map<String, String> packageToDescriptionMap = new LinkedHashMap<>();
 
-        String dbPath = getDatabasePath();
-
         // Build SQL query based on mode using StringBuilder
         StringBuilder sqlBuilder = new StringBuilder();
         sqlBuilder.append("SELECT DISTINCT org, package_name, description FROM Package WHERE package_name IS NOT NULL");
@@ -76,9 +74,8 @@ public class LibraryDatabaseAccessor {
 
         String sql = sqlBuilder.toString();
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql);
-             ResultSet rs = stmt.executeQuery()) {
+        try (PooledConnection conn = getConnectionPool().acquire();
+             ResultSet rs = conn.prepareStatement(sql).executeQuery()) {
             populatePackageMap(packageToDescriptionMap, rs);
         }
 
@@ -94,7 +91,6 @@ public class LibraryDatabaseAccessor {
      */
     public static Optional<String> getPackageDescription(String org, String packageName) {
         try {
-            String dbPath = getDatabasePath();
             String sql = """
                     SELECT description
                     FROM Package
@@ -103,8 +99,8 @@ public class LibraryDatabaseAccessor {
                     LIMIT 1;
                     """;
 
-            try (Connection conn = DriverManager.getConnection(dbPath);
-                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+            try (PooledConnection conn = getConnectionPool().acquire()) {
+                PreparedStatement stmt = conn.prepareStatement(sql);
 
                 stmt.setString(1, org);
                 stmt.setString(2, packageName);
@@ -202,9 +198,8 @@ public class LibraryDatabaseAccessor {
                 LIMIT 9;
                 """;
 
-        String dbPath = getDatabasePath();
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = getConnectionPool().acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
 
             // Set the FTS queries - PackageFTS searches package_name, description, keywords
             // TypeFTS, ConnectorFTS, FunctionFTS search name and description
@@ -309,7 +304,7 @@ public class LibraryDatabaseAccessor {
         return String.join(" OR ", tokens);
     }
 
-    private static String getDatabasePath() {
-        return SearchDatabaseManager.getInstance().getDbPath();
+    private static SqliteConnectionPool getConnectionPool() {
+        return SearchDatabaseManager.getInstance().getConnectionPool();
     }
 }
@@ -187,6 +187,20 @@ public class DiagnosticRequest implements Callable<JsonElement> {
         return filePath + ":" + flowNode.hashCode();
     }
 
+    /**
+     * Returns the key of the lane the request is executed in. The request modifies the document of the project, hence
+     * the requests of the same project are executed one after another.
+     *
+     * @return the project root of the document
+     */
+    public String getLaneKey() {
+        try {
+            return workspaceManager.projectRoot(Path.of(filePath)).toString();
+        } catch (RuntimeException e) {
+            return filePath;
+        }
+    }
+
     public void revertDocument() {
         if (prevDoc != null) {
             Path path = Path.of(filePath);
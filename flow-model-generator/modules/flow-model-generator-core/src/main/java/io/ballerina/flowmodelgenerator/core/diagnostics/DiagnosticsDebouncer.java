@@ -19,20 +19,20 @@
 package io.ballerina.flowmodelgenerator.core.diagnostics;
 
 import com.google.gson.JsonElement;
+import io.ballerina.flowmodelgenerator.core.expressioneditor.DebouncedTaskExecutor;
 
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Debouncing specifically designed for diagnostics requests in the Flow Model. This debouncer ensures that diagnostics
  * processing is only executed after a specified delay has passed since the last invocation, cancelling any pending
  * executions in between. This class follows the Singleton pattern, ensuring only one instance exists across the
- * application for diagnostics operations.
+ * application for diagnostics operations. The debounced tasks are executed by the {@link DebouncedTaskExecutor}, which
+ * runs the requests of different projects in parallel.
  *
  * @since 1.0.0
  */
@@ -47,15 +47,11 @@ public class DiagnosticsDebouncer {
     // Map to hold scheduled diagnostics tasks
     private final ConcurrentHashMap<String, ScheduledDiagnosticsTaskHolder<?>> delayedMap;
 
-    // Single-thread scheduler to debounce diagnostics tasks.
-    private final ScheduledExecutorService scheduler;
+    // Executor to run the debounced diagnostics tasks.
+    private final DebouncedTaskExecutor executor;
 
     private DiagnosticsDebouncer() {
-        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "DiagnosticsDebouncer");
-            t.setDaemon(true);
-            return t;
-        });
+        executor = DebouncedTaskExecutor.getInstance();
         delayedMap = new ConcurrentHashMap<>();
     }
 
@@ -71,7 +67,7 @@ public class DiagnosticsDebouncer {
         CompletableFuture<JsonElement> promise = new CompletableFuture<>();
 
         // Schedule the task to run after the default delay.
-        Future<?> scheduledFuture = scheduler.schedule(() -> {
+        Future<?> scheduledFuture = executor.schedule(request.getLaneKey(), () -> {
             try {
                 JsonElement result = request.call();
                 promise.complete(result);
@@ -79,7 +75,8 @@ public class DiagnosticsDebouncer {
                 promise.completeExceptionally(ex);
             } finally {
                 request.revertDocument();
-                delayedMap.remove(key);
+                // Only remove the entry of this task, as the key may have been debounced by a new request
+                delayedMap.computeIfPresent(key, (k, holder) -> holder.promise() == promise ? null : holder);
             }
         }, DELAY, TIME_UNIT);
 
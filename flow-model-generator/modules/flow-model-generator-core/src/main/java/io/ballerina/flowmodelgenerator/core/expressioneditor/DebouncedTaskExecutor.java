@@ -0,0 +1,246 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.expressioneditor;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executes the debounced tasks once their delay has elapsed. The executor does not own any threads; the delays are
+ * tracked by the shared delayer of {@link CompletableFuture#delayedExecutor}, and the tasks are executed on the
+ * interactive lane of the language server once it is provided through {@link #useExecutor(Executor)}, and on virtual
+ * threads until then. Tasks that share a lane are executed one after another in the order their delays elapsed, while
+ * tasks of different lanes run in parallel.
+ *
+ * <p>
+ * The debounced requests temporarily modify the documents of a project and revert them afterward. Hence, the
+ * debouncers use the project root as the lane so that the requests of a project never observe each other's
+ * modifications, while the requests of other projects are not blocked.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+public class DebouncedTaskExecutor {
+
+    private static final Executor VIRTUAL_THREAD_EXECUTOR =
+            runnable -> Thread.ofVirtual().name("DebouncedTask").start(runnable);
+
+    private volatile Executor workers;
+    private final ConcurrentHashMap<String, Lane> lanes;
+
+    // Metrics
+    private final AtomicInteger scheduledTasks;
+    private final AtomicInteger queuedTasks;
+    private final AtomicInteger runningTasks;
+    private final LongAdder completedTasks;
+    private final LongAdder cancelledTasks;
+    private final LongAdder totalWaitNanos;
+    private final AtomicLong maxWaitNanos;
+
+    private DebouncedTaskExecutor() {
+        workers = VIRTUAL_THREAD_EXECUTOR;
+        lanes = new ConcurrentHashMap<>();
+        scheduledTasks = new AtomicInteger();
+        queuedTasks = new AtomicInteger();
+        runningTasks = new AtomicInteger();
+        completedTasks = new LongAdder();
+        cancelledTasks = new LongAdder();
+        totalWaitNanos = new LongAdder();
+        maxWaitNanos = new AtomicLong();
+    }
+
+    /**
+     * Schedules the given task to be executed in the given lane once the delay has elapsed. Cancelling the returned
+     * future before the delay has elapsed prevents the execution of the task, and cancelling it with interruption
+     * while the task is running interrupts the task.
+     *
+     * @param laneKey the key of the lane the task is executed in
+     * @param task    the task to execute
+     * @param delay   the delay before the task is executed
+     * @param unit    the time unit of the delay
+     * @return a future representing the pending execution of the task
+     */
+    public Future<?> schedule(String laneKey, Runnable task, long delay, TimeUnit unit) {
+        DebouncedTask debouncedTask = new DebouncedTask(task);
+        scheduledTasks.incrementAndGet();
+        // The delayed action only enqueues the task, so it runs on the delayer thread to keep the order of the delays
+        CompletableFuture.delayedExecutor(delay, unit, Runnable::run).execute(() -> {
+            if (debouncedTask.unschedule()) {
+                enqueue(laneKey, debouncedTask);
+            }
+        });
+        return debouncedTask;
+    }
+
+    /**
+     * Sets the executor the debounced tasks are executed on. The language server provides its interactive lane, so
+     * that the debounced requests share the threads of the other requests the user is waiting on.
+     *
+     * @param executor the executor to execute the tasks on
+     */
+    public void useExecutor(Executor executor) {
+        this.workers = executor;
+    }
+
+    /**
+     * Returns a snapshot of the metrics of the executor.
+     *
+     * @return the metrics
+     */
+    public Metrics metrics() {
+        long completed = completedTasks.sum();
+        long averageWaitNanos = completed == 0 ? 0 : totalWaitNanos.sum() / completed;
+        return new Metrics(scheduledTasks.get(), queuedTasks.get(), runningTasks.get(), completed,
+                cancelledTasks.sum(), TimeUnit.NANOSECONDS.toMillis(averageWaitNanos),
+                TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+    }
+
+    public static DebouncedTaskExecutor getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private void enqueue(String laneKey, DebouncedTask task) {
+        task.enqueuedTime = System.nanoTime();
+        queuedTasks.incrementAndGet();
+        lanes.compute(laneKey, (key, lane) -> {
+            Lane currentLane = lane == null ? new Lane(key) : lane;
+            currentLane.tasks.add(task);
+            if (!currentLane.draining) {
+                currentLane.draining = true;
+                workers.execute(() -> drain(currentLane));
+            }
+            return currentLane;
+        });
+    }
+
+    private void drain(Lane lane) {
+        DebouncedTask task;
+        while ((task = poll(lane)) != null) {
+            queuedTasks.decrementAndGet();
+            if (task.isCancelled()) {
+                continue;
+            }
+            long waitNanos = System.nanoTime() - task.enqueuedTime;
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+
+            runningTasks.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                runningTasks.decrementAndGet();
+                completedTasks.increment();
+                // Clear the interrupt status set by a cancellation, as the thread continues with the next task
+                Thread.interrupted();
+            }
+        }
+    }
+
+    /**
+     * Retrieves the next task of the lane. The lane is removed once it has no more tasks, so that a new lane is created
+     * for the next task with the same key.
+     */
+    private DebouncedTask poll(Lane lane) {
+        DebouncedTask[] next = new DebouncedTask[1];
+        lanes.compute(lane.key, (key, currentLane) -> {
+            next[0] = lane.tasks.poll();
+            if (next[0] == null) {
+                lane.draining = false;
+                return null;
+            }
+            return currentLane;
+        });
+        return next[0];
+    }
+
+    /**
+     * Metrics of the debounced task executor.
+     *
+     * @param scheduledTasks  number of tasks waiting for their debounce delay to elapse
+     * @param queuedTasks     number of tasks waiting for the previous tasks of their lane to complete
+     * @param runningTasks    number of tasks being executed
+     * @param completedTasks  number of tasks executed
+     * @param cancelledTasks  number of tasks cancelled, mostly by a newer request with the same debounce key
+     * @param averageWaitTime average time in milliseconds a task waited in its lane before the execution
+     * @param maxWaitTime     maximum time in milliseconds a task waited in its lane before the execution
+     */
+    public record Metrics(int scheduledTasks, int queuedTasks, int runningTasks, long completedTasks,
+                          long cancelledTasks, long averageWaitTime, long maxWaitTime) {
+    }
+
+    private static class Holder {
+
+        private static final DebouncedTaskExecutor INSTANCE = new DebouncedTaskExecutor();
+    }
+
+    private static class Lane {
+
+        private final String key;
+        private final Queue<DebouncedTask> tasks;
+        private boolean draining;
+
+        Lane(String key) {
+            this.key = key;
+            this.tasks = new ArrayDeque<>();
+            this.draining = false;
+        }
+    }
+
+    private class DebouncedTask extends FutureTask<Void> {
+
+        private final AtomicBoolean scheduled;
+        private long enqueuedTime;
+
+        DebouncedTask(Runnable runnable) {
+            super(runnable, null);
+            this.scheduled = new AtomicBoolean(true);
+        }
+
+        /**
+         * Marks the delay of the task as elapsed or abandoned, and returns whether it was still pending.
+         */
+        boolean unschedule() {
+            if (scheduled.compareAndSet(true, false)) {
+                scheduledTasks.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            unschedule();
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                cancelledTasks.increment();
+            }
+            return cancelled;
+        }
+    }
+}
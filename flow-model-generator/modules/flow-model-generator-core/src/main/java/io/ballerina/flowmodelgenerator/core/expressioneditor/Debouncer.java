@@ -23,15 +23,14 @@ import io.ballerina.flowmodelgenerator.core.expressioneditor.services.DebouncedE
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Debouncing ensures that a task is only executed after a specified delay has passed since its last invocation,
  * cancelling any pending executions in between. This class follows the Singleton pattern, ensuring only one instance
- * exists across the application.
+ * exists across the application. The debounced tasks are executed by the {@link DebouncedTaskExecutor}, which runs the
+ * requests of different projects in parallel.
  *
  * @since 1.0.0
  */
@@ -43,11 +42,11 @@ public class Debouncer {
     // Map to hold scheduled tasks
     private final ConcurrentHashMap<String, ScheduledTaskHolder<?>> delayedMap;
 
-    // Single-thread scheduler to debounce tasks.
-    private final ScheduledExecutorService scheduler;
+    // Executor to run the debounced tasks.
+    private final DebouncedTaskExecutor executor;
 
     private Debouncer() {
-        scheduler = Executors.newSingleThreadScheduledExecutor();
+        executor = DebouncedTaskExecutor.getInstance();
         delayedMap = new ConcurrentHashMap<>();
     }
 
@@ -57,11 +56,11 @@ public class Debouncer {
      */
     public <T> CompletableFuture<T> debounce(DebouncedExpressionEditorRequest<T> request) {
         long delay = request.getDelay();
-        String key = request.getKey();
+        String key = request.getDebounceKey();
         CompletableFuture<T> promise = new CompletableFuture<>();
 
         // Schedule the task to run after the specified delay.
-        Future<?> scheduledFuture = scheduler.schedule(() -> {
+        Future<?> scheduledFuture = executor.schedule(request.getLaneKey(), () -> {
             try {
                 T result = request.call();
                 promise.complete(result);
@@ -71,7 +70,8 @@ public class Debouncer {
                 if (promise.isCompletedExceptionally()) {
                     request.revertDocument();
                 }
-                delayedMap.remove(key);
+                // Only remove the entry of this task, as the key may have been debounced by a new request
+                delayedMap.computeIfPresent(key, (k, holder) -> holder.promise() == promise ? null : holder);
             }
         }, delay, TIME_UNIT);
 
@@ -67,6 +67,30 @@ public abstract class DebouncedExpressionEditorRequest<T> implements Callable<T>
      */
     public abstract long getDelay();
 
+    /**
+     * Returns the key used to debounce the request. Requests of the same API are only debounced against the requests
+     * for the same document, so that the expression editors of different documents do not cancel each other.
+     *
+     * @return the debounce key of the request
+     */
+    public final String getDebounceKey() {
+        return getKey() + ":" + context.filePath();
+    }
+
+    /**
+     * Returns the key of the lane the request is executed in. The requests modify the document of the project, hence
+     * the requests of the same project are executed one after another.
+     *
+     * @return the project root of the document
+     */
+    public final String getLaneKey() {
+        try {
+            return context.workspaceManager().projectRoot(context.filePath()).toString();
+        } catch (RuntimeException e) {
+            return context.filePath().toString();
+        }
+    }
+
     @Override
     public T call() throws Exception {
         // Capture the first state of the document
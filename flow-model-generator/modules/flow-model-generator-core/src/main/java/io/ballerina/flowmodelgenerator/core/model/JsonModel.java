@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.model;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Represents a model that is serialized when the response is written. Models such as the {@link Diagram} can be large,
+ * hence the model is written directly to the JSON-RPC output in the compact form instead of being converted to an
+ * intermediate {@link JsonElement} tree first.
+ *
+ * @param model the model to serialize
+ * @since 1.7.0
+ */
+@JsonAdapter(JsonModel.Adapter.class)
+public record JsonModel(Object model) {
+
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    public static JsonModel of(Object model) {
+        return new JsonModel(model);
+    }
+
+    /**
+     * Converts the model to a {@link JsonElement} tree. This should only be used when the model has to be inspected or
+     * modified before it is sent.
+     *
+     * @return the JSON tree of the model
+     */
+    public JsonElement toJsonTree() {
+        return model instanceof JsonElement jsonElement ? jsonElement : GSON.toJsonTree(model);
+    }
+
+    /**
+     * Type adapter that streams the model to the JSON writer.
+     */
+    public static class Adapter extends TypeAdapter<JsonModel> {
+
+        @Override
+        public void write(JsonWriter out, JsonModel value) throws IOException {
+            if (value == null || value.model() == null) {
+                out.nullValue();
+                return;
+            }
+            GSON.toJson(value.model(), value.model().getClass(), out);
+        }
+
+        @Override
+        public JsonModel read(JsonReader in) {
+            return new JsonModel(JsonParser.parseReader(in));
+        }
+    }
+}
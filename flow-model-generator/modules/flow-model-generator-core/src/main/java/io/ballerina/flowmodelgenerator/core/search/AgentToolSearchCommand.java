@@ -20,30 +20,14 @@ package io.ballerina.flowmodelgenerator.core.search;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
-import io.ballerina.compiler.api.ModuleID;
-import io.ballerina.compiler.api.symbols.AnnotationAttachmentSymbol;
-import io.ballerina.compiler.api.symbols.AnnotationSymbol;
-import io.ballerina.compiler.api.symbols.Documentation;
-import io.ballerina.compiler.api.symbols.FunctionSymbol;
-import io.ballerina.compiler.api.symbols.FunctionTypeSymbol;
-import io.ballerina.compiler.api.symbols.ModuleSymbol;
-import io.ballerina.compiler.api.symbols.ParameterSymbol;
-import io.ballerina.compiler.api.symbols.Qualifier;
-import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.SymbolKind;
-import io.ballerina.compiler.api.symbols.TypeSymbol;
 import io.ballerina.flowmodelgenerator.core.model.AvailableNode;
 import io.ballerina.flowmodelgenerator.core.model.Category;
 import io.ballerina.flowmodelgenerator.core.model.Codedata;
 import io.ballerina.flowmodelgenerator.core.model.Item;
 import io.ballerina.flowmodelgenerator.core.model.Metadata;
 import io.ballerina.flowmodelgenerator.core.model.NodeKind;
-import io.ballerina.modelgenerator.commons.CommonUtils;
-import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.modelgenerator.commons.SearchResult;
-import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
-import io.ballerina.tools.diagnostics.Location;
 import io.ballerina.tools.text.LineRange;
 import org.ballerinalang.langserver.common.utils.PositionUtil;
 
@@ -52,9 +36,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
-
-import static io.ballerina.modelgenerator.commons.CommonUtils.isAiModule;
 
 /**
  * Handles the search command for agent tools.
@@ -120,29 +101,22 @@ public class AgentToolSearchCommand extends SearchCommand {
     }
 
     private List<Item> buildAgentToolNodes() {
-        Package currentPackage = project.currentPackage();
-        List<Symbol> functionSymbols = PackageUtil.getCompilation(currentPackage)
-                .getSemanticModel(currentPackage.getDefaultModule().moduleId())
-                .moduleSymbols().stream()
-                .filter(symbol -> symbol.kind().equals(SymbolKind.FUNCTION))
-                .toList();
+        List<PackageSummaryCache.FunctionSummary> functions = PackageSummaryCache.getInstance().get(project)
+                .defaultModule().functions();
 
         Category.Builder agentToolsBuilder = rootBuilder.stepIn(Category.Name.AGENT_TOOLS);
         List<Item> agentToolNodes = new ArrayList<>();
         String lowerCaseQuery = query.isEmpty() ? null : query.toLowerCase(Locale.ROOT);
 
-        for (Symbol symbol : functionSymbols) {
-            FunctionSymbol functionSymbol = (FunctionSymbol) symbol;
-
+        for (PackageSummaryCache.FunctionSummary function : functions) {
             // Check if function is an agent tool
-            if (!isAgentTool(functionSymbol)) {
+            if (!function.isValidAgentTool()) {
                 continue;
             }
 
             // Skip if function is within current position (editing context)
-            Optional<Location> location = symbol.getLocation();
-            if (position != null && location.isPresent()) {
-                LineRange fnLineRange = location.get().lineRange();
+            LineRange fnLineRange = function.lineRange();
+            if (position != null && fnLineRange != null) {
                 if (fnLineRange.fileName().equals(position.fileName()) &&
                         PositionUtil.isWithinLineRange(fnLineRange, position)) {
                     continue;
@@ -150,55 +124,28 @@ public class AgentToolSearchCommand extends SearchCommand {
             }
 
             // Filter by query if provided
-            if (symbol.getName().isEmpty() ||
-                    (lowerCaseQuery != null && !symbol.getName().get().toLowerCase(Locale.ROOT)
-                            .contains(lowerCaseQuery))) {
+            if (lowerCaseQuery != null && !function.name().toLowerCase(Locale.ROOT).contains(lowerCaseQuery)) {
                 continue;
             }
 
-            boolean isIsolatedFunction = functionSymbol.qualifiers().contains(Qualifier.ISOLATED);
-
-            // Extract input parameters
-            List<Map<String, String>> inputParameters = new ArrayList<>();
-            FunctionTypeSymbol functionTypeSymbol = functionSymbol.typeDescriptor();
-            Optional<List<ParameterSymbol>> optParams = functionTypeSymbol.params();
-            if (optParams.isPresent()) {
-                for (ParameterSymbol parameterSymbol : optParams.get()) {
-                    String paramName = parameterSymbol.getName().orElse("");
-                    String paramType = parameterSymbol.typeDescriptor().signature();
-                    inputParameters.add(Map.of("name", paramName, "type", paramType));
-                }
-            }
-
-            // Extract output type
-            String outputType = "";
-            Optional<TypeSymbol> optReturnTypeSymbol = functionTypeSymbol.returnTypeDescriptor();
-            if (optReturnTypeSymbol.isPresent()) {
-                outputType = optReturnTypeSymbol.get().signature();
-            }
-
             Metadata metadata = new Metadata.Builder<>(null)
-                    .label(symbol.getName().get())
-                    .description(functionSymbol.documentation()
-                            .flatMap(Documentation::description)
-                            .orElse("Agent tool function"))
+                    .label(function.name())
+                    .description(function.description() != null ? function.description() : "Agent tool function")
                     .addData("isAgentTool", true)
-                    .addData("isIsolatedFunction", isIsolatedFunction)
-                    .addData("inputParameters", inputParameters)
-                    .addData("outputType", outputType)
+                    .addData("isIsolatedFunction", function.isIsolated())
+                    .addData("inputParameters", function.inputParameters())
+                    .addData("outputType", function.outputType())
                     .build();
 
             Codedata.Builder<Object> codedataBuilder = new Codedata.Builder<>(null)
                     .node(NodeKind.FUNCTION_CALL)
-                    .symbol(symbol.getName().get());
+                    .symbol(function.name());
 
-            Optional<ModuleSymbol> moduleSymbol = functionSymbol.getModule();
-            if (moduleSymbol.isPresent()) {
-                ModuleID id = moduleSymbol.get().id();
+            if (function.org() != null) {
                 codedataBuilder
-                        .org(id.orgName())
-                        .module(id.packageName())
-                        .version(id.version());
+                        .org(function.org())
+                        .module(function.module())
+                        .version(function.version());
             }
 
             agentToolNodes.add(new AvailableNode(metadata, codedataBuilder.build(), true));
@@ -207,59 +154,4 @@ public class AgentToolSearchCommand extends SearchCommand {
         agentToolsBuilder.items(agentToolNodes);
         return rootBuilder.build().items();
     }
-
-    private boolean isAgentTool(FunctionSymbol functionSymbol) {
-        // Check if function is isolated
-        if (!functionSymbol.qualifiers().contains(Qualifier.ISOLATED)) {
-            return false;
-        }
-
-        // Check if function has AgentTool annotation
-        for (AnnotationAttachmentSymbol annotAttachment : functionSymbol.annotAttachments()) {
-            AnnotationSymbol annotationSymbol = annotAttachment.typeDescriptor();
-            Optional<ModuleSymbol> optModule = annotationSymbol.getModule();
-            if (optModule.isEmpty()) {
-                continue;
-            }
-            ModuleID id = optModule.get().id();
-            if (!isAiModule(id.orgName(), id.packageName())) {
-                continue;
-            }
-            Optional<String> optName = annotationSymbol.getName();
-            if (optName.isEmpty()) {
-                continue;
-            }
-            if (optName.get().equals(TOOL_ANNOTATION)) {
-                return isValidAgentToolSignature(functionSymbol);
-            }
-        }
-        return false;
-    }
-
-    private boolean isValidAgentToolSignature(FunctionSymbol functionSymbol) {
-        FunctionTypeSymbol functionTypeSymbol = functionSymbol.typeDescriptor();
-        TypeSymbol anydata = PackageUtil.getCompilation(project.currentPackage())
-                .getSemanticModel(project.currentPackage().getDefaultModule().moduleId())
-                .types().ANYDATA;
-
-        // Check parameters are subtypes of anydata
-        Optional<List<ParameterSymbol>> optParams = functionTypeSymbol.params();
-        if (optParams.isPresent()) {
-            for (ParameterSymbol parameterSymbol : optParams.get()) {
-                if (!CommonUtils.subTypeOf(parameterSymbol.typeDescriptor(), anydata)) {
-                    return false;
-                }
-            }
-        }
-
-        // Check return type is subtype of anydata
-        Optional<TypeSymbol> optReturnTypeSymbol = functionTypeSymbol.returnTypeDescriptor();
-        if (optReturnTypeSymbol.isPresent()) {
-            if (!CommonUtils.subTypeOf(optReturnTypeSymbol.get(), anydata)) {
-                return false;
-            }
-        }
-
-        return true;
-    }
 }
@@ -22,13 +22,6 @@ import com.google.gson.reflect.TypeToken;
 import io.ballerina.centralconnector.CentralAPI;
 import io.ballerina.centralconnector.RemoteCentral;
 import io.ballerina.centralconnector.response.ConnectorsResponse;
-import io.ballerina.compiler.api.ModuleID;
-import io.ballerina.compiler.api.SemanticModel;
-import io.ballerina.compiler.api.symbols.ClassSymbol;
-import io.ballerina.compiler.api.symbols.ModuleSymbol;
-import io.ballerina.compiler.api.symbols.Qualifier;
-import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.SymbolKind;
 import io.ballerina.flowmodelgenerator.core.LocalIndexCentral;
 import io.ballerina.flowmodelgenerator.core.model.AvailableNode;
 import io.ballerina.flowmodelgenerator.core.model.Category;
@@ -39,10 +32,7 @@ import io.ballerina.flowmodelgenerator.core.model.NodeKind;
 import io.ballerina.flowmodelgenerator.core.model.node.NewConnectionBuilder;
 import io.ballerina.flowmodelgenerator.core.utils.ConnectorUtil;
 import io.ballerina.modelgenerator.commons.CommonUtils;
-import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.modelgenerator.commons.SearchResult;
-import io.ballerina.projects.Module;
-import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.text.LineRange;
 import org.ballerinalang.diagramutil.connector.models.connector.Connector;
@@ -54,7 +44,6 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -212,39 +201,10 @@ public class ConnectorSearchCommand extends SearchCommand {
     }
 
     private List<SearchResult> getLocalConnectors() {
-        PackageCompilation compilation = PackageUtil.getCompilation(project);
-        Iterable<Module> modules = project.currentPackage().modules();
-        List<SearchResult> localConnections = new ArrayList<>();
-        for (Module module : modules) {
-            if (module.isDefaultModule()) {
-                continue;
-            }
-            SemanticModel semanticModel = compilation.getSemanticModel(module.moduleId());
-            List<Symbol> symbols = semanticModel.moduleSymbols();
-            for (Symbol symbol : symbols) {
-                if (symbol.kind() != SymbolKind.CLASS) {
-                    continue;
-                }
-                ClassSymbol classSymbol = (ClassSymbol) symbol;
-                if (!classSymbol.qualifiers().contains(Qualifier.CLIENT)) {
-                    continue;
-                }
-                Optional<ModuleSymbol> optModule = symbol.getModule();
-                if (optModule.isEmpty()) {
-                    throw new IllegalStateException("Module cannot be found for the symbol: " + symbol.getName());
-                }
-                ModuleID id = optModule.get().id();
-                String doc = "";
-                if (classSymbol.documentation().isPresent()) {
-                    doc = classSymbol.documentation().get().description().orElse("");
-                }
-                SearchResult searchResult = SearchResult.from(id.orgName(),
-                        id.packageName(), id.moduleName().substring(id.packageName().length() + 1),
-                        id.version(), classSymbol.getName().orElse(ConnectorUtil.CLIENT), doc);
-                localConnections.add(searchResult);
-            }
-        }
-        return localConnections;
+        return PackageSummaryCache.getInstance().get(project).modules().stream()
+                .filter(module -> !module.isDefault())
+                .flatMap(module -> module.connectors().stream())
+                .toList();
     }
 
     private record ScoredConnector(SearchResult searchResult, int score) {
@@ -21,14 +21,6 @@ package io.ballerina.flowmodelgenerator.core.search;
 import io.ballerina.centralconnector.CentralAPI;
 import io.ballerina.centralconnector.RemoteCentral;
 import io.ballerina.centralconnector.response.SymbolResponse;
-import io.ballerina.compiler.api.ModuleID;
-import io.ballerina.compiler.api.symbols.AnnotationAttachmentSymbol;
-import io.ballerina.compiler.api.symbols.AnnotationSymbol;
-import io.ballerina.compiler.api.symbols.Documentation;
-import io.ballerina.compiler.api.symbols.FunctionSymbol;
-import io.ballerina.compiler.api.symbols.ModuleSymbol;
-import io.ballerina.compiler.api.symbols.Qualifier;
-import io.ballerina.compiler.api.symbols.SymbolKind;
 import io.ballerina.flowmodelgenerator.core.model.AvailableNode;
 import io.ballerina.flowmodelgenerator.core.model.Category;
 import io.ballerina.flowmodelgenerator.core.model.Codedata;
@@ -45,7 +37,6 @@ import io.ballerina.projects.PackageName;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.directory.WorkspaceProject;
-import io.ballerina.tools.diagnostics.Location;
 import io.ballerina.tools.text.LineRange;
 import org.ballerinalang.langserver.common.utils.PositionUtil;
 
@@ -56,8 +47,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
-import static io.ballerina.modelgenerator.commons.CommonUtils.isAiModule;
-
 /**
  * Represents a command to search for functions within a module. This class extends SearchCommand and provides
  * functionality to search for both project-specific and library functions.
@@ -183,25 +172,14 @@ class FunctionSearchCommand extends SearchCommand {
         return Map.of(FETCH_KEY, dbManager.searchFunctionsByPackages(packageNames, functionNames, limit, offset));
     }
 
-    private List<FunctionSymbol> getFunctions(Project project) {
-        Package currentPackage = project.currentPackage();
-
-        return PackageUtil.getCompilation(currentPackage)
-                .getSemanticModel(currentPackage.getDefaultModule().moduleId())
-                .moduleSymbols().stream()
-                .filter(symbol -> symbol.kind().equals(SymbolKind.FUNCTION) &&
-                        !symbol.nameEquals(AutomationBuilder.MAIN_FUNCTION_NAME))
-                .map(symbol -> (FunctionSymbol) symbol)
-                .toList();
-    }
-
     private void buildWorkspaceNodes() {
         Category.Builder agentToolsBuilder = rootBuilder.stepIn(Category.Name.AGENT_TOOLS);
+        PackageSummaryCache summaryCache = PackageSummaryCache.getInstance();
 
         Optional<WorkspaceProject> workspaceProject = project.workspaceProject();
         if (workspaceProject.isEmpty()) {
             Category.Builder projectBuilder = rootBuilder.stepIn(Category.Name.CURRENT_INTEGRATION);
-            buildProjectNodes(project, projectBuilder, agentToolsBuilder);
+            buildProjectNodes(summaryCache.get(project), true, projectBuilder, agentToolsBuilder);
             return;
         }
 
@@ -209,54 +187,54 @@ class FunctionSearchCommand extends SearchCommand {
         
         Category.Builder workspaceBuilder = rootBuilder.stepIn(Category.Name.CURRENT_WORKSPACE);
 
+        // Summarize the packages of the workspace in parallel, starting from the current integration
+        List<Project> projects = new ArrayList<>();
+        projects.add(this.project);
+        for (BuildProject project : workspaceProject.get().projects()) {
+            if (!project.currentPackage().packageName().equals(currProjPackageName)) {
+                projects.add(project);
+            }
+        }
+        List<PackageSummaryCache.PackageSummary> summaries = summaryCache.getAll(projects);
+
         // Build current integration first to ensure it appears at the top
         Category.Builder currIntProjBuilder = workspaceBuilder.stepIn(
                 currProjPackageName.value() + CURRENT_INTEGRATION_INDICATOR, "", List.of());
         Category.Builder currIntAgtToolsBuilder = agentToolsBuilder.stepIn(
                 currProjPackageName.value() + CURRENT_INTEGRATION_INDICATOR, "", List.of());
-        buildProjectNodes(this.project, currIntProjBuilder, currIntAgtToolsBuilder);
-
-        List<BuildProject> projects = workspaceProject.get().projects();
-        for (BuildProject project : projects) {
-            PackageName packageName = project.currentPackage().packageName();
-            if (packageName.equals(currProjPackageName)) {
-                continue;
-            }
+        buildProjectNodes(summaries.getFirst(), true, currIntProjBuilder, currIntAgtToolsBuilder);
 
-            Category.Builder projectBuilder = workspaceBuilder.stepIn(packageName.value(), "", List.of());
-            Category.Builder projectAgentToolsBuilder = agentToolsBuilder.stepIn(packageName.value(), "", List.of());
-            buildProjectNodes(project, projectBuilder, projectAgentToolsBuilder);
+        for (PackageSummaryCache.PackageSummary summary : summaries.subList(1, summaries.size())) {
+            Category.Builder projectBuilder = workspaceBuilder.stepIn(summary.packageName(), "", List.of());
+            Category.Builder projectAgentToolsBuilder = agentToolsBuilder.stepIn(summary.packageName(), "",
+                    List.of());
+            buildProjectNodes(summary, false, projectBuilder, projectAgentToolsBuilder);
         }
     }
 
-    private void buildProjectNodes(Project project,
+    private void buildProjectNodes(PackageSummaryCache.PackageSummary summary,
+                                   boolean isCurrIntProject,
                                    Category.Builder projectBuilder,
                                    Category.Builder projectAgentToolsBuilder) {
-        List<FunctionSymbol> functions = getFunctions(project);
-
-        boolean isCurrIntProject = this.project.currentPackage().packageName()
-                .equals(project.currentPackage().packageName());
-
-        List<FunctionSymbol> filteredFunctions;
-        if (!isCurrIntProject) {
-            filteredFunctions = functions.stream()
-                    .filter(func -> func.qualifiers().contains(Qualifier.PUBLIC))
-                    .toList();
-        } else {
-            filteredFunctions = functions;
-        }
-
         List<Item> availableNodes = new ArrayList<>();
         List<Item> availableTools = new ArrayList<>();
 
-        for (FunctionSymbol func : filteredFunctions) {
+        for (PackageSummaryCache.FunctionSummary func : summary.defaultModule().functions()) {
+            if (func.name().equals(AutomationBuilder.MAIN_FUNCTION_NAME)) {
+                continue;
+            }
+
+            if (!isCurrIntProject && !func.isPublic()) {
+                continue;
+            }
+
             if (isNaturalExprBodiedFunction(func)) {
                 continue;
             }
 
             boolean isDataMappedFunction = isDataMappedFunction(func);
             if (isDataMappedFunction && isCurrIntProject) {
-                LineRange fnLineRange = func.getLocation().get().lineRange();
+                LineRange fnLineRange = func.lineRange();
                 if (fnLineRange.fileName().equals(position.fileName()) &&
                         PositionUtil.isWithinLineRange(fnLineRange, position)) {
                     continue;
@@ -267,13 +245,9 @@ class FunctionSearchCommand extends SearchCommand {
                 continue;
             }
 
-            boolean isAgentTool = isAgentTool(func);
-            boolean isIsolatedFunction = func.qualifiers().contains(Qualifier.ISOLATED);
+            AvailableNode availableNode = createAvailableNode(func, isDataMappedFunction);
 
-            AvailableNode availableNode = createAvailableNode(func, isDataMappedFunction, isAgentTool,
-                    isIsolatedFunction);
-
-            if (isAgentTool) {
+            if (func.isAgentTool()) {
                 availableTools.add(availableNode);
             } else {
                 availableNodes.add(availableNode);
@@ -321,70 +295,38 @@ class FunctionSearchCommand extends SearchCommand {
         }
     }
 
-    private boolean isAgentTool(FunctionSymbol functionSymbol) {
-        for (AnnotationAttachmentSymbol annotAttachment : functionSymbol.annotAttachments()) {
-            AnnotationSymbol annotationSymbol = annotAttachment.typeDescriptor();
-            Optional<ModuleSymbol> optModule = annotationSymbol.getModule();
-            if (optModule.isEmpty()) {
-                continue;
-            }
-            ModuleID id = optModule.get().id();
-            if (!isAiModule(id.orgName(), id.packageName())) {
-                continue;
-            }
-            Optional<String> optName = annotationSymbol.getName();
-            if (optName.isEmpty()) {
-                continue;
-            }
-            if (optName.get().equals(TOOL_ANNOTATION)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private boolean isNaturalExprBodiedFunction(FunctionSymbol functionSymbol) {
-        return functionsDoc != null
-                && CommonUtils.isNaturalExpressionBodiedFunction(functionsDoc.syntaxTree(), functionSymbol);
+    private boolean isNaturalExprBodiedFunction(PackageSummaryCache.FunctionSummary function) {
+        return functionsDoc != null && function.isNaturalExpressionBodied();
     }
 
-    private boolean isValidFunctionForSearchQuery(FunctionSymbol functionSymbol) {
-        if (functionSymbol.getName().isEmpty()) {
-            return false;
-        }
-        String functionName = functionSymbol.getName().get().toLowerCase(Locale.ROOT);
+    private boolean isValidFunctionForSearchQuery(PackageSummaryCache.FunctionSummary function) {
+        String functionName = function.name().toLowerCase(Locale.ROOT);
         return query.isEmpty() || functionName.contains(query.toLowerCase(Locale.ROOT));
     }
 
-    private boolean isDataMappedFunction(FunctionSymbol functionSymbol) {
-        Optional<Location> location = functionSymbol.getLocation();
-        return location.isPresent() && location.get().lineRange().fileName().equals(DATA_MAPPER_FILE_NAME);
+    private boolean isDataMappedFunction(PackageSummaryCache.FunctionSummary function) {
+        LineRange lineRange = function.lineRange();
+        return lineRange != null && lineRange.fileName().equals(DATA_MAPPER_FILE_NAME);
     }
 
-    private AvailableNode createAvailableNode(FunctionSymbol functionSymbol,
-                                              boolean isDataMappedFunction,
-                                              boolean isAgentTool,
-                                              boolean isIsolatedFunction) {
+    private AvailableNode createAvailableNode(PackageSummaryCache.FunctionSummary function,
+                                              boolean isDataMappedFunction) {
         Metadata metadata = new Metadata.Builder<>(null)
-                .label(functionSymbol.getName().get())
-                .description(functionSymbol.documentation()
-                        .flatMap(Documentation::description)
-                        .orElse(null))
+                .label(function.name())
+                .description(function.description())
                 .addData("isDataMappedFunction", isDataMappedFunction)
-                .addData("isAgentTool", isAgentTool)
-                .addData("isIsolatedFunction", isIsolatedFunction)
+                .addData("isAgentTool", function.isAgentTool())
+                .addData("isIsolatedFunction", function.isIsolated())
                 .build();
 
         Codedata.Builder<Object> codedataBuilder = new Codedata.Builder<>(null)
                 .node(NodeKind.FUNCTION_CALL)
-                .symbol(functionSymbol.getName().get());
-        Optional<ModuleSymbol> moduleSymbol = functionSymbol.getModule();
-        if (moduleSymbol.isPresent()) {
-            ModuleID id = moduleSymbol.get().id();
+                .symbol(function.name());
+        if (function.org() != null) {
             codedataBuilder
-                    .org(id.orgName())
-                    .module(id.packageName())
-                    .version(id.version());
+                    .org(function.org())
+                    .module(function.module())
+                    .version(function.version());
         }
 
         return new AvailableNode(metadata, codedataBuilder.build(), true);
@@ -0,0 +1,390 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.search;
+
+import io.ballerina.compiler.api.ModuleID;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.AnnotationAttachmentSymbol;
+import io.ballerina.compiler.api.symbols.AnnotationSymbol;
+import io.ballerina.compiler.api.symbols.ClassSymbol;
+import io.ballerina.compiler.api.symbols.Documentable;
+import io.ballerina.compiler.api.symbols.Documentation;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
+import io.ballerina.compiler.api.symbols.FunctionTypeSymbol;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.Qualifiable;
+import io.ballerina.compiler.api.symbols.Qualifier;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.flowmodelgenerator.core.utils.ConnectorUtil;
+import io.ballerina.modelgenerator.commons.CommonUtils;
+import io.ballerina.modelgenerator.commons.PackageUtil;
+import io.ballerina.modelgenerator.commons.SearchResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LineRange;
+
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.ballerina.modelgenerator.commons.CommonUtils.isAiModule;
+
+/**
+ * A cache of the summaries of the functions, the agent tools, the types and the connectors of the packages searched by
+ * the search commands, keyed by the source root of the package.
+ *
+ * <p>
+ * Building a summary compiles the package and scans the module symbols, whereas the same packages are searched on
+ * every keystroke of the node palette. Since an edit of a package creates a new {@link Package} instance, a summary is
+ * served as long as it was built from the current instance of the package. The summaries of the packages of a
+ * workspace are built in parallel on the background lane of the language server, once it is provided through
+ * {@link #useExecutor(Executor)}, and the summaries of the least recently searched packages are evicted beyond
+ * {@value #MAX_ENTRIES} packages.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+class PackageSummaryCache {
+
+    static final int MAX_ENTRIES = 64;
+
+    private final Map<Path, Entry> entries;
+    private final ConcurrentHashMap<Path, ReentrantLock> buildLocks;
+    private volatile Executor executor;
+
+    private static class Holder {
+
+        private static final PackageSummaryCache INSTANCE = new PackageSummaryCache();
+    }
+
+    static PackageSummaryCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    PackageSummaryCache() {
+        this.buildLocks = new ConcurrentHashMap<>();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, Entry> eldest) {
+                if (size() <= MAX_ENTRIES) {
+                    return false;
+                }
+                buildLocks.remove(eldest.getKey());
+                return true;
+            }
+        });
+        // The summaries are built on the calling thread until the executor of the language server is provided
+        this.executor = Runnable::run;
+    }
+
+    /**
+     * Sets the executor the summaries of the packages are built on in parallel.
+     *
+     * @param executor the executor to build the summaries on
+     */
+    void useExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the summary of the current package of the given project, building it if the package was edited since
+     * the summary was built.
+     *
+     * @param project the project of the package
+     * @return the summary of the package
+     */
+    PackageSummary get(Project project) {
+        Package currentPackage = project.currentPackage();
+        Path sourceRoot = project.sourceRoot();
+        PackageSummary summary = lookup(sourceRoot, currentPackage);
+        if (summary != null) {
+            return summary;
+        }
+
+        ReentrantLock lock = buildLocks.computeIfAbsent(sourceRoot, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            // The summary may have been built while waiting for the lock
+            summary = lookup(sourceRoot, currentPackage);
+            if (summary != null) {
+                return summary;
+            }
+            summary = build(currentPackage);
+            entries.put(sourceRoot, new Entry(new WeakReference<>(currentPackage), summary));
+            return summary;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the summaries of the current packages of the given projects, in the order of the projects. The summaries
+     * which are not up to date are built in parallel.
+     *
+     * @param projects the projects of the packages
+     * @return the summaries of the packages
+     */
+    List<PackageSummary> getAll(List<? extends Project> projects) {
+        List<FutureTask<PackageSummary>> tasks = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            FutureTask<PackageSummary> task = new FutureTask<>(() -> get(project));
+            if (lookup(project.sourceRoot(), project.currentPackage()) == null) {
+                executor.execute(task);
+            }
+            tasks.add(task);
+        }
+
+        List<PackageSummary> summaries = new ArrayList<>(tasks.size());
+        for (FutureTask<PackageSummary> task : tasks) {
+            // Builds the summaries no thread of the executor has started yet on the calling thread, which also serves
+            // the summaries which are up to date
+            task.run();
+            try {
+                summaries.add(task.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while building the package summaries");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        return summaries;
+    }
+
+    private PackageSummary lookup(Path sourceRoot, Package currentPackage) {
+        Entry entry = entries.get(sourceRoot);
+        return entry != null && entry.pkg().get() == currentPackage ? entry.summary() : null;
+    }
+
+    private static PackageSummary build(Package currentPackage) {
+        PackageCompilation compilation = PackageUtil.getCompilation(currentPackage);
+        List<ModuleSummary> modules = new ArrayList<>();
+        for (Module module : currentPackage.modules()) {
+            SemanticModel semanticModel = compilation.getSemanticModel(module.moduleId());
+            if (semanticModel != null) {
+                modules.add(buildModule(module, semanticModel));
+            }
+        }
+        return new PackageSummary(currentPackage.packageOrg().toString(), currentPackage.packageName().toString(),
+                currentPackage.packageVersion().toString(), List.copyOf(modules));
+    }
+
+    private static ModuleSummary buildModule(Module module, SemanticModel semanticModel) {
+        List<FunctionSummary> functions = new ArrayList<>();
+        List<TypeSummary> types = new ArrayList<>();
+        List<SearchResult> connectors = new ArrayList<>();
+        Map<String, Document> documents = new HashMap<>();
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            documents.put(document.name(), document);
+        }
+
+        for (Symbol symbol : semanticModel.moduleSymbols()) {
+            if (symbol.getName().isEmpty()) {
+                continue;
+            }
+            if (symbol.kind() == SymbolKind.FUNCTION) {
+                functions.add(buildFunction((FunctionSymbol) symbol, semanticModel, documents));
+            }
+            if (symbol instanceof TypeDefinitionSymbol || symbol instanceof ClassSymbol) {
+                types.add(new TypeSummary(symbol.getName().get(), getDescription(symbol).orElse(""),
+                        symbol instanceof Qualifiable qualifiable
+                                && qualifiable.qualifiers().contains(Qualifier.PUBLIC)));
+            }
+            if (!module.isDefaultModule() && symbol instanceof ClassSymbol classSymbol
+                    && classSymbol.qualifiers().contains(Qualifier.CLIENT)) {
+                connectors.add(buildConnector(classSymbol));
+            }
+        }
+        return new ModuleSummary(module.moduleName().toString(), module.isDefaultModule(), List.copyOf(functions),
+                List.copyOf(types), List.copyOf(connectors));
+    }
+
+    private static FunctionSummary buildFunction(FunctionSymbol functionSymbol, SemanticModel semanticModel,
+                                                 Map<String, Document> documents) {
+        LineRange lineRange = functionSymbol.getLocation().map(Location::lineRange).orElse(null);
+        Document document = lineRange != null ? documents.get(lineRange.fileName()) : null;
+        boolean isNaturalExpressionBodied = document != null
+                && CommonUtils.isNaturalExpressionBodiedFunction(document.syntaxTree(), functionSymbol);
+        boolean isIsolated = functionSymbol.qualifiers().contains(Qualifier.ISOLATED);
+        boolean isAgentTool = hasAgentToolAnnotation(functionSymbol);
+
+        List<Map<String, String>> inputParameters = new ArrayList<>();
+        FunctionTypeSymbol functionTypeSymbol = functionSymbol.typeDescriptor();
+        functionTypeSymbol.params().ifPresent(params -> params.forEach(parameterSymbol -> inputParameters.add(
+                Map.of("name", parameterSymbol.getName().orElse(""),
+                        "type", parameterSymbol.typeDescriptor().signature()))));
+        String outputType = functionTypeSymbol.returnTypeDescriptor().map(TypeSymbol::signature).orElse("");
+
+        ModuleID moduleId = functionSymbol.getModule().map(ModuleSymbol::id).orElse(null);
+        return new FunctionSummary(functionSymbol.getName().get(),
+                functionSymbol.documentation().flatMap(Documentation::description).orElse(null), lineRange,
+                functionSymbol.qualifiers().contains(Qualifier.PUBLIC), isIsolated, isAgentTool,
+                isAgentTool && isIsolated && isValidAgentToolSignature(functionTypeSymbol, semanticModel),
+                isNaturalExpressionBodied, List.copyOf(inputParameters), outputType,
+                moduleId != null ? moduleId.orgName() : null, moduleId != null ? moduleId.packageName() : null,
+                moduleId != null ? moduleId.version() : null);
+    }
+
+    private static SearchResult buildConnector(ClassSymbol classSymbol) {
+        Optional<ModuleSymbol> optModule = classSymbol.getModule();
+        if (optModule.isEmpty()) {
+            throw new IllegalStateException("Module cannot be found for the symbol: " + classSymbol.getName());
+        }
+        ModuleID id = optModule.get().id();
+        return SearchResult.from(id.orgName(), id.packageName(),
+                id.moduleName().substring(id.packageName().length() + 1), id.version(),
+                classSymbol.getName().orElse(ConnectorUtil.CLIENT), getDescription(classSymbol).orElse(""));
+    }
+
+    private static Optional<String> getDescription(Symbol symbol) {
+        if (symbol instanceof Documentable documentable) {
+            return documentable.documentation().flatMap(Documentation::description);
+        }
+        return Optional.empty();
+    }
+
+    private static boolean hasAgentToolAnnotation(FunctionSymbol functionSymbol) {
+        for (AnnotationAttachmentSymbol annotAttachment : functionSymbol.annotAttachments()) {
+            AnnotationSymbol annotationSymbol = annotAttachment.typeDescriptor();
+            Optional<ModuleSymbol> optModule = annotationSymbol.getModule();
+            if (optModule.isEmpty()) {
+                continue;
+            }
+            ModuleID id = optModule.get().id();
+            if (!isAiModule(id.orgName(), id.packageName())) {
+                continue;
+            }
+            if (annotationSymbol.nameEquals(AgentToolSearchCommand.TOOL_ANNOTATION)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isValidAgentToolSignature(FunctionTypeSymbol functionTypeSymbol,
+                                                     SemanticModel semanticModel) {
+        TypeSymbol anydata = semanticModel.types().ANYDATA;
+
+        // Check parameters are subtypes of anydata
+        Optional<List<ParameterSymbol>> optParams = functionTypeSymbol.params();
+        if (optParams.isPresent()) {
+            for (ParameterSymbol parameterSymbol : optParams.get()) {
+                if (!CommonUtils.subTypeOf(parameterSymbol.typeDescriptor(), anydata)) {
+                    return false;
+                }
+            }
+        }
+
+        // Check return type is subtype of anydata
+        Optional<TypeSymbol> optReturnTypeSymbol = functionTypeSymbol.returnTypeDescriptor();
+        return optReturnTypeSymbol.isEmpty() || CommonUtils.subTypeOf(optReturnTypeSymbol.get(), anydata);
+    }
+
+    /**
+     * Summary of a package.
+     *
+     * @param org         organization of the package
+     * @param packageName name of the package
+     * @param version     version of the package
+     * @param modules     summaries of the modules of the package
+     */
+    record PackageSummary(String org, String packageName, String version, List<ModuleSummary> modules) {
+
+        ModuleSummary defaultModule() {
+            return modules.stream()
+                    .filter(ModuleSummary::isDefault)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Default module cannot be found: " + packageName));
+        }
+    }
+
+    /**
+     * Summary of a module.
+     *
+     * @param moduleName name of the module
+     * @param isDefault  whether the module is the default module of the package
+     * @param functions  module level functions of the module
+     * @param types      type definitions and classes of the module
+     * @param connectors client classes of the module, which are not collected for the default module
+     */
+    record ModuleSummary(String moduleName, boolean isDefault, List<FunctionSummary> functions,
+                         List<TypeSummary> types, List<SearchResult> connectors) {
+    }
+
+    /**
+     * Summary of a module level function.
+     *
+     * @param name                      name of the function
+     * @param description               description of the function, or null if the function is not documented
+     * @param lineRange                 line range of the function, or null if the location is not available
+     * @param isPublic                  whether the function is public
+     * @param isIsolated                whether the function is isolated
+     * @param isAgentTool               whether the function is annotated as an agent tool
+     * @param isValidAgentTool          whether the function is an isolated agent tool with an anydata signature
+     * @param isNaturalExpressionBodied whether the body of the function is a natural expression
+     * @param inputParameters           names and types of the parameters
+     * @param outputType                return type of the function, or empty if there is none
+     * @param org                       organization of the module of the function, or null if not available
+     * @param module                    package name of the module of the function, or null if not available
+     * @param version                   version of the module of the function, or null if not available
+     */
+    record FunctionSummary(String name, String description, LineRange lineRange, boolean isPublic,
+                           boolean isIsolated, boolean isAgentTool, boolean isValidAgentTool,
+                           boolean isNaturalExpressionBodied, List<Map<String, String>> inputParameters,
+                           String outputType, String org, String module, String version) {
+    }
+
+    /**
+     * Summary of a type definition or a class.
+     *
+     * @param name        name of the type
+     * @param description description of the type, or empty if the type is not documented
+     * @param isPublic    whether the type is public
+     */
+    record TypeSummary(String name, String description, boolean isPublic) {
+    }
+
+    private record Entry(WeakReference<Package> pkg, PackageSummary summary) {
+    }
+}
@@ -20,6 +20,7 @@ package io.ballerina.flowmodelgenerator.core.search;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
+import io.ballerina.centralconnector.RemoteCentral;
 import io.ballerina.flowmodelgenerator.core.model.Category;
 import io.ballerina.flowmodelgenerator.core.model.Item;
 import io.ballerina.modelgenerator.commons.SearchDatabaseManager;
@@ -27,6 +28,7 @@ import io.ballerina.modelgenerator.commons.SearchResult;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 
 import java.util.List;
 import java.util.Map;
@@ -82,6 +84,17 @@ public abstract class SearchCommand {
         };
     }
 
+    /**
+     * Runs the background work of the search commands, such as building the summaries of the packages and refreshing
+     * the cached Central responses, on the executors of the language server.
+     *
+     * @param executors executors of the language server
+     */
+    public static void useExecutors(ServerExecutors executors) {
+        PackageSummaryCache.getInstance().useExecutor(executors.background());
+        RemoteCentral.getInstance().useExecutor(executors.io());
+    }
+
     public SearchCommand(Project project, LineRange position, Map<String, String> queryMap) {
         this.rootBuilder = new Category.Builder(null);
         this.project = project;
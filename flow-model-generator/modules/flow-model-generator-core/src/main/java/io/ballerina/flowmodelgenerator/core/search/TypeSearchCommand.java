@@ -21,14 +21,6 @@ package io.ballerina.flowmodelgenerator.core.search;
 import io.ballerina.centralconnector.CentralAPI;
 import io.ballerina.centralconnector.RemoteCentral;
 import io.ballerina.centralconnector.response.SymbolResponse;
-import io.ballerina.compiler.api.SemanticModel;
-import io.ballerina.compiler.api.symbols.ClassSymbol;
-import io.ballerina.compiler.api.symbols.Documentable;
-import io.ballerina.compiler.api.symbols.Documentation;
-import io.ballerina.compiler.api.symbols.Qualifiable;
-import io.ballerina.compiler.api.symbols.Qualifier;
-import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
 import io.ballerina.flowmodelgenerator.core.model.AvailableNode;
 import io.ballerina.flowmodelgenerator.core.model.Category;
 import io.ballerina.flowmodelgenerator.core.model.Codedata;
@@ -38,7 +30,6 @@ import io.ballerina.flowmodelgenerator.core.model.NodeKind;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.modelgenerator.commons.SearchResult;
-import io.ballerina.projects.Module;
 import io.ballerina.projects.ModuleName;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageName;
@@ -172,20 +163,12 @@ class TypeSearchCommand extends SearchCommand {
         return rootBuilder.build().items();
     }
 
-    private List<Symbol> getTypes(Project project) {
-        Package currentPackage = project.currentPackage();
-        return PackageUtil.getCompilation(currentPackage)
-                .getSemanticModel(currentPackage.getDefaultModule().moduleId())
-                .moduleSymbols().stream()
-                .filter(symbol -> symbol instanceof TypeDefinitionSymbol || symbol instanceof ClassSymbol)
-                .toList();
-    }
-
     private void buildWorkspaceNodes() {
+        PackageSummaryCache summaryCache = PackageSummaryCache.getInstance();
         Optional<WorkspaceProject> workspaceProject = project.workspaceProject();
         if (workspaceProject.isEmpty()) {
             Category.Builder projectBuilder = rootBuilder.stepIn(Category.Name.CURRENT_INTEGRATION);
-            buildProjectNodes(project, projectBuilder);
+            buildProjectNodes(summaryCache.get(project), true, projectBuilder);
             return;
         }
 
@@ -193,62 +176,45 @@ class TypeSearchCommand extends SearchCommand {
 
         Category.Builder workspaceBuilder = rootBuilder.stepIn(Category.Name.CURRENT_WORKSPACE);
 
+        // Summarize the packages of the workspace in parallel, starting from the current integration
+        List<Project> projects = new ArrayList<>();
+        projects.add(this.project);
+        for (BuildProject project : workspaceProject.get().projects()) {
+            if (!project.currentPackage().packageName().equals(currProjPackageName)) {
+                projects.add(project);
+            }
+        }
+        List<PackageSummaryCache.PackageSummary> summaries = summaryCache.getAll(projects);
+
         // Build current integration first to ensure it appears at the top
         Category.Builder currIntProjBuilder = workspaceBuilder.stepIn(
                 currProjPackageName.value() + CURRENT_INTEGRATION_INDICATOR, "", List.of());
-        buildProjectNodes(this.project, currIntProjBuilder);
+        buildProjectNodes(summaries.getFirst(), true, currIntProjBuilder);
 
-        List<BuildProject> projects = workspaceProject.get().projects();
-        for (BuildProject project : projects) {
-            PackageName packageName = project.currentPackage().packageName();
-            if (packageName.equals(currProjPackageName)) {
-                continue;
-            }
-
-            Category.Builder projectBuilder = workspaceBuilder.stepIn(packageName.value(), "", List.of());
-            buildProjectNodes(project, projectBuilder);
+        for (PackageSummaryCache.PackageSummary summary : summaries.subList(1, summaries.size())) {
+            Category.Builder projectBuilder = workspaceBuilder.stepIn(summary.packageName(), "", List.of());
+            buildProjectNodes(summary, false, projectBuilder);
         }
     }
 
-    private void buildProjectNodes(Project project, Category.Builder projectBuilder) {
-        List<Symbol> types = getTypes(project);
-
-        boolean isCurrIntProject = this.project.currentPackage().packageName()
-                .equals(project.currentPackage().packageName());
-
-        List<Symbol> filteredTypes;
-        if (!isCurrIntProject) {
-            filteredTypes = types.stream()
-                    .filter(type -> type instanceof Qualifiable q
-                            && q.qualifiers().contains(Qualifier.PUBLIC))
-                    .toList();
-        } else {
-            filteredTypes = types;
-        }
-
+    private void buildProjectNodes(PackageSummaryCache.PackageSummary summary, boolean isCurrIntProject,
+                                   Category.Builder projectBuilder) {
         List<ScoredType> scoredTypes = new ArrayList<>();
-        for (Symbol typeSymbol : filteredTypes) {
-            if (typeSymbol.getName().isEmpty()) {
+        for (PackageSummaryCache.TypeSummary type : summary.defaultModule().types()) {
+            if (!isCurrIntProject && !type.isPublic()) {
                 continue;
             }
-            String typeName = typeSymbol.getName().get();
-            String description = "";
-            if (typeSymbol instanceof Documentable documentable) {
-                Documentation documentation = documentable.documentation().orElse(null);
-                description = documentation != null ? documentation.description().orElse("") : "";
-            }
-
-            int score = RelevanceCalculator.calculateFuzzyRelevanceScore(typeName, description, query);
+            int score = RelevanceCalculator.calculateFuzzyRelevanceScore(type.name(), type.description(), query);
             if (score > 0) {
-                scoredTypes.add(new ScoredType(typeSymbol, typeName, description, score));
+                scoredTypes.add(new ScoredType(type.name(), type.description(), score));
             }
         }
 
         scoredTypes.sort(Comparator.comparingInt(ScoredType::score).reversed());
 
-        String orgName = project.currentPackage().packageOrg().toString();
-        String packageName = project.currentPackage().packageName().toString();
-        String version = project.currentPackage().packageVersion().toString();
+        String orgName = summary.org();
+        String packageName = summary.packageName();
+        String version = summary.version();
 
         List<Item> availableNodes = new ArrayList<>();
         for (ScoredType scoredType : scoredTypes) {
@@ -310,43 +276,25 @@ class TypeSearchCommand extends SearchCommand {
     }
 
      private void buildImportedLocalModules() {
-        Iterable<Module> modules = project.currentPackage().modules();
-        for (Module module : modules) {
-            if (module.isDefaultModule()) {
+        PackageSummaryCache.PackageSummary summary = PackageSummaryCache.getInstance().get(project);
+        for (PackageSummaryCache.ModuleSummary module : summary.modules()) {
+            if (module.isDefault()) {
                 continue;
             }
-            SemanticModel semanticModel = PackageUtil.getCompilation(module.packageInstance())
-                    .getSemanticModel(module.moduleId());
-            if (semanticModel == null) {
-                continue;
-            }
-            List<Symbol> symbols = semanticModel.moduleSymbols();
-            String moduleName = module.moduleName().toString();
+            String moduleName = module.moduleName();
             Category.Builder moduleBuilder = rootBuilder.stepIn(Category.Name.IMPORTED_TYPES);
-            String orgName = module.packageInstance().packageOrg().toString();
-            String packageName = module.packageInstance().packageName().toString();
-            String version = module.packageInstance().packageVersion().toString();
+            String orgName = summary.org();
+            String packageName = summary.packageName();
+            String version = summary.version();
 
             // Collect all types with their scores for ranking
             List<ScoredType> scoredTypes = new ArrayList<>();
 
-            for (Symbol symbol : symbols) {
-                if (symbol instanceof TypeDefinitionSymbol || symbol instanceof ClassSymbol) {
-                    if (symbol.getName().isEmpty()) {
-                        continue;
-                    }
-                    String typeName = symbol.getName().get();
-                    String description = "";
-                    if (symbol instanceof Documentable documentable) {
-                        Documentation documentation = documentable.documentation().orElse(null);
-                        description = documentation != null ? documentation.description().orElse("") : "";
-                    }
-
-                    // Calculate the relevance score, and filter out types with score 0 (no match)
-                    int score = RelevanceCalculator.calculateFuzzyRelevanceScore(typeName, description, query);
-                    if (score > 0) {
-                        scoredTypes.add(new ScoredType(symbol, typeName, description, score));
-                    }
+            for (PackageSummaryCache.TypeSummary type : module.types()) {
+                // Calculate the relevance score, and filter out types with score 0 (no match)
+                int score = RelevanceCalculator.calculateFuzzyRelevanceScore(type.name(), type.description(), query);
+                if (score > 0) {
+                    scoredTypes.add(new ScoredType(type.name(), type.description(), score));
                 }
             }
 
@@ -375,14 +323,13 @@ class TypeSearchCommand extends SearchCommand {
     }
 
         /**
-         * Helper record to store type definition and class symbols along with their relevance scores for ranking.
+         * Helper record to store the type definitions and the classes along with their relevance scores for ranking.
          *
-         * @param symbol the symbol representing the type
          * @param typeName the name of the type
          * @param description the description of the type
          * @param score the relevance score for ranking
          */
-        private record ScoredType(Symbol symbol, String typeName, String description, int score) {
+        private record ScoredType(String typeName, String description, int score) {
     }
 
 
@@ -46,8 +46,11 @@ import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.workspace.ProjectSnapshots;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
 import org.eclipse.lsp4j.services.LanguageServer;
@@ -64,10 +67,15 @@ import static io.ballerina.flowmodelgenerator.core.Constants.BALLERINAX;
 @JsonSegment("agentManager")
 public class AgentsManagerService implements ExtendedLanguageServerService {
     private WorkspaceManager workspaceManager;
+    private ServerExecutors executors;
+    private ProjectSnapshots projectSnapshots;
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
+        this.executors = serverContext.executors();
+        this.projectSnapshots = ProjectSnapshots.getInstance(serverContext);
     }
 
     @Override
@@ -85,7 +93,7 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -105,7 +113,7 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -124,7 +132,7 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -144,7 +152,7 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -166,7 +174,7 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -187,7 +195,7 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -248,7 +256,7 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
                 response.setError(new RuntimeException("Failed to get MCP tools: " + errorMsg, e));
                 return response;
             }
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -271,7 +279,7 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -288,12 +296,12 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
 
                 AgentsGenerator agentsGenerator = new AgentsGenerator();
                 response.setActions(agentsGenerator.getActions(request.flowNode(), filePath, project,
-                        this.workspaceManager));
+                        this.workspaceManager, projectSnapshots));
             } catch (Throwable e) {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -324,6 +332,6 @@ public class AgentsManagerService implements ExtendedLanguageServerService {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 }
@@ -93,6 +93,8 @@ import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
@@ -108,6 +110,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -117,6 +120,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.flowmodelgenerator.core.model.Property.CONFIG_VALUE_KEY;
 import static io.ballerina.flowmodelgenerator.core.model.Property.CONFIG_VAR_DOC_KEY;
@@ -159,14 +163,29 @@ public class ConfigEditorV2Service implements ExtendedLanguageServerService {
     private static final String TOML_KEY_VALUE_FORMAT = "%s = %s";
     private static final String TOML_MODULE_SECTION_FORMAT = "[%s.%s]";
     private static final String TOML_MODULE_WITH_SUBMODULE_SECTION_FORMAT = "[%s.%s.%s]";
+    private static final String COLON = ":";
+    private static final int MAX_CACHED_DEPENDENCIES = 128;
 
     private WorkspaceManager workspaceManager;
     private Gson gson;
+    private ServerExecutors executors;
+    // Configuration variables of the bala dependencies, without their values, keyed by the package and the version
+    private final Map<String, Map<String, List<FlowNode>>> dependencyConfigCache =
+            Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Map<String, List<FlowNode>>> eldest) {
+                    return size() > MAX_CACHED_DEPENDENCIES;
+                }
+            });
+    // Cache keys of the bala packages the dependencies of each project were last resolved to, keyed by the project root
+    private final Map<Path, Set<String>> resolvedDependencyKeys = new ConcurrentHashMap<>();
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
         this.gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -205,7 +224,7 @@ public class ConfigEditorV2Service implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -268,7 +287,7 @@ public class ConfigEditorV2Service implements ExtendedLanguageServerService {
             }
 
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -313,7 +332,7 @@ public class ConfigEditorV2Service implements ExtendedLanguageServerService {
             }
 
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -336,7 +355,7 @@ public class ConfigEditorV2Service implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -768,6 +787,7 @@ public class ConfigEditorV2Service implements ExtendedLanguageServerService {
             return pkgConfigs;
         }
         Collection<ResolvedPackageDependency> dependencies = currentPkg.getResolution().dependencyGraph().getNodes();
+        evictUnresolvedDependencies(currentPkg.project().sourceRoot(), dependencies);
         for (ResolvedPackageDependency dependency : dependencies) {
             if (dependency.packageInstance() == null || !isDirectDependency(dependency, moduleDependencies)) {
                 continue;
@@ -784,24 +804,151 @@ public class ConfigEditorV2Service implements ExtendedLanguageServerService {
     }
 
     /**
-     * Processes a resolved package dependency to extract its configuration variables.
+     * Evicts the cached configuration variables of the bala packages the dependencies of the project no longer resolve
+     * to (ex: after a version change in the Ballerina.toml), unless another project still resolves to them. The
+     * cached variables of the packages the project still resolves to are kept.
+     */
+    private void evictUnresolvedDependencies(Path projectRoot, Collection<ResolvedPackageDependency> dependencies) {
+        Set<String> cacheKeys = new HashSet<>();
+        for (ResolvedPackageDependency dependency : dependencies) {
+            Package dependencyPackage = dependency.packageInstance();
+            if (dependencyPackage != null && dependencyPackage.project().kind() == ProjectKind.BALA_PROJECT) {
+                cacheKeys.add(dependencyCacheKey(dependencyPackage));
+            }
+        }
+        Set<String> previousCacheKeys = resolvedDependencyKeys.put(projectRoot, cacheKeys);
+        if (previousCacheKeys == null) {
+            return;
+        }
+        for (String cacheKey : previousCacheKeys) {
+            if (!cacheKeys.contains(cacheKey) && resolvedDependencyKeys.values().stream()
+                    .noneMatch(projectCacheKeys -> projectCacheKeys.contains(cacheKey))) {
+                dependencyConfigCache.remove(cacheKey);
+            }
+        }
+    }
+
+    /**
+     * Returns the key of the cached configuration variables of a bala package, which does not change for a given
+     * organization, name and version.
+     */
+    private static String dependencyCacheKey(Package dependencyPackage) {
+        return dependencyPackage.packageOrg().value() + FORWARD_SLASH + dependencyPackage.packageName().value() +
+                COLON + dependencyPackage.packageVersion();
+    }
+
+    /**
+     * Returns the cached configuration variables of the given bala dependency, without their values in the
+     * Config.toml.
+     *
+     * @param packageName the organization and the name of the package, separated by a forward slash
+     * @return the configuration variables keyed by the module name, or null if they are not cached
+     */
+    Map<String, List<FlowNode>> getCachedDependencyConfigVariables(String packageName) {
+        synchronized (dependencyConfigCache) {
+            for (Map.Entry<String, Map<String, List<FlowNode>>> entry : dependencyConfigCache.entrySet()) {
+                if (entry.getKey().startsWith(packageName + COLON)) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Processes a resolved package dependency to extract its configuration variables. The configuration variables of
+     * the bala dependencies are served from the cache, and only their values are read from the Config.toml.
      */
     private Map<String, List<FlowNode>> processDependency(ResolvedPackageDependency dependency,
                                                           Toml configTomlValues) {
+        Package dependencyPackage = dependency.packageInstance();
+        String packageName = dependencyPackage.packageOrg().value() + FORWARD_SLASH +
+                dependencyPackage.packageName().value();
+
+        Map<String, List<FlowNode>> moduleConfigTemplates;
+        if (dependencyPackage.project().kind() == ProjectKind.BALA_PROJECT) {
+            String cacheKey = dependencyCacheKey(dependencyPackage);
+            moduleConfigTemplates = dependencyConfigCache.get(cacheKey);
+            if (moduleConfigTemplates == null) {
+                moduleConfigTemplates = extractDependencyConfigVariables(dependencyPackage, packageName);
+                dependencyConfigCache.put(cacheKey, moduleConfigTemplates);
+            }
+        } else {
+            moduleConfigTemplates = extractDependencyConfigVariables(dependencyPackage, packageName);
+        }
+
         Map<String, List<FlowNode>> moduleConfigs = new HashMap<>();
-        String packageName = dependency.packageInstance().packageOrg().value() + FORWARD_SLASH +
-                dependency.packageInstance().packageName().value();
+        moduleConfigTemplates.forEach((moduleName, variables) -> moduleConfigs.put(moduleName, variables.stream()
+                .map(variable -> withConfigValue(variable, configTomlValues, packageName, moduleName))
+                .toList()));
+        return moduleConfigs;
+    }
 
-        for (Module module : dependency.packageInstance().modules()) {
+    /**
+     * Extracts the configuration variables of the modules of a dependency, without their values in the Config.toml.
+     */
+    private Map<String, List<FlowNode>> extractDependencyConfigVariables(Package dependencyPackage,
+                                                                         String packageName) {
+        Map<String, List<FlowNode>> moduleConfigs = new HashMap<>();
+        for (Module module : dependencyPackage.modules()) {
             String moduleName = module.moduleName().moduleNamePart() != null ?
                     module.moduleName().moduleNamePart() : EMPTY_STRING;
-            List<FlowNode> variables = extractModuleConfigVariables(module, configTomlValues, null, packageName,
+            List<FlowNode> variables = extractModuleConfigVariables(module, null, null, packageName,
                     moduleName, false);
             if (!variables.isEmpty()) {
-                moduleConfigs.put(moduleName, variables);
+                moduleConfigs.put(moduleName, List.copyOf(variables));
             }
         }
-        return moduleConfigs;
+        return Collections.unmodifiableMap(moduleConfigs);
+    }
+
+    /**
+     * Returns a copy of the given dependency configuration variable with its value in the Config.toml, if any.
+     */
+    private FlowNode withConfigValue(FlowNode configVariable, Toml configTomlValues, String packageName,
+                                     String moduleName) {
+        Property configValueProp = configVariable.properties().get(CONFIG_VALUE_KEY);
+        Property variableNameProp = configVariable.properties().get(VARIABLE_KEY);
+        if (configValueProp == null || variableNameProp == null || variableNameProp.value() == null) {
+            return configVariable;
+        }
+
+        Optional<TomlNode> configTomlValue = getConfigValue(configTomlValues, packageName, moduleName,
+                variableNameProp.value().toString(), false);
+        if (configTomlValue.isEmpty()) {
+            return configVariable;
+        }
+        String tomlStringValue = getAsString(configTomlValue.get());
+        if (tomlStringValue == null) {
+            return configVariable;
+        }
+        ExpressionNode configValueExpr = NodeParser.parseExpression(tomlStringValue);
+        String configValue = configValueExpr.kind() != SyntaxKind.REQUIRED_EXPRESSION ?
+                configValueExpr.toSourceCode() : EMPTY_STRING;
+
+        Property updatedConfigValueProp = new Property(
+                configValueProp.metadata(),
+                configValueProp.types(),
+                configValue,
+                configValueProp.oldValue(),
+                configValueProp.placeholder(),
+                configValueProp.optional(),
+                configValueProp.editable(),
+                configValueProp.advanced(),
+                configValueProp.hidden(),
+                configValueProp.modified(),
+                configValueProp.diagnostics(),
+                configValueProp.codedata(),
+                configValueProp.advancedValue(),
+                configValueProp.imports(),
+                configValueProp.defaultValue(),
+                configValueProp.comment()
+        );
+        Map<String, Property> properties = new LinkedHashMap<>(configVariable.properties());
+        properties.put(CONFIG_VALUE_KEY, updatedConfigValueProp);
+        return new FlowNode(configVariable.id(), configVariable.metadata(), configVariable.codedata(),
+                configVariable.returning(), configVariable.branches(), properties, configVariable.diagnostics(),
+                configVariable.flags());
     }
 
     /**
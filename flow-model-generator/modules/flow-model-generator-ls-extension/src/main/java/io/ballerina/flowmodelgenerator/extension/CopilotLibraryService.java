@@ -27,6 +27,8 @@ import io.ballerina.flowmodelgenerator.extension.request.GetLibrariesBySearchReq
 import io.ballerina.flowmodelgenerator.extension.request.GetSelectedLibrariesRequest;
 import io.ballerina.flowmodelgenerator.extension.response.GetAllLibrariesResponse;
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
@@ -47,10 +49,12 @@ import java.util.concurrent.CompletableFuture;
 public class CopilotLibraryService implements ExtendedLanguageServerService {
 
     private static final String MODE_ALL = "ALL";
+    private ServerExecutors executors;
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
-        // Initialization logic if needed
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -70,7 +74,7 @@ public class CopilotLibraryService implements ExtendedLanguageServerService {
             } catch (Exception e) {
                 throw new RuntimeException("Failed to load libraries from database: " + e.getMessage(), e);
             }
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -88,7 +92,7 @@ public class CopilotLibraryService implements ExtendedLanguageServerService {
             } catch (Exception e) {
                 throw new RuntimeException("Failed to load filtered libraries: " + e.getMessage(), e);
             }
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -106,7 +110,7 @@ public class CopilotLibraryService implements ExtendedLanguageServerService {
             } catch (Exception e) {
                 throw new RuntimeException("Failed to search libraries by keywords: " + e.getMessage(), e);
             }
-        });
+        }, executors.interactive());
     }
 
     private GetAllLibrariesResponse createResponse(JsonArray libraries) {
@@ -59,6 +59,7 @@ import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.diagramutil.connector.models.connector.ReferenceType;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManagerProxy;
@@ -77,12 +78,14 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
     private WorkspaceManagerProxy workspaceManagerProxy;
+    private ServerExecutors executors;
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManagerProxy workspaceManagerProxy,
                      LanguageServerContext serverContext) {
         this.workspaceManagerProxy = workspaceManagerProxy;
         this.workspaceManager = workspaceManagerProxy.get();
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -110,7 +113,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -137,7 +140,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -159,7 +162,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -182,7 +185,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -204,7 +207,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -229,7 +232,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -251,7 +254,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -273,7 +276,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -295,7 +298,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -317,7 +320,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -340,7 +343,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -362,7 +365,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -384,7 +387,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -404,7 +407,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -424,7 +427,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -446,7 +449,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -466,7 +469,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -489,7 +492,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -521,7 +524,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -543,7 +546,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setSuccess(false);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -571,7 +574,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -594,7 +597,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     private Optional<Document> getDocumentFromFile(Path projectPath, String fileName) {
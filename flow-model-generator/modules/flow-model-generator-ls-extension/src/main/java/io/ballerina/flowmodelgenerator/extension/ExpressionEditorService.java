@@ -24,6 +24,7 @@ import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.flowmodelgenerator.core.TypesGenerator;
 import io.ballerina.flowmodelgenerator.core.VisibleVariableTypesGenerator;
+import io.ballerina.flowmodelgenerator.core.expressioneditor.DebouncedTaskExecutor;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.Debouncer;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.DocumentContext;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.ExpressionEditorContext;
@@ -52,7 +53,9 @@ import io.ballerina.projects.Document;
 import io.ballerina.tools.text.TextEdit;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.LSClientLogger;
+import org.ballerinalang.langserver.LaneSaturationMonitor;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManagerProxy;
 import org.eclipse.lsp4j.CompletionItem;
@@ -79,6 +82,7 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
     private WorkspaceManagerProxy workspaceManagerProxy;
     private LanguageServer langServer;
     private LSClientLogger lsClientLogger;
+    private ServerExecutors executors;
     private static final CompilationOptions COMPILATION_OPTIONS =
             CompilationOptions.builder().setSticky(false).setOffline(false).build();
 
@@ -88,6 +92,10 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
         this.workspaceManagerProxy = workspaceManagerProxy;
         this.langServer = langServer;
         this.lsClientLogger = LSClientLogger.getInstance(serverContext);
+        this.executors = serverContext.executors();
+        DebouncedTaskExecutor debouncedTaskExecutor = DebouncedTaskExecutor.getInstance();
+        debouncedTaskExecutor.useExecutor(executors.interactive());
+        LaneSaturationMonitor.getInstance(serverContext).monitor("Debounced tasks", debouncedTaskExecutor::metrics);
     }
 
     @Override
@@ -117,7 +125,7 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -131,7 +139,7 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
             } catch (Throwable e) {
                 return Either.forRight(new CompletionList());
             }
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -226,7 +234,7 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -242,7 +250,7 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -279,7 +287,7 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
                 // Return empty tokens on parse error
                 return new SemanticTokens(new ArrayList<>());
             }
-        });
+        }, executors.interactive());
     }
 
     private void applyModuleImport(String filePathString, String moduleId, String importStatement,
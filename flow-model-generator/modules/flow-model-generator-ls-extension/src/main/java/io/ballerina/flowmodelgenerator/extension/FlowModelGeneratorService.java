@@ -83,9 +83,12 @@ import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManagerProxy;
+import org.ballerinalang.langserver.workspace.ProjectSnapshot;
+import org.ballerinalang.langserver.workspace.ProjectSnapshots;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
 import org.eclipse.lsp4j.services.LanguageServer;
@@ -110,12 +113,17 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     private WorkspaceManagerProxy workspaceManagerProxy;
     private LSClientLogger lsClientLogger;
+    private ServerExecutors executors;
+    private ProjectSnapshots projectSnapshots;
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManagerProxy workspaceManagerProxy,
                      LanguageServerContext serverContext) {
         this.workspaceManagerProxy = workspaceManagerProxy;
         this.lsClientLogger = LSClientLogger.getInstance(serverContext);
+        this.executors = serverContext.executors();
+        this.projectSnapshots = ProjectSnapshots.getInstance(serverContext);
+        SearchCommand.useExecutors(executors);
     }
 
     @Override
@@ -154,7 +162,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -185,70 +193,73 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 JsonElement oldFlowModel =
                         modelGenerator.getFlowModel(document.get(), request.lineRange(),
                                 dataMappingsDoc.orElse(null),
-                                functionsDoc.orElse(null));
-
-                // Create a temporary directory for the in-memory cache
-                Project newProject = project.duplicate();
-                DocumentId documentId = newProject.documentId(filePath);
-                Module newModule = newProject.currentPackage().module(documentId.moduleId());
-                SemanticModel newSemanticModel =
-                        PackageUtil.getCompilation(newProject).getSemanticModel(newModule.moduleId());
-                Document newDocument = newModule.document(documentId);
-                if (newSemanticModel == null || newDocument == null) {
-                    return response;
-                }
-                Optional<Document> newDataMappingsDoc;
-                Optional<Document> newFunctionsDoc;
-                try {
-                    DocumentId dataMappingDocId = newProject.documentId(projectPath.resolve("data_mappings.bal"));
-                    Module dataMappingModule = newProject.currentPackage().module(dataMappingDocId.moduleId());
-                    newDataMappingsDoc = Optional.of(dataMappingModule.document(dataMappingDocId));
-
-                    DocumentId functionsDocId = newProject.documentId(projectPath.resolve("functions.bal"));
-                    Module functionsModule = newProject.currentPackage().module(functionsDocId.moduleId());
-                    newFunctionsDoc = Optional.of(functionsModule.document(functionsDocId));
-                } catch (Throwable e) {
-                    newDataMappingsDoc = Optional.empty();
-                    newFunctionsDoc = Optional.empty();
-                }
+                                functionsDoc.orElse(null)).toJsonTree();
+
+                // Apply the suggestion to a snapshot of the project, without affecting the workspace project
+                try (ProjectSnapshot snapshot = projectSnapshots.acquire(project)) {
+                    Project newProject = snapshot.project();
+                    DocumentId documentId = newProject.documentId(filePath);
+                    Module newModule = snapshot.basePackage().module(documentId.moduleId());
+                    SemanticModel newSemanticModel =
+                            PackageUtil.getCompilation(snapshot.basePackage()).getSemanticModel(newModule.moduleId());
+                    Document newDocument = newModule.document(documentId);
+                    if (newSemanticModel == null || newDocument == null) {
+                        return response;
+                    }
+                    Optional<Document> newDataMappingsDoc;
+                    Optional<Document> newFunctionsDoc;
+                    try {
+                        DocumentId dataMappingDocId = newProject.documentId(projectPath.resolve("data_mappings.bal"));
+                        Module dataMappingModule = snapshot.basePackage().module(dataMappingDocId.moduleId());
+                        newDataMappingsDoc = Optional.of(dataMappingModule.document(dataMappingDocId));
 
-                TextDocument textDocument = newDocument.textDocument();
-                int textPosition = textDocument.textPositionFrom(request.position());
-
-                TextEdit textEdit = TextEdit.from(TextRange.from(textPosition, 0), request.text());
-                TextDocument newTextDocument =
-                        textDocument.apply(TextDocumentChange.from(List.of(textEdit).toArray(new TextEdit[0])));
-                Document newDoc = newDocument.modify()
-                        .withContent(String.join(System.lineSeparator(), newTextDocument.textLines()))
-                        .apply();
-
-                int end = textDocument.textPositionFrom(request.endLine());
-                LineRange endLineRange = LineRange.from(request.lineRange().fileName(), request.lineRange().startLine(),
-                        newTextDocument.linePositionFrom(end + request.text().length()));
-
-                ModelGenerator suggestedModelGenerator =
-                        new ModelGenerator(newProject, PackageUtil.getCompilation(newProject)
-                                .getSemanticModel(newDoc.module().moduleId()), filePath, workspaceManager);
-                JsonElement newFlowModel = suggestedModelGenerator.getFlowModel(newDoc,
-                        endLineRange, newDataMappingsDoc.orElse(null), newFunctionsDoc.orElse(null));
-
-                LinePosition endPosition = newTextDocument.linePositionFrom(textPosition + request.text().length());
-                LineRange newLineRange =
-                        LineRange.from(getRelativePath(projectPath, filePath), request.position(), endPosition);
-
-                JsonArray newNodes = newFlowModel.getAsJsonObject().getAsJsonArray("nodes");
-                SuggestedModelGenerator suggestedNodesGenerator =
-                        new SuggestedModelGenerator(newDoc, newLineRange, newSemanticModel);
-                suggestedNodesGenerator.markSuggestedNodes(newNodes, 1);
-                if (!suggestedNodesGenerator.hasSuggestedNodes()) {
-                    newFlowModel.getAsJsonObject().add("nodes", new JsonArray());
+                        DocumentId functionsDocId = newProject.documentId(projectPath.resolve("functions.bal"));
+                        Module functionsModule = snapshot.basePackage().module(functionsDocId.moduleId());
+                        newFunctionsDoc = Optional.of(functionsModule.document(functionsDocId));
+                    } catch (Throwable e) {
+                        newDataMappingsDoc = Optional.empty();
+                        newFunctionsDoc = Optional.empty();
+                    }
+
+                    TextDocument textDocument = newDocument.textDocument();
+                    int textPosition = textDocument.textPositionFrom(request.position());
+
+                    TextEdit textEdit = TextEdit.from(TextRange.from(textPosition, 0), request.text());
+                    TextDocument newTextDocument =
+                            textDocument.apply(TextDocumentChange.from(List.of(textEdit).toArray(new TextEdit[0])));
+                    Document newDoc = newDocument.modify()
+                            .withContent(String.join(System.lineSeparator(), newTextDocument.textLines()))
+                            .apply();
+
+                    int end = textDocument.textPositionFrom(request.endLine());
+                    LineRange endLineRange = LineRange.from(request.lineRange().fileName(),
+                            request.lineRange().startLine(),
+                            newTextDocument.linePositionFrom(end + request.text().length()));
+
+                    ModelGenerator suggestedModelGenerator =
+                            new ModelGenerator(newProject, PackageUtil.getCompilation(newDoc.module().packageInstance())
+                                    .getSemanticModel(newDoc.module().moduleId()), filePath, workspaceManager);
+                    JsonElement newFlowModel = suggestedModelGenerator.getFlowModel(newDoc,
+                            endLineRange, newDataMappingsDoc.orElse(null), newFunctionsDoc.orElse(null)).toJsonTree();
+
+                    LinePosition endPosition = newTextDocument.linePositionFrom(textPosition + request.text().length());
+                    LineRange newLineRange =
+                            LineRange.from(getRelativePath(projectPath, filePath), request.position(), endPosition);
+
+                    JsonArray newNodes = newFlowModel.getAsJsonObject().getAsJsonArray("nodes");
+                    SuggestedModelGenerator suggestedNodesGenerator =
+                            new SuggestedModelGenerator(newDoc, newLineRange, newSemanticModel);
+                    suggestedNodesGenerator.markSuggestedNodes(newNodes, 1);
+                    if (!suggestedNodesGenerator.hasSuggestedNodes()) {
+                        newFlowModel.getAsJsonObject().add("nodes", new JsonArray());
+                    }
+                    response.setFlowDesignModel(newFlowModel);
                 }
-                response.setFlowDesignModel(newFlowModel);
             } catch (Throwable e) {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -267,7 +278,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
             } catch (Throwable e) {
                 return response;
             }
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -283,7 +294,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -310,7 +321,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -385,7 +396,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -405,7 +416,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -428,7 +439,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -451,7 +462,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -469,7 +480,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -490,12 +501,12 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                     return response;
                 }
                 response.setTextEdits(
-                        deleteNodeHandler.getTextEditsToDeletedNode(document.get(), project));
+                        deleteNodeHandler.getTextEditsToDeletedNode(document.get(), project, projectSnapshots));
             } catch (Throwable e) {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -512,14 +523,14 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                     return response;
                 }
                 response.setTextEdits(DeleteNodeHandler.getTextEditsToDeletedNode(
-                        request.component(), filePath, document.get(), project
+                        request.component(), filePath, document.get(), project, projectSnapshots
                 ));
             } catch (Throwable e) {
                 response.setError(e);
             }
 
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -535,7 +546,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -560,7 +571,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -590,7 +601,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -645,7 +656,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -684,7 +695,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     private static String getRelativePath(Path projectPath, Path filePath) {
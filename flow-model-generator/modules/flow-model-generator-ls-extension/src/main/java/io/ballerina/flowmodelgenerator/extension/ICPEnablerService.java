@@ -42,6 +42,8 @@ import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.common.utils.PositionUtil;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.TextEdit;
@@ -76,10 +78,13 @@ public class ICPEnablerService implements ExtendedLanguageServerService {
     private static final String BUILD_OPTIONS = "%n%n[build-options]%n";
 
     private WorkspaceManager workspaceManager;
+    private ServerExecutors executors;
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
+        this.executors = serverContext.executors();
     }
 
     @JsonRequest
@@ -132,7 +137,7 @@ public class ICPEnablerService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -212,7 +217,7 @@ public class ICPEnablerService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -275,7 +280,7 @@ public class ICPEnablerService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     private static boolean validOrg(ImportDeclarationNode importNode) {
@@ -22,6 +22,8 @@ import com.google.gson.Gson;
 import io.ballerina.flowmodelgenerator.extension.request.CreateFilesRequest;
 import io.ballerina.flowmodelgenerator.extension.response.CreateFilesResponse;
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
@@ -40,9 +42,12 @@ public class InitializerService implements ExtendedLanguageServerService {
 
     private static final String[] FILES = new String[]{"config.bal", "connections.bal", "data_mappings.bal",
             "functions.bal", "agents.bal", "types.bal"};
+    private ServerExecutors executors;
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
+        this.executors = serverContext.executors();
     }
 
     @JsonRequest
@@ -64,7 +69,7 @@ public class InitializerService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @Override
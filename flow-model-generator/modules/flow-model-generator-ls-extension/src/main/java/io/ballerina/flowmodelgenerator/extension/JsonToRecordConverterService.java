@@ -25,8 +25,11 @@ import io.ballerina.flowmodelgenerator.extension.request.JsonToRecordRequest;
 import io.ballerina.flowmodelgenerator.extension.response.JsonToRecordResponse;
 import io.ballerina.projects.Document;
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.workspace.ProjectSnapshots;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
 import org.eclipse.lsp4j.services.LanguageServer;
@@ -43,11 +46,16 @@ import java.util.concurrent.CompletableFuture;
 @JsonSegment("jsonToRecordTypes")
 public class JsonToRecordConverterService implements ExtendedLanguageServerService {
     private WorkspaceManager workspaceManager;
+    private ServerExecutors executors;
+    private ProjectSnapshots projectSnapshots;
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
         ExtendedLanguageServerService.super.init(langServer, workspaceManager);
         this.workspaceManager = workspaceManager;
+        this.executors = serverContext.executors();
+        this.projectSnapshots = ProjectSnapshots.getInstance(serverContext);
     }
 
     @Override
@@ -74,14 +82,14 @@ public class JsonToRecordConverterService implements ExtendedLanguageServerServi
                 Document document = FileSystemUtils.getDocument(workspaceManager, filePath);
                 TypesManager typesManager = new TypesManager(document);
                 JsonToRecordMapper jsonToRecordMapper = new JsonToRecordMapper(recordName, prefix,
-                        document.module().project(), document, filePath, typesManager);
+                        document.module().project(), document, filePath, typesManager, projectSnapshots);
                 response.setTypes(jsonToRecordMapper.convert(jsonString, isRecordTypeDesc, isClosed,
                         forceFormatRecordFields, workspaceManager, isNullAsOptional));
             } catch (Throwable e) {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @Override
@@ -26,6 +26,8 @@ import io.ballerina.flowmodelgenerator.extension.response.OpenAPIClientDeleteRes
 import io.ballerina.flowmodelgenerator.extension.response.OpenAPIClientGenerationResponse;
 import io.ballerina.flowmodelgenerator.extension.response.OpenAPIGeneratedModulesResponse;
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
@@ -39,8 +41,12 @@ import java.util.concurrent.CompletableFuture;
 @JsonSegment("openAPIService")
 public class OpenAPIService implements ExtendedLanguageServerService {
 
+    private ServerExecutors executors;
+
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -60,7 +66,7 @@ public class OpenAPIService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -75,7 +81,7 @@ public class OpenAPIService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -90,6 +96,6 @@ public class OpenAPIService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 }
@@ -69,9 +69,11 @@ import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.diagramutil.connector.models.connector.Type;
 import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManagerProxy;
+import org.ballerinalang.langserver.workspace.ProjectSnapshots;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
 import org.eclipse.lsp4j.services.LanguageServer;
@@ -92,6 +94,8 @@ public class TypesManagerService implements ExtendedLanguageServerService {
     // A type can be deleted if it has at most one reference (the definition itself).
     public static final int MAX_REFERENCE_FOR_DELETE = 1;
     private WorkspaceManagerProxy workspaceManagerProxy;
+    private ServerExecutors executors;
+    private ProjectSnapshots projectSnapshots;
 
     // Cache key for SemanticModel
     private record CacheKey(String org, String packageName, String version) {
@@ -104,6 +108,8 @@ public class TypesManagerService implements ExtendedLanguageServerService {
     public void init(LanguageServer langServer, WorkspaceManagerProxy workspaceManagerProxy,
                      LanguageServerContext serverContext) {
         this.workspaceManagerProxy = workspaceManagerProxy;
+        this.executors = serverContext.executors();
+        this.projectSnapshots = ProjectSnapshots.getInstance(serverContext);
     }
 
     @Override
@@ -137,7 +143,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -170,7 +176,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -190,7 +196,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
                 TypesManager typesManager = new TypesManager(document.get());
                 JsonElement result = typesManager.getTypeOfExpression(project,
                         fileName == null ? filePath.toString() : fileName.toString(), document.get(),
-                        request.position(), request.expression());
+                        request.position(), request.expression(), projectSnapshots);
                 if (result == null) {
                     return response;
                 }
@@ -199,7 +205,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -234,7 +240,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -263,7 +269,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -315,14 +321,14 @@ public class TypesManagerService implements ExtendedLanguageServerService {
                         .getAsJsonObject();
 
                 response.setTextEdits(DeleteNodeHandler.getTextEditsToDeletedNode(
-                        componentJson, filePath, document, project
+                        componentJson, filePath, document, project, projectSnapshots
                 ));
 
             } catch (Throwable e) {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -357,7 +363,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -384,7 +390,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -413,7 +419,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -466,7 +472,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -479,7 +485,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -501,7 +507,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
             }
             semanticModelCache.clear();
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -543,7 +549,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
             }
             semanticModelCache.clear();
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -584,7 +590,7 @@ public class TypesManagerService implements ExtendedLanguageServerService {
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     // Utility methods
@@ -25,8 +25,11 @@ import io.ballerina.flowmodelgenerator.extension.request.XMLToRecordRequest;
 import io.ballerina.flowmodelgenerator.extension.response.XMLToRecordResponse;
 import io.ballerina.projects.Document;
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.workspace.ProjectSnapshots;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
 import org.eclipse.lsp4j.services.LanguageServer;
@@ -43,11 +46,16 @@ import java.util.concurrent.CompletableFuture;
 @JsonSegment("xmlToRecordTypes")
 public class XMLToRecordConverterService implements ExtendedLanguageServerService {
     private WorkspaceManager workspaceManager;
+    private ServerExecutors executors;
+    private ProjectSnapshots projectSnapshots;
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
         ExtendedLanguageServerService.super.init(langServer, workspaceManager);
         this.workspaceManager = workspaceManager;
+        this.executors = serverContext.executors();
+        this.projectSnapshots = ProjectSnapshots.getInstance(serverContext);
     }
 
     @Override
@@ -76,7 +84,7 @@ public class XMLToRecordConverterService implements ExtendedLanguageServerServic
                 Document document = FileSystemUtils.getDocument(workspaceManager, filePath);
                 TypesManager typesManager = new TypesManager(document);
                 XMLToRecordConverter converter = new XMLToRecordConverter(document.module().project(), document,
-                        filePath, typesManager);
+                        filePath, typesManager, projectSnapshots);
                 response.setTypes(converter.convert(xmlValue, isRecordTypeDesc, isClosed, forceFormatRecordFields,
                         textFieldName, withNameSpace, withoutAttributes, withoutAttributeAnnot, prefix,
                         workspaceManager));
@@ -84,7 +92,7 @@ public class XMLToRecordConverterService implements ExtendedLanguageServerServic
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @Override
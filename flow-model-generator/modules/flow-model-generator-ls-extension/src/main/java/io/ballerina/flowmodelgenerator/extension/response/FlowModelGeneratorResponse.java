@@ -19,6 +19,7 @@
 package io.ballerina.flowmodelgenerator.extension.response;
 
 import com.google.gson.JsonElement;
+import io.ballerina.flowmodelgenerator.core.model.JsonModel;
 
 /**
  * Represents the response for the flow model getSourceCode API.
@@ -27,13 +28,17 @@ import com.google.gson.JsonElement;
  */
 public class FlowModelGeneratorResponse extends AbstractFlowModelResponse {
 
-    private JsonElement flowModel;
+    private JsonModel flowModel;
 
     public void setFlowDesignModel(JsonElement flowDesignModel) {
+        this.flowModel = flowDesignModel == null ? null : JsonModel.of(flowDesignModel);
+    }
+
+    public void setFlowDesignModel(JsonModel flowDesignModel) {
         this.flowModel = flowDesignModel;
     }
 
     public JsonElement flowDesignModel() {
-        return flowModel;
+        return flowModel == null ? null : flowModel.toJsonTree();
     }
 }
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.search;
+
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the caching of the package summaries shared by the search commands. The test is placed in the package of
+ * the cache, as the cache is internal to the search commands.
+ *
+ * @since 1.7.0
+ */
+public class PackageSummaryCacheTest {
+
+    private static final Path SOURCE_DIR = Paths.get("src/test/resources/search/source").toAbsolutePath();
+
+    @Test
+    public void testSummaryIsReusedUntilPackageIsEdited() {
+        PackageSummaryCache cache = new PackageSummaryCache();
+        Project project = BuildProject.load(SOURCE_DIR.resolve("proj"));
+
+        PackageSummaryCache.PackageSummary summary = cache.get(project);
+        Assert.assertSame(cache.get(project), summary, "Summary of an unchanged package should be reused");
+        Assert.assertNull(findFunction(summary, "multiply"));
+
+        Document document = findDocument(project, "functions.bal");
+        document.modify()
+                .withContent(document.syntaxTree().toSourceCode() +
+                        System.lineSeparator() + "function multiply(int a, int b) returns int => a * b;")
+                .apply();
+        PackageSummaryCache.PackageSummary rebuiltSummary = cache.get(project);
+        Assert.assertNotSame(rebuiltSummary, summary, "Summary should be rebuilt for the edited package");
+        Assert.assertNotNull(findFunction(rebuiltSummary, "multiply"));
+        Assert.assertSame(cache.get(project), rebuiltSummary);
+    }
+
+    @Test
+    public void testOnlyMissedSummariesAreBuiltOnTheExecutor() {
+        PackageSummaryCache cache = new PackageSummaryCache();
+        AtomicInteger submittedBuilds = new AtomicInteger();
+        Executor executor = runnable -> {
+            submittedBuilds.incrementAndGet();
+            Thread.ofVirtual().start(runnable);
+        };
+        cache.useExecutor(executor);
+        Project first = BuildProject.load(SOURCE_DIR.resolve("proj"));
+        Project second = BuildProject.load(SOURCE_DIR.resolve("proj2"));
+
+        List<PackageSummaryCache.PackageSummary> summaries = cache.getAll(List.of(first, second));
+        Assert.assertEquals(summaries.stream().map(PackageSummaryCache.PackageSummary::packageName).toList(),
+                List.of("proj", "mod1"));
+        Assert.assertEquals(submittedBuilds.get(), 2);
+
+        List<PackageSummaryCache.PackageSummary> cachedSummaries = cache.getAll(List.of(second, first));
+        Assert.assertSame(cachedSummaries.get(0), summaries.get(1));
+        Assert.assertSame(cachedSummaries.get(1), summaries.get(0));
+        Assert.assertEquals(submittedBuilds.get(), 2, "Up to date summaries should not be built again");
+    }
+
+    @Test
+    public void testNaturalExpressionBodiedFunctions() {
+        PackageSummaryCache cache = new PackageSummaryCache();
+        PackageSummaryCache.PackageSummary summary = cache.get(BuildProject.load(SOURCE_DIR.resolve("proj")));
+
+        for (String naturalFunction : List.of("suggestMovieGenre", "suggestMovieName1", "rateMovie")) {
+            PackageSummaryCache.FunctionSummary function = findFunction(summary, naturalFunction);
+            Assert.assertNotNull(function, naturalFunction);
+            Assert.assertTrue(function.isNaturalExpressionBodied(), naturalFunction);
+        }
+        for (String function : List.of("add", "sum", "safeDivide")) {
+            Assert.assertFalse(findFunction(summary, function).isNaturalExpressionBodied(), function);
+        }
+    }
+
+    private static PackageSummaryCache.FunctionSummary findFunction(PackageSummaryCache.PackageSummary summary,
+                                                                    String name) {
+        return summary.defaultModule().functions().stream()
+                .filter(function -> function.name().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static Document findDocument(Project project, String name) {
+        Module module = project.currentPackage().getDefaultModule();
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            if (document.name().equals(name)) {
+                return document;
+            }
+        }
+        throw new IllegalStateException("Document cannot be found: " + name);
+    }
+}
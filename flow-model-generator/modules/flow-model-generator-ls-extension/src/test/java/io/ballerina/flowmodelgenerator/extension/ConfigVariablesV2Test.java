@@ -24,17 +24,23 @@ import com.google.gson.JsonParser;
 import io.ballerina.flowmodelgenerator.core.model.FlowNode;
 import io.ballerina.flowmodelgenerator.extension.request.ConfigVariableGetRequest;
 import io.ballerina.modelgenerator.commons.AbstractLSTest;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
 import org.ballerinalang.langserver.util.TestUtil;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Test class for 'getConfigVariables()' API in config API V2.
@@ -70,6 +76,57 @@ public class ConfigVariablesV2Test extends AbstractLSTest {
         }
     }
 
+    @Test
+    public void testDependencyConfigVariablesAreReused() throws Exception {
+        Path projectDir = Files.createTempDirectory("config-variables");
+        Path sourceProjectDir = sourceDir.resolve("default_module_projects/simple_type_configs_imports");
+        try (Stream<Path> paths = Files.walk(sourceProjectDir)) {
+            for (Path path : paths.toList()) {
+                Path targetPath = projectDir.resolve(sourceProjectDir.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(targetPath);
+                } else {
+                    Files.copy(path, targetPath);
+                }
+            }
+        }
+
+        LanguageServerContext serverContext = new LanguageServerContextImpl();
+        ConfigEditorV2Service service = new ConfigEditorV2Service();
+        service.init(languageServer, new BallerinaWorkspaceManager(serverContext), serverContext);
+        ConfigVariableGetRequest request = new ConfigVariableGetRequest(projectDir.toString(), true);
+        try {
+            JsonElement configVariables = service.getConfigVariables(request).get().configVariables();
+            Map<String, List<FlowNode>> cachedConfigVariables =
+                    service.getCachedDependencyConfigVariables("ballerina/http");
+            Assert.assertNotNull(cachedConfigVariables, "Configuration variables of the dependency should be cached");
+            Assert.assertEquals(getConfigValue(configVariables, "ballerina/http", "maxActiveConnections"), "");
+
+            Files.writeString(projectDir.resolve("Config.toml"),
+                    String.format("%n[ballerina.http]%nmaxActiveConnections = 10%n"), StandardOpenOption.APPEND);
+            configVariables = service.getConfigVariables(request).get().configVariables();
+            Assert.assertSame(service.getCachedDependencyConfigVariables("ballerina/http"), cachedConfigVariables,
+                    "Cached configuration variables of the dependency should be reused");
+            Assert.assertEquals(getConfigValue(configVariables, "ballerina/http", "maxActiveConnections"), "10",
+                    "Value of the dependency configuration variable should be read from the changed Config.toml");
+        } finally {
+            try (Stream<Path> paths = Files.walk(projectDir)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static String getConfigValue(JsonElement configVariables, String packageName, String variableName) {
+        for (JsonElement configVariable : configVariables.getAsJsonObject().getAsJsonObject(packageName)
+                .getAsJsonArray("")) {
+            JsonObject properties = configVariable.getAsJsonObject().getAsJsonObject("properties");
+            if (properties.getAsJsonObject("variable").get("value").getAsString().equals(variableName)) {
+                return properties.getAsJsonObject("configValue").get("value").getAsString();
+            }
+        }
+        throw new IllegalStateException("Configuration variable cannot be found: " + variableName);
+    }
+
     @Override
     protected JsonObject getResponse(Object request, String api) {
         CompletableFuture<?> result = serviceEndpoint.request(api, request);
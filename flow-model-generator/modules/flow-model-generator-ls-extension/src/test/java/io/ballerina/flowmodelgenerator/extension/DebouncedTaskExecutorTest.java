@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import io.ballerina.flowmodelgenerator.core.expressioneditor.DebouncedTaskExecutor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the lane based execution of the debounced tasks.
+ *
+ * @since 1.7.0
+ */
+public class DebouncedTaskExecutorTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final DebouncedTaskExecutor executor = DebouncedTaskExecutor.getInstance();
+
+    @Test
+    public void testLanesRunInParallel() throws InterruptedException {
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        AtomicBoolean parallel = new AtomicBoolean(true);
+        Runnable task = () -> {
+            bothRunning.countDown();
+            try {
+                if (!bothRunning.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    parallel.set(false);
+                }
+            } catch (InterruptedException e) {
+                parallel.set(false);
+            }
+        };
+
+        Future<?> first = executor.schedule("project-a", task, 0, TimeUnit.MILLISECONDS);
+        Future<?> second = executor.schedule("project-b", task, 0, TimeUnit.MILLISECONDS);
+        awaitAll(List.of(first, second));
+        Assert.assertTrue(parallel.get(), "Tasks of different lanes should run in parallel");
+    }
+
+    @Test
+    public void testTasksOfLaneRunInOrder() throws InterruptedException {
+        int taskCount = 10;
+        List<Integer> executionOrder = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            int taskId = i;
+            futures.add(executor.schedule("project-c", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                executionOrder.add(taskId);
+                running.decrementAndGet();
+            }, 10, TimeUnit.MILLISECONDS));
+        }
+        awaitAll(futures);
+
+        Assert.assertEquals(maxRunning.get(), 1, "Tasks of the same lane should not overlap");
+        for (int i = 0; i < taskCount; i++) {
+            Assert.assertEquals(executionOrder.get(i).intValue(), i);
+        }
+    }
+
+    @Test
+    public void testCancelledTaskIsNotExecuted() throws InterruptedException {
+        AtomicBoolean executed = new AtomicBoolean(false);
+        long cancelledTasks = executor.metrics().cancelledTasks();
+        Future<?> future = executor.schedule("project-d", () -> executed.set(true), 200, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(future.cancel(true));
+
+        Thread.sleep(400);
+        Assert.assertFalse(executed.get());
+        Assert.assertTrue(executor.metrics().cancelledTasks() > cancelledTasks);
+    }
+
+    private static void awaitAll(List<Future<?>> futures) throws InterruptedException {
+        for (Future<?> future : futures) {
+            try {
+                future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                Assert.fail("Debounced task did not complete", e);
+            }
+        }
+    }
+}
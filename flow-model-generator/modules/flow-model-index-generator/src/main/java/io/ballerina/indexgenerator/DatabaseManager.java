@@ -24,7 +24,6 @@ import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
@@ -45,24 +44,8 @@ class DatabaseManager {
         return "jdbc:sqlite:" + destinationPath;
     }
 
-    private static int insertEntry(String sql, Object[] params) {
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            for (int i = 0; i < params.length; i++) {
-                stmt.setObject(i + 1, params[i]);
-            }
-            stmt.executeUpdate();
-            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    return generatedKeys.getInt(1);
-                } else {
-                    throw new SQLException("Creating package failed, no ID obtained.");
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.severe("Error executing query: " + e.getMessage());
-            return -1;
-        }
+    public static IndexBatchWriter createWriter() throws SQLException {
+        return new IndexBatchWriter(dbPath);
     }
 
     public static void createDatabase() {
@@ -87,25 +70,26 @@ class DatabaseManager {
         }
     }
 
-    public static int insertPackage(String org, String packageName, String moduleName, String version,
+    public static int insertPackage(IndexBatch batch, String org, String packageName, String moduleName, String version,
                                     List<String> keywords) {
         String sql = "INSERT INTO Package (org, package_name, module_name, version, keywords) VALUES (?, ?, ?, ?, ?)";
-        return insertEntry(sql, new Object[]{org, packageName, moduleName, version,
-                keywords == null ? "" : String.join(",", keywords)});
+        return batch.insert(sql, org, packageName, moduleName, version,
+                keywords == null ? "" : String.join(",", keywords));
     }
 
-    public static int insertFunction(int packageId, String name, String description, String returnType, String kind,
-                                     String resourcePath, int returnError, boolean inferredReturnType,
-                                     String importStatements) {
+    public static int insertFunction(IndexBatch batch, int packageId, String name, String description,
+                                     String returnType, String kind, String resourcePath, int returnError,
+                                     boolean inferredReturnType, String importStatements) {
         String sql = "INSERT INTO Function (package_id, name, description, " +
                 "return_type, kind, resource_path, return_error, inferred_return_type, import_statements) " +
                 "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        return insertEntry(sql, new Object[]{packageId, name, description,
-                returnType, kind, resourcePath, returnError, inferredReturnType ? 1 : 0, importStatements});
+        return batch.insert(sql, IndexBatch.ref(packageId), name, description,
+                returnType, kind, resourcePath, returnError, inferredReturnType ? 1 : 0, importStatements);
     }
 
-    public static int insertFunctionParameter(int functionId, String paramName, String paramDescription,
-                                              Object paramType, String placeholder, String defaultValue,
+    public static int insertFunctionParameter(IndexBatch batch, int functionId, String paramName,
+                                              String paramDescription, Object paramType, String placeholder,
+                                              String defaultValue,
                                               IndexGenerator.FunctionParameterKind parameterKind,
                                               int optional, String importStatements, String label) {
 
@@ -114,21 +98,20 @@ class DatabaseManager {
                         "optional, " +
                         "import_statements, label) " +
                         "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        return insertEntry(sql,
-                new Object[]{functionId, paramName, paramDescription, paramType, placeholder, defaultValue,
-                        parameterKind.name(), optional, importStatements, label});
+        return batch.insert(sql, IndexBatch.ref(functionId), paramName, paramDescription, paramType, placeholder,
+                defaultValue, parameterKind.name(), optional, importStatements, label);
     }
 
-    public static void insertParameterMemberType(int parameterId, String type, String kind,
+    public static void insertParameterMemberType(IndexBatch batch, int parameterId, String type, String kind,
                                                  String packageIdentifier, String packageName) {
         String sql = "INSERT INTO ParameterMemberType (parameter_id, type, kind, package_identifier, package_name) " +
                 "VALUES (?, ?, ?, ?, ?)";
-        insertEntry(sql, new Object[]{parameterId, type, kind, packageIdentifier, packageName});
+        batch.insert(sql, IndexBatch.ref(parameterId), type, kind, packageIdentifier, packageName);
     }
 
-    public static void mapConnectorAction(int actionId, int connectorId) {
+    public static void mapConnectorAction(IndexBatch batch, int actionId, int connectorId) {
         String sql = "INSERT INTO FunctionConnector (function_id, connector_id) VALUES (?, ?)";
-        insertEntry(sql, new Object[]{actionId, connectorId});
+        batch.insert(sql, IndexBatch.ref(actionId), IndexBatch.ref(connectorId));
     }
 
     public static void updateTypeParameter(String moduleName, String oldType, String newType) {
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The rows extracted from a package by an index generator, recorded in memory so that the package can be extracted
+ * concurrently with the other packages and written to the index by a single {@link IndexBatchWriter}.
+ *
+ * <p>
+ * The database generates the IDs of the rows only when the batch is written, hence {@link #insert(String, Object...)}
+ * returns a local ID of the row. A child row refers its parent by passing {@link #ref(int)} of the local ID of the
+ * parent as a parameter, which is replaced with the generated ID of the parent when the batch is written.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+public class IndexBatch {
+
+    private final String name;
+    private final List<Row> rows;
+
+    public IndexBatch(String name) {
+        this.name = name;
+        this.rows = new ArrayList<>();
+    }
+
+    /**
+     * Records an insert statement to be executed when the batch is written.
+     *
+     * @param sql    the insert statement
+     * @param params the parameters of the statement, where the references to the other rows are given by
+     *               {@link #ref(int)}
+     * @return the local ID of the row, which is never negative
+     */
+    public int insert(String sql, Object... params) {
+        rows.add(new Row(sql, params));
+        return rows.size() - 1;
+    }
+
+    /**
+     * Returns a parameter that refers the row of the given local ID.
+     *
+     * @param localId the local ID returned when the row was inserted
+     * @return the reference to the row
+     */
+    public static Object ref(int localId) {
+        return new RowRef(localId);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public List<Row> rows() {
+        return Collections.unmodifiableList(rows);
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * An insert statement of the batch.
+     *
+     * @param sql    the insert statement
+     * @param params the parameters of the statement
+     */
+    public record Row(String sql, Object[] params) {
+    }
+
+    /**
+     * A reference to the generated ID of a row of the same batch.
+     *
+     * @param localId the local ID of the referred row
+     */
+    public record RowRef(int localId) {
+    }
+}
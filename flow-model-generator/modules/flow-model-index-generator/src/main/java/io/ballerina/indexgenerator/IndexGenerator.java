@@ -43,12 +43,17 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 /**
@@ -62,8 +67,12 @@ class IndexGenerator {
             new TypeToken<Map<String, List<PackageListGenerator.PackageMetadataInfo>>>() {
             }.getType();
     private static final Logger LOGGER = Logger.getLogger(IndexGenerator.class.getName());
+    private static final int THREAD_COUNT =
+            Integer.getInteger("indexgenerator.threads", Runtime.getRuntime().availableProcessors());
 
     public static void main(String[] args) {
+        long start = System.nanoTime();
+        StageTimings timings = new StageTimings();
         DatabaseManager.createDatabase();
 
         Gson gson = new Gson();
@@ -71,13 +80,51 @@ class IndexGenerator {
         try (FileReader reader = new FileReader(Objects.requireNonNull(resource).getFile(), StandardCharsets.UTF_8)) {
             Map<String, List<PackageListGenerator.PackageMetadataInfo>> packagesMap = gson.fromJson(reader,
                     typeToken);
-            ForkJoinPool forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
-            forkJoinPool.submit(() -> packagesMap.forEach((key, value) -> value.forEach(
-                    packageMetadataInfo -> resolvePackage(key, packageMetadataInfo)))).join();
+            generateIndex(packagesMap, timings);
         } catch (IOException e) {
             LOGGER.severe("Error reading packages JSON file: " + e.getMessage());
         }
 
+        timings.time("post-process", IndexGenerator::postProcess);
+        LOGGER.info("Index generation completed in " + timings.summary(System.nanoTime() - start));
+    }
+
+    /**
+     * Resolves, compiles and extracts the packages concurrently, while the extracted modules are written to the index
+     * by the calling thread. The modules are written in the order of the packages list, so that the generated index is
+     * the same regardless of the order in which the packages are extracted.
+     */
+    private static void generateIndex(Map<String, List<PackageListGenerator.PackageMetadataInfo>> packagesMap,
+                                      StageTimings timings) {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try (IndexBatchWriter writer = DatabaseManager.createWriter()) {
+            List<Future<List<IndexBatch>>> futures = new ArrayList<>();
+            packagesMap.forEach((key, value) -> value.forEach(packageMetadataInfo -> futures.add(
+                    executor.submit(() -> resolvePackage(key, packageMetadataInfo, timings)))));
+
+            for (Future<List<IndexBatch>> future : futures) {
+                List<IndexBatch> batches;
+                try {
+                    batches = future.get();
+                } catch (ExecutionException e) {
+                    LOGGER.severe("Error processing package: " + e.getCause());
+                    continue;
+                }
+                timings.time("write", () -> batches.forEach(writer::write));
+            }
+            LOGGER.info("Written " + writer.writtenRows() + " rows to the index using " + THREAD_COUNT +
+                    " threads, " + writer.failedBatches() + " modules failed");
+        } catch (SQLException e) {
+            LOGGER.severe("Error opening the index database: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.severe("Index generation interrupted");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void postProcess() {
         // TODO: Remove this once thw raw parameter property type is introduced
         DatabaseManager.executeQuery(
                 "UPDATE Parameter SET default_value = '``', placeholder='``' WHERE type = 'sql:ParameterizedQuery'");
@@ -115,46 +162,57 @@ class IndexGenerator {
         DatabaseManager.updateTypeParameter("lang.value", "value:Type", "(any|error)");
     }
 
-    private static void resolvePackage(String org,
-                                       PackageListGenerator.PackageMetadataInfo packageMetadataInfo) {
+    private static List<IndexBatch> resolvePackage(String org,
+                                                   PackageListGenerator.PackageMetadataInfo packageMetadataInfo,
+                                                   StageTimings timings) {
         Package resolvedPackage;
         try {
-            resolvedPackage = Objects.requireNonNull(PackageUtil.resolveModulePackage(org,
-                    packageMetadataInfo.name(), packageMetadataInfo.version())).orElseThrow();
+            resolvedPackage = timings.time("resolve", () -> Objects.requireNonNull(PackageUtil.resolveModulePackage(
+                    org, packageMetadataInfo.name(), packageMetadataInfo.version())).orElseThrow());
         } catch (Throwable e) {
             LOGGER.severe("Error resolving package: " + packageMetadataInfo.name() + e.getMessage());
-            return;
+            return List.of();
         }
 
+        List<IndexBatch> batches = new ArrayList<>();
         List<String> exportedModules = resolvedPackage.manifest().exportedModules();
         for (Module module : resolvedPackage.modules()) {
             if (exportedModules.contains(module.descriptor().name().toString())) {
-                processModule(resolvedPackage, module);
+                try {
+                    batches.add(processModule(resolvedPackage, module, timings));
+                } catch (RuntimeException e) {
+                    LOGGER.severe("Error processing module: " + module.descriptor().name() + " " + e.getMessage());
+                }
             }
         }
+        return batches;
     }
 
-    private static void processModule(Package resolvedPackage, Module module) {
+    private static IndexBatch processModule(Package resolvedPackage, Module module, StageTimings timings) {
         ModuleDescriptor descriptor = module.descriptor();
         String moduleName = descriptor.name().toString();
         LOGGER.info("Processing package: " + moduleName);
-        int packageId = DatabaseManager.insertPackage(descriptor.org().value(),
+        IndexBatch batch = new IndexBatch(moduleName);
+        int packageId = DatabaseManager.insertPackage(batch, descriptor.org().value(),
                 module.packageInstance().packageName().value(), moduleName,
                 descriptor.version().value().toString(), resolvedPackage.manifest().keywords());
-        if (packageId == -1) {
-            LOGGER.severe("Error inserting package to database: " + moduleName);
-            return;
-        }
 
         SemanticModel semanticModel;
         try {
-            semanticModel = PackageUtil.getCompilation(resolvedPackage)
-                    .getSemanticModel(module.moduleId());
+            semanticModel = timings.time("compile", () -> PackageUtil.getCompilation(resolvedPackage)
+                    .getSemanticModel(module.moduleId()));
         } catch (Exception e) {
             LOGGER.severe("Error reading semantic model: " + e.getMessage());
-            return;
+            return batch;
         }
 
+        timings.time("extract", () -> processModuleSymbols(batch, semanticModel, resolvedPackage, module, packageId));
+        return batch;
+    }
+
+    private static void processModuleSymbols(IndexBatch batch, SemanticModel semanticModel, Package resolvedPackage,
+                                             Module module, int packageId) {
+        String moduleName = module.descriptor().name().toString();
         TypeSymbol errorTypeSymbol = semanticModel.types().ERROR;
 
         for (Symbol symbol : semanticModel.moduleSymbols()) {
@@ -164,8 +222,8 @@ class IndexGenerator {
                     continue;
                 }
 
-                processFunctionSymbol(semanticModel, functionSymbol, functionSymbol, packageId, FunctionType.FUNCTION,
-                        moduleName, errorTypeSymbol, module);
+                processFunctionSymbol(batch, semanticModel, functionSymbol, functionSymbol, packageId,
+                        FunctionType.FUNCTION, moduleName, errorTypeSymbol, module, resolvedPackage);
                 continue;
             }
             if (symbol.kind() == SymbolKind.CLASS) {
@@ -181,12 +239,8 @@ class IndexGenerator {
                 if (!classSymbol.nameEquals("Client")) {
                     continue;
                 }
-                int connectorId = processFunctionSymbol(semanticModel, initMethodSymbol.get(), classSymbol, packageId,
-                        FunctionType.CONNECTOR,
-                        moduleName, errorTypeSymbol, module);
-                if (connectorId == -1) {
-                    continue;
-                }
+                int connectorId = processFunctionSymbol(batch, semanticModel, initMethodSymbol.get(), classSymbol,
+                        packageId, FunctionType.CONNECTOR, moduleName, errorTypeSymbol, module, resolvedPackage);
 
                 // Process the actions of the client
                 Map<String, MethodSymbol> methods = classSymbol.methods();
@@ -204,12 +258,9 @@ class IndexGenerator {
                     } else {
                         continue;
                     }
-                    int functionId = processFunctionSymbol(semanticModel, methodSymbol, methodSymbol, packageId,
-                            functionType, moduleName, errorTypeSymbol, module);
-                    if (functionId == -1) {
-                        continue;
-                    }
-                    DatabaseManager.mapConnectorAction(functionId, connectorId);
+                    int functionId = processFunctionSymbol(batch, semanticModel, methodSymbol, methodSymbol,
+                            packageId, functionType, moduleName, errorTypeSymbol, module, resolvedPackage);
+                    DatabaseManager.mapConnectorAction(batch, functionId, connectorId);
                 }
             }
         }
@@ -219,10 +270,10 @@ class IndexGenerator {
         return !new HashSet<>(actualQualifiers).containsAll(expectedQualifiers);
     }
 
-    private static int processFunctionSymbol(SemanticModel semanticModel, FunctionSymbol functionSymbol,
-                                             Documentable documentable, int packageId,
+    private static int processFunctionSymbol(IndexBatch batch, SemanticModel semanticModel,
+                                             FunctionSymbol functionSymbol, Documentable documentable, int packageId,
                                              FunctionType functionType, String packageName,
-                                             TypeSymbol errorTypeSymbol, Module module) {
+                                             TypeSymbol errorTypeSymbol, Module module, Package resolvedPackage) {
         // Capture the name of the function
         Optional<String> name = functionSymbol.getName();
         if (name.isEmpty()) {
@@ -232,10 +283,6 @@ class IndexGenerator {
         // Create ModuleInfo for the function
         ModuleInfo moduleInfo = ModuleInfo.from(module.descriptor());
 
-        // Create and set the resolved package for the function
-        Optional<Package> resolvedPackage = PackageUtil.resolveModulePackage(
-                moduleInfo.org(), moduleInfo.packageName(), moduleInfo.version());
-
         // Determine function kind based on function type
         FunctionData.Kind functionKind = mapFunctionTypeToKind(functionType);
 
@@ -245,7 +292,7 @@ class IndexGenerator {
                 .semanticModel(semanticModel)
                 .functionSymbol(functionSymbol)
                 .moduleInfo(moduleInfo)
-                .resolvedPackage(resolvedPackage.orElse(null))
+                .resolvedPackage(resolvedPackage)
                 .functionResultKind(functionKind);
 
         // Handle special cases for connectors and class symbols
@@ -265,7 +312,7 @@ class IndexGenerator {
 
         // Insert function into database
         String resourcePath = functionData.resourcePath() != null ? functionData.resourcePath() : "";
-        int functionId = DatabaseManager.insertFunction(packageId, functionData.name(),
+        int functionId = DatabaseManager.insertFunction(batch, packageId, functionData.name(),
                 functionData.description(), functionData.returnType(),
                 functionData.kind().name(), resourcePath,
                 functionData.returnError() ? 1 : 0, functionData.inferredReturnType(),
@@ -274,14 +321,14 @@ class IndexGenerator {
         // Insert parameters into database
         for (Map.Entry<String, ParameterData> entry : functionData.parameters().entrySet()) {
             ParameterData parameterData = entry.getValue();
-            int paramId = DatabaseManager.insertFunctionParameter(functionId, parameterData.name(),
+            int paramId = DatabaseManager.insertFunctionParameter(batch, functionId, parameterData.name(),
                     parameterData.description(), parameterData.type(), parameterData.placeholder(),
                     parameterData.defaultValue(),
                     FunctionParameterKind.fromString(parameterData.kind().name()),
                     parameterData.optional() ? 1 : 0, parameterData.importStatements(), parameterData.label());
 
             // Insert parameter member types
-            insertParameterMemberTypesFromParameterData(paramId, parameterData);
+            insertParameterMemberTypesFromParameterData(batch, paramId, parameterData);
         }
 
         return functionId;
@@ -296,9 +343,10 @@ class IndexGenerator {
         };
     }
 
-    private static void insertParameterMemberTypesFromParameterData(int parameterId, ParameterData parameterData) {
+    private static void insertParameterMemberTypesFromParameterData(IndexBatch batch, int parameterId,
+                                                                    ParameterData parameterData) {
         for (ParameterMemberTypeData memberType : parameterData.typeMembers()) {
-            DatabaseManager.insertParameterMemberType(parameterId, memberType.type(), memberType.kind(),
+            DatabaseManager.insertParameterMemberType(batch, parameterId, memberType.type(), memberType.kind(),
                     memberType.packageInfo(), memberType.packageName());
         }
     }
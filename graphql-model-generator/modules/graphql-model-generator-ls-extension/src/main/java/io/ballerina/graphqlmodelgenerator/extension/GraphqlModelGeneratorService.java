@@ -27,6 +27,8 @@ import io.ballerina.graphqlmodelgenerator.core.exception.GraphqlModelGenerationE
 import io.ballerina.graphqlmodelgenerator.core.model.GraphqlModel;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
@@ -52,10 +54,13 @@ import static io.ballerina.graphqlmodelgenerator.core.Constants.UNEXPECTED_ERROR
 public class GraphqlModelGeneratorService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private ServerExecutors executors;
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -90,7 +95,7 @@ public class GraphqlModelGeneratorService implements ExtendedLanguageServerServi
                 response.setErrorMsg(String.format(UNEXPECTED_ERROR_MSG, e.getMessage()));
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     private Project getCurrentProject(Path path) throws WorkspaceDocumentException, EventSyncException {
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Temporary directory the benchmarks copy their Ballerina sources to, so that the sources are loaded from the disk as
+ * in the editor. The sources are read from the classpath, where the sources shared by the benchmarks of the modules
+ * are provided from the {@code jmh-fixtures} directory.
+ *
+ * @since 1.7.0
+ */
+public final class BenchmarkWorkspace implements AutoCloseable {
+
+    private final Path directory;
+
+    private BenchmarkWorkspace(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates a workspace in a new temporary directory.
+     *
+     * @param name prefix of the name of the directory
+     * @return the workspace
+     * @throws IOException if the directory cannot be created
+     */
+    public static BenchmarkWorkspace create(String name) throws IOException {
+        return new BenchmarkWorkspace(Files.createTempDirectory(name));
+    }
+
+    /**
+     * Copies the given source from the classpath to the workspace.
+     *
+     * @param sourceFile name of the source on the classpath
+     * @return path of the copied source
+     * @throws IOException if the source cannot be copied
+     */
+    public Path copy(String sourceFile) throws IOException {
+        Path filePath = directory.resolve(sourceFile);
+        try (InputStream inputStream = BenchmarkWorkspace.class.getResourceAsStream("/" + sourceFile)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Benchmark source not found: " + sourceFile);
+            }
+            Files.copy(inputStream, filePath);
+        }
+        return filePath;
+    }
+
+    /**
+     * Deletes the workspace along with the copied sources and the build outputs.
+     *
+     * @throws IOException if the workspace cannot be traversed
+     */
+    @Override
+    public void close() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
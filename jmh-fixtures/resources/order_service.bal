@@ -0,0 +1,106 @@
+import ballerina/http;
+import ballerina/log;
+
+type Item record {|
+    string id;
+    string name;
+    int quantity;
+    decimal price;
+|};
+
+type Order record {|
+    string id;
+    string customer;
+    Item[] items;
+    string status;
+|};
+
+configurable string inventoryUrl = "http://localhost:9091";
+configurable decimal discountThreshold = 1000;
+
+final http:Client inventoryClient = check new (inventoryUrl);
+final http:Client paymentClient = check new ("http://localhost:9092");
+
+service /orders on new http:Listener(9090) {
+
+    private final map<Order> orders = {};
+    private final http:Client shippingClient;
+
+    function init() returns error? {
+        self.shippingClient = check new ("http://localhost:9093");
+    }
+
+    resource function get .() returns Order[] {
+        return self.orders.toArray();
+    }
+
+    resource function get [string id]() returns Order|http:NotFound {
+        Order? 'order = self.orders[id];
+        if 'order is () {
+            return http:NOT_FOUND;
+        }
+        return 'order;
+    }
+
+    resource function post .(Order 'order) returns Order|error {
+        decimal total = check processOrder('order);
+        lock {
+            self.orders['order.id] = 'order;
+        }
+        json shipment = check self.shippingClient->post("/shipments", {orderId: 'order.id, total});
+        log:printInfo("Shipment created", shipment = shipment);
+        return 'order;
+    }
+}
+
+function processOrder(Order 'order) returns decimal|error {
+    decimal total = 0;
+    foreach Item item in 'order.items {
+        json stock = check inventoryClient->get(string `/items/${item.id}`);
+        int available = check stock.available;
+        if available < item.quantity {
+            log:printWarn("Insufficient stock", itemId = item.id, available = available);
+            return error(string `Insufficient stock for ${item.name}`);
+        } else if available == item.quantity {
+            log:printInfo("Last items in stock", itemId = item.id);
+        }
+        total += item.price * <decimal>item.quantity;
+    }
+
+    match 'order.status {
+        "NEW" => {
+            log:printDebug("Processing a new order", orderId = 'order.id);
+        }
+        "PRIORITY" => {
+            total += 10;
+        }
+        _ => {
+            return error("Unsupported order status: " + 'order.status);
+        }
+    }
+
+    if total > discountThreshold {
+        total = total * 0.9;
+    }
+
+    int retries = 0;
+    while retries < 3 {
+        json|error payment = paymentClient->post("/payments", {orderId: 'order.id, amount: total});
+        if payment is json {
+            log:printInfo("Payment completed", payment = payment);
+            break;
+        }
+        retries += 1;
+        log:printError("Payment failed", 'error = payment, retries = retries);
+    } on fail error e {
+        return e;
+    }
+
+    transaction {
+        check commit;
+    } on fail error e {
+        log:printError("Transaction failed", 'error = e);
+        return e;
+    }
+    return total;
+}
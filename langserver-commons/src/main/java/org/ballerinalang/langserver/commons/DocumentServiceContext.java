@@ -122,6 +122,21 @@ public interface DocumentServiceContext {
      */
     Optional<SyntaxTree> currentSyntaxTree();
 
+    /**
+     * Get the semantic queries on the current document, which memoize the results of the semantic model for the
+     * lifetime of the context.
+     *
+     * @return {@link SemanticQueries}
+     */
+    default Optional<SemanticQueries> semanticQueries() {
+        Optional<SemanticModel> semanticModel = currentSemanticModel();
+        Optional<Document> document = currentDocument();
+        if (semanticModel.isEmpty() || document.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new SemanticQueries(semanticModel.get(), document.get()));
+    }
+
     /**
      * Get the language server context.
      *
@@ -32,6 +32,16 @@ public interface LanguageServerContext {
 
     <V> V get(Class<V> clazz);
 
+    /**
+     * Get the executors shared by the services of the language server.
+     *
+     * @return {@link ServerExecutors}
+     * @since 1.7.0
+     */
+    default ServerExecutors executors() {
+        return ServerExecutors.getInstance(this);
+    }
+
     /**
      * @param <K> key
      * @since 1.0.0
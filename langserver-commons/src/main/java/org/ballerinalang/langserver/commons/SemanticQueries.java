@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver.commons;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.DiagnosticState;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.Document;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoizes the semantic queries on a version of a document, so that the providers of an operation which query the
+ * same position or node share a single semantic model lookup.
+ *
+ * <p>
+ * An instance is bound to the semantic model and the document it was created with, hence it should not outlive the
+ * operation context which created it. The nodes are identified by their kind and text range, since a node of the
+ * syntax tree may be represented by different node instances.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+public class SemanticQueries {
+
+    private final SemanticModel semanticModel;
+    private final Document document;
+    private final Map<PositionKey, List<Symbol>> visibleSymbols;
+    private final Map<PositionKey, Optional<TypeSymbol>> expectedTypes;
+    private final Map<NodeKey, Optional<Symbol>> symbols;
+    private final Map<NodeKey, Optional<TypeSymbol>> types;
+
+    public SemanticQueries(SemanticModel semanticModel, Document document) {
+        this.semanticModel = semanticModel;
+        this.document = document;
+        this.visibleSymbols = new ConcurrentHashMap<>();
+        this.expectedTypes = new ConcurrentHashMap<>();
+        this.symbols = new ConcurrentHashMap<>();
+        this.types = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get the semantic model of the queries.
+     *
+     * @return {@link SemanticModel}
+     */
+    public SemanticModel semanticModel() {
+        return semanticModel;
+    }
+
+    /**
+     * Get the document of the queries.
+     *
+     * @return {@link Document}
+     */
+    public Document document() {
+        return document;
+    }
+
+    /**
+     * Get the valid and the redeclared symbols visible at the given position of the document.
+     *
+     * @param position position in the document
+     * @return a new list of the visible symbols, which can be modified by the caller
+     */
+    public List<Symbol> visibleSymbols(LinePosition position) {
+        return new ArrayList<>(visibleSymbols.computeIfAbsent(PositionKey.from(position), key ->
+                semanticModel.visibleSymbols(document, position, DiagnosticState.VALID, DiagnosticState.REDECLARED)));
+    }
+
+    /**
+     * Get the symbol of the given node.
+     *
+     * @param node node of the document
+     * @return {@link Optional} symbol of the node
+     */
+    public Optional<Symbol> symbol(Node node) {
+        return symbols.computeIfAbsent(NodeKey.from(node), key -> semanticModel.symbol(node));
+    }
+
+    /**
+     * Get the type of the given node.
+     *
+     * @param node node of the document
+     * @return {@link Optional} type of the node
+     */
+    public Optional<TypeSymbol> typeOf(Node node) {
+        return types.computeIfAbsent(NodeKey.from(node), key -> semanticModel.typeOf(node));
+    }
+
+    /**
+     * Get the type expected at the given position of the document.
+     *
+     * @param position position in the document
+     * @return {@link Optional} expected type
+     */
+    public Optional<TypeSymbol> expectedType(LinePosition position) {
+        return expectedTypes.computeIfAbsent(PositionKey.from(position), key ->
+                semanticModel.expectedType(document, position));
+    }
+
+    private record PositionKey(int line, int offset) {
+
+        static PositionKey from(LinePosition position) {
+            return new PositionKey(position.line(), position.offset());
+        }
+    }
+
+    private record NodeKey(SyntaxKind kind, int startOffset, int length) {
+
+        static NodeKey from(Node node) {
+            TextRange textRange = node.textRange();
+            return new NodeKey(node.kind(), textRange.startOffset(), textRange.length());
+        }
+    }
+}
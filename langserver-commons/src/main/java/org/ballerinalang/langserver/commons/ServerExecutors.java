@@ -0,0 +1,268 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver.commons;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executors shared by the services of a language server instance, which separate the tasks into lanes by their
+ * urgency, so that the requests the user is waiting on are not queued behind the indexing and network tasks.
+ *
+ * <p>
+ * The interactive and the background lanes are bounded pools of daemon threads. The interactive tasks block on the
+ * compilation of the packages and on each other, so the interactive lane has several threads per processor, which are
+ * released when idle, whereas the background lane runs at a lower priority with half a thread per processor, and at
+ * least two threads so that a long compilation does not hold up the other background tasks. The IO lane runs each
+ * task on a virtual thread, since its tasks spend most of their time waiting on the network or the file system. None
+ * of the lanes use the common fork-join pool, which is left to the parallel streams of the compiler and the services.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+public class ServerExecutors {
+
+    private static final LanguageServerContext.Key<ServerExecutors> SERVER_EXECUTORS_KEY =
+            new LanguageServerContext.Key<>();
+
+    private static final int INTERACTIVE_THREADS_PER_PROCESSOR = 4;
+    private static final int MIN_INTERACTIVE_THREADS = 16;
+    private static final int MIN_BACKGROUND_THREADS = 2;
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 60;
+
+    private final Map<Lane, LaneExecutor> lanes;
+
+    public static ServerExecutors getInstance(LanguageServerContext serverContext) {
+        synchronized (SERVER_EXECUTORS_KEY) {
+            ServerExecutors serverExecutors = serverContext.get(SERVER_EXECUTORS_KEY);
+            if (serverExecutors == null) {
+                int processors = Runtime.getRuntime().availableProcessors();
+                serverExecutors = new ServerExecutors(serverContext,
+                        Math.max(MIN_INTERACTIVE_THREADS, processors * INTERACTIVE_THREADS_PER_PROCESSOR),
+                        Math.max(MIN_BACKGROUND_THREADS, processors / 2));
+            }
+            return serverExecutors;
+        }
+    }
+
+    ServerExecutors(LanguageServerContext serverContext, int interactiveThreads, int backgroundThreads) {
+        serverContext.put(SERVER_EXECUTORS_KEY, this);
+        this.lanes = new EnumMap<>(Lane.class);
+        this.lanes.put(Lane.INTERACTIVE, new LaneExecutor(elasticThreadPool(interactiveThreads,
+                daemonThreadFactory("ls-interactive", Thread.NORM_PRIORITY)), interactiveThreads));
+        this.lanes.put(Lane.BACKGROUND, new LaneExecutor(Executors.newFixedThreadPool(backgroundThreads,
+                daemonThreadFactory("ls-background", Thread.MIN_PRIORITY)), backgroundThreads));
+        this.lanes.put(Lane.IO, new LaneExecutor(Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("ls-io-", 0).factory()), 0));
+    }
+
+    /**
+     * Get the executor of the tasks of the requests the user is waiting on, such as the diagram, the completion and
+     * the editing requests.
+     *
+     * @return {@link Executor}
+     */
+    public Executor interactive() {
+        return lanes.get(Lane.INTERACTIVE);
+    }
+
+    /**
+     * Get the executor of the tasks which are not awaited by the user, such as the indexing and the workspace wide
+     * analyses.
+     *
+     * @return {@link Executor}
+     */
+    public Executor background() {
+        return lanes.get(Lane.BACKGROUND);
+    }
+
+    /**
+     * Get the executor of the tasks which mostly wait on the network or the file system, such as the requests to the
+     * Ballerina Central and pulling the packages.
+     *
+     * @return {@link Executor}
+     */
+    public Executor io() {
+        return lanes.get(Lane.IO);
+    }
+
+    /**
+     * Get the executor of the given lane.
+     *
+     * @param lane Lane of the executor
+     * @return {@link Executor}
+     */
+    public Executor executor(Lane lane) {
+        return lanes.get(lane);
+    }
+
+    /**
+     * Returns the metrics of the given lane.
+     *
+     * @param lane Lane of the metrics
+     * @return Metrics of the lane
+     */
+    public Metrics metrics(Lane lane) {
+        return lanes.get(lane).metrics(lane);
+    }
+
+    /**
+     * Returns the metrics of all the lanes.
+     *
+     * @return Metrics of the lanes
+     */
+    public Map<Lane, Metrics> metrics() {
+        Map<Lane, Metrics> metrics = new EnumMap<>(Lane.class);
+        for (Lane lane : Lane.values()) {
+            metrics.put(lane, metrics(lane));
+        }
+        return metrics;
+    }
+
+    /**
+     * Shuts down the executors of all the lanes. The tasks already submitted are completed, while the new tasks are
+     * rejected.
+     */
+    public void shutdown() {
+        lanes.values().forEach(laneExecutor -> laneExecutor.delegate.shutdown());
+    }
+
+    /**
+     * Creates a pool with the given number of threads, which are started on demand and stopped when idle.
+     */
+    private static ExecutorService elasticThreadPool(int threads, ThreadFactory threadFactory) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, IDLE_THREAD_TIMEOUT_SECONDS,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name, int priority) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(priority);
+            return thread;
+        };
+    }
+
+    /**
+     * Lanes of the executors.
+     */
+    public enum Lane {
+        INTERACTIVE,
+        BACKGROUND,
+        IO
+    }
+
+    /**
+     * Executor of a lane, which records the metrics of the tasks executed through it.
+     */
+    private static class LaneExecutor implements Executor {
+
+        private final ExecutorService delegate;
+        private final int threads;
+        private final AtomicInteger queuedTasks;
+        private final AtomicInteger activeTasks;
+        private final LongAdder submittedTasks;
+        private final LongAdder completedTasks;
+        private final LongAdder totalWait;
+        private final AtomicLong maxWait;
+
+        LaneExecutor(ExecutorService delegate, int threads) {
+            this.delegate = delegate;
+            this.threads = threads;
+            this.queuedTasks = new AtomicInteger();
+            this.activeTasks = new AtomicInteger();
+            this.submittedTasks = new LongAdder();
+            this.completedTasks = new LongAdder();
+            this.totalWait = new LongAdder();
+            this.maxWait = new AtomicLong();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            long submittedAt = System.nanoTime();
+            submittedTasks.increment();
+            queuedTasks.incrementAndGet();
+            try {
+                delegate.execute(() -> run(command, submittedAt));
+            } catch (RuntimeException e) {
+                queuedTasks.decrementAndGet();
+                throw e;
+            }
+        }
+
+        private void run(Runnable command, long submittedAt) {
+            long wait = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submittedAt);
+            totalWait.add(wait);
+            maxWait.accumulateAndGet(wait, Math::max);
+            queuedTasks.decrementAndGet();
+            activeTasks.incrementAndGet();
+            try {
+                command.run();
+            } finally {
+                activeTasks.decrementAndGet();
+                completedTasks.increment();
+            }
+        }
+
+        Metrics metrics(Lane lane) {
+            long started = completedTasks.sum() + activeTasks.get();
+            return new Metrics(lane, threads, activeTasks.get(), queuedTasks.get(), submittedTasks.sum(),
+                    completedTasks.sum(), maxWait.get(), started == 0 ? 0 : totalWait.sum() / started);
+        }
+    }
+
+    /**
+     * Metrics of a lane.
+     *
+     * @param lane              Lane of the metrics
+     * @param threads           Number of threads of the lane, or 0 if a thread is created per task
+     * @param activeTasks       Number of tasks being executed
+     * @param queuedTasks       Number of tasks waiting for a thread
+     * @param submittedTasks    Number of tasks submitted
+     * @param completedTasks    Number of tasks completed
+     * @param maxWaitMillis     Maximum time a task waited for a thread
+     * @param averageWaitMillis Average time a task waited for a thread
+     */
+    public record Metrics(Lane lane, int threads, int activeTasks, int queuedTasks, long submittedTasks,
+                          long completedTasks, long maxWaitMillis, long averageWaitMillis) {
+
+        /**
+         * Returns the ratio of the tasks executed or waiting to the threads of the lane, which exceeds 1 when the
+         * tasks are queued. The lanes which create a thread per task are never saturated.
+         *
+         * @return Saturation of the lane
+         */
+        public double saturation() {
+            return threads == 0 ? 0 : (double) (activeTasks + queuedTasks) / threads;
+        }
+    }
+}
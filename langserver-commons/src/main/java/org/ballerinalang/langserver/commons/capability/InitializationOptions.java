@@ -62,6 +62,11 @@ public interface InitializationOptions {
      */
     String KEY_ENABLE_MEMORY_USAGE_MONITOR = "enableMemoryUsageMonitor";
 
+    /**
+     * Whether the LS should use the incremental text document synchronization.
+     */
+    String KEY_ENABLE_INCREMENTAL_SYNC = "enableIncrementalSync";
+
     /**
      * Return if the client support bala URI scheme.
      *
@@ -116,4 +121,11 @@ public interface InitializationOptions {
      * @return True if supported, false otherwise
      */
     boolean isEnableMemoryUsageMonitor();
+
+    /**
+     * Returns if the incremental text document synchronization is enabled.
+     *
+     * @return True if enabled, false otherwise
+     */
+    boolean isEnableIncrementalSync();
 }
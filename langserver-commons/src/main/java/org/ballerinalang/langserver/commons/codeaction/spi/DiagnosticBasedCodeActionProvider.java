@@ -19,7 +19,9 @@ import io.ballerina.tools.diagnostics.Diagnostic;
 import org.ballerinalang.langserver.commons.CodeActionContext;
 import org.eclipse.lsp4j.CodeAction;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Represents the interface for the Ballerina Diagnostic Based Code Action Provider.
@@ -48,4 +50,14 @@ public interface DiagnosticBasedCodeActionProvider extends LSCodeActionProvider
      * @return True if syntactically correct, false otherwise.
      */
     boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails, CodeActionContext context);
+
+    /**
+     * Returns the codes of the diagnostics for which the provider offers code actions. The provider is evaluated only
+     * for the diagnostics with these codes, and for all the diagnostics if the set is empty.
+     *
+     * @return set of diagnostic codes
+     */
+    default Set<String> getDiagnosticCodes() {
+        return Collections.emptySet();
+    }
 }
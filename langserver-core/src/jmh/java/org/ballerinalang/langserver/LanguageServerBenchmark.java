@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver;
+
+import io.ballerina.projects.Module;
+import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.benchmark.BenchmarkWorkspace;
+import org.ballerinalang.langserver.commons.CompletionContext;
+import org.ballerinalang.langserver.commons.HoverContext;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ReferencesContext;
+import org.ballerinalang.langserver.commons.SemanticTokensContext;
+import org.ballerinalang.langserver.completions.BallerinaCompletionExtension;
+import org.ballerinalang.langserver.contexts.ContextBuilder;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.langserver.hover.HoverUtil;
+import org.ballerinalang.langserver.references.ReferencesUtil;
+import org.ballerinalang.langserver.references.SymbolReferenceIndex;
+import org.ballerinalang.langserver.semantictokens.SemanticTokensUtils;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.eclipse.lsp4j.CompletionCapabilities;
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionItemCapabilities;
+import org.eclipse.lsp4j.CompletionParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.Hover;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of the language server features on the hot path of editing, which are completion, hover,
+ * semantic tokens and references, on a representative service loaded through the {@link BallerinaWorkspaceManager}.
+ * The references are measured with a warm and with an invalidated reference index. The allocation per request is
+ * reported by the gc profiler, and the results are written as JSON so that they can be compared between commits.
+ *
+ * @since 1.7.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+public class LanguageServerBenchmark {
+
+    private static final String SOURCE_FILE = "order_service.bal";
+    private static final String COMPLETION_ANCHOR = "total += 10;";
+    private static final String HOVER_ANCHOR = "check processOrder(";
+    private static final String REFERENCES_ANCHOR = "function processOrder(";
+    private static final CancelChecker NO_CANCEL = () -> { };
+
+    private final BallerinaCompletionExtension completionExtension = new BallerinaCompletionExtension();
+    private final CompletionCapabilities completionCapabilities =
+            new CompletionCapabilities(new CompletionItemCapabilities(true));
+    private BenchmarkWorkspace workspace;
+    private Path filePath;
+    private String fileUri;
+    private LanguageServerContext serverContext;
+    private BallerinaWorkspaceManager workspaceManager;
+    private Position completionPosition;
+    private Position hoverPosition;
+    private Position referencesPosition;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        workspace = BenchmarkWorkspace.create("language-server-benchmark");
+        filePath = workspace.copy(SOURCE_FILE);
+        fileUri = filePath.toUri().toString();
+
+        serverContext = new LanguageServerContextImpl();
+        workspaceManager = new BallerinaWorkspaceManager(serverContext);
+        String content = Files.readString(filePath);
+        TextDocumentItem textDocumentItem = new TextDocumentItem();
+        textDocumentItem.setUri(fileUri);
+        textDocumentItem.setText(content);
+        workspaceManager.didOpen(filePath, new DidOpenTextDocumentParams(textDocumentItem));
+        workspaceManager.waitAndGetPackageCompilation(filePath).orElseThrow();
+
+        List<String> lines = content.lines().toList();
+        completionPosition = positionOf(lines, COMPLETION_ANCHOR, 0);
+        hoverPosition = positionOf(lines, HOVER_ANCHOR, "check ".length());
+        referencesPosition = positionOf(lines, REFERENCES_ANCHOR, "function ".length());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        workspace.close();
+    }
+
+    @Benchmark
+    public List<CompletionItem> completion() throws Throwable {
+        CompletionContext context = ContextBuilder.buildCompletionContext(fileUri, workspaceManager,
+                completionCapabilities, serverContext, completionPosition);
+        CompletionParams params = new CompletionParams(new TextDocumentIdentifier(fileUri), completionPosition);
+        return completionExtension.execute(params, context, serverContext, NO_CANCEL);
+    }
+
+    @Benchmark
+    public Hover hover() {
+        HoverContext context = ContextBuilder.buildHoverContext(fileUri, workspaceManager, serverContext,
+                hoverPosition, NO_CANCEL);
+        return HoverUtil.getHover(context);
+    }
+
+    @Benchmark
+    public SemanticTokens semanticTokens() {
+        SemanticTokensContext context = ContextBuilder.buildSemanticTokensContext(fileUri, workspaceManager,
+                serverContext, NO_CANCEL);
+        return SemanticTokensUtils.getSemanticTokens(context);
+    }
+
+    @Benchmark
+    public Map<Module, List<Location>> references() {
+        ReferencesContext context = ContextBuilder.buildReferencesContext(fileUri, workspaceManager, serverContext,
+                referencesPosition, NO_CANCEL);
+        return ReferencesUtil.getReferences(context);
+    }
+
+    @Benchmark
+    public Map<Module, List<Location>> coldReferences(InvalidatedReferenceIndex invalidatedIndex) {
+        return references();
+    }
+
+    /**
+     * Removes the reference index of the project before each invocation, so that the references request rebuilds the
+     * index as the first request after the project is loaded or reloaded does.
+     */
+    @State(Scope.Benchmark)
+    public static class InvalidatedReferenceIndex {
+
+        @Setup(Level.Invocation)
+        public void setup(LanguageServerBenchmark benchmark) {
+            Path projectRoot = benchmark.workspaceManager.project(benchmark.filePath).orElseThrow().sourceRoot();
+            SymbolReferenceIndex.getInstance(benchmark.serverContext).remove(projectRoot);
+        }
+    }
+
+    private static Position positionOf(List<String> lines, String anchor, int offset) {
+        for (int line = 0; line < lines.size(); line++) {
+            int column = lines.get(line).indexOf(anchor);
+            if (column >= 0) {
+                return new Position(line, column + offset);
+            }
+        }
+        throw new IllegalStateException("Anchor not found in the benchmark source: " + anchor);
+    }
+}
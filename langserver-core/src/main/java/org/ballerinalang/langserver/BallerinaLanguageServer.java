@@ -22,6 +22,7 @@ import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.util.ProjectConstants;
 import org.ballerinalang.langserver.command.LSCommandExecutorProvidersHolder;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
+import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.capability.LSClientCapabilities;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
@@ -39,12 +40,14 @@ import org.ballerinalang.langserver.extensions.ExtendedLanguageServer;
 import org.ballerinalang.langserver.semantictokens.SemanticTokensUtils;
 import org.ballerinalang.langserver.util.LSClientUtil;
 import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManagerProxyImpl;
+import org.ballerinalang.langserver.workspacesymbol.WorkspaceSymbolIndex;
 import org.eclipse.lsp4j.CodeActionKind;
 import org.eclipse.lsp4j.CodeActionOptions;
 import org.eclipse.lsp4j.CodeLensOptions;
 import org.eclipse.lsp4j.CompletionOptions;
 import org.eclipse.lsp4j.CompletionRegistrationOptions;
 import org.eclipse.lsp4j.DefinitionRegistrationOptions;
+import org.eclipse.lsp4j.DiagnosticRegistrationOptions;
 import org.eclipse.lsp4j.DidChangeWatchedFilesRegistrationOptions;
 import org.eclipse.lsp4j.DocumentFilter;
 import org.eclipse.lsp4j.ExecuteCommandOptions;
@@ -71,12 +74,14 @@ import org.eclipse.lsp4j.services.NotebookDocumentService;
 import org.eclipse.lsp4j.services.TextDocumentService;
 import org.eclipse.lsp4j.services.WorkspaceService;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -116,7 +121,6 @@ public class BallerinaLanguageServer extends AbstractExtendedLanguageServer
     @Override
     public CompletableFuture<InitializeResult> initialize(InitializeParams params) {
         final InitializeResult res = new InitializeResult(new ServerCapabilities());
-        res.getCapabilities().setTextDocumentSync(TextDocumentSyncKind.Full);
 
         Map<String, Object> experimentalClientCapabilities = null;
         if (params.getCapabilities().getExperimental() != null) {
@@ -140,6 +144,10 @@ public class BallerinaLanguageServer extends AbstractExtendedLanguageServer
                 initializationOptions);
         this.serverContext.put(LSClientCapabilities.class, capabilities);
 
+        // Clients can fall back to the full text document sync via the initialization options
+        res.getCapabilities().setTextDocumentSync(capabilities.getInitializationOptions().isEnableIncrementalSync() ?
+                TextDocumentSyncKind.Incremental : TextDocumentSyncKind.Full);
+
         //Checks for instances in which the LS needs to be initiated in lightweight mode
         if (capabilities.getInitializationOptions().isEnableLightWeightMode()) {
             return CompletableFuture.supplyAsync(() -> res);
@@ -156,13 +164,23 @@ public class BallerinaLanguageServer extends AbstractExtendedLanguageServer
             ballerinaWorkspaceManagerProxy.setBuildOptions(buildOptions);
         }
 
+        // Load the persisted workspace symbol indexes, so that the workspace symbols are served before the packages
+        // are loaded
+        if (params.getWorkspaceFolders() != null) {
+            List<Path> workspaceFolders = params.getWorkspaceFolders().stream()
+                    .map(workspaceFolder -> PathUtil.getPathFromURI(workspaceFolder.getUri()))
+                    .flatMap(Optional::stream)
+                    .toList();
+            WorkspaceSymbolIndex.getInstance(this.serverContext).loadPersistedAsync(workspaceFolders);
+        }
+
         final SignatureHelpOptions signatureHelpOptions = new SignatureHelpOptions(Arrays.asList("(", ","));
 
         res.getCapabilities().setSignatureHelpProvider(signatureHelpOptions);
         res.getCapabilities().setDocumentSymbolProvider(true);
         res.getCapabilities().setDocumentFormattingProvider(true);
         res.getCapabilities().setDocumentRangeFormattingProvider(true);
-        res.getCapabilities().setWorkspaceSymbolProvider(false);
+        res.getCapabilities().setWorkspaceSymbolProvider(true);
         res.getCapabilities().setImplementationProvider(false);
         res.getCapabilities().setFoldingRangeProvider(true);
         res.getCapabilities().setCodeLensProvider(new CodeLensOptions());
@@ -196,6 +214,11 @@ public class BallerinaLanguageServer extends AbstractExtendedLanguageServer
             res.getCapabilities().setSemanticTokensProvider(SemanticTokensUtils.getSemanticTokensRegistrationOptions());
         }
 
+        // Diagnostics are pulled by the clients which support pull diagnostics, and pushed to the others
+        if (LSClientUtil.isPullDiagnosticsSupported(params.getCapabilities().getTextDocument())) {
+            res.getCapabilities().setDiagnosticProvider(new DiagnosticRegistrationOptions(true, true));
+        }
+
         // Check and set prepare rename provider
         boolean prepareSupport = LSClientUtil.clientSupportsPrepareRename(params.getCapabilities());
         res.getCapabilities().setRenameProvider(new RenameOptions(prepareSupport));
@@ -227,6 +250,7 @@ public class BallerinaLanguageServer extends AbstractExtendedLanguageServer
         registerDynamicCapabilities();
 
         startListeningFileChanges();
+        LaneSaturationMonitor.getInstance(this.serverContext).start();
 
         LSClientCapabilities lsClientCapabilities = this.serverContext.get(LSClientCapabilities.class);
         
@@ -374,6 +398,9 @@ public class BallerinaLanguageServer extends AbstractExtendedLanguageServer
         for (ExtendedLanguageServerService service : extendedServices) {
             service.shutdown();
         }
+        WorkspaceSymbolIndex.getInstance(this.serverContext).persist();
+        LaneSaturationMonitor.getInstance(this.serverContext).stop();
+        this.serverContext.executors().shutdown();
         return CompletableFuture.supplyAsync(Object::new);
     }
 
@@ -418,7 +445,7 @@ public class BallerinaLanguageServer extends AbstractExtendedLanguageServer
             balInitResult.setExtendedServerCapabilities(ExtendedServerCapabilityBuilder.get());
 
             return balInitResult;
-        });
+        }, this.serverContext.executors().interactive());
     }
 
     /**
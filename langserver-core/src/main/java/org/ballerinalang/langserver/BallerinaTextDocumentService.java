@@ -48,6 +48,7 @@ import org.ballerinalang.langserver.commons.codeaction.ResolvableCodeAction;
 import org.ballerinalang.langserver.commons.eventsync.EventKind;
 import org.ballerinalang.langserver.contexts.ContextBuilder;
 import org.ballerinalang.langserver.definition.DefinitionUtil;
+import org.ballerinalang.langserver.diagnostic.DiagnosticsHelper;
 import org.ballerinalang.langserver.documentsymbol.DocumentSymbolUtil;
 import org.ballerinalang.langserver.eventsync.EventSyncPubSubHolder;
 import org.ballerinalang.langserver.exception.UserErrorException;
@@ -56,6 +57,7 @@ import org.ballerinalang.langserver.hover.HoverUtil;
 import org.ballerinalang.langserver.inlayhint.InlayHintProvider;
 import org.ballerinalang.langserver.references.ReferencesUtil;
 import org.ballerinalang.langserver.rename.RenameUtil;
+import org.ballerinalang.langserver.semantictokens.SemanticTokensCache;
 import org.ballerinalang.langserver.semantictokens.SemanticTokensUtils;
 import org.ballerinalang.langserver.signature.SignatureHelpUtil;
 import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManagerProxy;
@@ -72,6 +74,8 @@ import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.DidSaveTextDocumentParams;
+import org.eclipse.lsp4j.DocumentDiagnosticParams;
+import org.eclipse.lsp4j.DocumentDiagnosticReport;
 import org.eclipse.lsp4j.DocumentFormattingParams;
 import org.eclipse.lsp4j.DocumentRangeFormattingParams;
 import org.eclipse.lsp4j.DocumentSymbol;
@@ -90,9 +94,13 @@ import org.eclipse.lsp4j.PrepareRenameParams;
 import org.eclipse.lsp4j.PrepareRenameResult;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.ReferenceParams;
+import org.eclipse.lsp4j.RelatedUnchangedDocumentDiagnosticReport;
 import org.eclipse.lsp4j.RenameParams;
 import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
 import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
 import org.eclipse.lsp4j.SignatureHelp;
 import org.eclipse.lsp4j.SignatureHelpParams;
 import org.eclipse.lsp4j.SymbolInformation;
@@ -100,8 +108,11 @@ import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextEdit;
 import org.eclipse.lsp4j.WorkspaceEdit;
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.jsonrpc.messages.Either3;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
 import org.eclipse.lsp4j.services.TextDocumentService;
 
 import java.net.URISyntaxException;
@@ -356,7 +367,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
                         range.getStart(), range.getEnd());
             }
             return Collections.emptyList();
-        });
+        }, this.serverContext.executors().interactive());
     }
 
     @Override
@@ -626,6 +637,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
                     LSContextOperation.TXT_DID_CLOSE,
                     this.serverContext);
             this.workspaceManagerProxy.didClose(params);
+            SemanticTokensCache.getInstance(this.serverContext).evict(fileUri);
             this.clientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CLOSE.getName() +
                     "' {fileUri: '" + fileUri + "'} closed");
         } catch (Throwable e) {
@@ -690,6 +702,86 @@ class BallerinaTextDocumentService implements TextDocumentService {
         });
     }
 
+    @Override
+    public CompletableFuture<Either<SemanticTokens, SemanticTokensDelta>> semanticTokensFullDelta(
+            SemanticTokensDeltaParams params) {
+        return CompletableFutures.computeAsync((cancelChecker) -> {
+            try {
+                SemanticTokensContext context = ContextBuilder.buildSemanticTokensContext(
+                        params.getTextDocument().getUri(),
+                        this.workspaceManagerProxy.get(),
+                        this.serverContext,
+                        cancelChecker);
+
+                return SemanticTokensUtils.getSemanticTokensDelta(context, params.getPreviousResultId());
+            } catch (CancellationException ignore) {
+                // Ignore cancellation exception
+            } catch (Throwable e) {
+                String msg = "Operation 'textDocument/semanticTokens/full/delta' failed!";
+                this.clientLogger.logError(LSContextOperation.TXT_SEMANTIC_TOKENS_DELTA, msg, e,
+                        new TextDocumentIdentifier(params.getTextDocument().getUri()),
+                        (Position) null);
+            }
+
+            return Either.forLeft(new SemanticTokens(new ArrayList<>()));
+        });
+    }
+
+    @Override
+    public CompletableFuture<SemanticTokens> semanticTokensRange(SemanticTokensRangeParams params) {
+        return CompletableFutures.computeAsync((cancelChecker) -> {
+            try {
+                SemanticTokensContext context = ContextBuilder.buildSemanticTokensContext(
+                        params.getTextDocument().getUri(),
+                        this.workspaceManagerProxy.get(),
+                        this.serverContext,
+                        cancelChecker);
+
+                return SemanticTokensUtils.getSemanticTokens(context, params.getRange());
+            } catch (CancellationException ignore) {
+                // Ignore cancellation exception
+            } catch (Throwable e) {
+                String msg = "Operation 'textDocument/semanticTokens/range' failed!";
+                this.clientLogger.logError(LSContextOperation.TXT_SEMANTIC_TOKENS_RANGE, msg, e,
+                        new TextDocumentIdentifier(params.getTextDocument().getUri()),
+                        params.getRange().getStart());
+            }
+
+            return new SemanticTokens(new ArrayList<>());
+        });
+    }
+
+    @Override
+    public CompletableFuture<DocumentDiagnosticReport> diagnostic(DocumentDiagnosticParams params) {
+        return CompletableFutures.computeAsync((cancelChecker) -> {
+            String fileUri = params.getTextDocument().getUri();
+            try {
+                DocumentServiceContext context = ContextBuilder.buildDocumentServiceContext(fileUri,
+                        this.workspaceManagerProxy.get(fileUri),
+                        LSContextOperation.TXT_DIAGNOSTIC,
+                        this.serverContext,
+                        cancelChecker);
+
+                return DiagnosticsHelper.getInstance(this.serverContext)
+                        .getDocumentDiagnosticReport(context, params.getPreviousResultId());
+            } catch (CancellationException ignore) {
+                // Ignore cancellation exception
+            } catch (Throwable e) {
+                String msg = "Operation 'textDocument/diagnostic' failed!";
+                this.clientLogger.logError(LSContextOperation.TXT_DIAGNOSTIC, msg, e,
+                        new TextDocumentIdentifier(fileUri), (Position) null);
+            }
+
+            // An empty full report would clear the diagnostics of the document, hence the client keeps its last report
+            String previousResultId = params.getPreviousResultId();
+            if (previousResultId != null) {
+                return new DocumentDiagnosticReport(new RelatedUnchangedDocumentDiagnosticReport(previousResultId));
+            }
+            throw new ResponseErrorException(new ResponseError(ResponseErrorCode.InternalError,
+                    "Failed to compute the diagnostics of " + fileUri, null));
+        });
+    }
+
     @Override
     public CompletableFuture<List<InlayHint>> inlayHint(InlayHintParams params) {
         return CompletableFutures.computeAsync((cancelChecker) -> {
@@ -31,15 +31,26 @@ import org.ballerinalang.langserver.diagnostic.DiagnosticsHelper;
 import org.ballerinalang.langserver.exception.UserErrorException;
 import org.ballerinalang.langserver.telemetry.TelemetryUtil;
 import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManagerProxy;
+import org.ballerinalang.langserver.workspacesymbol.WorkspaceSymbolIndex;
 import org.eclipse.lsp4j.DidChangeConfigurationParams;
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
 import org.eclipse.lsp4j.ExecuteCommandParams;
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.SymbolInformation;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.eclipse.lsp4j.WorkspaceSymbolParams;
+import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.WorkspaceService;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -104,6 +115,24 @@ public class BallerinaWorkspaceService implements WorkspaceService {
         }
     }
 
+    @Override
+    public CompletableFuture<Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>>> symbol(
+            WorkspaceSymbolParams params) {
+        return CompletableFutures.computeAsync(this.serverContext.executors().interactive(), (cancelChecker) -> {
+            try {
+                // Served from the index, which does not wait on the compilation of the packages
+                WorkspaceSymbolIndex symbolIndex = WorkspaceSymbolIndex.getInstance(this.serverContext);
+                return Either.forRight(symbolIndex.search(params.getQuery(), cancelChecker));
+            } catch (CancellationException ignore) {
+                // Ignore the cancellation exception
+            } catch (Throwable e) {
+                String msg = "Operation 'workspace/symbol' failed!";
+                this.clientLogger.logError(LSContextOperation.WS_SYMBOL, msg, e, null, (Position) null);
+            }
+            return Either.forRight(Collections.emptyList());
+        });
+    }
+
     @Override
     public CompletableFuture<Object> executeCommand(ExecuteCommandParams params) {
         return CompletableFuture.supplyAsync(() -> {
@@ -140,6 +169,21 @@ public class BallerinaWorkspaceService implements WorkspaceService {
                             "No command executor found for '" + params.getCommand() + "'"),
                     null, (Position) null);
             return false;
-        });
+        }, this.serverContext.executors().interactive());
+    }
+
+    @Override
+    public CompletableFuture<WorkspaceDiagnosticReport> diagnostic(WorkspaceDiagnosticParams params) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(this.serverContext);
+                return diagnosticsHelper.getWorkspaceDiagnosticReport(this.workspaceManagerProxy.get(),
+                        params.getPreviousResultIds());
+            } catch (Throwable e) {
+                String msg = "Operation 'workspace/diagnostic' failed!";
+                this.clientLogger.logError(LSContextOperation.WS_DIAGNOSTIC, msg, e, null, (Position) null);
+            }
+            return new WorkspaceDiagnosticReport(new ArrayList<>());
+        }, this.serverContext.executors().background());
     }
 }
@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Central package descriptor holder.
@@ -38,10 +39,12 @@ public class CentralPackageDescriptorLoader {
             new LanguageServerContext.Key<>();
     private final List<LSPackageLoader.ModuleInfo> centralPackages = new ArrayList<>();
     private static final String GET_PACKAGES_QUERY =
-            "{\"query\": \"{packages(orgName:\\\"%s\\\" limit: %s) {packages {name version organization}}}\"}";
+            "{\"query\": \"{packages(orgName:\\\"%s\\\" limit: %s) " +
+                    "{packages {name version organization pullCount}}}\"}";
     private boolean isLoaded = false;
 
     private final LSClientLogger clientLogger;
+    private final Executor executor;
 
     public static CentralPackageDescriptorLoader getInstance(LanguageServerContext context) {
         CentralPackageDescriptorLoader centralPackageDescriptorLoader = context.get(CENTRAL_PACKAGE_HOLDER_KEY);
@@ -54,6 +57,7 @@ public class CentralPackageDescriptorLoader {
     private CentralPackageDescriptorLoader(LanguageServerContext context) {
         context.put(CENTRAL_PACKAGE_HOLDER_KEY, this);
         this.clientLogger = LSClientLogger.getInstance(context);
+        this.executor = context.executors().io();
     }
 
     public CompletableFuture<List<LSPackageLoader.ModuleInfo>> getCentralPackages() {
@@ -66,7 +70,7 @@ public class CentralPackageDescriptorLoader {
             }
             isLoaded = true;
             return this.centralPackages;
-        });
+        }, executor);
     }
 
     private List<LSPackageLoader.ModuleInfo> getCentralGraphQLPackages() {
@@ -179,6 +179,12 @@ public class LSClientCapabilitiesImpl implements LSClientCapabilities {
                 Boolean.parseBoolean(String.valueOf(memoryUsageMonitor));
         initializationOptions.setEnableMemoryUsageMonitor(enableMemoryUsageMonitor);
 
+        // Enable incremental text document synchronization by default
+        Object incrementalSync = initOptions.get(InitializationOptions.KEY_ENABLE_INCREMENTAL_SYNC);
+        boolean enableIncrementalSync = incrementalSync == null ||
+                Boolean.parseBoolean(String.valueOf(incrementalSync));
+        initializationOptions.setEnableIncrementalSync(enableIncrementalSync);
+
         return initializationOptions;
     }
 
@@ -245,6 +251,7 @@ public class LSClientCapabilitiesImpl implements LSClientCapabilities {
         private boolean enableInlayHints = false;
         private boolean enableIndexPackages = false;
         private boolean enableMemoryUsageMonitor = false;
+        private boolean enableIncrementalSync = false;
 
         @Override
         public boolean isBalaSchemeSupported() {
@@ -316,5 +323,14 @@ public class LSClientCapabilitiesImpl implements LSClientCapabilities {
         public void setEnableMemoryUsageMonitor(boolean enableMemoryUsageMonitor) {
             this.enableMemoryUsageMonitor = enableMemoryUsageMonitor;
         }
+
+        @Override
+        public boolean isEnableIncrementalSync() {
+            return enableIncrementalSync;
+        }
+
+        public void setEnableIncrementalSync(boolean enableIncrementalSync) {
+            this.enableIncrementalSync = enableIncrementalSync;
+        }
     }
 }
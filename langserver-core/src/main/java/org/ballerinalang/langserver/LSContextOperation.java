@@ -44,9 +44,14 @@ public enum LSContextOperation implements LSOperation {
     TXT_IMPL("text/implementation"),
     TXT_FOLDING_RANGE("text/foldingRange"),
     TXT_SEMANTIC_TOKENS_FULL("text/semanticTokens/full"),
+    TXT_SEMANTIC_TOKENS_DELTA("text/semanticTokens/full/delta"),
+    TXT_SEMANTIC_TOKENS_RANGE("text/semanticTokens/range"),
+    TXT_PUBLISH_DIAGNOSTICS("text/publishDiagnostics"),
+    TXT_DIAGNOSTIC("text/diagnostic"),
     WS_SYMBOL("workspace/symbol"),
     WS_EXEC_CMD("workspace/executeCommand"),
     WS_WF_CHANGED("workspace/didChangeWatchedFiles"),
+    WS_DIAGNOSTIC("workspace/diagnostic"),
     DOC_SERVICE_AST("ballerinaDocument/ast"),
     DOC_DIAGNOSTICS("ballerinaDocument/diagnostics"),
     LS_INIT("langserver/init"),
@@ -66,6 +66,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -123,6 +124,7 @@ public class LSPackageLoader {
             String taskId = UUID.randomUUID().toString();
             notificationTaskId = taskId;
             Map<String, ModuleInfo> packagesList = new HashMap<>();
+            Executor executor = context.executors().background();
             CompletableFuture.runAsync(() -> {
                 this.languageClient = context.get(ExtendedLanguageClient.class);
                 if (languageClient == null) {
@@ -140,7 +142,7 @@ public class LSPackageLoader {
                 beginNotification.setMessage("Loading packages from Ballerina home...");
                 languageClient.notifyProgress(new ProgressParams(Either.forLeft(taskId),
                         Either.forLeft(beginNotification)));
-            }).thenRunAsync(() -> {
+            }, executor).thenRunAsync(() -> {
                 Environment environment = EnvironmentBuilder.getBuilder().build();
                 BallerinaDistribution ballerinaDistribution = BallerinaDistribution.from(environment);
                 PackageRepository packageRepository = ballerinaDistribution.packageRepository();
@@ -163,7 +165,7 @@ public class LSPackageLoader {
                 List<ModuleInfo> repoPackages = new ArrayList<>(this.getLocalRepoModules());
                 repoPackages.stream().filter(packageInfo -> !packagesList.containsKey(packageInfo.packageIdentifier()))
                         .forEach(packageInfo -> packagesList.put(packageInfo.packageIdentifier(), packageInfo));
-            }).thenRunAsync(() -> {
+            }, executor).thenRunAsync(() -> {
                 WorkDoneProgressCreateParams workDoneProgressCreateParams = new WorkDoneProgressCreateParams();
                 workDoneProgressCreateParams.setToken(taskId);
                 languageClient.createProgress(workDoneProgressCreateParams);
@@ -181,12 +183,12 @@ public class LSPackageLoader {
                 } catch (IOException e) {
                     throw new RuntimeException(e);
                 }
-            }).thenRunAsync(() -> {
+            }, executor).thenRunAsync(() -> {
                 WorkDoneProgressEnd endNotification = new WorkDoneProgressEnd();
                 endNotification.setMessage("Initialized Successfully!");
                 languageClient.notifyProgress(new ProgressParams(Either.forLeft(taskId),
                         Either.forLeft(endNotification)));
-            }).exceptionally(e -> {
+            }, executor).exceptionally(e -> {
                 WorkDoneProgressEnd endNotification = new WorkDoneProgressEnd();
                 endNotification.setMessage("Initialization Failed!");
                 languageClient.notifyProgress(new ProgressParams(Either.forLeft(taskId),
@@ -430,6 +432,10 @@ public class LSPackageLoader {
         @SerializedName(JSON_PROPERTY_VERSION)
         private final String packageVersion;
 
+        private static final String JSON_PROPERTY_PULL_COUNT = "pullCount";
+        @SerializedName(JSON_PROPERTY_PULL_COUNT)
+        private int pullCount;
+
         @Expose(deserialize = false)
         private final Path sourceRoot;
 
@@ -505,6 +511,16 @@ public class LSPackageLoader {
             return packageVersion;
         }
 
+        /**
+         * Returns the number of times the package was pulled from Ballerina central, which is zero for the packages
+         * which are not loaded from Ballerina central.
+         *
+         * @return pull count of the package
+         */
+        public int pullCount() {
+            return pullCount;
+        }
+
         public Path sourceRoot() {
             return sourceRoot;
         }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver;
+
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * Periodically logs the saturation of the lanes of the {@link ServerExecutors} as trace logs of the client, so that the
+ * lanes which queue the tasks can be identified while the trace logs are enabled. The extensions which schedule the
+ * tasks on the lanes through executors of their own register the metrics of those executors to be logged alongside.
+ *
+ * @since 1.7.0
+ */
+public class LaneSaturationMonitor {
+
+    private static final long LOG_INTERVAL_MILLIS = 60000;
+
+    private static final LanguageServerContext.Key<LaneSaturationMonitor> LANE_SATURATION_MONITOR_KEY =
+            new LanguageServerContext.Key<>();
+
+    private final ServerExecutors executors;
+    private final LSClientLogger clientLogger;
+    private final Map<String, Supplier<?>> executorMetrics;
+    private Thread monitor;
+
+    private LaneSaturationMonitor(LanguageServerContext serverContext) {
+        serverContext.put(LANE_SATURATION_MONITOR_KEY, this);
+        this.executors = serverContext.executors();
+        this.clientLogger = LSClientLogger.getInstance(serverContext);
+        this.executorMetrics = new ConcurrentSkipListMap<>();
+    }
+
+    public static LaneSaturationMonitor getInstance(LanguageServerContext serverContext) {
+        LaneSaturationMonitor laneSaturationMonitor = serverContext.get(LANE_SATURATION_MONITOR_KEY);
+        if (laneSaturationMonitor == null) {
+            laneSaturationMonitor = new LaneSaturationMonitor(serverContext);
+        }
+        return laneSaturationMonitor;
+    }
+
+    /**
+     * Starts logging the saturation of the lanes, if the monitor is not started yet.
+     */
+    public synchronized void start() {
+        if (monitor != null) {
+            return;
+        }
+        monitor = Thread.ofVirtual().name("ls-lane-monitor").start(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    Thread.sleep(LOG_INTERVAL_MILLIS);
+                    executors.metrics().values().forEach(this::log);
+                    executorMetrics.forEach((name, metrics) -> clientLogger.logTrace(name + ": " + metrics.get()));
+                }
+            } catch (InterruptedException e) {
+                // The monitor is stopped
+            }
+        });
+    }
+
+    /**
+     * Registers the metrics of an executor to be logged along with the saturation of the lanes.
+     *
+     * @param name    name of the executor
+     * @param metrics supplier of a snapshot of the metrics of the executor
+     */
+    public void monitor(String name, Supplier<?> metrics) {
+        executorMetrics.put(name, metrics);
+    }
+
+    /**
+     * Stops logging the saturation of the lanes.
+     */
+    public synchronized void stop() {
+        if (monitor != null) {
+            monitor.interrupt();
+            monitor = null;
+        }
+    }
+
+    private void log(ServerExecutors.Metrics metrics) {
+        clientLogger.logTrace(String.format(Locale.ROOT,
+                "Lane %s: saturation %.2f, %d active, %d queued, %d completed, wait %d ms average, %d ms max",
+                metrics.lane(), metrics.saturation(), metrics.activeTasks(), metrics.queuedTasks(),
+                metrics.completedTasks(), metrics.averageWaitMillis(), metrics.maxWaitMillis()));
+    }
+}
@@ -39,6 +39,15 @@ import java.util.ServiceLoader;
 public class CodeActionProvidersHolder {
     private static final Map<SyntaxKind, List<RangeBasedCodeActionProvider>> rangeBasedProviders = new HashMap<>();
     private static final List<DiagnosticBasedCodeActionProvider> diagnosticsBasedProviders = new ArrayList<>();
+    /**
+     * Diagnostic based providers indexed by the diagnostic codes they are interested in, in the order of loading. The
+     * providers which do not declare the diagnostic codes are evaluated for all the diagnostics, hence are included in
+     * each list.
+     */
+    private static final Map<String, List<DiagnosticBasedCodeActionProvider>> diagnosticsBasedProvidersByCode =
+            new HashMap<>();
+    private static final List<DiagnosticBasedCodeActionProvider> genericDiagnosticsBasedProviders =
+            new ArrayList<>();
     private static final LanguageServerContext.Key<CodeActionProvidersHolder> CODE_ACTION_PROVIDERS_HOLDER_KEY =
             new LanguageServerContext.Key<>();
 
@@ -82,6 +91,19 @@ public class CodeActionProvidersHolder {
                 CodeActionProvidersHolder.diagnosticsBasedProviders.add(codeActionProvider);
             }
         }
+        for (DiagnosticBasedCodeActionProvider provider : CodeActionProvidersHolder.diagnosticsBasedProviders) {
+            if (provider.getDiagnosticCodes().isEmpty()) {
+                CodeActionProvidersHolder.genericDiagnosticsBasedProviders.add(provider);
+                CodeActionProvidersHolder.diagnosticsBasedProvidersByCode.values()
+                        .forEach(providers -> providers.add(provider));
+                continue;
+            }
+            for (String diagnosticCode : provider.getDiagnosticCodes()) {
+                CodeActionProvidersHolder.diagnosticsBasedProvidersByCode.computeIfAbsent(diagnosticCode,
+                        code -> new ArrayList<>(CodeActionProvidersHolder.genericDiagnosticsBasedProviders))
+                        .add(provider);
+            }
+        }
     }
 
     /**
@@ -101,12 +123,15 @@ public class CodeActionProvidersHolder {
     }
 
     /**
-     * Returns active diagnostic based providers.
+     * Returns active diagnostic based providers for the diagnostic code.
      *
+     * @param diagnosticCode diagnostic code
      * @return diagnostic based providers
      */
-    List<DiagnosticBasedCodeActionProvider> getActiveDiagnosticsBasedProviders(CodeActionContext ctx) {
-        return CodeActionProvidersHolder.diagnosticsBasedProviders.stream()
+    List<DiagnosticBasedCodeActionProvider> getActiveDiagnosticsBasedProviders(String diagnosticCode,
+                                                                               CodeActionContext ctx) {
+        return CodeActionProvidersHolder.diagnosticsBasedProvidersByCode
+                .getOrDefault(diagnosticCode, CodeActionProvidersHolder.genericDiagnosticsBasedProviders).stream()
                 .filter(provider -> provider.isEnabled(ctx.languageServercontext()))
                 .sorted(Comparator.comparingInt(LSCodeActionProvider::priority))
                 .toList();
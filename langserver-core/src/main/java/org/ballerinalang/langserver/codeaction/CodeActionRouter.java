@@ -23,6 +23,7 @@ import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NonTerminalNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.diagnostics.Diagnostic;
 import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.LSContextOperation;
 import org.ballerinalang.langserver.common.utils.PositionUtil;
@@ -31,7 +32,9 @@ import org.ballerinalang.langserver.commons.CodeActionContext;
 import org.ballerinalang.langserver.commons.CodeActionResolveContext;
 import org.ballerinalang.langserver.commons.codeaction.ResolvableCodeAction;
 import org.ballerinalang.langserver.commons.codeaction.spi.DiagBasedPositionDetails;
+import org.ballerinalang.langserver.commons.codeaction.spi.DiagnosticBasedCodeActionProvider;
 import org.ballerinalang.langserver.commons.codeaction.spi.LSCodeActionProvider;
+import org.ballerinalang.langserver.commons.codeaction.spi.RangeBasedCodeActionProvider;
 import org.ballerinalang.langserver.commons.codeaction.spi.RangeBasedPositionDetails;
 import org.ballerinalang.langserver.commons.codeaction.spi.ResolvableCodeActionProvider;
 import org.ballerinalang.langserver.telemetry.TelemetryUtil;
@@ -42,10 +45,17 @@ import org.eclipse.lsp4j.Range;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CancellationException;
-
-import static org.ballerinalang.langserver.codeaction.CodeActionUtil.computePositionDetails;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Represents the Code Action router.
@@ -83,6 +93,17 @@ public final class CodeActionRouter {
             return Collections.emptyList();
         }
         Range highlightedRange = ctx.range();
+        // Resolve the lazily computed state of the context before evaluating the providers in parallel, so that the
+        // providers only read the state
+        ctx.currentDocument();
+        ctx.currentModule();
+        ctx.currentDocImportsMap();
+        ctx.cursorPositionInTree();
+        ctx.nodeAtCursor();
+        ctx.nodeAtRange();
+        Executor executor = ctx.languageServercontext().executors().interactive();
+        List<FutureTask<List<CodeAction>>> providerResults = new ArrayList<>();
+        Map<String, LongAdder> latencies = new ConcurrentSkipListMap<>();
         // Run code action node analyzer
         CodeActionNodeAnalyzer analyzer = CodeActionNodeAnalyzer.analyze(highlightedRange, syntaxTree.get());
         Optional<NonTerminalNode> codeActionNode = analyzer.getCodeActionNode();
@@ -101,65 +122,102 @@ public final class CodeActionRouter {
                     .setStatementNode(analyzer.getStatementNode().orElse(null))
                     .build();
 
-            codeActionProvidersHolder.getActiveRangeBasedProviders(syntaxKind, ctx).forEach(provider -> {
-                try {
-                    // Check whether the code action request has been cancelled
-                    // in order to avoid unnecessary calculations
-                    ctx.checkCancelled();
-
+            for (RangeBasedCodeActionProvider provider :
+                    codeActionProvidersHolder.getActiveRangeBasedProviders(syntaxKind, ctx)) {
+                providerResults.add(evaluate(provider, ctx, executor, latencies, () -> {
                     if (!provider.validate(ctx, posDetails)) {
-                        return;
+                        return null;
                     }
-                    List<CodeAction> codeActionsOut = provider.getCodeActions(ctx, posDetails);
-                    if (codeActionsOut != null) {
-                        codeActionsOut.forEach(codeAction ->
-                                TelemetryUtil.addReportFeatureUsageCommandToCodeAction(codeAction, provider));
-                        codeActions.addAll(codeActionsOut);
-                    }
-                } catch (CancellationException ignore) {
-                    // Ignore the cancellation exception
-                } catch (Exception e) {
-                    String msg = "CodeAction '" + provider.getClass().getSimpleName() + "' failed!";
-                    clientLogger.logError(LSContextOperation.TXT_CODE_ACTION, msg, e, null, (Position) null);
-                }
-            });
+                    return provider.getCodeActions(ctx, posDetails);
+                }));
+            }
         }
         // Get available diagnostics based code-actions
-        ctx.diagnostics(ctx.filePath()).stream().
-                filter(diag -> PositionUtil
+        List<Diagnostic> diagnostics = ctx.diagnostics(ctx.filePath()).stream()
+                .filter(diag -> PositionUtil
                         .isRangeWithinRange(highlightedRange, PositionUtil.toRange(diag.location().lineRange()))
                 )
-                .forEach(diagnostic -> {
-                    DiagBasedPositionDetails positionDetails =
-                            computePositionDetails(syntaxTree.get(), diagnostic, ctx);
-                    codeActionProvidersHolder.getActiveDiagnosticsBasedProviders(ctx)
-                            .forEach(provider -> {
-                                try {
-                                    // Check whether the code action request has been cancelled
-                                    // in order to avoid unnecessary calculations
-                                    ctx.checkCancelled();
+                .toList();
+        for (Diagnostic diagnostic : diagnostics) {
+            List<DiagnosticBasedCodeActionProvider> providers = codeActionProvidersHolder
+                    .getActiveDiagnosticsBasedProviders(diagnostic.diagnosticInfo().code(), ctx);
+            if (providers.isEmpty()) {
+                continue;
+            }
+            // Position details are computed once for the diagnostic, only if a provider accesses them
+            DiagBasedPositionDetails positionDetails =
+                    new LazyDiagBasedPositionDetails(syntaxTree.get(), diagnostic, ctx);
+            for (DiagnosticBasedCodeActionProvider provider : providers) {
+                providerResults.add(evaluate(provider, ctx, executor, latencies, () -> {
+                    if (!provider.validate(diagnostic, positionDetails, ctx)) {
+                        return null;
+                    }
+                    return provider.getCodeActions(diagnostic, positionDetails, ctx);
+                }));
+            }
+        }
 
-                                    if (!provider.validate(diagnostic, positionDetails, ctx)) {
-                                        return;
-                                    }
-                                    List<CodeAction> codeActionsOut = provider
-                                            .getCodeActions(diagnostic, positionDetails, ctx);
-                                    codeActionsOut.forEach(codeAction ->
-                                            TelemetryUtil.addReportFeatureUsageCommandToCodeAction(codeAction,
-                                                    provider));
-                                    codeActions.addAll(codeActionsOut);
-                                } catch (CancellationException ignore) {
-                                    // Ignore the cancellation exception
-                                } catch (Exception e) {
-                                    String msg = "CodeAction '" + provider.getClass().getSimpleName() + "' failed!";
-                                    clientLogger.logError(LSContextOperation.TXT_CODE_ACTION, msg, e, null,
-                                            (Position) null);
-                                }
-                            });
-                });
+        // Collect the code actions in the order of the providers. The request itself runs on the interactive lane, so
+        // the providers no thread of the lane has started yet are evaluated on the current thread.
+        for (FutureTask<List<CodeAction>> providerResult : providerResults) {
+            providerResult.run();
+            try {
+                codeActions.addAll(providerResult.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while evaluating the code action providers");
+            } catch (ExecutionException e) {
+                // The providers handle their failures, hence the result is never exceptional
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        if (!latencies.isEmpty()) {
+            clientLogger.logTrace(LSContextOperation.TXT_CODE_ACTION.getName() + " Provider latencies (ms): " +
+                    latencies.entrySet().stream()
+                            .map(entry -> entry.getKey() + "=" + entry.getValue().sum())
+                            .collect(Collectors.joining(", ")));
+        }
         return codeActions;
     }
 
+    /**
+     * Evaluates the provider on the executor, under the cancel checker of the request.
+     *
+     * @return task of the code actions of the provider, which is empty if the provider is not applicable or failed
+     */
+    private static FutureTask<List<CodeAction>> evaluate(LSCodeActionProvider provider, CodeActionContext ctx,
+                                                         Executor executor, Map<String, LongAdder> latencies,
+                                                         Supplier<List<CodeAction>> codeActionsSupplier) {
+        FutureTask<List<CodeAction>> task = new FutureTask<>(() -> {
+            long startTime = System.nanoTime();
+            try {
+                // Check whether the code action request has been cancelled
+                // in order to avoid unnecessary calculations
+                ctx.checkCancelled();
+
+                List<CodeAction> codeActionsOut = codeActionsSupplier.get();
+                if (codeActionsOut == null) {
+                    return Collections.<CodeAction>emptyList();
+                }
+                codeActionsOut.forEach(codeAction ->
+                        TelemetryUtil.addReportFeatureUsageCommandToCodeAction(codeAction, provider));
+                return codeActionsOut;
+            } catch (CancellationException ignore) {
+                // Ignore the cancellation exception
+            } catch (Exception e) {
+                String msg = "CodeAction '" + provider.getClass().getSimpleName() + "' failed!";
+                LSClientLogger.getInstance(ctx.languageServercontext())
+                        .logError(LSContextOperation.TXT_CODE_ACTION, msg, e, null, (Position) null);
+            } finally {
+                latencies.computeIfAbsent(provider.getClass().getSimpleName(), name -> new LongAdder())
+                        .add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            }
+            return Collections.<CodeAction>emptyList();
+        });
+        executor.execute(task);
+        return task;
+    }
+
     public static CodeAction resolveCodeAction(ResolvableCodeAction codeAction,
                                                CodeActionResolveContext resolveContext) {
         CodeActionProvidersHolder codeActionProvidersHolder = CodeActionProvidersHolder
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.codeaction;
+
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticProperty;
+import org.ballerinalang.langserver.commons.CodeActionContext;
+import org.ballerinalang.langserver.commons.codeaction.spi.DiagBasedPositionDetails;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Position details of a diagnostic, where the matched node and the matched symbol are computed on the first access and
+ * shared by all the providers evaluated for the diagnostic. Since most of the providers reject a diagnostic by its
+ * code, the matched node and symbol are not computed for the diagnostics without a code action.
+ *
+ * @since 1.7.0
+ */
+class LazyDiagBasedPositionDetails implements DiagBasedPositionDetails {
+
+    private final SyntaxTree syntaxTree;
+    private final Diagnostic diagnostic;
+    private final CodeActionContext context;
+    private final DiagBasedPositionDetails diagnosticProperties;
+    private volatile DiagBasedPositionDetails positionDetails;
+
+    LazyDiagBasedPositionDetails(SyntaxTree syntaxTree, Diagnostic diagnostic, CodeActionContext context) {
+        this.syntaxTree = syntaxTree;
+        this.diagnostic = diagnostic;
+        this.context = context;
+        this.diagnosticProperties = DiagBasedPositionDetailsImpl.from(null, null, diagnostic);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NonTerminalNode matchedNode() {
+        return positionDetails().matchedNode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Symbol matchedSymbol() {
+        return positionDetails().matchedSymbol();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Optional<T> diagnosticProperty(int propertyIndex) {
+        return diagnosticProperties.diagnosticProperty(propertyIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Optional<T> diagnosticProperty(Function<List<DiagnosticProperty<?>>, Optional<T>> function) {
+        return diagnosticProperties.diagnosticProperty(function);
+    }
+
+    private DiagBasedPositionDetails positionDetails() {
+        DiagBasedPositionDetails details = positionDetails;
+        if (details == null) {
+            synchronized (this) {
+                details = positionDetails;
+                if (details == null) {
+                    details = CodeActionUtil.computePositionDetails(syntaxTree, diagnostic, context);
+                    positionDetails = details;
+                }
+            }
+        }
+        return details;
+    }
+}
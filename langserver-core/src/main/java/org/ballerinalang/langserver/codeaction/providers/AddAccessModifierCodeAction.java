@@ -35,6 +35,7 @@ import org.eclipse.lsp4j.TextEdit;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Code Action for adding access modifiers.
@@ -46,6 +47,11 @@ public class AddAccessModifierCodeAction implements DiagnosticBasedCodeActionPro
 
     public static final String NAME = "Add Access Modifier";
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return Set.of(DiagnosticErrorCode.MAIN_SHOULD_BE_PUBLIC.diagnosticId());
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
@@ -67,6 +67,11 @@ public class AddCheckCodeAction extends TypeCastCodeAction {
         super();
     }
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return DIAGNOSTIC_CODES;
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
@@ -106,8 +111,8 @@ public class AddCheckCodeAction extends TypeCastCodeAction {
                             DiagBasedPositionDetails.DIAG_PROP_VAR_ASSIGN_SYMBOL_INDEX));
             case DIAGNOSTIC_CODE_2800 -> positionDetails.diagnosticProperty(
                     DiagBasedPositionDetails.DIAG_PROP_INCOMPATIBLE_TYPES_FOR_ITERABLE_FOUND_SYMBOL_INDEX);
-            case DIAGNOSTIC_CODE_3998 -> context.currentSemanticModel()
-                    .flatMap(semanticModel -> semanticModel.typeOf(expressionNode.get()));
+            case DIAGNOSTIC_CODE_3998 -> context.semanticQueries()
+                    .flatMap(queries -> queries.typeOf(expressionNode.get()));
             default -> positionDetails.diagnosticProperty(
                     DiagBasedPositionDetails.DIAG_PROP_INCOMPATIBLE_TYPES_FOUND_SYMBOL_INDEX);
         };
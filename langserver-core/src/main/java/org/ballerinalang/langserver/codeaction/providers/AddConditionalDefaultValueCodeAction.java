@@ -39,6 +39,7 @@ import org.eclipse.lsp4j.TextEdit;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Code action to add conditional default value.
@@ -51,6 +52,11 @@ public class AddConditionalDefaultValueCodeAction implements DiagnosticBasedCode
     public static final String NAME = "Add conditional default value";
     public static final String DIAGNOSTIC_CODES = "BCE2066";
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return Set.of(DIAGNOSTIC_CODES);
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic,
                             DiagBasedPositionDetails positionDetails,
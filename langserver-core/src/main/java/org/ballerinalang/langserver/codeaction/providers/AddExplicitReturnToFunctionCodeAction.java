@@ -41,6 +41,7 @@ import org.eclipse.lsp4j.TextEdit;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.ballerinalang.util.diagnostic.DiagnosticWarningCode.FUNCTION_SHOULD_EXPLICITLY_RETURN_A_VALUE;
 
@@ -53,6 +54,11 @@ import static org.ballerinalang.util.diagnostic.DiagnosticWarningCode.FUNCTION_S
 public class AddExplicitReturnToFunctionCodeAction implements DiagnosticBasedCodeActionProvider {
     private static final String NAME = "Add Explicit Return Statement";
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return Set.of(FUNCTION_SHOULD_EXPLICITLY_RETURN_A_VALUE.diagnosticId());
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
@@ -62,6 +62,11 @@ public class AddIsolatedQualifierCodeAction implements DiagnosticBasedCodeAction
     private static final Set<String> DIAGNOSTIC_CODES =
             Set.of("BCE3943", "BCE3946", "BCE3947", "BCE3950", DIAGNOSTIC_CODE_3961);
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return DIAGNOSTIC_CODES;
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic,
                             DiagBasedPositionDetails positionDetails,
@@ -148,8 +153,8 @@ public class AddIsolatedQualifierCodeAction implements DiagnosticBasedCodeAction
         SyntaxKind kind = node.kind();
         if (kind == SyntaxKind.EXPLICIT_NEW_EXPRESSION || kind == SyntaxKind.IMPLICIT_NEW_EXPRESSION) {
             try {
-                TypeReferenceTypeSymbol typeSymbol = (TypeReferenceTypeSymbol) context.currentSemanticModel()
-                        .flatMap(semanticModel -> semanticModel.typeOf(node))
+                TypeReferenceTypeSymbol typeSymbol = (TypeReferenceTypeSymbol) context.semanticQueries()
+                        .flatMap(queries -> queries.typeOf(node))
                         .orElseThrow();
                 ClassSymbol definition = (ClassSymbol) typeSymbol.definition();
                 return Optional.of(definition.initMethod().orElseThrow());
@@ -158,7 +163,7 @@ public class AddIsolatedQualifierCodeAction implements DiagnosticBasedCodeAction
                 return Optional.empty();
             }
         }
-        return context.currentSemanticModel().flatMap(semanticModel -> semanticModel.symbol(node));
+        return context.semanticQueries().flatMap(queries -> queries.symbol(node));
     }
 
     private static List<CodeAction> getCodeAction(LineRange lineRange, String expressionName, String filePath) {
@@ -57,6 +57,11 @@ public class AddLockCodeAction implements DiagnosticBasedCodeActionProvider {
     private static final String NAME = "Add lock";
     private static final Set<String> DIAGNOSTIC_CODES = Set.of("BCE3957", "BCE3962");
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return DIAGNOSTIC_CODES;
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
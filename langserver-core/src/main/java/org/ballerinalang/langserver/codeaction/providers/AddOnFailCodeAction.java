@@ -40,6 +40,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * On fail suggestion Code Action for check expressions.
@@ -51,6 +52,12 @@ public class AddOnFailCodeAction implements DiagnosticBasedCodeActionProvider {
 
     public static final String NAME = "Add on-fail clause";
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return Set.of(DiagnosticErrorCode.CHECKED_EXPR_NO_MATCHING_ERROR_RETURN_IN_ENCL_INVOKABLE.diagnosticId(),
+                DiagnosticErrorCode.FAIL_EXPR_NO_MATCHING_ERROR_RETURN_IN_ENCL_INVOKABLE.diagnosticId());
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
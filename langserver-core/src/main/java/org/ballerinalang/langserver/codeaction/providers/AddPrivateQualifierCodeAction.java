@@ -41,6 +41,7 @@ import org.eclipse.lsp4j.TextEdit;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Code Action for adding the private visibility qualifier ƒor an object field.
@@ -53,6 +54,11 @@ public class AddPrivateQualifierCodeAction implements DiagnosticBasedCodeActionP
     private static final String NAME = "Add private visibility qualifier";
     private static final String DIAGNOSTIC_CODE = "BCE3956";
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return Set.of(DIAGNOSTIC_CODE);
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
@@ -58,6 +58,11 @@ public class AddReadonlyCodeAction implements DiagnosticBasedCodeActionProvider
     private static final String DIAGNOSTIC_CODE_3959 = "BCE3959";
     private static final Set<String> DIAGNOSTIC_CODES = Set.of(DIAGNOSTIC_CODE_3959, "BCE3960");
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return DIAGNOSTIC_CODES;
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
@@ -56,6 +56,11 @@ public class CloneValueCodeAction implements DiagnosticBasedCodeActionProvider {
     private static final String CLONE_METHOD = ".clone()";
     private static final String CLONE_READONLY_METHOD = ".cloneReadOnly()";
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return DIAGNOSTIC_CODES;
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
@@ -75,8 +80,8 @@ public class CloneValueCodeAction implements DiagnosticBasedCodeActionProvider {
         }
 
         // Obtain the type symbol of the matched node.
-        Optional<TypeSymbol> optTypeSymbol = context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.typeOf(positionDetails.matchedNode()));
+        Optional<TypeSymbol> optTypeSymbol = context.semanticQueries()
+                .flatMap(queries -> queries.typeOf(positionDetails.matchedNode()));
         if (optTypeSymbol.isEmpty()) {
             assert false : "The diagnostic cannot be produced for a node without a type symbol.";
             return Collections.emptyList();
@@ -34,6 +34,7 @@ import org.eclipse.lsp4j.TextEdit;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.ballerinalang.util.diagnostic.DiagnosticErrorCode.INVALID_CALL_WITH_MUTABLE_ARGS_IN_MATCH_GUARD;
 
@@ -47,6 +48,11 @@ public class ConvertToReadonlyCloneCodeAction implements DiagnosticBasedCodeActi
     private static final String NAME = "Convert to Readonly Clone";
     private static final String CLONE_READONLY_PREFIX = "cloneReadOnly";
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return Set.of(INVALID_CALL_WITH_MUTABLE_ARGS_IN_MATCH_GUARD.diagnosticId());
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
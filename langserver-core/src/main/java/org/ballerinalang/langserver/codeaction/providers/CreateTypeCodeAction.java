@@ -39,6 +39,7 @@ import org.wso2.ballerinalang.compiler.util.Name;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Code action to create a record for an unknown type.
@@ -50,6 +51,11 @@ public class CreateTypeCodeAction implements DiagnosticBasedCodeActionProvider {
 
     private static final int DIAG_PROP_UNKNOWN_TYPE_NAME_INDEX = 0;
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return Set.of(DiagnosticErrorCode.UNKNOWN_TYPE.diagnosticId());
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
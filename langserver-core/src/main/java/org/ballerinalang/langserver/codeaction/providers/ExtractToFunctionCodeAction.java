@@ -411,8 +411,8 @@ public class ExtractToFunctionCodeAction implements RangeBasedCodeActionProvider
 
         List<NonTerminalNode> nodeList = getPossibleExpressionNodes(matchedCodeActionNode);
         nodeList.forEach(extractableNode -> {
-            Optional<TypeSymbol> tSymbol = context.currentSemanticModel()
-                    .flatMap(semanticModel -> semanticModel.typeOf(extractableNode));
+            Optional<TypeSymbol> tSymbol = context.semanticQueries()
+                    .flatMap(queries -> queries.typeOf(extractableNode));
             if (tSymbol.isEmpty() || tSymbol.get().typeKind() == TypeDescKind.COMPILATION_ERROR) {
                 return;
             }
@@ -158,8 +158,8 @@ public class ExtractToLocalVarCodeAction implements RangeBasedCodeActionProvider
         // List out the expression node list that we are going to provide quick pick support
         // Find the arg list for each of the expression nodes
         nodeList.forEach(extractableNode -> {
-            Optional<TypeSymbol> tSymbol = context.currentSemanticModel()
-                    .flatMap(semanticModel -> semanticModel.typeOf(extractableNode));
+            Optional<TypeSymbol> tSymbol = context.semanticQueries()
+                    .flatMap(queries -> queries.typeOf(extractableNode));
             if (tSymbol.isEmpty() || tSymbol.get().typeKind() == TypeDescKind.COMPILATION_ERROR) {
                 return;
             }
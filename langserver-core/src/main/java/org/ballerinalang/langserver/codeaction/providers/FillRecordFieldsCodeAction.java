@@ -92,8 +92,7 @@ public class FillRecordFieldsCodeAction implements RangeBasedCodeActionProvider
         if (context.currentSemanticModel().isEmpty() && context.currentDocument().isEmpty()) {
             return Collections.emptyList();
         }
-        Optional<TypeSymbol> typeSymbol = context.currentSemanticModel().get()
-                .expectedType(context.currentDocument().get(), startPosition);
+        Optional<TypeSymbol> typeSymbol = context.semanticQueries().get().expectedType(startPosition);
         if (typeSymbol.isEmpty()) {
             return Collections.emptyList();
         }
@@ -35,7 +35,7 @@ import org.ballerinalang.langserver.common.utils.SymbolUtil;
 import org.ballerinalang.langserver.commons.CodeActionContext;
 import org.ballerinalang.langserver.commons.codeaction.spi.DiagBasedPositionDetails;
 import org.ballerinalang.langserver.commons.codeaction.spi.DiagnosticBasedCodeActionProvider;
-import org.ballerinalang.langserver.references.ReferencesUtil;
+import org.ballerinalang.langserver.references.SymbolReferenceIndex;
 import org.ballerinalang.util.diagnostic.DiagnosticErrorCode;
 import org.ballerinalang.util.diagnostic.DiagnosticWarningCode;
 import org.eclipse.lsp4j.CodeAction;
@@ -67,6 +67,11 @@ public class IgnoreUnusedVariableCodeAction implements DiagnosticBasedCodeAction
             DiagnosticErrorCode.NO_NEW_VARIABLES_VAR_ASSIGNMENT.diagnosticId()
     );
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return DIAGNOSTIC_CODES;
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
@@ -123,10 +128,11 @@ public class IgnoreUnusedVariableCodeAction implements DiagnosticBasedCodeAction
         // If it's a variable, need to check for references
         if (bindingPatternNode.kind() == SyntaxKind.CAPTURE_BINDING_PATTERN) {
             BindingPatternNode finalBindingPatternNode = bindingPatternNode;
-            Optional<Integer> refCount = context.currentSemanticModel()
-                    .flatMap(semanticModel -> semanticModel.symbol(finalBindingPatternNode))
+            Optional<Integer> refCount = context.semanticQueries()
+                    .flatMap(queries -> queries.symbol(finalBindingPatternNode))
                     .flatMap(symbol -> context.workspace().project(context.filePath())
-                            .map(project -> ReferencesUtil.getReferences(project, symbol)))
+                            .map(project -> SymbolReferenceIndex.getInstance(context.languageServercontext())
+                                    .getReferences(project, symbol)))
                     .map(modRefMap -> modRefMap.values().stream().map(List::size).reduce(0, Integer::sum));
 
             // If more than 1 reference, we don't show the codeaction
@@ -30,6 +30,7 @@ import org.eclipse.lsp4j.TextEdit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Code Action for implementing functions of an object.
@@ -42,6 +43,11 @@ public class ImplementMethodCodeAction extends AbstractImplementMethodCodeAction
 
     public static final String NAME = "Implement Method";
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return DIAGNOSTIC_CODES;
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
@@ -38,6 +38,7 @@ import org.eclipse.lsp4j.TextEdit;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Code Action to make annotation declaration constant.
@@ -49,6 +50,11 @@ public class MakeAnnotationDeclConstantCodeAction implements DiagnosticBasedCode
     public static final String NAME = "Make Annotation Declaration Constant";
     public static final String DIAGNOSTIC_CODE = "BCE2638";
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return Set.of(DIAGNOSTIC_CODE);
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic,
                             DiagBasedPositionDetails positionDetails,
@@ -44,6 +44,7 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Code Action to make construct public.
@@ -55,6 +56,11 @@ public class MakeConstructPublicCodeAction implements DiagnosticBasedCodeActionP
     public static final String NAME = "Make Construct Public";
     public static final String DIAGNOSTIC_CODE = "BCE20022";
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return Set.of(DIAGNOSTIC_CODE);
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
@@ -68,6 +68,11 @@ public class MakeVariableImmutableCodeAction implements DiagnosticBasedCodeActio
     private static final String NAME = "Make variable immutable";
     private static final Set<String> DIAGNOSTIC_CODES = Set.of("BCE3943", "BCE3956");
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return DIAGNOSTIC_CODES;
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
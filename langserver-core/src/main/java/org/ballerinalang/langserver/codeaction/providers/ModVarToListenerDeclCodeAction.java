@@ -49,6 +49,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Code action for changing a module var declaration statement to listener declaration.
@@ -60,6 +61,11 @@ public class ModVarToListenerDeclCodeAction implements DiagnosticBasedCodeAction
 
     public static final String NAME = "Module var to listener declaration";
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return Set.of(DiagnosticErrorCode.INVALID_LISTENER_ATTACHMENT.diagnosticId());
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
@@ -95,8 +101,8 @@ public class ModVarToListenerDeclCodeAction implements DiagnosticBasedCodeAction
 
     private Optional<Pair<CaptureBindingPatternNode, String>> findCaptureBindingPattern(Node matchedNode,
                                                                                         CodeActionContext context) {
-        Optional<Symbol> symbol = context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.symbol(matchedNode));
+        Optional<Symbol> symbol = context.semanticQueries()
+                .flatMap(queries -> queries.symbol(matchedNode));
         if (symbol.isEmpty() || context.currentSyntaxTree().isEmpty()
                 || !SymbolUtil.isListener(symbol.get())) {
             return Optional.empty();
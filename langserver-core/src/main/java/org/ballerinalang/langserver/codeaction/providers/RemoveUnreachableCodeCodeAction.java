@@ -31,6 +31,7 @@ import org.eclipse.lsp4j.CodeActionKind;
 import org.eclipse.lsp4j.TextEdit;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Code action to remove unreachable code.
@@ -42,6 +43,11 @@ public class RemoveUnreachableCodeCodeAction implements DiagnosticBasedCodeActio
 
     private static final String CODE_ACTION_NAME = "REMOVE_UNREACHABLE_CODE";
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return Set.of(DiagnosticErrorCode.UNREACHABLE_CODE.diagnosticId());
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
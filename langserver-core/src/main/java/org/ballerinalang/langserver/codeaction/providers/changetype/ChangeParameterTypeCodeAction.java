@@ -63,6 +63,11 @@ public class ChangeParameterTypeCodeAction implements DiagnosticBasedCodeActionP
     public static final String NAME = "Change Parameter Type";
     public static final Set<String> DIAGNOSTIC_CODES = Set.of("BCE2066", "BCE2068");
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return DIAGNOSTIC_CODES;
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
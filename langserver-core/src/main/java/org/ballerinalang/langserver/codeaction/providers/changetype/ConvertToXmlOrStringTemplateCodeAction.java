@@ -54,6 +54,11 @@ public class ConvertToXmlOrStringTemplateCodeAction implements DiagnosticBasedCo
     public static final String NAME = "Change subtype of a raw template";
     public static final String DIAGNOSTIC_CODE = "BCE3936";
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return Set.of(DIAGNOSTIC_CODE);
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
@@ -71,8 +76,7 @@ public class ConvertToXmlOrStringTemplateCodeAction implements DiagnosticBasedCo
         LinePosition linePosition = node.location().lineRange().endLine();
         Optional<TypeSymbol> typeSymbol = Optional.empty();
         if (context.currentSemanticModel().isPresent() && context.currentDocument().isPresent()) {
-            typeSymbol = context.currentSemanticModel().get()
-                    .expectedType(context.currentDocument().get(), linePosition);
+            typeSymbol = context.semanticQueries().get().expectedType(linePosition);
         }
 
         Set<String> typeSet = new HashSet<>();
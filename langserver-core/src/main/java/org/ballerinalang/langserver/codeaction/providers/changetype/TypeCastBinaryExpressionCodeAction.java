@@ -54,6 +54,11 @@ public class TypeCastBinaryExpressionCodeAction extends TypeCastCodeAction {
     public static final String NAME = "Type Cast Numeric Expression";
     public static final Set<String> DIAGNOSTIC_CODES = Set.of("BCE4026", "BCE2070");
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return DIAGNOSTIC_CODES;
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
@@ -88,7 +93,7 @@ public class TypeCastBinaryExpressionCodeAction extends TypeCastCodeAction {
         LinePosition position = binaryExpressionNode.lineRange().startLine();
         Optional<TypeSymbol> contextType = Optional.empty();
         if (context.currentSemanticModel().isPresent() && context.currentDocument().isPresent()) {
-            contextType = context.currentSemanticModel().get().expectedType(context.currentDocument().get(), position);
+            contextType = context.semanticQueries().get().expectedType(position);
         }
 
         // If we can't determine the context type or if both LHS and RHS types are different from the context
@@ -62,6 +62,11 @@ public class TypeCastCodeAction implements DiagnosticBasedCodeActionProvider {
     public static final String NAME = "Type Cast";
     public static final Set<String> DIAGNOSTIC_CODES = Set.of("BCE2066", "BCE2068");
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return DIAGNOSTIC_CODES;
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
@@ -154,8 +159,8 @@ public class TypeCastCodeAction implements DiagnosticBasedCodeActionProvider {
 
     protected Optional<VariableSymbol> getVariableSymbol(CodeActionContext context, Node matchedNode) {
         AssignmentStatementNode assignmentStmtNode = (AssignmentStatementNode) matchedNode;
-        Optional<Symbol> symbol = context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.symbol(assignmentStmtNode.varRef()));
+        Optional<Symbol> symbol = context.semanticQueries()
+                .flatMap(queries -> queries.symbol(assignmentStmtNode.varRef()));
 
         if (symbol.isEmpty() || symbol.get().kind() != SymbolKind.VARIABLE) {
             return Optional.empty();
@@ -77,6 +77,11 @@ public class CreateVariableWithTypeCodeAction extends CreateVariableCodeAction {
 
     private static final String DIAGNOSTIC_CODE = "BCE4038";
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return Set.of(DIAGNOSTIC_CODE);
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
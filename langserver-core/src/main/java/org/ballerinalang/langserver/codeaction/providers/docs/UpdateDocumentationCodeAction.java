@@ -38,8 +38,10 @@ import org.eclipse.lsp4j.Command;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Code Action for adding single documentation.
@@ -81,6 +83,11 @@ public class UpdateDocumentationCodeAction implements DiagnosticBasedCodeActionP
         return 998;
     }
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return new HashSet<>(DIAGNOSTIC_IDS);
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
@@ -43,6 +43,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Code Action for adding a dependency to Ballerina.toml file.
@@ -54,6 +55,11 @@ public class AddModuleToBallerinaTomlCodeAction implements DiagnosticBasedCodeAc
 
     public static final String NAME = "Add Module to Ballerina.toml";
     
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return Set.of(DiagnosticErrorCode.MODULE_NOT_FOUND.diagnosticId());
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
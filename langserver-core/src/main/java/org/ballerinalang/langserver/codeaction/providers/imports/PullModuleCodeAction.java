@@ -35,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Code Action for pulling a package from central.
@@ -48,6 +49,11 @@ public class PullModuleCodeAction implements DiagnosticBasedCodeActionProvider {
 
     private static final int MISSING_MODULE_NAME_INDEX = 0;
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return Set.of(DiagnosticErrorCode.MODULE_NOT_FOUND.diagnosticId());
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
@@ -49,6 +49,11 @@ public class RemoveImportCodeAction implements DiagnosticBasedCodeActionProvider
     public static final String NAME = "remove import";
     public static final Set<String> DIAGNOSTIC_CODES = Set.of("BCE2002", "BCE2004", "BCE2008");
 
+    @Override
+    public Set<String> getDiagnosticCodes() {
+        return DIAGNOSTIC_CODES;
+    }
+
     @Override
     public boolean validate(Diagnostic diagnostic, DiagBasedPositionDetails positionDetails,
                             CodeActionContext context) {
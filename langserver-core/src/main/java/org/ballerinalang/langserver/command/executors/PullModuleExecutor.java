@@ -53,6 +53,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -124,6 +125,7 @@ public class PullModuleExecutor implements LSCommandExecutor {
                 .orElseThrow(() -> new UserErrorException("Couldn't find project to pull modules"));
 
         LSClientLogger clientLogger = LSClientLogger.getInstance(languageServerContext);
+        Executor executor = languageServerContext.executors().io();
         return CompletableFuture
                 .runAsync(() -> {
                     clientLogger.logTrace("Started pulling modules for project: " + project.sourceRoot().toString());
@@ -140,7 +142,7 @@ public class PullModuleExecutor implements LSCommandExecutor {
                     beginNotification.setMessage("pulling the missing ballerina modules");
                     languageClient.notifyProgress(new ProgressParams(Either.forLeft(taskId),
                             Either.forLeft(beginNotification)));
-                })
+                }, executor)
                 .thenRunAsync(() -> {
                     CompilationOptions.CompilationOptionsBuilder optionsBuilder = CompilationOptions.builder();
                     optionsBuilder.setOffline(false).setSticky(sticky);
@@ -149,7 +151,7 @@ public class PullModuleExecutor implements LSCommandExecutor {
                     // report that modules were pulled successfully. To remedy this, we now include the compilation
                     // step so that the executor accounts for BIR errors when generating the final status.
                     project.currentPackage().getCompilation();
-                })
+                }, executor)
                 .thenRunAsync(() -> {
                     try {
                         // Refresh project
@@ -157,7 +159,7 @@ public class PullModuleExecutor implements LSCommandExecutor {
                     } catch (WorkspaceDocumentException e) {
                         throw new UserErrorException("Failed to refresh project");
                     }
-                })
+                }, executor)
                 .thenRunAsync(() -> {
                     DocumentServiceContext docContext = ContextBuilder.buildDocumentServiceContext(
                             fileUri,
@@ -171,7 +173,7 @@ public class PullModuleExecutor implements LSCommandExecutor {
                     } catch (EventSyncException e) {
                         // ignore
                     }
-                })
+                }, executor)
                 .thenRunAsync(() -> {
                     WorkDoneProgressReport workDoneProgressReport = new WorkDoneProgressReport();
                     workDoneProgressReport.setCancellable(false);
@@ -200,7 +202,7 @@ public class PullModuleExecutor implements LSCommandExecutor {
                         String moduleNames = String.join(", ", missingModules.get());
                         throw new UserErrorException(String.format("Failed to pull modules: %s", moduleNames));
                     }
-                })
+                }, executor)
                 .whenComplete((result, t) -> {
                     boolean failed = true;
                     if (t != null) {
@@ -18,106 +18,346 @@
 package org.ballerinalang.langserver.common;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
+import java.util.PriorityQueue;
 
 /**
- * Filter words using Trie data structure.
+ * Filter words using a compressed (radix) trie.
+ *
+ * <p>
+ * Each node holds the label of the edge leading to it as a char array, and its children sorted by the first character
+ * of their labels. Words are ranked by their weight (ex: the pull count of a module) and by the recency of their use,
+ * where each node keeps the best score of its subtree so that the top ranked words can be retrieved without visiting
+ * the whole subtree.
+ * </p>
+ *
+ * <p>
+ * The trie is safe for concurrent reads while words are being inserted. Updates are serialized, and the nodes are
+ * never restructured in place: a split creates new nodes which are published by replacing the children array of the
+ * parent node, hence a reader always observes a consistent (possibly slightly stale) view of the trie.
+ * </p>
  *
  * @since 1.0.0
  * */
 public class Trie {
-    /**
-     * Get completion items by prefix.
-     */
-    public TrieNode root;
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final long NOT_A_WORD = -1L;
+    private static final long RECENCY_MASK = 0xFFFFFFFFL;
+
+    private final Node root;
+    private long clock;
+    private int size;
 
     public Trie(List<String> words) {
-        root = new TrieNode();
+        root = new Node(new char[0]);
         for (String word : words) {
-            root.insert(word);
+            insert(word);
         }
     }
 
-    public boolean find(String prefix, boolean exact) {
-        TrieNode lastNode = root;
-        for (char character : prefix.toCharArray()) {
-            lastNode = lastNode.children.get(character);
-            if (lastNode == null) {
-                return false;
+    /**
+     * Insert a word into the trie.
+     *
+     * @param word word to insert
+     */
+    public void insert(String word) {
+        insert(word, 0);
+    }
+
+    /**
+     * Insert a word into the trie with the given weight. If the word already exists, the larger of the two weights is
+     * retained.
+     *
+     * @param word   word to insert
+     * @param weight weight of the word, used to rank the suggestions
+     */
+    public synchronized void insert(String word, int weight) {
+        if (word == null || word.isEmpty()) {
+            return;
+        }
+        char[] chars = word.toCharArray();
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int pos = 0;
+        while (pos < chars.length) {
+            Node[] children = node.children;
+            int index = indexOf(children, chars[pos]);
+            if (index < 0) {
+                Node leaf = new Node(Arrays.copyOfRange(chars, pos, chars.length));
+                node.children = insertChild(children, -index - 1, leaf);
+                node = leaf;
+                path.add(node);
+                break;
             }
+
+            Node child = children[index];
+            int common = commonPrefixLength(child.label, chars, pos);
+            if (common < child.label.length) {
+                child = split(child, common);
+                node.children = replaceChild(children, index, child);
+            }
+            node = child;
+            path.add(node);
+            pos += common;
         }
-        return !exact || lastNode.isWord;
-    }
 
-    public boolean find(String prefix) {
-        return find(prefix, false);
+        long score;
+        if (node.wordScore == NOT_A_WORD) {
+            score = (long) Math.max(weight, 0) << 32;
+            size++;
+        } else {
+            long currentWeight = node.wordScore >>> 32;
+            score = (Math.max(currentWeight, Math.max(weight, 0)) << 32) | (node.wordScore & RECENCY_MASK);
+        }
+        node.wordScore = score;
+        propagate(path, score);
     }
 
-    public void suggestHelper(TrieNode root, List<String> list, StringBuilder stringBuilder) {
-        if (root.isWord) {
-            list.add(stringBuilder.toString());
+    /**
+     * Mark the word as recently used, so that it is ranked above the words with the same weight.
+     *
+     * @param word word which was used
+     */
+    public synchronized void recordUse(String word) {
+        if (word == null || word.isEmpty()) {
+            return;
         }
-
-        if (root.children == null || root.children.isEmpty()) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int pos = 0;
+        while (pos < word.length()) {
+            int index = indexOf(node.children, word.charAt(pos));
+            if (index < 0) {
+                return;
+            }
+            node = node.children[index];
+            if (!node.matches(word, pos)) {
+                return;
+            }
+            path.add(node);
+            pos += node.label.length;
+        }
+        if (node.wordScore == NOT_A_WORD) {
             return;
         }
+        clock = Math.min(clock + 1, RECENCY_MASK);
+        long score = (node.wordScore & ~RECENCY_MASK) | clock;
+        node.wordScore = score;
+        propagate(path, score);
+    }
 
-        for (TrieNode child : root.children.values()) {
-            stringBuilder.append(child.character);
-            suggestHelper(child, list, stringBuilder);
-            stringBuilder.setLength(stringBuilder.length() - 1);
-        }
+    public boolean find(String prefix, boolean exact) {
+        Position position = locate(prefix);
+        return position != null && (!exact || (position.word().length() == prefix.length()
+                && position.node().wordScore != NOT_A_WORD));
+    }
+
+    public boolean find(String prefix) {
+        return find(prefix, false);
     }
 
+    /**
+     * Get all the words which start with the given prefix, ranked by their weight and recency. Words of the same rank
+     * are ordered alphabetically.
+     *
+     * @param prefix prefix of the words
+     * @return {@link List} words starting with the prefix
+     */
     public List<String> suggest(String prefix) {
-        List<String> list = new ArrayList<>();
-        TrieNode lastNode = root;
-        StringBuilder stringBuilder = new StringBuilder();
-        for (char character : prefix.toCharArray()) {
-            lastNode = lastNode.children.get(character);
-            if (lastNode == null) {
-                return list;
+        Position position = locate(prefix);
+        if (position == null) {
+            return new ArrayList<>();
+        }
+        List<Candidate> candidates = new ArrayList<>();
+        collect(position.node(), new StringBuilder(position.word()), candidates);
+        candidates.sort(Comparator.comparingLong(Candidate::score).reversed());
+        List<String> words = new ArrayList<>(candidates.size());
+        candidates.forEach(candidate -> words.add(candidate.word()));
+        return words;
+    }
+
+    /**
+     * Get the top ranked words which start with the given prefix. Only the subtrees which can contain a word of a
+     * higher rank than the words already found are visited.
+     *
+     * @param prefix prefix of the words
+     * @param limit  maximum number of words to return
+     * @return {@link List} top ranked words starting with the prefix
+     */
+    public List<String> suggest(String prefix, int limit) {
+        List<String> words = new ArrayList<>();
+        Position position = locate(prefix);
+        if (position == null || limit <= 0) {
+            return words;
+        }
+
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(Comparator.comparingLong(Candidate::score).reversed()
+                .thenComparing(Candidate::word)
+                .thenComparing(candidate -> candidate.node() != null));
+        queue.add(new Candidate(position.word(), position.node().bestScore, position.node()));
+        while (!queue.isEmpty() && words.size() < limit) {
+            Candidate candidate = queue.poll();
+            Node node = candidate.node();
+            if (node == null) {
+                words.add(candidate.word());
+                continue;
+            }
+            if (node.wordScore != NOT_A_WORD) {
+                queue.add(new Candidate(candidate.word(), node.wordScore, null));
+            }
+            for (Node child : node.children) {
+                queue.add(new Candidate(candidate.word() + new String(child.label), child.bestScore, child));
             }
-            stringBuilder.append(character);
         }
-        suggestHelper(lastNode, list, stringBuilder);
-        return list;
+        return words;
     }
+
     /**
-     * Insert words into the trie.
+     * Get the number of words in the trie.
+     *
+     * @return number of words
      */
-    public static class TrieNode {
-        Map<Character, TrieNode> children;
-        char character;
-        boolean isWord;
+    public synchronized int size() {
+        return size;
+    }
 
-        public TrieNode(char character) {
-            this.character = character;
-            children = new HashMap<>();
+    private Position locate(String prefix) {
+        Node node = root;
+        int pos = 0;
+        while (pos < prefix.length()) {
+            Node[] children = node.children;
+            int index = indexOf(children, prefix.charAt(pos));
+            if (index < 0) {
+                return null;
+            }
+            Node child = children[index];
+            int length = Math.min(child.label.length, prefix.length() - pos);
+            for (int i = 1; i < length; i++) {
+                if (child.label[i] != prefix.charAt(pos + i)) {
+                    return null;
+                }
+            }
+            node = child;
+            pos += child.label.length;
         }
+        if (pos == prefix.length()) {
+            return new Position(node, prefix);
+        }
+        // The prefix ends within the label of the node
+        int overflow = pos - prefix.length();
+        return new Position(node, prefix + new String(node.label, node.label.length - overflow, overflow));
+    }
 
-        public TrieNode() {
-            children = new HashMap<>();
+    private static void collect(Node node, StringBuilder stringBuilder, List<Candidate> candidates) {
+        if (node.wordScore != NOT_A_WORD) {
+            candidates.add(new Candidate(stringBuilder.toString(), node.wordScore, null));
         }
+        for (Node child : node.children) {
+            stringBuilder.append(child.label);
+            collect(child, stringBuilder, candidates);
+            stringBuilder.setLength(stringBuilder.length() - child.label.length);
+        }
+    }
 
-        public void insert(String word) {
-            if (word == null || word.isEmpty()) {
-                return;
-            }
-            char firstCharacter = word.charAt(0);
-            TrieNode child = children.get(firstCharacter);
-            if (child == null) {
-                child = new TrieNode(firstCharacter);
-                children.put(firstCharacter, child);
+    private static void propagate(List<Node> path, long score) {
+        for (Node node : path) {
+            if (node.bestScore < score) {
+                node.bestScore = score;
             }
+        }
+    }
 
-            if (word.length() > 1) {
-                child.insert(word.substring(1));
+    private static Node split(Node node, int length) {
+        Node tail = new Node(Arrays.copyOfRange(node.label, length, node.label.length));
+        tail.children = node.children;
+        tail.wordScore = node.wordScore;
+        tail.bestScore = node.bestScore;
+
+        Node head = new Node(Arrays.copyOf(node.label, length));
+        head.children = new Node[]{tail};
+        head.bestScore = node.bestScore;
+        return head;
+    }
+
+    private static int indexOf(Node[] children, char character) {
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midCharacter = children[mid].label[0];
+            if (midCharacter < character) {
+                low = mid + 1;
+            } else if (midCharacter > character) {
+                high = mid - 1;
             } else {
-                child.isWord = true;
+                return mid;
             }
         }
+        return -(low + 1);
+    }
+
+    private static int commonPrefixLength(char[] label, char[] chars, int offset) {
+        int length = Math.min(label.length, chars.length - offset);
+        int i = 0;
+        while (i < length && label[i] == chars[offset + i]) {
+            i++;
+        }
+        return i;
+    }
+
+    private static Node[] insertChild(Node[] children, int index, Node child) {
+        Node[] newChildren = new Node[children.length + 1];
+        System.arraycopy(children, 0, newChildren, 0, index);
+        newChildren[index] = child;
+        System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+        return newChildren;
+    }
+
+    private static Node[] replaceChild(Node[] children, int index, Node child) {
+        Node[] newChildren = children.clone();
+        newChildren[index] = child;
+        return newChildren;
+    }
+
+    /**
+     * A node of the trie. The score of a word holds its weight in the upper 32 bits and the recency of its last use in
+     * the lower 32 bits, hence the scores only increase, which keeps the best score of each subtree valid.
+     */
+    private static class Node {
+
+        private final char[] label;
+        private volatile Node[] children;
+        private volatile long wordScore;
+        private volatile long bestScore;
+
+        Node(char[] label) {
+            this.label = label;
+            this.children = NO_CHILDREN;
+            this.wordScore = NOT_A_WORD;
+            this.bestScore = NOT_A_WORD;
+        }
+
+        boolean matches(String word, int offset) {
+            if (word.length() - offset < label.length) {
+                return false;
+            }
+            for (int i = 0; i < label.length; i++) {
+                if (label[i] != word.charAt(offset + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private record Position(Node node, String word) {
+    }
+
+    private record Candidate(String word, long score, Node node) {
     }
 }
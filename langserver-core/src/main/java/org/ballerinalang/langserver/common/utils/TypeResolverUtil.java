@@ -85,8 +85,8 @@ public final class TypeResolverUtil {
         }
 
         if (functionTypeSymbol == null) {
-            functionTypeSymbol = context.currentSemanticModel()
-                    .flatMap(semanticModel -> semanticModel.symbol(functionOrMethodCallExpr))
+            functionTypeSymbol = context.semanticQueries()
+                    .flatMap(queries -> queries.symbol(functionOrMethodCallExpr))
                     .filter(symbol -> symbol.kind() == SymbolKind.FUNCTION ||
                             symbol.kind() == SymbolKind.METHOD ||
                             symbol.kind() == SymbolKind.RESOURCE_METHOD
@@ -117,8 +117,8 @@ public final class TypeResolverUtil {
             DocumentServiceContext context,
             int cursorPosition) {
 
-        Optional<MethodSymbol> methodSymbol = context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.typeOf(newExpressionNode))
+        Optional<MethodSymbol> methodSymbol = context.semanticQueries()
+                .flatMap(queries -> queries.typeOf(newExpressionNode))
                 .flatMap(typeSymbol -> Optional.of(CommonUtil.getRawType(typeSymbol)))
                 .map(typeSymbol -> {
                     if (typeSymbol.typeKind() == TypeDescKind.UNION) {
@@ -196,8 +196,8 @@ public final class TypeResolverUtil {
             return Optional.empty();
         }
         SimpleNameReferenceNode typeRefNode = (SimpleNameReferenceNode) methodCallExprNode.methodName();
-        Optional<TypeSymbol> typeSymbol = context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.typeOf(methodCallExprNode.expression()));
+        Optional<TypeSymbol> typeSymbol = context.semanticQueries()
+                .flatMap(queries -> queries.typeOf(methodCallExprNode.expression()));
         return typeSymbol.flatMap(value -> value.langLibMethods().stream()
                 .filter(method -> method.getName().orElse("").equals(typeRefNode.name().text()))
                 .findFirst()
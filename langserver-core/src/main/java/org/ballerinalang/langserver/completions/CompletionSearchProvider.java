@@ -22,10 +22,10 @@ import org.ballerinalang.langserver.common.Trie;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Prefix based search provider.
@@ -35,7 +35,7 @@ import java.util.Set;
 public class CompletionSearchProvider {
 
     private final Trie trie;
-    private final Set<ModuleID> indexedModules = new HashSet<>();
+    private final Set<ModuleID> indexedModules = ConcurrentHashMap.newKeySet();
 
     public static final LanguageServerContext.Key<CompletionSearchProvider> SEARCH_PROVIDER_KEY =
             new LanguageServerContext.Key<>();
@@ -64,6 +64,26 @@ public class CompletionSearchProvider {
        return trie.suggest(prefix);
     }
 
+    /**
+     * Get the top ranked words that match the prefix.
+     *
+     * @param prefix    type prefix.
+     * @param limit     maximum number of words.
+     * @return {@link List} List of words.
+     */
+    public List<String> getSuggestions(String prefix, int limit) {
+        return trie.suggest(prefix, limit);
+    }
+
+    /**
+     * Mark the name as recently used, so that it is ranked higher in the suggestions.
+     *
+     * @param name    used name.
+     */
+    public void recordUsage(String name) {
+        trie.recordUse(name.toLowerCase(Locale.ENGLISH));
+    }
+
     /**
      * Add words to the trie.
      *
@@ -93,6 +113,16 @@ public class CompletionSearchProvider {
      * @param names    list of names.
      */
     public void indexNames(List<String> names) {
-        names.forEach(s -> trie.root.insert(s.toLowerCase(Locale.ENGLISH)));
+        names.forEach(s -> trie.insert(s.toLowerCase(Locale.ENGLISH)));
+    }
+
+    /**
+     * Add a name to the trie along with its weight, such as the pull count of a module.
+     *
+     * @param name      name.
+     * @param weight    weight of the name.
+     */
+    public void indexName(String name, int weight) {
+        trie.insert(name.toLowerCase(Locale.ENGLISH), weight);
     }
 }
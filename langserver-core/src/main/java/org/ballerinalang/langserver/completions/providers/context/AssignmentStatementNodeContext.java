@@ -128,8 +128,7 @@ public class AssignmentStatementNodeContext extends AbstractCompletionProvider<A
         if (context.currentSemanticModel().isPresent() && context.currentDocument().isPresent()) {
             LinePosition cursorPosition = LinePosition.from(context.getCursorPosition().getLine(),
                                                                 context.getCursorPosition().getCharacter());
-            typeSymbolAtCursor = context.currentSemanticModel().get()
-                    .expectedType(context.currentDocument().get(), cursorPosition);
+            typeSymbolAtCursor = context.semanticQueries().get().expectedType(cursorPosition);
         }
 
         if (typeSymbolAtCursor.isEmpty()) {
@@ -149,8 +148,7 @@ public class AssignmentStatementNodeContext extends AbstractCompletionProvider<A
         Optional<TypeSymbol> type = Optional.empty();
         if (context.currentSemanticModel().isPresent() && context.currentDocument().isPresent()) {
             LinePosition linePosition = node.expression().location().lineRange().startLine();
-            type = context.currentSemanticModel().get()
-                    .expectedType(context.currentDocument().get(), linePosition);
+            type = context.semanticQueries().get().expectedType(linePosition);
         }
 
         if (type.isEmpty()) {
@@ -89,8 +89,7 @@ public class ClientResourceAccessActionNodeContext
         LinePosition linePosition = node.expression().location().lineRange().endLine();
         Optional<TypeSymbol> expressionType = Optional.empty();
         if (context.currentSemanticModel().isPresent() && context.currentDocument().isPresent()) {
-            expressionType = context.currentSemanticModel().get()
-                    .expectedType(context.currentDocument().get(), linePosition);
+            expressionType = context.semanticQueries().get().expectedType(linePosition);
         }
 
         if (expressionType.isEmpty() || !SymbolUtil.isClient(expressionType.get())) {
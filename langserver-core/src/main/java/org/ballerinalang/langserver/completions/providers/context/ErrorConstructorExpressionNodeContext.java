@@ -242,8 +242,7 @@ public class ErrorConstructorExpressionNodeContext extends
         Optional<TypeSymbol> detailTypeDesc = Optional.empty();
         if (context.currentSemanticModel().isPresent() && context.currentDocument().isPresent()) {
             LinePosition linePosition = node.location().lineRange().endLine();
-            detailTypeDesc = context.currentSemanticModel().get()
-                    .expectedType(context.currentDocument().get(), linePosition);
+            detailTypeDesc = context.semanticQueries().get().expectedType(linePosition);
         }
 
         if (detailTypeDesc.isEmpty()) {
@@ -131,7 +131,7 @@ public class ImplicitNewExpressionNodeContext extends InvocationNodeContextProvi
         Optional<TypeSymbol> type = Optional.empty();
         if (context.currentSemanticModel().isPresent() && context.currentDocument().isPresent()) {
             LinePosition linePosition = node.parent().location().lineRange().startLine();
-            type = context.currentSemanticModel().get().expectedType(context.currentDocument().get(), linePosition);
+            type = context.semanticQueries().get().expectedType(linePosition);
         }
 
         if (type.isEmpty()) {
@@ -50,6 +50,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -70,6 +71,8 @@ public class ImportDeclarationNodeContext extends AbstractCompletionProvider<Imp
             + Names.ORG_NAME_SEPARATOR.getValue() + Names.LANG.getValue() + Names.DOT.getValue();
     private static final String BALLERINA_MODULE_PREFIX = Names.BALLERINA_ORG.getValue()
             + Names.ORG_NAME_SEPARATOR.getValue();
+    private static final String BALLERINAX_ORG = "ballerinax";
+    private static final int MAX_CENTRAL_PACKAGE_SUGGESTIONS = 100;
 
     public ImportDeclarationNodeContext() {
         super(ImportDeclarationNode.class);
@@ -152,10 +155,14 @@ public class ImportDeclarationNodeContext extends AbstractCompletionProvider<Imp
             (2) import ballerina/a<cursor
             (3) import ballerina/lang.<cursor>
              */
-            for (LSCompletionItem completion : cItems) {
-                CompletionItem cItem = completion.getCompletionItem();
+            // The central packages are already ranked by their pull counts, hence the order is retained within a rank
+            boolean isRanked = node.orgName().isPresent()
+                    && node.orgName().get().orgName().text().equals(BALLERINAX_ORG);
+            for (int i = 0; i < cItems.size(); i++) {
+                CompletionItem cItem = cItems.get(i).getCompletionItem();
                 String label = cItem.getLabel();
-                cItem.setSortText(genSortText(this.rankModuleName(label, modulePart)));
+                String sortText = genSortText(this.rankModuleName(label, modulePart));
+                cItem.setSortText(isRanked ? sortText + genSortText(i + 1) : sortText);
             }
             return;
         }
@@ -321,15 +328,13 @@ public class ImportDeclarationNodeContext extends AbstractCompletionProvider<Imp
         LanguageServerContext serverContext = context.languageServercontext();
         List<LSPackageLoader.ModuleInfo> moduleList;
 
-        if (orgName.equals("ballerinax")) {
-            List<String> packageList = new ArrayList<>();
+        if (orgName.equals(BALLERINAX_ORG)) {
             String prefix = node.moduleName().stream().filter(identifierToken -> !identifierToken.isMissing())
                     .map(IdentifierToken::text)
                     .collect(Collectors.joining("."));
 
             moduleList = LSPackageLoader.getInstance(serverContext).getCentralPackages();
-            moduleList.forEach(ballerinaPackage -> packageList.add(ballerinaPackage.packageName()));
-            List<String> filteredPackageNames = getFilteredPackages(packageList, prefix, context);
+            List<String> filteredPackageNames = getFilteredPackages(moduleList, prefix, context);
             for (String filteredPackage : filteredPackageNames) {
                 LSCompletionItem completionItem = getImportCompletion(context, filteredPackage, filteredPackage);
                 completionItem.getCompletionItem().setAdditionalTextEdits(additionalEdits);
@@ -361,12 +366,31 @@ public class ImportDeclarationNodeContext extends AbstractCompletionProvider<Imp
     }
 
 
-    private static List<String> getFilteredPackages(List<String> packageList, String prefix,
+    /**
+     * Returns the central packages which start with the given prefix, ranked by their pull counts. The packages
+     * imported in the current document are ranked above the other packages with the same pull count.
+     */
+    private static List<String> getFilteredPackages(List<LSPackageLoader.ModuleInfo> packages, String prefix,
                                                    BallerinaCompletionContext context) {
         CompletionSearchProvider completionSearchProvider = CompletionSearchProvider
                 .getInstance(context.languageServercontext());
-        completionSearchProvider.indexNames(packageList);
-        return completionSearchProvider.getSuggestions(prefix);
+        Set<String> packageNames = new HashSet<>();
+        for (LSPackageLoader.ModuleInfo ballerinaPackage : packages) {
+            String packageName = ballerinaPackage.packageName().toLowerCase(Locale.ENGLISH);
+            packageNames.add(packageName);
+            completionSearchProvider.indexName(packageName, ballerinaPackage.pullCount());
+        }
+        context.currentDocImportsMap().keySet().stream()
+                .filter(importNode -> importNode.orgName().isPresent()
+                        && importNode.orgName().get().orgName().text().equals(BALLERINAX_ORG))
+                .forEach(importNode -> completionSearchProvider.recordUsage(importNode.moduleName().stream()
+                        .map(IdentifierToken::text)
+                        .collect(Collectors.joining("."))));
+
+        // The search provider also holds the names of the module symbols, which are not packages
+        return completionSearchProvider.getSuggestions(prefix, MAX_CENTRAL_PACKAGE_SUGGESTIONS).stream()
+                .filter(packageNames::contains)
+                .toList();
     }
 
     private boolean onSuggestAsKeyword(BallerinaCompletionContext context, ImportDeclarationNode node) {
@@ -95,7 +95,7 @@ public class InvocationNodeContextProvider<T extends Node> extends AbstractCompl
     protected static Optional<TypeSymbol> getParameterTypeSymbol(BallerinaCompletionContext context) {
         Optional<TypeSymbol> parameterSymbol = Optional.empty();
         if (context.currentSemanticModel().isPresent() && context.currentDocument().isPresent()) {
-            parameterSymbol = context.currentSemanticModel().get().expectedType(context.currentDocument().get(),
+            parameterSymbol = context.semanticQueries().get().expectedType(
                     LinePosition.from(context.getCursorPosition().getLine(),
                             context.getCursorPosition().getCharacter()));
         }
@@ -73,8 +73,8 @@ public class KeySpecifierNodeContext extends AbstractCompletionProvider<KeySpeci
             }
             TypeParameterNode typeParameterNode = (TypeParameterNode) tableTypeDef.rowTypeParameterNode();
             // Get type of type parameter
-            Optional<TypeSymbol> typeSymbol = context.currentSemanticModel()
-                    .flatMap(semanticModel -> semanticModel.symbol(typeParameterNode.typeNode()))
+            Optional<TypeSymbol> typeSymbol = context.semanticQueries()
+                    .flatMap(queries -> queries.symbol(typeParameterNode.typeNode()))
                     .flatMap(SymbolUtil::getTypeDescriptor);
             if (typeSymbol.isEmpty()) {
                 return completionItems;
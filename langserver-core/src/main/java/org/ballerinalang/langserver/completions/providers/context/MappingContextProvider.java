@@ -107,8 +107,7 @@ public abstract class MappingContextProvider<T extends Node> extends AbstractCom
         Optional<TypeSymbol> resolvedType = Optional.empty();
         if (context.currentSemanticModel().isPresent() && context.currentDocument().isPresent()) {
             LinePosition linePosition = node.location().lineRange().endLine();
-            resolvedType = context.currentSemanticModel().get()
-                    .expectedType(context.currentDocument().get(), linePosition);
+            resolvedType = context.semanticQueries().get().expectedType(linePosition);
         }
 
         if (resolvedType.isEmpty()) {
@@ -229,8 +228,7 @@ public abstract class MappingContextProvider<T extends Node> extends AbstractCom
         }
 
         LinePosition linePosition = node.location().lineRange().endLine();
-        Optional<TypeSymbol> resolvedType = context.currentSemanticModel().get()
-                .expectedType(context.currentDocument().get(), linePosition);
+        Optional<TypeSymbol> resolvedType = context.semanticQueries().get().expectedType(linePosition);
         if (resolvedType.isEmpty()) {
             return Collections.emptyList();
         }
@@ -97,8 +97,7 @@ public class NamedArgumentNodeContext extends AbstractCompletionProvider<NamedAr
         Optional<TypeSymbol> typeSymbol = Optional.empty();
         if (context.currentSemanticModel().isPresent() && context.currentDocument().isPresent()) {
             LinePosition linePosition = node.location().lineRange().endLine();
-            typeSymbol = context.currentSemanticModel().get()
-                    .expectedType(context.currentDocument().get(), linePosition);
+            typeSymbol = context.semanticQueries().get().expectedType(linePosition);
         }
 
         if (typeSymbol.isEmpty()) {
@@ -118,7 +117,7 @@ public class NamedArgumentNodeContext extends AbstractCompletionProvider<NamedAr
         Optional<TypeSymbol> type = Optional.empty();
         if (context.currentSemanticModel().isPresent() && context.currentDocument().isPresent()) {
             LinePosition linePosition = node.location().lineRange().endLine();
-            type = context.currentSemanticModel().get().expectedType(context.currentDocument().get(), linePosition);
+            type = context.semanticQueries().get().expectedType(linePosition);
         }
 
         if (type.isEmpty()) {
@@ -58,7 +58,7 @@ public abstract class NodeWithRHSInitializerProvider<T extends Node> extends Abs
     public void sort(BallerinaCompletionContext context, T node, List<LSCompletionItem> completionItems) {
         Optional<TypeSymbol> contextType = Optional.empty();
         if (context.currentSemanticModel().isPresent() && context.currentDocument().isPresent()) {
-            contextType = context.currentSemanticModel().get().expectedType(context.currentDocument().get(),
+            contextType = context.semanticQueries().get().expectedType(
                     LinePosition.from(context.getCursorPosition().getLine(),
                             context.getCursorPosition().getCharacter()));
         }
@@ -63,8 +63,7 @@ public class RemoteMethodCallActionNodeContext extends RightArrowActionNodeConte
         Optional<TypeSymbol> expressionType = Optional.empty();
         if (context.currentSemanticModel().isPresent() && context.currentDocument().isPresent()) {
             LinePosition linePosition = node.expression().location().lineRange().endLine();
-            expressionType = context.currentSemanticModel().get()
-                    .expectedType(context.currentDocument().get(), linePosition);
+            expressionType = context.semanticQueries().get().expectedType(linePosition);
         }
         if (expressionType.isEmpty() || !SymbolUtil.isClient(expressionType.get())) {
             return Collections.emptyList();
@@ -54,8 +54,7 @@ public abstract class RightArrowActionNodeContext<T extends ActionNode> extends
         Optional<TypeSymbol> expressionType = Optional.empty();
         if (context.currentSemanticModel().isPresent() && context.currentDocument().isPresent()) {
             LinePosition linePosition = expressionNode.location().lineRange().endLine();
-            expressionType = context.currentSemanticModel().get()
-                    .expectedType(context.currentDocument().get(), linePosition);
+            expressionType = context.semanticQueries().get().expectedType(linePosition);
         }
 
         if (expressionType.isPresent() && SymbolUtil.isClient(expressionType.get())) {
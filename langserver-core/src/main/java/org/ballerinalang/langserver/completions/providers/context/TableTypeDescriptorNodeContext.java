@@ -75,8 +75,8 @@ public class TableTypeDescriptorNodeContext extends AbstractCompletionProvider<T
 
         TypeParameterNode typeParameterNode = (TypeParameterNode) node.rowTypeParameterNode();
         // Get type of type parameter
-        Optional<Symbol> symbol = context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.symbol(typeParameterNode.typeNode()));
+        Optional<Symbol> symbol = context.semanticQueries()
+                .flatMap(queries -> queries.symbol(typeParameterNode.typeNode()));
         if (symbol.isEmpty()) {
             return false;
         }
@@ -229,8 +229,8 @@ public class TypeParameterContextProvider<T extends Node> extends AbstractComple
             TypeParameterNode typeParameterNode = (TypeParameterNode) tableTypeDesc.rowTypeParameterNode();
 
             // Get type of type parameter
-            Optional<TypeSymbol> typeSymbol = context.currentSemanticModel()
-                    .flatMap(semanticModel -> semanticModel.symbol(typeParameterNode.typeNode()))
+            Optional<TypeSymbol> typeSymbol = context.semanticQueries()
+                    .flatMap(queries -> queries.symbol(typeParameterNode.typeNode()))
                     .flatMap(SymbolUtil::getTypeDescriptor);
             if (typeSymbol.isPresent() && CommonUtil.getRawType(typeSymbol.get()).typeKind() == TypeDescKind.RECORD) {
                 RecordTypeSymbol recordTypeSymbol = (RecordTypeSymbol) CommonUtil.getRawType(typeSymbol.get());
@@ -94,7 +94,7 @@ public class TypeTestExpressionNodeContext extends AbstractCompletionProvider<Ty
                                                                              TypeTestExpressionNode node) {
         List<LSCompletionItem> completionItems = new ArrayList<>();
         Optional<TypeSymbol> typeSymbol =
-                context.currentSemanticModel().flatMap(semanticModel -> semanticModel.typeOf(node.expression()));
+                context.semanticQueries().flatMap(queries -> queries.typeOf(node.expression()));
         Optional<Module> currentModule = context.currentModule();
         if (typeSymbol.isEmpty() || currentModule.isEmpty()) {
             return completionItems;
@@ -178,7 +178,7 @@ public class TypeTestExpressionNodeContext extends AbstractCompletionProvider<Ty
                      List<LSCompletionItem> completionItems) {
 
         Optional<TypeSymbol> typeSymbol =
-                context.currentSemanticModel().flatMap(semanticModel -> semanticModel.typeOf(node.expression()));
+                context.semanticQueries().flatMap(queries -> queries.typeOf(node.expression()));
         if (typeSymbol.isEmpty()) {
             super.sort(context, node, completionItems);
         }
@@ -230,7 +230,7 @@ public class ContextTypeResolver extends NodeTransformer<Optional<TypeSymbol>> {
     @Override
     public Optional<TypeSymbol> transform(ObjectFieldNode node) {
         Optional<Symbol> symbol =
-                this.context.currentSemanticModel().flatMap(semanticModel -> semanticModel.symbol(node));
+                this.context.semanticQueries().flatMap(queries -> queries.symbol(node));
         if (symbol.isEmpty() || symbol.get().kind() != SymbolKind.CLASS_FIELD) {
             return Optional.empty();
         }
@@ -246,7 +246,7 @@ public class ContextTypeResolver extends NodeTransformer<Optional<TypeSymbol>> {
     @Override
     public Optional<TypeSymbol> transform(IndexedExpressionNode node) {
         Optional<TypeSymbol> containerType =
-                context.currentSemanticModel().flatMap(semanticModel -> semanticModel.typeOf(node));
+                context.semanticQueries().flatMap(queries -> queries.typeOf(node));
         if (containerType.isEmpty()) {
             return Optional.empty();
         }
@@ -378,8 +378,8 @@ public class ContextTypeResolver extends NodeTransformer<Optional<TypeSymbol>> {
     @Override
     public Optional<TypeSymbol> transform(ImplicitNewExpressionNode implicitNewExpressionNode) {
 
-        Optional<TypeSymbol> classSymbol = context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.typeOf(implicitNewExpressionNode))
+        Optional<TypeSymbol> classSymbol = context.semanticQueries()
+                .flatMap(queries -> queries.typeOf(implicitNewExpressionNode))
                 .flatMap(typeSymbol -> Optional.of(CommonUtil.getRawType(typeSymbol))).stream().findFirst();
         if (classSymbol.isEmpty()) {
             return Optional.empty();
@@ -415,8 +415,8 @@ public class ContextTypeResolver extends NodeTransformer<Optional<TypeSymbol>> {
 
     @Override
     public Optional<TypeSymbol> transform(ExplicitNewExpressionNode explicitNewExpressionNode) {
-        Optional<TypeSymbol> classSymbol = context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.typeOf(explicitNewExpressionNode))
+        Optional<TypeSymbol> classSymbol = context.semanticQueries()
+                .flatMap(queries -> queries.typeOf(explicitNewExpressionNode))
                 .flatMap(typeSymbol -> Optional.of(CommonUtil.getRawType(typeSymbol))).stream().findFirst();
         if (classSymbol.isEmpty()) {
             return Optional.empty();
@@ -534,8 +534,8 @@ public class ContextTypeResolver extends NodeTransformer<Optional<TypeSymbol>> {
             case METHOD_CALL:
             case REMOTE_METHOD_CALL_ACTION:
                 NonTerminalNode parentNode = namedArgumentNode.parent();
-                Optional<List<ParameterSymbol>> parameterSymbols = context.currentSemanticModel()
-                        .flatMap(semanticModel -> semanticModel.symbol(parentNode))
+                Optional<List<ParameterSymbol>> parameterSymbols = context.semanticQueries()
+                        .flatMap(queries -> queries.symbol(parentNode))
                         .filter(symbol -> symbol.kind() == SymbolKind.FUNCTION ||
                                 symbol.kind() == SymbolKind.METHOD ||
                                 symbol.kind() == SymbolKind.RESOURCE_METHOD)
@@ -594,8 +594,8 @@ public class ContextTypeResolver extends NodeTransformer<Optional<TypeSymbol>> {
     @Override
     public Optional<TypeSymbol> transform(DefaultableParameterNode node) {
 
-        Optional<Symbol> symbol = context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.symbol(node));
+        Optional<Symbol> symbol = context.semanticQueries()
+                .flatMap(queries -> queries.symbol(node));
 
         if (symbol.isEmpty() || symbol.get().kind() != SymbolKind.PARAMETER) {
             return Optional.empty();
@@ -627,8 +627,8 @@ public class ContextTypeResolver extends NodeTransformer<Optional<TypeSymbol>> {
 
     @Override
     public Optional<TypeSymbol> transform(ImplicitAnonymousFunctionExpressionNode node) {
-        Optional<TypeSymbol> typeSymbol = context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.typeOf(node))
+        Optional<TypeSymbol> typeSymbol = context.semanticQueries()
+                .flatMap(queries -> queries.typeOf(node))
                 .or(() -> node.parent().apply(this));
 
         if (typeSymbol.isEmpty() || typeSymbol.get().typeKind() != TypeDescKind.FUNCTION) {
@@ -649,7 +649,7 @@ public class ContextTypeResolver extends NodeTransformer<Optional<TypeSymbol>> {
     public Optional<TypeSymbol> transform(RecordFieldWithDefaultValueNode node) {
 
         Optional<Symbol> symbol =
-                this.context.currentSemanticModel().flatMap(semanticModel -> semanticModel.symbol(node.typeName()));
+                this.context.semanticQueries().flatMap(queries -> queries.symbol(node.typeName()));
         if (symbol.isEmpty() || symbol.get().kind() != SymbolKind.TYPE) {
             return Optional.empty();
         }
@@ -659,8 +659,8 @@ public class ContextTypeResolver extends NodeTransformer<Optional<TypeSymbol>> {
 
     @Override
     public Optional<TypeSymbol> transform(MappingConstructorExpressionNode mappingConstructorExpressionNode) {
-        return context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.typeOf(mappingConstructorExpressionNode))
+        return context.semanticQueries()
+                .flatMap(queries -> queries.typeOf(mappingConstructorExpressionNode))
                 .filter(typeSymbol -> typeSymbol.typeKind() != TypeDescKind.COMPILATION_ERROR)
                 .or(() -> mappingConstructorExpressionNode.parent().apply(this));
     }
@@ -677,14 +677,14 @@ public class ContextTypeResolver extends NodeTransformer<Optional<TypeSymbol>> {
 
     @Override
     public Optional<TypeSymbol> transform(MatchStatementNode matchStatementNode) {
-        return context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.typeOf(matchStatementNode.condition()));
+        return context.semanticQueries()
+                .flatMap(queries -> queries.typeOf(matchStatementNode.condition()));
     }
 
     @Override
     public Optional<TypeSymbol> transform(TableConstructorExpressionNode node) {
-        Optional<TypeSymbol> optionalTypeSymbol = context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.typeOf(node))
+        Optional<TypeSymbol> optionalTypeSymbol = context.semanticQueries()
+                .flatMap(queries -> queries.typeOf(node))
                 .filter(tSymbol -> tSymbol.typeKind() != TypeDescKind.COMPILATION_ERROR)
                 .or(() -> node.parent().apply(this))
                 .filter(tSymbol -> tSymbol.typeKind() != TypeDescKind.COMPILATION_ERROR);
@@ -716,8 +716,8 @@ public class ContextTypeResolver extends NodeTransformer<Optional<TypeSymbol>> {
 
     @Override
     public Optional<TypeSymbol> transform(SelectClauseNode node) {
-        Optional<TypeSymbol> typeSymbol = context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.typeOf(node.expression()))
+        Optional<TypeSymbol> typeSymbol = context.semanticQueries()
+                .flatMap(queries -> queries.typeOf(node.expression()))
                 .filter(tSymbol -> tSymbol.typeKind() != TypeDescKind.COMPILATION_ERROR)
                 .or(() -> node.parent().apply(this))
                 .filter(tSymbol -> tSymbol.typeKind() != TypeDescKind.COMPILATION_ERROR);
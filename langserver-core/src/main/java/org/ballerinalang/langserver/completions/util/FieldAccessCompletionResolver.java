@@ -79,8 +79,8 @@ public class FieldAccessCompletionResolver extends NodeTransformer<Optional<Type
 
     @Override
     public Optional<TypeSymbol> transform(SimpleNameReferenceNode node) {
-        Optional<TypeSymbol> typeSymbol = this.context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.typeOf(node));
+        Optional<TypeSymbol> typeSymbol = this.context.semanticQueries()
+                .flatMap(queries -> queries.typeOf(node));
         if (typeSymbol.isPresent()) {
             return typeSymbol;
         }
@@ -114,8 +114,8 @@ public class FieldAccessCompletionResolver extends NodeTransformer<Optional<Type
     public Optional<TypeSymbol> transform(OptionalFieldAccessExpressionNode node) {
         // First capture the expression and the respective symbols
         // In future we should use the following approach and get rid of this resolver.
-        Optional<TypeSymbol> resolvedType = this.context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.typeOf(node));
+        Optional<TypeSymbol> resolvedType = this.context.semanticQueries()
+                .flatMap(queries -> queries.typeOf(node));
         if (resolvedType.isPresent() && resolvedType.get().typeKind() != TypeDescKind.COMPILATION_ERROR) {
             return SymbolUtil.getTypeDescriptor(resolvedType.get());
         }
@@ -195,8 +195,8 @@ public class FieldAccessCompletionResolver extends NodeTransformer<Optional<Type
 
     @Override
     public Optional<TypeSymbol> transform(TemplateExpressionNode templateExpressionNode) {
-        return this.context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.typeOf(templateExpressionNode))
+        return this.context.semanticQueries()
+                .flatMap(queries -> queries.typeOf(templateExpressionNode))
                 .map(CommonUtil::getRawType);
     }
 
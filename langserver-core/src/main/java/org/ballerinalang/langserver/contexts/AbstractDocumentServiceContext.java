@@ -18,7 +18,6 @@
 package org.ballerinalang.langserver.contexts;
 
 import io.ballerina.compiler.api.SemanticModel;
-import io.ballerina.compiler.api.symbols.DiagnosticState;
 import io.ballerina.compiler.api.symbols.ModuleSymbol;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.api.symbols.SymbolKind;
@@ -32,6 +31,7 @@ import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
 import org.ballerinalang.langserver.commons.LSOperation;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.SemanticQueries;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
@@ -42,6 +42,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 
@@ -60,13 +61,16 @@ public class AbstractDocumentServiceContext implements DocumentServiceContext {
 
     private final WorkspaceManager workspaceManager;
 
-    private Map<ImportDeclarationNode, ModuleSymbol> currentDocImportsMap;
+    // The lazily resolved state is volatile, as the code action providers of a request read it in parallel
+    private volatile Map<ImportDeclarationNode, ModuleSymbol> currentDocImportsMap;
 
-    private Module currentModule;
+    private volatile Module currentModule;
 
-    private SemanticModel currentSemanticModel;
+    private volatile SemanticModel currentSemanticModel;
 
-    private Document currentDocument;
+    private volatile Document currentDocument;
+
+    private SemanticQueries semanticQueries;
 
     private final LanguageServerContext languageServerContext;
 
@@ -129,23 +133,50 @@ public class AbstractDocumentServiceContext implements DocumentServiceContext {
 
     @Override
     public List<Symbol> visibleSymbols(Position position) {
-        Optional<SemanticModel> semanticModel;
-        if (this.cancelChecker == null) {
-            semanticModel = this.workspaceManager.semanticModel(this.filePath);
-        } else {
-            semanticModel = this.workspaceManager.semanticModel(this.filePath, this.cancelChecker);
-        }
         Optional<Document> srcFile = this.workspaceManager.document(filePath);
-
-        if (semanticModel.isEmpty() || srcFile.isEmpty()) {
+        if (srcFile.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Optional<SemanticQueries> semanticQueries = semanticQueries(srcFile.get(), () -> {
+            if (this.cancelChecker == null) {
+                return this.workspaceManager.semanticModel(this.filePath);
+            }
+            return this.workspaceManager.semanticModel(this.filePath, this.cancelChecker);
+        });
+        if (semanticQueries.isEmpty()) {
             return Collections.emptyList();
         }
 
         this.checkCancelled();
 
-        return semanticModel.get().visibleSymbols(srcFile.get(),
-                LinePosition.from(position.getLine(),
-                        position.getCharacter()), DiagnosticState.VALID, DiagnosticState.REDECLARED);
+        return semanticQueries.get().visibleSymbols(LinePosition.from(position.getLine(), position.getCharacter()));
+    }
+
+    @Override
+    public Optional<SemanticQueries> semanticQueries() {
+        Optional<Document> document = this.currentDocument();
+        if (document.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return semanticQueries(document.get(), this::currentSemanticModel);
+    }
+
+    /**
+     * Returns the semantic queries on the given version of the document. The queries are recreated when the document
+     * changes, so that the memoized results of a previous version of the document are not served.
+     */
+    private synchronized Optional<SemanticQueries> semanticQueries(Document document,
+                                                                   Supplier<Optional<SemanticModel>> semanticModel) {
+        if (this.semanticQueries == null || this.semanticQueries.document() != document) {
+            Optional<SemanticModel> model = semanticModel.get();
+            if (model.isEmpty()) {
+                return Optional.empty();
+            }
+            this.semanticQueries = new SemanticQueries(model.get(), document);
+        }
+
+        return Optional.of(this.semanticQueries);
     }
 
     @Override
@@ -166,7 +197,8 @@ public class AbstractDocumentServiceContext implements DocumentServiceContext {
     @Override
     public Map<ImportDeclarationNode, ModuleSymbol> currentDocImportsMap() {
         if (this.currentDocImportsMap == null) {
-            this.currentDocImportsMap = new LinkedHashMap<>();
+            // The map is published only once it is complete
+            Map<ImportDeclarationNode, ModuleSymbol> importsMap = new LinkedHashMap<>();
             Optional<Document> document = this.workspace().document(this.filePath);
             if (document.isEmpty()) {
                 throw new RuntimeException("Cannot find a valid document");
@@ -181,8 +213,9 @@ public class AbstractDocumentServiceContext implements DocumentServiceContext {
                 if (symbol.isEmpty() || symbol.get().kind() != SymbolKind.MODULE) {
                     continue;
                 }
-                currentDocImportsMap.put(importDeclaration, (ModuleSymbol) symbol.get());
+                importsMap.put(importDeclaration, (ModuleSymbol) symbol.get());
             }
+            this.currentDocImportsMap = importsMap;
         }
 
         return this.currentDocImportsMap;
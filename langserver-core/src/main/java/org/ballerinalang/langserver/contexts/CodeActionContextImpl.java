@@ -49,12 +49,12 @@ import java.util.Optional;
  */
 public class CodeActionContextImpl extends AbstractDocumentServiceContext implements CodeActionContext {
 
-    private Position cursorPosition;
-    private int cursorPositionInTree = -1;
-    private List<io.ballerina.tools.diagnostics.Diagnostic> diagnostics;
+    private volatile Position cursorPosition;
+    private volatile int cursorPositionInTree = -1;
+    private volatile List<io.ballerina.tools.diagnostics.Diagnostic> diagnostics;
     private final CodeActionParams params;
-    private Node nodeAtCursor;
-    private Node nodeAtRange;
+    private volatile Node nodeAtCursor;
+    private volatile Node nodeAtRange;
 
     @Deprecated(forRemoval = true)
     public CodeActionContextImpl(LSOperation operation,
@@ -25,16 +25,26 @@ import org.ballerinalang.langserver.commons.BallerinaCompilerApi;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.WorkspaceServiceContext;
+import org.ballerinalang.langserver.commons.capability.LSClientCapabilities;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.util.LSClientUtil;
 import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
 import org.ballerinalang.util.diagnostic.DiagnosticErrorCode;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.DocumentDiagnosticReport;
 import org.eclipse.lsp4j.MessageType;
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PreviousResultId;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.RelatedFullDocumentDiagnosticReport;
+import org.eclipse.lsp4j.RelatedUnchangedDocumentDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceDocumentDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceFullDocumentDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceUnchangedDocumentDiagnosticReport;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -42,14 +52,19 @@ import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utilities for the diagnostics related operations.
@@ -61,14 +76,29 @@ public class DiagnosticsHelper {
     private final List<Diagnostic> emptyDiagnosticList = new ArrayList<>(0);
     private static final LanguageServerContext.Key<DiagnosticsHelper> DIAGNOSTICS_HELPER_KEY =
             new LanguageServerContext.Key<>();
-    private static final long DIAGNOSTIC_DELAY = 1;
+    /**
+     * Result ID of the files without diagnostics. Since the result IDs of the other reports are never reused, a client
+     * holding this result ID always has the latest report of a file without diagnostics.
+     */
+    private static final String EMPTY_RESULT_ID = "0";
+    private static final DiagnosticReport EMPTY_REPORT = new DiagnosticReport(EMPTY_RESULT_ID, List.of());
+
+    private final LanguageServerContext serverContext;
     /**
      * Holds file URIs that had diagnostics in the last publication for the purpose of clear-off when publishing new
      * diagnostics. Key: package root path, Value: set of file URIs that had diagnostics
      */
     private final Map<Path, Set<String>> lastDiagnosticFileUris;
-    private CompletableFuture<Boolean> latestScheduled = null;
+    /**
+     * Holds the latest diagnostics report of each file with diagnostics. The result ID of a report changes only when
+     * the diagnostics of the file change, so that a file is published again, or reported again to a client pulling
+     * the diagnostics, only if its diagnostics have changed. Key: file URI, Value: diagnostics report of the file
+     */
+    private final Map<String, DiagnosticReport> diagnosticReports;
+    private final AtomicLong lastResultId;
     private final Deque<String> cyclicDependencyErrors;
+    private final DiagnosticsScheduler diagnosticsScheduler;
+    private final Executor compilationExecutor;
 
     public static DiagnosticsHelper getInstance(LanguageServerContext serverContext) {
         DiagnosticsHelper diagnosticsHelper = serverContext.get(DIAGNOSTICS_HELPER_KEY);
@@ -81,8 +111,13 @@ public class DiagnosticsHelper {
 
     private DiagnosticsHelper(LanguageServerContext serverContext) {
         serverContext.put(DIAGNOSTICS_HELPER_KEY, this);
-        this.lastDiagnosticFileUris = new HashMap<>();
+        this.serverContext = serverContext;
+        this.lastDiagnosticFileUris = new ConcurrentHashMap<>();
+        this.diagnosticReports = new ConcurrentHashMap<>();
+        this.lastResultId = new AtomicLong(Long.parseLong(EMPTY_RESULT_ID));
         this.cyclicDependencyErrors = new ConcurrentLinkedDeque<>();
+        this.diagnosticsScheduler = DiagnosticsScheduler.getInstance(serverContext);
+        this.compilationExecutor = serverContext.executors().background();
     }
 
     /**
@@ -90,32 +125,35 @@ public class DiagnosticsHelper {
      * In general the diagnostics publishing is done for document open, close and change events. When the document
      * change events are triggered frequently in subsequent edits, we do compilations and diagnostic calculation for
      * each of the change event. This is time-consuming for the large projects and from the user experience point of
-     * view, we can publish the diagnostics after a delay. The default delay specified in {@link #DIAGNOSTIC_DELAY}
+     * view, we publish the diagnostics after a delay through the {@link DiagnosticsScheduler}, which discards the
+     * superseded publications of the same project.
      *
      * @param client  Language client
      * @param context Document Service context.
      */
-    public synchronized void schedulePublishDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context) {
+    public void schedulePublishDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context) {
         WorkspaceManager workspaceManager = context.workspace();
         Path projectRoot = workspaceManager.projectRoot(context.filePath());
-        compileAndSendDiagnostics(workspaceManager, projectRoot, client);
+        diagnosticsScheduler.schedule(projectRoot, () -> compileAndSendDiagnostics(client, context));
     }
 
     /**
      * Schedule the diagnostics publishing for a project specified with the given project root.
      * This particular diagnostics publishing API is used for publishing diagnostics through the workspace service.
      * This is time-consuming for the large projects and from the user experience point of
-     * view, we can publish the diagnostics after a delay. The default delay specified in {@link #DIAGNOSTIC_DELAY}
+     * view, we publish the diagnostics after a delay through the {@link DiagnosticsScheduler}.
      *
      * @param client      Language client
      * @param context     Workspace Service context
      * @param projectRoot project root
      */
-    public synchronized void schedulePublishDiagnostics(ExtendedLanguageClient client,
-                                                        WorkspaceServiceContext context,
-                                                        Path projectRoot) {
+    public void schedulePublishDiagnostics(ExtendedLanguageClient client,
+                                           WorkspaceServiceContext context,
+                                           Path projectRoot) {
         WorkspaceManager workspaceManager = context.workspace();
-        compileAndSendDiagnostics(workspaceManager, projectRoot, client);
+        diagnosticsScheduler.schedule(projectRoot, () -> workspaceManager.waitAndGetPackageCompilation(projectRoot)
+                .ifPresent(compilation -> compileAndSendDiagnostics(client, projectRoot, compilation,
+                        workspaceManager)));
     }
 
     /**
@@ -127,7 +165,7 @@ public class DiagnosticsHelper {
      * @param client  Language server client
      * @param context LS context
      */
-    public synchronized void compileAndSendDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context) {
+    public void compileAndSendDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context) {
         // Compile diagnostics
         Optional<Project> project = context.workspace().project(context.filePath());
         if (project.isEmpty()) {
@@ -144,9 +182,9 @@ public class DiagnosticsHelper {
      * @param projectRoot project root
      * @param compilation package compilation
      */
-    private synchronized void compileAndSendDiagnostics(ExtendedLanguageClient client, Path projectRoot,
-                                                        PackageCompilation compilation,
-                                                        WorkspaceManager workspaceManager) {
+    private void compileAndSendDiagnostics(ExtendedLanguageClient client, Path projectRoot,
+                                           PackageCompilation compilation,
+                                           WorkspaceManager workspaceManager) {
         PackageDiagnostics packageDiagnostics =
                 toDiagnosticsMap(compilation.diagnosticResult().diagnostics(false), projectRoot, workspaceManager);
         Map<Path, Set<String>> packageFileUris = new HashMap<>();
@@ -163,26 +201,146 @@ public class DiagnosticsHelper {
             return;
         }
 
+        Map<String, List<Diagnostic>> changedDiagnostics =
+                updateReports(diagnosticMap, compiledPackages, packageFileUris);
+        if (isPullDiagnosticsEnabled()) {
+            // The client pulls the diagnostics, hence only request the client to pull them again
+            if (!changedDiagnostics.isEmpty() && LSClientUtil.isDiagnosticsRefreshSupported(
+                    serverContext.get(LSClientCapabilities.class).getWorkspaceCapabilities())) {
+                client.refreshDiagnostics();
+            }
+        } else {
+            // Publish diagnostics of the files whose diagnostics have changed since the last publication
+            changedDiagnostics.forEach((fileUri, diagnostics) ->
+                    client.publishDiagnostics(new PublishDiagnosticsParams(fileUri, diagnostics)));
+        }
+
+        // Show cyclic dependency error message if exists
+        while (!this.cyclicDependencyErrors.isEmpty()) {
+            CommandUtil.notifyClient(client, MessageType.Error, this.cyclicDependencyErrors.pop());
+        }
+    }
+
+    /**
+     * Updates the diagnostics reports with the latest diagnostics of the compiled packages.
+     *
+     * @return diagnostics of the files whose diagnostics have changed, where the cleared files have no diagnostics
+     */
+    private synchronized Map<String, List<Diagnostic>> updateReports(Map<String, List<Diagnostic>> diagnosticMap,
+                                                                     List<Path> compiledPackages,
+                                                                     Map<Path, Set<String>> packageFileUris) {
+        Map<String, List<Diagnostic>> changedDiagnostics = new HashMap<>();
+
         // Clear old diagnostic entries only from compiled packages
         for (Path packageRoot : compiledPackages) {
             Set<String> lastFileUris = lastDiagnosticFileUris.getOrDefault(packageRoot, new HashSet<>());
             lastFileUris.forEach(fileUri -> {
-                if (!diagnosticMap.containsKey(fileUri)) {
-                    client.publishDiagnostics(new PublishDiagnosticsParams(fileUri, emptyDiagnosticList));
+                if (!diagnosticMap.containsKey(fileUri) && diagnosticReports.remove(fileUri) != null) {
+                    changedDiagnostics.put(fileUri, emptyDiagnosticList);
                 }
             });
         }
 
-        // Publish diagnostics for all packages
-        diagnosticMap.forEach((key, value) -> client.publishDiagnostics(new PublishDiagnosticsParams(key, value)));
-
-        // Show cyclic dependency error message if exists
-        while (!this.cyclicDependencyErrors.isEmpty()) {
-            CommandUtil.notifyClient(client, MessageType.Error, this.cyclicDependencyErrors.pop());
-        }
+        // A new result ID is assigned only to the files whose diagnostics have changed
+        diagnosticMap.forEach((fileUri, diagnostics) -> {
+            DiagnosticReport report = diagnosticReports.get(fileUri);
+            if (report == null || !report.diagnostics().equals(diagnostics)) {
+                String resultId = String.valueOf(lastResultId.incrementAndGet());
+                diagnosticReports.put(fileUri, new DiagnosticReport(resultId, diagnostics));
+                changedDiagnostics.put(fileUri, diagnostics);
+            }
+        });
 
         // Update tracked file URIs per package using the provided mappings
         packageFileUris.forEach((packageRoot, fileUris) -> lastDiagnosticFileUris.put(packageRoot, fileUris));
+        return changedDiagnostics;
+    }
+
+    /**
+     * Returns the diagnostics report of a document for the textDocument/diagnostic request. If the diagnostics of the
+     * document have not changed since the report with the given result ID, an unchanged report is returned.
+     *
+     * @param context          Document service context
+     * @param previousResultId Result ID of the last report received by the client, or null
+     * @return Diagnostics report of the document
+     */
+    public DocumentDiagnosticReport getDocumentDiagnosticReport(DocumentServiceContext context,
+                                                                String previousResultId) {
+        DiagnosticsResponse response = getLatestDiagnosticsWithPackages(context);
+        updateReports(response.diagnostics(), response.compiledPackages(), response.packageFileUris());
+
+        String fileUri = PathUtil.getModifiedUri(context.workspace(), context.filePath().toUri().toString());
+        DiagnosticReport report = diagnosticReports.getOrDefault(fileUri, EMPTY_REPORT);
+        if (report.resultId().equals(previousResultId)) {
+            return new DocumentDiagnosticReport(new RelatedUnchangedDocumentDiagnosticReport(report.resultId()));
+        }
+        RelatedFullDocumentDiagnosticReport fullReport = new RelatedFullDocumentDiagnosticReport(report.diagnostics());
+        fullReport.setResultId(report.resultId());
+        return new DocumentDiagnosticReport(fullReport);
+    }
+
+    /**
+     * Returns the diagnostics reports of the projects in the workspace for the workspace/diagnostic request. Only the
+     * files whose diagnostics have changed since the given result IDs are reported in full.
+     *
+     * @param workspaceManager  Workspace manager
+     * @param previousResultIds Result IDs of the last reports received by the client
+     * @return Diagnostics reports of the workspace
+     */
+    public WorkspaceDiagnosticReport getWorkspaceDiagnosticReport(WorkspaceManager workspaceManager,
+                                                                  List<PreviousResultId> previousResultIds) {
+        BallerinaCompilerApi compilerApi = BallerinaCompilerApi.getInstance();
+        Map<String, List<Diagnostic>> diagnosticMap = new HashMap<>();
+        List<Path> compiledPackages = new ArrayList<>();
+        Map<Path, Set<String>> packageFileUris = new HashMap<>();
+        workspaceManager.workspaceProjects().join().forEach((projectRoot, project) -> {
+            if (compilerApi.isWorkspaceProject(project)) {
+                List<Path> packageRoots = compilerApi.getWorkspaceProjects(project).stream()
+                        .map(Project::sourceRoot)
+                        .toList();
+                addPackageDiagnostics(workspaceManager, compilerApi, packageRoots, diagnosticMap, compiledPackages,
+                        packageFileUris);
+                return;
+            }
+            Path originalPath = project.kind() == ProjectKind.SINGLE_FILE_PROJECT
+                    ? projectRoot.getParent() : projectRoot;
+            workspaceManager.waitAndGetPackageCompilation(projectRoot).ifPresent(packageCompilation -> {
+                PackageDiagnostics pkgDiag = toDiagnosticsMap(
+                        packageCompilation.diagnosticResult().diagnostics(false), originalPath, workspaceManager);
+                diagnosticMap.putAll(pkgDiag.diagnostics());
+                compiledPackages.add(originalPath);
+                // The single file projects of a directory share the directory as the package root
+                packageFileUris.computeIfAbsent(originalPath, path -> new HashSet<>()).addAll(pkgDiag.fileUris());
+            });
+        });
+        updateReports(diagnosticMap, compiledPackages, packageFileUris);
+
+        // Report the files known to the client as well, so that the cleared files are reported without diagnostics
+        Map<String, String> previousResults = new HashMap<>();
+        previousResultIds.forEach(resultId -> previousResults.put(resultId.getUri(), resultId.getValue()));
+        Set<String> fileUris = new LinkedHashSet<>(diagnosticMap.keySet());
+        fileUris.addAll(previousResults.keySet());
+
+        List<WorkspaceDocumentDiagnosticReport> items = new ArrayList<>();
+        for (String fileUri : fileUris) {
+            DiagnosticReport report = diagnosticReports.getOrDefault(fileUri, EMPTY_REPORT);
+            if (report.resultId().equals(previousResults.get(fileUri))) {
+                items.add(new WorkspaceDocumentDiagnosticReport(
+                        new WorkspaceUnchangedDocumentDiagnosticReport(report.resultId(), fileUri, null)));
+            } else {
+                WorkspaceFullDocumentDiagnosticReport fullReport =
+                        new WorkspaceFullDocumentDiagnosticReport(report.diagnostics(), fileUri, null);
+                fullReport.setResultId(report.resultId());
+                items.add(new WorkspaceDocumentDiagnosticReport(fullReport));
+            }
+        }
+        return new WorkspaceDiagnosticReport(items);
+    }
+
+    private boolean isPullDiagnosticsEnabled() {
+        LSClientCapabilities clientCapabilities = serverContext.get(LSClientCapabilities.class);
+        return clientCapabilities != null &&
+                LSClientUtil.isPullDiagnosticsSupported(clientCapabilities.getTextDocCapabilities());
     }
 
     private DiagnosticsResponse getLatestDiagnosticsWithPackages(DocumentServiceContext context) {
@@ -220,37 +378,19 @@ public class DiagnosticsHelper {
                 packageFileUris.put(originalPath, pkgDiag.fileUris());
             });
 
-            // Get diagnostics from all dependent packages
-            Collection<Project> dependents = compilerApi.getWorkspaceDependents(workspaceProject, project.get());
-            for (Project dependent : dependents) {
-                Path dependentRoot = dependent.sourceRoot();
-                Optional<PackageCompilation> dependentCompilation =
-                        workspace.waitAndGetPackageCompilation(dependentRoot);
-                dependentCompilation.ifPresent(packageCompilation -> {
-                    PackageDiagnostics pkgDiag = toDiagnosticsMap(
-                            compilerApi.getDiagnostics(packageCompilation.diagnosticResult()),
-                            dependentRoot, workspace);
-                    diagnosticMap.putAll(pkgDiag.diagnostics());
-                    compiledPackages.add(dependentRoot);
-                    packageFileUris.put(dependentRoot, pkgDiag.fileUris());
-                });
-            }
+            // Get diagnostics from all dependent packages, which are compiled in parallel
+            List<Path> dependentRoots = compilerApi.getWorkspaceDependents(workspaceProject, project.get()).stream()
+                    .map(Project::sourceRoot)
+                    .toList();
+            addPackageDiagnostics(workspace, compilerApi, dependentRoots, diagnosticMap, compiledPackages,
+                    packageFileUris);
         } else if (compilerApi.isWorkspaceProject(project.get())) {
-            // Handle workspace project by iterating through all its packages
-            List<Project> projects = compilerApi.getWorkspaceProjects(project.get());
-            for (Project buildProject : projects) {
-                Path buildProjectRoot = buildProject.sourceRoot();
-                Optional<PackageCompilation> buildProjectCompilation =
-                        workspace.waitAndGetPackageCompilation(buildProjectRoot);
-                buildProjectCompilation.ifPresent(packageCompilation -> {
-                    PackageDiagnostics pkgDiag = toDiagnosticsMap(
-                            compilerApi.getDiagnostics(packageCompilation.diagnosticResult()),
-                            buildProjectRoot, workspace);
-                    diagnosticMap.putAll(pkgDiag.diagnostics());
-                    compiledPackages.add(buildProjectRoot);
-                    packageFileUris.put(buildProjectRoot, pkgDiag.fileUris());
-                });
-            }
+            // Handle workspace project by compiling all its packages in parallel
+            List<Path> packageRoots = compilerApi.getWorkspaceProjects(project.get()).stream()
+                    .map(Project::sourceRoot)
+                    .toList();
+            addPackageDiagnostics(workspace, compilerApi, packageRoots, diagnosticMap, compiledPackages,
+                    packageFileUris);
         } else {
             // Fall back to single package compilation
             Optional<PackageCompilation> compilation = workspace.waitAndGetPackageCompilation(context.filePath());
@@ -265,6 +405,52 @@ public class DiagnosticsHelper {
         return new DiagnosticsResponse(diagnosticMap, compiledPackages, packageFileUris);
     }
 
+    /**
+     * Compiles the given packages in parallel and adds their diagnostics in the order of the packages.
+     *
+     * <p>
+     * The compilations are submitted to the background lane, which also runs the diagnostics publishing tasks calling
+     * this method. Hence, the caller runs each compilation no thread of the lane has started yet, so that it never
+     * waits for a compilation queued behind the tasks occupying the lane.
+     * </p>
+     */
+    private void addPackageDiagnostics(WorkspaceManager workspace, BallerinaCompilerApi compilerApi,
+                                       List<Path> packageRoots, Map<String, List<Diagnostic>> diagnosticMap,
+                                       List<Path> compiledPackages, Map<Path, Set<String>> packageFileUris) {
+        List<FutureTask<Optional<PackageDiagnostics>>> packageDiagnostics = new ArrayList<>();
+        for (Path packageRoot : packageRoots) {
+            FutureTask<Optional<PackageDiagnostics>> compilationTask = new FutureTask<>(() ->
+                    workspace.waitAndGetPackageCompilation(packageRoot).map(packageCompilation ->
+                            toDiagnosticsMap(compilerApi.getDiagnostics(packageCompilation.diagnosticResult()),
+                                    packageRoot, workspace)));
+            packageDiagnostics.add(compilationTask);
+            compilationExecutor.execute(compilationTask);
+        }
+        for (int i = 0; i < packageRoots.size(); i++) {
+            Path packageRoot = packageRoots.get(i);
+            runAndGet(packageDiagnostics.get(i)).ifPresent(pkgDiag -> {
+                diagnosticMap.putAll(pkgDiag.diagnostics());
+                compiledPackages.add(packageRoot);
+                packageFileUris.put(packageRoot, pkgDiag.fileUris());
+            });
+        }
+    }
+
+    /**
+     * Runs the given task on the current thread unless another thread has already started it, and returns its result.
+     */
+    private static <T> T runAndGet(FutureTask<T> task) {
+        task.run();
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for the package compilation");
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
     public Map<String, List<Diagnostic>> getLatestDiagnostics(DocumentServiceContext context) {
         return getLatestDiagnosticsWithPackages(context).diagnostics();
     }
@@ -298,23 +484,6 @@ public class DiagnosticsHelper {
         return new PackageDiagnostics(diagnosticsMap, fileUris);
     }
 
-    private synchronized void compileAndSendDiagnostics(WorkspaceManager workspaceManager,
-                                                        Path projectRoot,
-                                                        ExtendedLanguageClient client) {
-        if (latestScheduled != null && !latestScheduled.isDone()) {
-            latestScheduled.completeExceptionally(new Throwable("Cancelled diagnostic publisher"));
-        }
-
-        Executor delayedExecutor = CompletableFuture.delayedExecutor(DIAGNOSTIC_DELAY, TimeUnit.SECONDS);
-        CompletableFuture<Boolean> scheduledFuture = CompletableFuture.supplyAsync(() -> true, delayedExecutor);
-        latestScheduled = scheduledFuture;
-        scheduledFuture
-                .thenApplyAsync((bool) -> workspaceManager.waitAndGetPackageCompilation(projectRoot))
-                .thenAccept(compilation ->
-                        compilation.ifPresent(pkgCompilation ->
-                                compileAndSendDiagnostics(client, projectRoot, pkgCompilation, workspaceManager)));
-    }
-
     public static Diagnostic getLSDiagnosticsFromCompilationDiagnostics(
             LineRange lineRange, io.ballerina.tools.diagnostics.Diagnostic diag) {
         int startLine = lineRange.startLine().line();
@@ -366,4 +535,13 @@ public class DiagnosticsHelper {
     private record DiagnosticsResponse(Map<String, List<Diagnostic>> diagnostics, List<Path> compiledPackages,
                                        Map<Path, Set<String>> packageFileUris) {
     }
+
+    /**
+     * Diagnostics report of a file.
+     *
+     * @param resultId    Result ID of the report, which changes only when the diagnostics of the file change
+     * @param diagnostics Diagnostics of the file
+     */
+    private record DiagnosticReport(String resultId, List<Diagnostic> diagnostics) {
+    }
 }
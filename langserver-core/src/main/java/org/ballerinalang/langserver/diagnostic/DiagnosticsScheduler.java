@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.diagnostic;
+
+import org.ballerinalang.langserver.LSClientLogger;
+import org.ballerinalang.langserver.LSContextOperation;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.eclipse.lsp4j.Position;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Schedules the diagnostics publishing tasks of the projects.
+ *
+ * <p>
+ * A task is executed once the given delay has passed since the last task scheduled for the same project, and a task
+ * scheduled while another task is waiting for the same project supersedes the waiting task. At most one task of a
+ * project is executed at a time, while the tasks of different projects are executed in parallel, so that a slow
+ * compilation of a project does not delay the diagnostics of the other projects.
+ * </p>
+ *
+ * <p>
+ * The scheduler does not own any threads. The delays are tracked by the shared delayer of
+ * {@link CompletableFuture#delayedExecutor}, and the tasks are executed on the background lane of the server
+ * executors, which are shut down with the language server. The metrics of the scheduler are written to the trace log
+ * after each task.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+public class DiagnosticsScheduler {
+
+    private static final LanguageServerContext.Key<DiagnosticsScheduler> DIAGNOSTICS_SCHEDULER_KEY =
+            new LanguageServerContext.Key<>();
+    private static final long DIAGNOSTIC_DELAY = 1000;
+
+    private final LSClientLogger clientLogger;
+    private final Executor delayer;
+    private final Executor workers;
+    private final Map<Path, ProjectTasks> projectTasks;
+
+    // Metrics of the scheduler
+    private final LongAdder scheduledTasks;
+    private final LongAdder supersededTasks;
+    private final LongAdder completedTasks;
+    private final LongAdder failedTasks;
+    private final LongAdder totalLatency;
+    private final AtomicLong lastLatency;
+    private final AtomicLong maxLatency;
+
+    public static DiagnosticsScheduler getInstance(LanguageServerContext serverContext) {
+        DiagnosticsScheduler diagnosticsScheduler = serverContext.get(DIAGNOSTICS_SCHEDULER_KEY);
+        if (diagnosticsScheduler == null) {
+            diagnosticsScheduler = new DiagnosticsScheduler(serverContext, DIAGNOSTIC_DELAY);
+        }
+
+        return diagnosticsScheduler;
+    }
+
+    DiagnosticsScheduler(LanguageServerContext serverContext, long delay) {
+        serverContext.put(DIAGNOSTICS_SCHEDULER_KEY, this);
+        this.clientLogger = LSClientLogger.getInstance(serverContext);
+        // The delayed action only dispatches the task, so it runs on the delayer thread
+        this.delayer = CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, Runnable::run);
+        this.workers = serverContext.executors().background();
+        this.projectTasks = new ConcurrentHashMap<>();
+        this.scheduledTasks = new LongAdder();
+        this.supersededTasks = new LongAdder();
+        this.completedTasks = new LongAdder();
+        this.failedTasks = new LongAdder();
+        this.totalLatency = new LongAdder();
+        this.lastLatency = new AtomicLong();
+        this.maxLatency = new AtomicLong();
+    }
+
+    /**
+     * Schedules the given diagnostics publishing task of a project. A task of the project which is waiting to be
+     * executed is discarded, since the given task publishes the latest diagnostics of the project.
+     *
+     * @param projectRoot Root of the project
+     * @param task        Task to publish the diagnostics of the project
+     */
+    public void schedule(Path projectRoot, Runnable task) {
+        projectTasks.computeIfAbsent(projectRoot, ProjectTasks::new).schedule(task);
+    }
+
+    /**
+     * Returns the metrics of the scheduler.
+     *
+     * @return Metrics of the scheduler
+     */
+    public Metrics metrics() {
+        int queued = 0;
+        int running = 0;
+        for (ProjectTasks tasks : projectTasks.values()) {
+            synchronized (tasks) {
+                queued += tasks.pending != null ? 1 : 0;
+                running += tasks.running ? 1 : 0;
+            }
+        }
+        long completed = completedTasks.sum() + failedTasks.sum();
+        return new Metrics(queued, running, scheduledTasks.sum(), supersededTasks.sum(), completedTasks.sum(),
+                failedTasks.sum(), lastLatency.get(), maxLatency.get(),
+                completed == 0 ? 0 : totalLatency.sum() / completed);
+    }
+
+    private void recordLatency(long latency) {
+        totalLatency.add(latency);
+        lastLatency.set(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+    /**
+     * Diagnostics publishing tasks of a project.
+     */
+    private class ProjectTasks {
+
+        private final Path projectRoot;
+        private Runnable pending;
+        private long pendingSince;
+        private CompletableFuture<Void> timerFuture;
+        private boolean running;
+
+        ProjectTasks(Path projectRoot) {
+            this.projectRoot = projectRoot;
+        }
+
+        synchronized void schedule(Runnable task) {
+            scheduledTasks.increment();
+            if (pending != null) {
+                supersededTasks.increment();
+            } else {
+                pendingSince = System.nanoTime();
+            }
+            pending = task;
+
+            // A task scheduled while another task is running is dispatched once the running task completes
+            if (!running) {
+                restartTimer();
+            }
+        }
+
+        private void restartTimer() {
+            if (timerFuture != null) {
+                timerFuture.cancel(false);
+            }
+            timerFuture = CompletableFuture.runAsync(this::dispatch, delayer);
+        }
+
+        private synchronized void dispatch() {
+            if (running || pending == null) {
+                return;
+            }
+            Runnable task = pending;
+            long scheduledAt = pendingSince;
+            pending = null;
+            timerFuture = null;
+            running = true;
+            workers.execute(() -> execute(task, scheduledAt));
+        }
+
+        private void execute(Runnable task, long scheduledAt) {
+            try {
+                task.run();
+                completedTasks.increment();
+            } catch (Throwable e) {
+                failedTasks.increment();
+                String msg = "Operation 'publishDiagnostics' failed for the project: " + projectRoot;
+                clientLogger.logError(LSContextOperation.TXT_PUBLISH_DIAGNOSTICS, msg, e, null, (Position) null);
+            } finally {
+                long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scheduledAt);
+                recordLatency(latency);
+                synchronized (this) {
+                    running = false;
+                    if (pending != null) {
+                        restartTimer();
+                    }
+                }
+                clientLogger.logTrace(String.format("Published the diagnostics of the project '%s' in %d ms, %s",
+                        projectRoot, latency, metrics()));
+            }
+        }
+    }
+
+    /**
+     * Metrics of the diagnostics scheduler.
+     *
+     * @param queuedProjects        Number of projects with a task waiting to be executed
+     * @param runningProjects       Number of projects with a running task
+     * @param scheduledTasks        Number of tasks scheduled
+     * @param supersededTasks       Number of tasks discarded in favour of a later task of the same project
+     * @param completedTasks        Number of tasks completed
+     * @param failedTasks           Number of tasks failed
+     * @param lastLatencyMillis     Time from scheduling to the completion of the last task
+     * @param maxLatencyMillis      Maximum time from scheduling to the completion of a task
+     * @param averageLatencyMillis  Average time from scheduling to the completion of a task
+     */
+    public record Metrics(int queuedProjects, int runningProjects, long scheduledTasks, long supersededTasks,
+                          long completedTasks, long failedTasks, long lastLatencyMillis, long maxLatencyMillis,
+                          long averageLatencyMillis) {
+    }
+}
@@ -50,6 +50,7 @@ import org.ballerinalang.diagramutil.connector.models.connector.Connector;
 import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.commons.BallerinaCompilerApi;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.exception.LSConnectorException;
@@ -87,6 +88,7 @@ public class BallerinaConnectorService implements ExtendedLanguageServerService
     private WorkspaceManager workspaceManager;
     private ConnectorExtContext connectorExtContext;
     private LSClientLogger clientLogger;
+    private ServerExecutors executors;
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
@@ -98,6 +100,7 @@ public class BallerinaConnectorService implements ExtendedLanguageServerService
         if (connectorConfig == null) {
             connectorConfig = System.getProperty(DEFAULT_CONNECTOR_FILE_KEY);
         }
+        this.executors = serverContext.executors();
     }
 
     @JsonRequest
@@ -130,7 +133,7 @@ public class BallerinaConnectorService implements ExtendedLanguageServerService
                 this.clientLogger.logError(this.connectorExtContext, msg, e, null, (Position) null);
             }
             return connectorList;
-        });
+        }, executors.io());
     }
 
     /**
@@ -186,7 +189,7 @@ public class BallerinaConnectorService implements ExtendedLanguageServerService
                 return connector.get();
             }
             return new JsonObject();
-        });
+        }, executors.io());
     }
 
     private Optional<JsonObject> getConnectorFromCentral(BallerinaConnectorRequest request) {
@@ -314,7 +317,7 @@ public class BallerinaConnectorService implements ExtendedLanguageServerService
         }
         BallerinaRecordResponse response = new BallerinaRecordResponse(request.getOrg(), request.getModule(),
                 request.getVersion(), request.getName(), ast, error, request.getBeta());
-        return CompletableFuture.supplyAsync(() -> response);
+        return CompletableFuture.completedFuture(response);
     }
 
     private String getCacheableKey(String orgName, String moduleName, String version) {
@@ -16,6 +16,7 @@
 package org.ballerinalang.langserver.extensions.ballerina.document;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
@@ -32,6 +33,7 @@ import io.ballerina.tools.text.LinePosition;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.diagramutil.DiagramUtil;
+import org.ballerinalang.diagramutil.IncrementalSyntaxTreeGenerator.SyntaxTreeJson;
 import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.LSContextOperation;
 import org.ballerinalang.langserver.command.executors.PullModuleExecutor;
@@ -40,6 +42,7 @@ import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.BallerinaDefinitionContext;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
@@ -87,6 +90,8 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
     private WorkspaceManagerProxy workspaceManagerProxy;
     private LSClientLogger clientLogger;
     private LanguageServerContext serverContext;
+    private ServerExecutors executors;
+    private final SyntaxTreeGenerators syntaxTreeGenerators = new SyntaxTreeGenerators();
 
     @Override
     public void init(LanguageServer langServer,
@@ -95,6 +100,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
         this.workspaceManagerProxy = workspaceManagerProxy;
         this.serverContext = serverContext;
         this.clientLogger = LSClientLogger.getInstance(serverContext);
+        this.executors = serverContext.executors();
     }
 
     @JsonRequest
@@ -133,7 +139,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
                         request.getDocumentIdentifier(), (Position) null);
             }
             return reply;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -142,24 +148,27 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
         String fileUri = request.getDocumentIdentifier().getUri();
         Optional<Path> filePath = PathUtil.getPathFromURI(fileUri);
         if (filePath.isEmpty()) {
-            return CompletableFuture.supplyAsync(() -> reply);
+            return CompletableFuture.completedFuture(reply);
         }
 
         try {
             Optional<Document> srcFile = this.workspaceManagerProxy.get().document(filePath.get());
             if (srcFile.isEmpty()) {
-                return CompletableFuture.supplyAsync(() -> reply);
+                return CompletableFuture.completedFuture(reply);
             }
 
             // Get the semantic model.
             Optional<SemanticModel> semanticModel = this.workspaceManagerProxy.get().semanticModel(filePath.get());
 
-            // Get the generated syntax tree JSON with type info.
-            JsonElement jsonSyntaxTree = DiagramUtil.getSyntaxTreeJSON(srcFile.get(), semanticModel.get());
+            // Get the generated syntax tree JSON with type info, reusing the unchanged members of the last tree.
+            SyntaxTreeJson syntaxTreeJson = this.syntaxTreeGenerators.get(filePath.get())
+                    .generate(srcFile.get(), semanticModel.get(), request.getPreviousResultId());
 
             // Preparing the response.
             reply.setSource(srcFile.get().syntaxTree().toSourceCode());
-            reply.setSyntaxTree(jsonSyntaxTree);
+            reply.setSyntaxTree(syntaxTreeJson.syntaxTree());
+            reply.setResultId(syntaxTreeJson.resultId());
+            reply.setBaseResultId(syntaxTreeJson.baseResultId());
             reply.setParseSuccess(reply.getSyntaxTree() != null);
         } catch (Throwable e) {
             reply.setParseSuccess(false);
@@ -167,7 +176,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
             this.clientLogger.logError(DocumentContext.DC_SYNTAX_TREE, msg, e, request.getDocumentIdentifier(),
                     (Position) null);
         }
-        return CompletableFuture.supplyAsync(() -> reply);
+        return CompletableFuture.completedFuture(reply);
     }
 
     @JsonRequest
@@ -208,7 +217,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
                         request.getDocumentIdentifier(), (Position) null);
                 return reply;
             }
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -252,7 +261,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
                         request.getDocumentIdentifier(), (Position) null);
                 return reply;
             }
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -262,17 +271,22 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
         Optional<Path> filePath = PathUtil.getPathFromURI(fileUri);
         if (filePath.isEmpty()) {
             reply.setParseSuccess(false);
-            return CompletableFuture.supplyAsync(() -> reply);
+            return CompletableFuture.completedFuture(reply);
         }
 
         try {
             // Apply modifications.
-            JsonElement syntaxTreeWithSource = BallerinaTreeModifyUtil.modifyTree(request.getAstModifications(),
-                    filePath.get(), this.workspaceManagerProxy.get());
+            JsonObject syntaxTreeWithSource = BallerinaTreeModifyUtil.modifyTree(request.getAstModifications(),
+                    filePath.get(), this.workspaceManagerProxy.get(), this.syntaxTreeGenerators.get(filePath.get()),
+                    request.getPreviousResultId()).getAsJsonObject();
 
             // Preparing the response.
-            reply.setSource(syntaxTreeWithSource.getAsJsonObject().get("source").getAsString());
-            reply.setSyntaxTree(syntaxTreeWithSource.getAsJsonObject().get("tree"));
+            reply.setSource(syntaxTreeWithSource.get("source").getAsString());
+            reply.setSyntaxTree(syntaxTreeWithSource.get("tree"));
+            reply.setResultId(syntaxTreeWithSource.get("resultId").getAsString());
+            if (syntaxTreeWithSource.has("baseResultId")) {
+                reply.setBaseResultId(syntaxTreeWithSource.get("baseResultId").getAsString());
+            }
             reply.setParseSuccess(reply.getSyntaxTree() != null);
         } catch (Throwable e) {
             reply.setParseSuccess(false);
@@ -280,7 +294,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
             this.clientLogger.logError(DocumentContext.DC_SYNTAX_TREE_MODIFY, msg, e, request.getDocumentIdentifier(),
                     (Position) null);
         }
-        return CompletableFuture.supplyAsync(() -> reply);
+        return CompletableFuture.completedFuture(reply);
     }
 
     @JsonRequest
@@ -289,7 +303,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
         String fileUri = request.getDocumentIdentifier().getUri();
         Optional<Path> filePath = PathUtil.getPathFromURI(fileUri);
         if (filePath.isEmpty()) {
-            return CompletableFuture.supplyAsync(() -> reply);
+            return CompletableFuture.completedFuture(reply);
         }
         try {
             // Apply modifications to the trigger
@@ -306,7 +320,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
             this.clientLogger.logError(DocumentContext.DC_AST, msg, e, request.getDocumentIdentifier(),
                     (Position) null);
         }
-        return CompletableFuture.supplyAsync(() -> reply);
+        return CompletableFuture.completedFuture(reply);
     }
 
     @JsonRequest
@@ -389,7 +403,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
                         request.getDocumentIdentifier(), (Position) null);
                 return reply;
             }
-        });
+        }, executors.interactive());
     }
     /**
      * @deprecated use {@link BallerinaPackageService} instead.
@@ -421,7 +435,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
                         (Position) null);
             }
             return ballerinaProject;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -444,7 +458,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
                         (Position) null);
                 return Collections.emptyList();
             }
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -475,7 +489,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
                         (Position) null);
             }
             return syntaxTreeNodeResponse;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -497,7 +511,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
                         (Position) null);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -532,7 +546,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
                         request.getDocumentIdentifier(), (Position) null);
             }
             return reply;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -576,7 +590,7 @@ public class BallerinaDocumentService implements ExtendedLanguageServerService {
                 handleException(reply, request, e);
             }
             return reply;
-        });
+        }, executors.interactive());
     }
 
     @Override
@@ -26,6 +26,7 @@ public class BallerinaSyntaxTreeModifyRequest {
 
     private TextDocumentIdentifier documentIdentifier;
     private ASTModification[] astModifications;
+    private String previousResultId;
 
     public BallerinaSyntaxTreeModifyRequest() {
     }
@@ -52,4 +53,17 @@ public class BallerinaSyntaxTreeModifyRequest {
         this.documentIdentifier = documentIdentifier;
     }
 
+    /**
+     * Returns the result id of the syntax tree held by the client. When it is the result id of the last syntax tree
+     * generated for the document, the response carries a patch of that syntax tree.
+     *
+     * @return result id of the previous syntax tree, or null to request the complete syntax tree
+     */
+    public String getPreviousResultId() {
+        return previousResultId;
+    }
+
+    public void setPreviousResultId(String previousResultId) {
+        this.previousResultId = previousResultId;
+    }
 }
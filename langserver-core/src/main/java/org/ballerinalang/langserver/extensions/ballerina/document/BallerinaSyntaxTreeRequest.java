@@ -25,6 +25,7 @@ import org.eclipse.lsp4j.TextDocumentIdentifier;
 public class BallerinaSyntaxTreeRequest {
 
     private TextDocumentIdentifier documentIdentifier;
+    private String previousResultId;
 
     public BallerinaSyntaxTreeRequest() {
     }
@@ -40,4 +41,18 @@ public class BallerinaSyntaxTreeRequest {
     public void setDocumentIdentifier(TextDocumentIdentifier documentIdentifier) {
         this.documentIdentifier = documentIdentifier;
     }
+
+    /**
+     * Returns the result id of the syntax tree held by the client. When it is the result id of the last syntax tree
+     * generated for the document, the response carries a patch of that syntax tree.
+     *
+     * @return result id of the previous syntax tree, or null to request the complete syntax tree
+     */
+    public String getPreviousResultId() {
+        return previousResultId;
+    }
+
+    public void setPreviousResultId(String previousResultId) {
+        this.previousResultId = previousResultId;
+    }
 }
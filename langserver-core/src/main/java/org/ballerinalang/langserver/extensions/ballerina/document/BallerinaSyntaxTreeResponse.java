@@ -32,6 +32,10 @@ public class BallerinaSyntaxTreeResponse {
 
     private boolean parseSuccess;
 
+    private String resultId;
+
+    private String baseResultId;
+
     public JsonElement getSyntaxTree() {
         return syntaxTree;
     }
@@ -64,4 +68,34 @@ public class BallerinaSyntaxTreeResponse {
         return defFilePath;
     }
 
+    /**
+     * Returns the result id of the syntax tree, which can be given as the previous result id of a subsequent request
+     * to receive a patch of the syntax tree.
+     *
+     * @return result id of the syntax tree
+     */
+    public String getResultId() {
+        return resultId;
+    }
+
+    public void setResultId(String resultId) {
+        this.resultId = resultId;
+    }
+
+    /**
+     * Returns the result id of the syntax tree the patch in this response applies to. In a patch, a module member which
+     * did not change is given as {@code {"previousIndex": <index>, "lineDelta": <delta>}}, where the index is of the
+     * member in the members of the base syntax tree, and the delta is the number of lines to add to the lines of the
+     * positions of the member.
+     *
+     * @return result id of the base syntax tree, or null if the response carries the complete syntax tree
+     */
+    public String getBaseResultId() {
+        return baseResultId;
+    }
+
+    public void setBaseResultId(String baseResultId) {
+        this.baseResultId = baseResultId;
+    }
+
 }
@@ -31,6 +31,8 @@ import io.ballerina.tools.text.TextDocumentChange;
 import io.ballerina.tools.text.TextEdit;
 import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.diagramutil.DiagramUtil;
+import org.ballerinalang.diagramutil.IncrementalSyntaxTreeGenerator;
+import org.ballerinalang.diagramutil.IncrementalSyntaxTreeGenerator.SyntaxTreeJson;
 import org.ballerinalang.diagramutil.JSONGenerationException;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
@@ -140,6 +142,26 @@ public final class BallerinaTreeModifyUtil {
     public static JsonElement modifyTree(ASTModification[] astModifications, Path compilationPath,
                                          WorkspaceManager workspaceManager)
             throws Exception {
+        return modifyTree(astModifications, compilationPath, workspaceManager, null, null);
+    }
+
+    /**
+     * Applies the modifications to the document and generates the syntax tree of the modified document with the given
+     * incremental syntax tree generator. The result id of the syntax tree is added to the result as "resultId", and
+     * when the syntax tree is a patch of the given previous syntax tree, its result id is added as "baseResultId".
+     *
+     * @param astModifications modifications to be applied
+     * @param compilationPath  path of the document
+     * @param workspaceManager workspace manager
+     * @param generator        incremental syntax tree generator of the document, or null to generate the complete tree
+     * @param previousResultId result id of the syntax tree held by the client, if any
+     * @return syntax tree and the source of the modified document
+     * @throws Exception if the modifications cannot be applied
+     */
+    public static JsonElement modifyTree(ASTModification[] astModifications, Path compilationPath,
+                                         WorkspaceManager workspaceManager, IncrementalSyntaxTreeGenerator generator,
+                                         String previousResultId)
+            throws Exception {
         Optional<SyntaxTree> oldSyntaxTree = workspaceManager.syntaxTree(compilationPath);
         if (oldSyntaxTree.isEmpty()) {
             throw new JSONGenerationException("Modification error");
@@ -210,9 +232,19 @@ public final class BallerinaTreeModifyUtil {
             throw new JSONGenerationException("Modification error");
         }
 
-        JsonElement syntaxTreeJson = DiagramUtil.getSyntaxTreeJSON(formattedSrcFile.get(), newSemanticModel);
         JsonObject jsonTreeWithSource = new JsonObject();
-        jsonTreeWithSource.add("tree", syntaxTreeJson);
+        if (generator == null) {
+            JsonElement syntaxTreeJson = DiagramUtil.getSyntaxTreeJSON(formattedSrcFile.get(), newSemanticModel);
+            jsonTreeWithSource.add("tree", syntaxTreeJson);
+        } else {
+            SyntaxTreeJson syntaxTreeJson = generator.generate(formattedSrcFile.get(), newSemanticModel,
+                    previousResultId);
+            jsonTreeWithSource.add("tree", syntaxTreeJson.syntaxTree());
+            jsonTreeWithSource.addProperty("resultId", syntaxTreeJson.resultId());
+            if (syntaxTreeJson.isPatch()) {
+                jsonTreeWithSource.addProperty("baseResultId", syntaxTreeJson.baseResultId());
+            }
+        }
         jsonTreeWithSource.addProperty("source", formattedSrcFile.get().syntaxTree().toSourceCode());
 
         return jsonTreeWithSource;
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.extensions.ballerina.document;
+
+import org.ballerinalang.diagramutil.IncrementalSyntaxTreeGenerator;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Holds the incremental syntax tree generators of the documents whose syntax trees were requested most recently. The
+ * generator of the least recently requested document is discarded once the limit is reached, after which the next
+ * syntax tree of that document is generated completely.
+ *
+ * @since 1.7.0
+ */
+class SyntaxTreeGenerators {
+
+    private static final int MAX_DOCUMENTS = 16;
+
+    private final Map<Path, IncrementalSyntaxTreeGenerator> generators =
+            new LinkedHashMap<>(MAX_DOCUMENTS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Path, IncrementalSyntaxTreeGenerator> eldest) {
+                    return size() > MAX_DOCUMENTS;
+                }
+            };
+
+    /**
+     * Returns the incremental syntax tree generator of the given document.
+     *
+     * @param filePath path of the document
+     * @return {@link IncrementalSyntaxTreeGenerator}
+     */
+    synchronized IncrementalSyntaxTreeGenerator get(Path filePath) {
+        return generators.computeIfAbsent(filePath, path -> new IncrementalSyntaxTreeGenerator());
+    }
+}
@@ -22,6 +22,7 @@ import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.Position;
@@ -50,11 +51,13 @@ public class BallerinaExampleService implements ExtendedLanguageServerService {
     private static final String EXAMPLES_DIR = "examples";
     private static final TypeToken<List<BallerinaExampleCategory>> EXAMPLE_CATEGORY_TYPE = new TypeToken<>() { };
     private  LSClientLogger clientLogger;
+    private ServerExecutors executors;
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
                      LanguageServerContext serverContext) {
         this.clientLogger = LSClientLogger.getInstance(serverContext);
+        this.executors = serverContext.executors();
     }
 
     @JsonRequest
@@ -77,7 +80,7 @@ public class BallerinaExampleService implements ExtendedLanguageServerService {
                 response.setSamples(new ArrayList<>());
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @Override
@@ -28,6 +28,7 @@ import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.exception.UserErrorException;
@@ -53,12 +54,14 @@ public class BallerinaPackageService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
     private LSClientLogger clientLogger;
+    private ServerExecutors executors;
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
                      LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
         this.clientLogger = LSClientLogger.getInstance(serverContext);
+        this.executors = serverContext.executors();
     }
 
     @JsonRequest
@@ -87,7 +90,7 @@ public class BallerinaPackageService implements ExtendedLanguageServerService {
                         (Position) null);
             }
             return metadata;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -114,7 +117,7 @@ public class BallerinaPackageService implements ExtendedLanguageServerService {
             }
             response.setProjectPackages(jsonPackages);
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -142,7 +145,7 @@ public class BallerinaPackageService implements ExtendedLanguageServerService {
                     request.getDocumentIdentifier(), (Position) null);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @Override
@@ -32,6 +32,7 @@ import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.LSOperation;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManagerProxy;
@@ -59,12 +60,14 @@ public class BallerinaRunnerService implements ExtendedLanguageServerService {
 
     private WorkspaceManagerProxy workspaceManagerProxy;
     private LSClientLogger clientLogger;
+    private ServerExecutors executors;
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManagerProxy workspaceManagerProxy,
                      LanguageServerContext serverContext) {
         this.workspaceManagerProxy = workspaceManagerProxy;
         this.clientLogger = LSClientLogger.getInstance(serverContext);
+        this.executors = serverContext.executors();
     }
 
     /**
@@ -94,7 +97,7 @@ public class BallerinaRunnerService implements ExtendedLanguageServerService {
                         (Position) null);
             }
             return new ProjectDiagnosticsResponse();
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -143,7 +146,7 @@ public class BallerinaRunnerService implements ExtendedLanguageServerService {
                         request.getProjectRootIdentifier(), (Position) null);
             }
             return new MainFunctionParamsResponse(false, null, null);
-        });
+        }, executors.interactive());
     }
 
     @Override
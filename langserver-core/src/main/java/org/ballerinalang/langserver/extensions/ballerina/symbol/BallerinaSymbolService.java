@@ -47,6 +47,7 @@ import org.ballerinalang.langserver.common.utils.NameUtil;
 import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManagerProxy;
 import org.ballerinalang.langserver.contexts.ContextBuilder;
@@ -76,6 +77,7 @@ public class BallerinaSymbolService implements ExtendedLanguageServerService {
     private WorkspaceManagerProxy workspaceManagerProxy;
     private LSClientLogger clientLogger;
     private LanguageServerContext serverContext;
+    private ServerExecutors executors;
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManagerProxy workspaceManagerProxy,
@@ -83,6 +85,7 @@ public class BallerinaSymbolService implements ExtendedLanguageServerService {
         this.workspaceManagerProxy = workspaceManagerProxy;
         this.serverContext = serverContext;
         this.clientLogger = LSClientLogger.getInstance(serverContext);
+        this.executors = serverContext.executors();
     }
 
     @JsonRequest
@@ -91,7 +94,7 @@ public class BallerinaSymbolService implements ExtendedLanguageServerService {
             BallerinaEndpointsResponse response = new BallerinaEndpointsResponse();
             response.setEndpoints(getClientEndpoints());
             return response;
-        });
+        }, executors.interactive());
     }
 
     private List<Endpoint> getClientEndpoints() {
@@ -138,7 +141,7 @@ public class BallerinaSymbolService implements ExtendedLanguageServerService {
                         request.getDocumentIdentifier(), (Position) null);
                 return expressionTypeResponse;
             }
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -177,7 +180,7 @@ public class BallerinaSymbolService implements ExtendedLanguageServerService {
                         request.getDocumentIdentifier(), (Position) null);
                 return typesResponse;
             }
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -213,7 +216,7 @@ public class BallerinaSymbolService implements ExtendedLanguageServerService {
                         request.getDocumentIdentifier(), (Position) null);
                 return typeFromSymbolResponse;
             }
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -252,7 +255,7 @@ public class BallerinaSymbolService implements ExtendedLanguageServerService {
                         request.getDocumentIdentifier(), (Position) null);
                 return typeFromSymbolResponse;
             }
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -309,7 +312,7 @@ public class BallerinaSymbolService implements ExtendedLanguageServerService {
                         request.getDocumentIdentifier(), (Position) null);
                 return symbolInfoResponse;
             }
-        });
+        }, executors.interactive());
     }
 
     private List<String> getAllUnionTypes(Symbol symbol) {
@@ -353,8 +356,8 @@ public class BallerinaSymbolService implements ExtendedLanguageServerService {
         switch (exprNode.kind()) {
             case IMPLICIT_NEW_EXPRESSION:
             case EXPLICIT_NEW_EXPRESSION:
-                Optional<TypeSymbol> optionalTypeSymbol = context.currentSemanticModel()
-                        .flatMap(semanticModel -> semanticModel.typeOf(exprNode))
+                Optional<TypeSymbol> optionalTypeSymbol = context.semanticQueries()
+                        .flatMap(queries -> queries.typeOf(exprNode))
                         .map(CommonUtil::getRawType);
                 if (optionalTypeSymbol.isEmpty()) {
                     break;
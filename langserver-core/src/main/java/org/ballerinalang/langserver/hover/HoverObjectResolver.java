@@ -352,8 +352,8 @@ public class HoverObjectResolver {
         switch (exprNode.kind()) {
             case IMPLICIT_NEW_EXPRESSION:
             case EXPLICIT_NEW_EXPRESSION:
-                Optional<TypeSymbol> optionalTypeSymbol = context.currentSemanticModel()
-                        .flatMap(semanticModel -> semanticModel.typeOf(exprNode))
+                Optional<TypeSymbol> optionalTypeSymbol = context.semanticQueries()
+                        .flatMap(queries -> queries.typeOf(exprNode))
                         .map(CommonUtil::getRawType);
                 if (optionalTypeSymbol.isEmpty()) {
                     break;
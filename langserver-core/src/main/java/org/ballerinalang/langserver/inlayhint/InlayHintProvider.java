@@ -185,8 +185,8 @@ public final class InlayHintProvider {
     private static Pair<List<ParameterSymbol>, Optional<ParameterSymbol>> getParameterSymbolsForNewExpression(
             InlayHintContext context,
             NonTerminalNode node) {
-        Optional<TypeSymbol> symbol = context.currentSemanticModel()
-                .flatMap(semanticModel -> semanticModel.typeOf(node))
+        Optional<TypeSymbol> symbol = context.semanticQueries()
+                .flatMap(queries -> queries.typeOf(node))
                 .flatMap(typeSymbol -> Optional.of(CommonUtil.getRawType(typeSymbol))).stream().findFirst();
         if (symbol.isEmpty()) {
             return Pair.of(Collections.emptyList(), Optional.empty());
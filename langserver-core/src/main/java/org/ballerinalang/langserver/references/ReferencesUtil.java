@@ -57,7 +57,8 @@ public final class ReferencesUtil {
         if (project.isEmpty() || symbol.isEmpty()) {
             return references;
         }
-        references.putAll(getReferences(project.get(), symbol.get()));
+        references.putAll(SymbolReferenceIndex.getInstance(context.languageServercontext())
+                .getReferences(project.get(), symbol.get()));
         references.forEach((module, locations) -> {
             List<Location> docReferences = new LinkedList<>();
             // Find references in documentation
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.references;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.syntax.tree.IdentifierToken;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxInfo;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Indexes the references of the symbols of a project, so that find references and rename requests do not walk the
+ * semantic models of all the documents of the project. The names referred in each document are indexed, and only the
+ * documents referring the name of a symbol are searched for the references of it. The symbols which can be referred
+ * without an identifier token, such as the record fields referred by string literal keys, are searched in all the
+ * documents. The references found are indexed by the identity of the symbol until the package is modified.
+ *
+ * <p>
+ * The names of a document are re-indexed when the workspace manager applies a change to the document, and lazily if
+ * the syntax tree of the document has changed since it was indexed.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+public class SymbolReferenceIndex {
+
+    private static final LanguageServerContext.Key<SymbolReferenceIndex> SYMBOL_REFERENCE_INDEX_KEY =
+            new LanguageServerContext.Key<>();
+    private static final int MAX_CACHED_SYMBOLS = 64;
+    private static final String NEW_KEYWORD = "new";
+    private static final String INIT_METHOD = "init";
+
+    private final Map<Path, ProjectIndex> projectIndexes;
+
+    private SymbolReferenceIndex(LanguageServerContext serverContext) {
+        serverContext.put(SYMBOL_REFERENCE_INDEX_KEY, this);
+        this.projectIndexes = new ConcurrentHashMap<>();
+    }
+
+    public static SymbolReferenceIndex getInstance(LanguageServerContext serverContext) {
+        SymbolReferenceIndex symbolReferenceIndex = serverContext.get(SYMBOL_REFERENCE_INDEX_KEY);
+        if (symbolReferenceIndex == null) {
+            symbolReferenceIndex = new SymbolReferenceIndex(serverContext);
+        }
+        return symbolReferenceIndex;
+    }
+
+    /**
+     * Returns the references of the given symbol within the project, including the definition of the symbol.
+     *
+     * @param project Project
+     * @param symbol  Symbol to be searched for references
+     * @return Map of module and list of reference locations.
+     */
+    public Map<Module, List<Location>> getReferences(Project project, Symbol symbol) {
+        Optional<Set<String>> names = referredNames(symbol);
+        if (names.isEmpty()) {
+            // The symbol can be referred without its name, hence all the documents are searched
+            return ReferencesUtil.getReferences(project, symbol);
+        }
+
+        Package currentPackage = project.currentPackage();
+        ProjectIndex projectIndex = projectIndexes.computeIfAbsent(project.sourceRoot(), path -> new ProjectIndex());
+        Optional<SymbolId> symbolId = SymbolId.from(symbol);
+        if (symbolId.isPresent()) {
+            Optional<Map<Module, List<Location>>> cachedReferences =
+                    projectIndex.cachedReferences(currentPackage, symbolId.get());
+            if (cachedReferences.isPresent()) {
+                return copyOf(cachedReferences.get());
+            }
+        }
+
+        Map<Module, List<Location>> moduleLocationMap = new HashMap<>();
+        Set<DocumentId> documentIds = new HashSet<>();
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            Module module = currentPackage.module(moduleId);
+            List<Document> documents = new ArrayList<>();
+            module.documentIds().forEach(documentId -> documents.add(module.document(documentId)));
+            module.testDocumentIds().forEach(documentId -> documents.add(module.document(documentId)));
+
+            SemanticModel semanticModel = null;
+            List<Location> references = new ArrayList<>();
+            Set<LineRange> uniqueRefs = new HashSet<>();
+            for (Document document : documents) {
+                documentIds.add(document.documentId());
+                if (Collections.disjoint(projectIndex.names(document), names.get())) {
+                    continue;
+                }
+                if (semanticModel == null) {
+                    semanticModel = currentPackage.getCompilation().getSemanticModel(moduleId);
+                }
+                for (Location location : semanticModel.references(symbol, document, true)) {
+                    if (uniqueRefs.add(location.lineRange())) {
+                        references.add(location);
+                    }
+                }
+            }
+            if (!references.isEmpty()) {
+                moduleLocationMap.put(module, references);
+            }
+        }
+        projectIndex.retainDocuments(documentIds);
+        symbolId.ifPresent(id -> projectIndex.cacheReferences(currentPackage, id, copyOf(moduleLocationMap)));
+        return moduleLocationMap;
+    }
+
+    /**
+     * Updates the index of the given document. Invoked when a change is applied to the document.
+     *
+     * @param projectRoot Source root of the project of the document
+     * @param document    Updated document
+     */
+    public void update(Path projectRoot, Document document) {
+        ProjectIndex projectIndex = projectIndexes.get(projectRoot);
+        if (projectIndex != null) {
+            projectIndex.index(document);
+        }
+    }
+
+    /**
+     * Removes the index of the given document, keeping the index of the other documents of the project. Invoked when
+     * the document is closed, since the document is indexed again on the next request referring to it.
+     *
+     * @param projectRoot Source root of the project of the document
+     * @param documentId  ID of the closed document
+     */
+    public void remove(Path projectRoot, DocumentId documentId) {
+        ProjectIndex projectIndex = projectIndexes.get(projectRoot);
+        if (projectIndex != null) {
+            projectIndex.remove(documentId);
+        }
+    }
+
+    /**
+     * Removes the index of the given project. Invoked when the project is closed, and when the files of the project
+     * are changed outside the editor.
+     *
+     * @param projectRoot Source root of the project
+     */
+    public void remove(Path projectRoot) {
+        projectIndexes.remove(projectRoot);
+    }
+
+    /**
+     * Returns the IDs of the documents whose names are indexed for the given project.
+     */
+    Set<DocumentId> indexedDocuments(Path projectRoot) {
+        ProjectIndex projectIndex = projectIndexes.get(projectRoot);
+        return projectIndex == null ? Collections.emptySet() : Set.copyOf(projectIndex.documentIndexes.keySet());
+    }
+
+    /**
+     * Returns the names the symbol can be referred with, or empty if the symbol can be referred without its name.
+     */
+    private static Optional<Set<String>> referredNames(Symbol symbol) {
+        Optional<String> name = symbol.getName();
+        if (name.isEmpty() || name.get().isEmpty()) {
+            return Optional.empty();
+        }
+        SymbolKind kind = symbol.kind();
+        if (kind == SymbolKind.MODULE || kind == SymbolKind.RESOURCE_METHOD || kind == SymbolKind.PATH_NAME_SEGMENT) {
+            // Modules can be referred by the alias, and resource methods by the resource access path
+            return Optional.empty();
+        }
+        if (kind == SymbolKind.RECORD_FIELD || kind == SymbolKind.XMLNS) {
+            // Record fields can be referred by the string literal keys of the mapping constructors and the member
+            // accesses, and XML namespaces by the prefixes within the XML templates, which are not identifier tokens
+            return Optional.empty();
+        }
+
+        Set<String> names = new HashSet<>();
+        String symbolName = normalize(name.get());
+        names.add(symbolName);
+        if (kind == SymbolKind.CLASS || (kind == SymbolKind.METHOD && symbolName.equals(INIT_METHOD))) {
+            // Classes and their init methods can be referred by the new expressions
+            names.add(NEW_KEYWORD);
+        }
+        return Optional.of(names);
+    }
+
+    /**
+     * Removes the quote and the escape characters of an identifier, so that the names of the symbols and the identifier
+     * tokens can be compared.
+     */
+    private static String normalize(String identifier) {
+        String name = identifier.startsWith("'") ? identifier.substring(1) : identifier;
+        return name.indexOf('\\') < 0 ? name : name.replace("\\", "");
+    }
+
+    private static Map<Module, List<Location>> copyOf(Map<Module, List<Location>> moduleLocationMap) {
+        // Callers can modify the returned lists, hence the cached references are not shared
+        Map<Module, List<Location>> copy = new HashMap<>();
+        moduleLocationMap.forEach((module, locations) -> copy.put(module, new ArrayList<>(locations)));
+        return copy;
+    }
+
+    /**
+     * Identity of a symbol, which is the same across the semantic models of a package.
+     *
+     * @param moduleId   ID of the module the symbol is defined in
+     * @param kind       Kind of the symbol
+     * @param name       Name of the symbol
+     * @param definition Location of the definition of the symbol
+     */
+    private record SymbolId(String moduleId, SymbolKind kind, String name, LineRange definition) {
+
+        static Optional<SymbolId> from(Symbol symbol) {
+            Optional<Location> location = symbol.getLocation();
+            if (location.isEmpty() || symbol.getModule().isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(new SymbolId(symbol.getModule().get().id().toString(), symbol.kind(),
+                    symbol.getName().orElse(""), location.get().lineRange()));
+        }
+    }
+
+    /**
+     * Index of the documents of a project.
+     */
+    private static class ProjectIndex {
+
+        private final Map<DocumentId, DocumentIndex> documentIndexes = new ConcurrentHashMap<>();
+        private final Map<SymbolId, Map<Module, List<Location>>> cachedReferences =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<SymbolId, Map<Module, List<Location>>> eldest) {
+                        return size() > MAX_CACHED_SYMBOLS;
+                    }
+                };
+        private Package cachedPackage;
+
+        Set<String> names(Document document) {
+            DocumentIndex documentIndex = documentIndexes.get(document.documentId());
+            SyntaxTree syntaxTree = document.syntaxTree();
+            if (documentIndex != null && documentIndex.syntaxTree() == syntaxTree) {
+                return documentIndex.names();
+            }
+            return index(document).names();
+        }
+
+        DocumentIndex index(Document document) {
+            SyntaxTree syntaxTree = document.syntaxTree();
+            DocumentIndex documentIndex = new DocumentIndex(syntaxTree, collectNames(syntaxTree));
+            documentIndexes.put(document.documentId(), documentIndex);
+            return documentIndex;
+        }
+
+        void remove(DocumentId documentId) {
+            documentIndexes.remove(documentId);
+        }
+
+        void retainDocuments(Set<DocumentId> documentIds) {
+            documentIndexes.keySet().retainAll(documentIds);
+        }
+
+        synchronized Optional<Map<Module, List<Location>>> cachedReferences(Package currentPackage,
+                                                                             SymbolId symbolId) {
+            if (cachedPackage != currentPackage) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(cachedReferences.get(symbolId));
+        }
+
+        synchronized void cacheReferences(Package currentPackage, SymbolId symbolId,
+                                          Map<Module, List<Location>> references) {
+            if (cachedPackage != currentPackage) {
+                // The package has been modified, hence the references of the previous package are stale
+                cachedReferences.clear();
+                cachedPackage = currentPackage;
+            }
+            cachedReferences.put(symbolId, references);
+        }
+
+        private static Set<String> collectNames(SyntaxTree syntaxTree) {
+            Set<String> names = new HashSet<>();
+            Deque<Node> nodes = new ArrayDeque<>();
+            nodes.push(syntaxTree.rootNode());
+            while (!nodes.isEmpty()) {
+                Node node = nodes.pop();
+                if (node instanceof NonTerminalNode nonTerminalNode) {
+                    nonTerminalNode.children().forEach(nodes::push);
+                } else if (node instanceof IdentifierToken identifierToken) {
+                    names.add(normalize(identifierToken.text()));
+                } else if (node instanceof Token token && SyntaxInfo.isKeyword(token.text())) {
+                    // Keywords such as self and new refer to symbols as well
+                    names.add(token.text());
+                }
+            }
+            return names;
+        }
+    }
+
+    /**
+     * Names referred in a document.
+     *
+     * @param syntaxTree Syntax tree the names are collected from
+     * @param names      Names of the identifiers and the keywords in the document
+     */
+    private record DocumentIndex(SyntaxTree syntaxTree, Set<String> names) {
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.semantictokens;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.DependencyManifest;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageManifest;
+import io.ballerina.tools.text.LinePosition;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.SemanticTokensContext;
+import org.eclipse.lsp4j.SemanticTokensEdit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the semantic tokens of the documents, encoded in primitive arrays along with the result id sent to the
+ * client, so that the delta and range requests are served without traversing the whole syntax tree again.
+ *
+ * <p>
+ * The tokens are kept per top-level unit (import or module member) of the document. When only the bodies of the
+ * module level functions have been edited since the previous request and the other documents of the package are
+ * unchanged, only the edited functions are tokenized again, and the tokens of the other units are moved to the new
+ * positions of the units. Any other edit may change the symbols referred from the other units, hence the whole
+ * document is tokenized again.
+ * </p>
+ *
+ * <p>
+ * The tokens depend on the compilation of the package, hence they are only reused while the inputs of the compilation
+ * other than the document itself are unchanged, which are the syntax trees of the other documents of the package and
+ * the manifests of the package and its dependencies.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+public class SemanticTokensCache {
+
+    public static final LanguageServerContext.Key<SemanticTokensCache> SEMANTIC_TOKENS_CACHE_KEY =
+            new LanguageServerContext.Key<>();
+
+    // Number of elements of a token, which are the line, the column, the length, the type and the modifiers
+    static final int TOKEN_SIZE = 5;
+
+    private final Map<String, DocumentTokens> documentTokens = new ConcurrentHashMap<>();
+    private final AtomicLong resultIds = new AtomicLong();
+
+    public static SemanticTokensCache getInstance(LanguageServerContext context) {
+        SemanticTokensCache semanticTokensCache = context.get(SEMANTIC_TOKENS_CACHE_KEY);
+        if (semanticTokensCache == null) {
+            semanticTokensCache = new SemanticTokensCache(context);
+        }
+        return semanticTokensCache;
+    }
+
+    private SemanticTokensCache(LanguageServerContext context) {
+        context.put(SEMANTIC_TOKENS_CACHE_KEY, this);
+    }
+
+    /**
+     * Returns the tokens of the current document of the given context, along with the tokens of the document
+     * returned by the previous request.
+     *
+     * @param context Semantic tokens context
+     * @return Current and previous tokens of the document, or empty if the document cannot be found
+     */
+    Optional<Update> tokenize(SemanticTokensContext context) {
+        Optional<Document> document = context.currentDocument();
+        Optional<Module> module = context.currentModule();
+        if (document.isEmpty() || module.isEmpty()) {
+            return Optional.empty();
+        }
+
+        SyntaxTree syntaxTree = document.get().syntaxTree();
+        Package currentPackage = module.get().packageInstance();
+        List<SyntaxTree> packageSyntaxTrees = packageSyntaxTrees(currentPackage, document.get().documentId());
+        DocumentTokens previous = documentTokens.get(context.fileUri());
+        boolean packageUnchanged = previous != null && previous.isSamePackage(currentPackage, packageSyntaxTrees);
+        if (packageUnchanged && previous.syntaxTree() == syntaxTree) {
+            return Optional.of(new Update(previous, previous));
+        }
+
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        List<Node> units = new ArrayList<>();
+        modulePartNode.imports().forEach(units::add);
+        modulePartNode.members().forEach(units::add);
+
+        List<UnitTokens> unitTokens = packageUnchanged ? retokenizeEditedUnits(context, units, previous.units()) : null;
+        int[] tokens;
+        if (unitTokens == null) {
+            tokens = new SemanticTokensVisitor(context).collectTokens(modulePartNode);
+            unitTokens = splitIntoUnits(units, tokens);
+        } else {
+            tokens = joinUnits(unitTokens);
+        }
+
+        DocumentTokens current = new DocumentTokens(String.valueOf(resultIds.incrementAndGet()), syntaxTree,
+                packageSyntaxTrees, currentPackage.manifest(), currentPackage.dependencyManifest(), unitTokens, tokens,
+                encode(tokens, 0, tokens.length));
+        documentTokens.put(context.fileUri(), current);
+        return Optional.of(new Update(previous, current));
+    }
+
+    /**
+     * Removes the tokens of the given document.
+     *
+     * @param fileUri URI of the document
+     */
+    public void evict(String fileUri) {
+        documentTokens.remove(fileUri);
+    }
+
+    /**
+     * Encodes the given range of tokens with absolute positions to the relative positions of the LSP specification,
+     * where the position of a token is relative to the position of the previous token.
+     *
+     * @param tokens    Tokens with absolute positions
+     * @param fromIndex Index of the first element of the first token, inclusive
+     * @param toIndex   Index of the last element of the last token, exclusive
+     * @return Encoded tokens
+     */
+    static int[] encode(int[] tokens, int fromIndex, int toIndex) {
+        int[] data = new int[toIndex - fromIndex];
+        int previousLine = 0;
+        int previousColumn = 0;
+        for (int i = fromIndex, j = 0; i < toIndex; i += TOKEN_SIZE, j += TOKEN_SIZE) {
+            int line = tokens[i];
+            int column = tokens[i + 1];
+            data[j] = line - previousLine;
+            data[j + 1] = line == previousLine ? column - previousColumn : column;
+            data[j + 2] = tokens[i + 2];
+            data[j + 3] = tokens[i + 3];
+            data[j + 4] = tokens[i + 4];
+            previousLine = line;
+            previousColumn = column;
+        }
+        return data;
+    }
+
+    /**
+     * Computes the edits which transform the previous encoded tokens to the current encoded tokens. The tokens between
+     * the common prefix and the common suffix of the arrays are replaced with a single edit.
+     *
+     * @param previous Previous encoded tokens
+     * @param current  Current encoded tokens
+     * @return Edits to apply on the previous tokens
+     */
+    static List<SemanticTokensEdit> computeEdits(int[] previous, int[] current) {
+        int maxLength = Math.min(previous.length, current.length);
+        int prefix = 0;
+        while (prefix < maxLength && previous[prefix] == current[prefix]) {
+            prefix++;
+        }
+        if (prefix == previous.length && prefix == current.length) {
+            return Collections.emptyList();
+        }
+        int suffix = 0;
+        while (suffix < maxLength - prefix &&
+                previous[previous.length - 1 - suffix] == current[current.length - 1 - suffix]) {
+            suffix++;
+        }
+        List<Integer> data = SemanticTokensUtils.asList(Arrays.copyOfRange(current, prefix, current.length - suffix));
+        return Collections.singletonList(new SemanticTokensEdit(prefix, previous.length - prefix - suffix, data));
+    }
+
+    /**
+     * Tokenizes the units which have been edited since the previous request, and moves the tokens of the other units
+     * to the new positions of the units.
+     *
+     * @return Tokens of the units, or null if an edit is not confined to the body of a function
+     */
+    private static List<UnitTokens> retokenizeEditedUnits(SemanticTokensContext context, List<Node> units,
+                                                          List<UnitTokens> previousUnits) {
+        if (units.size() != previousUnits.size()) {
+            return null;
+        }
+        List<UnitTokens> unitTokens = new ArrayList<>(units.size());
+        for (int i = 0; i < units.size(); i++) {
+            Node unit = units.get(i);
+            UnitTokens previousUnit = previousUnits.get(i);
+            String source = unit.toSourceCode();
+            LinePosition start = unit.lineRange().startLine();
+            if (source.equals(previousUnit.source())) {
+                unitTokens.add(new UnitTokens(source, headerLength(unit), start.line(), start.offset(),
+                        previousUnit.tokens()));
+                continue;
+            }
+
+            int headerLength = headerLength(unit);
+            if (headerLength < 0 || headerLength != previousUnit.headerLength() ||
+                    !source.regionMatches(0, previousUnit.source(), 0, headerLength)) {
+                return null;
+            }
+            int[] tokens = new SemanticTokensVisitor(context).collectTokens(unit);
+            LinePosition end = unit.lineRange().endLine();
+            int count = 0;
+            int[] unitRange = new int[tokens.length];
+            for (int index = 0; index < tokens.length; index += TOKEN_SIZE) {
+                // Skip the tokens of the declarations in the other units, which are tokenized with those units
+                if (compare(tokens[index], tokens[index + 1], start.line(), start.offset()) < 0 ||
+                        compare(tokens[index], tokens[index + 1], end.line(), end.offset()) >= 0) {
+                    continue;
+                }
+                System.arraycopy(tokens, index, unitRange, count, TOKEN_SIZE);
+                count += TOKEN_SIZE;
+            }
+            unitTokens.add(new UnitTokens(source, headerLength, start.line(), start.offset(),
+                    toRelative(unitRange, 0, count, start.line(), start.offset())));
+        }
+        return unitTokens;
+    }
+
+    /**
+     * Splits the tokens of a document into the units of the document. A token is assigned to the last unit which
+     * starts at or before the token.
+     */
+    private static List<UnitTokens> splitIntoUnits(List<Node> units, int[] tokens) {
+        List<UnitTokens> unitTokens = new ArrayList<>(units.size());
+        int index = 0;
+        for (int i = 0; i < units.size(); i++) {
+            Node unit = units.get(i);
+            LinePosition start = unit.lineRange().startLine();
+            int endIndex = index;
+            if (i == units.size() - 1) {
+                endIndex = tokens.length;
+            } else {
+                LinePosition nextStart = units.get(i + 1).lineRange().startLine();
+                while (endIndex < tokens.length &&
+                        compare(tokens[endIndex], tokens[endIndex + 1], nextStart.line(), nextStart.offset()) < 0) {
+                    endIndex += TOKEN_SIZE;
+                }
+            }
+            unitTokens.add(new UnitTokens(unit.toSourceCode(), headerLength(unit), start.line(), start.offset(),
+                    toRelative(tokens, index, endIndex, start.line(), start.offset())));
+            index = endIndex;
+        }
+        return unitTokens;
+    }
+
+    private static int[] joinUnits(List<UnitTokens> unitTokens) {
+        int length = 0;
+        for (UnitTokens unit : unitTokens) {
+            length += unit.tokens().length;
+        }
+        int[] tokens = new int[length];
+        int index = 0;
+        for (UnitTokens unit : unitTokens) {
+            int[] relativeTokens = unit.tokens();
+            for (int i = 0; i < relativeTokens.length; i += TOKEN_SIZE, index += TOKEN_SIZE) {
+                tokens[index] = relativeTokens[i] + unit.line();
+                tokens[index + 1] = relativeTokens[i] == 0 ? relativeTokens[i + 1] + unit.column() :
+                        relativeTokens[i + 1];
+                System.arraycopy(relativeTokens, i + 2, tokens, index + 2, TOKEN_SIZE - 2);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Converts the given range of tokens to positions relative to the start of their unit, so that the tokens remain
+     * valid when the unit is moved without being edited.
+     */
+    private static int[] toRelative(int[] tokens, int fromIndex, int toIndex, int line, int column) {
+        int[] relativeTokens = Arrays.copyOfRange(tokens, fromIndex, toIndex);
+        for (int i = 0; i < relativeTokens.length; i += TOKEN_SIZE) {
+            if (relativeTokens[i] == line) {
+                relativeTokens[i + 1] -= column;
+            }
+            relativeTokens[i] -= line;
+        }
+        return relativeTokens;
+    }
+
+    /**
+     * Returns the length of the source of a module level function before its body, or -1 if the unit is not a module
+     * level function.
+     */
+    private static int headerLength(Node unit) {
+        if (unit.kind() != SyntaxKind.FUNCTION_DEFINITION) {
+            return -1;
+        }
+        FunctionDefinitionNode functionDefinitionNode = (FunctionDefinitionNode) unit;
+        return functionDefinitionNode.functionBody().textRangeWithMinutiae().startOffset() -
+                functionDefinitionNode.textRangeWithMinutiae().startOffset();
+    }
+
+    private static List<SyntaxTree> packageSyntaxTrees(Package currentPackage, DocumentId currentDocumentId) {
+        List<SyntaxTree> syntaxTrees = new ArrayList<>();
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            Module module = currentPackage.module(moduleId);
+            for (DocumentId documentId : module.documentIds()) {
+                if (!documentId.equals(currentDocumentId)) {
+                    syntaxTrees.add(module.document(documentId).syntaxTree());
+                }
+            }
+            for (DocumentId documentId : module.testDocumentIds()) {
+                if (!documentId.equals(currentDocumentId)) {
+                    syntaxTrees.add(module.document(documentId).syntaxTree());
+                }
+            }
+        }
+        return syntaxTrees;
+    }
+
+    static int compare(int line, int column, int otherLine, int otherColumn) {
+        return line == otherLine ? Integer.compare(column, otherColumn) : Integer.compare(line, otherLine);
+    }
+
+    /**
+     * Tokens of a top-level unit of a document, with positions relative to the start of the unit.
+     *
+     * @param source       Source of the unit including the minutiae
+     * @param headerLength Length of the source before the body if the unit is a module level function, or -1
+     * @param line         Start line of the unit
+     * @param column       Start column of the unit
+     * @param tokens       Tokens of the unit
+     */
+    private record UnitTokens(String source, int headerLength, int line, int column, int[] tokens) {
+    }
+
+    /**
+     * Tokens of a document, which are returned to the client with the given result id.
+     *
+     * @param resultId          Result id of the tokens
+     * @param syntaxTree         Syntax tree the tokens are computed for
+     * @param packageSyntaxTrees Syntax trees of the other documents of the package
+     * @param manifest           Manifest of the package
+     * @param dependencyManifest Manifest of the dependencies of the package
+     * @param units              Tokens of the top-level units
+     * @param tokens             Tokens with absolute positions
+     * @param data               Encoded tokens
+     */
+    record DocumentTokens(String resultId, SyntaxTree syntaxTree, List<SyntaxTree> packageSyntaxTrees,
+                          PackageManifest manifest, DependencyManifest dependencyManifest, List<UnitTokens> units,
+                          int[] tokens, int[] data) {
+
+        private boolean isSamePackage(Package currentPackage, List<SyntaxTree> syntaxTrees) {
+            if (currentPackage.manifest() != manifest || currentPackage.dependencyManifest() != dependencyManifest
+                    || syntaxTrees.size() != packageSyntaxTrees.size()) {
+                return false;
+            }
+            for (int i = 0; i < syntaxTrees.size(); i++) {
+                if (syntaxTrees.get(i) != packageSyntaxTrees.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Tokens of a document along with the tokens returned by the previous request, which is null for the first
+     * request of the document.
+     *
+     * @param previous Previous tokens
+     * @param current  Current tokens
+     */
+    record Update(DocumentTokens previous, DocumentTokens current) {
+    }
+}
@@ -15,24 +15,29 @@
  */
 package org.ballerinalang.langserver.semantictokens;
 
-import io.ballerina.projects.Document;
 import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.SemanticTokensContext;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.Registration;
 import org.eclipse.lsp4j.RegistrationParams;
 import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
 import org.eclipse.lsp4j.SemanticTokensLegend;
 import org.eclipse.lsp4j.SemanticTokensServerFull;
 import org.eclipse.lsp4j.SemanticTokensWithRegistrationOptions;
 import org.eclipse.lsp4j.Unregistration;
 import org.eclipse.lsp4j.UnregistrationParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import java.nio.file.Path;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.RandomAccess;
 
 /**
  * Semantic tokens util class.
@@ -51,17 +56,83 @@ public final class SemanticTokensUtils {
      * @return {@link SemanticTokens}
      */
     public static SemanticTokens getSemanticTokens(SemanticTokensContext semanticTokensContext) {
-        String fileUri = semanticTokensContext.fileUri();
-        Optional<Path> filePath = PathUtil.getPathFromURI(fileUri);
-        if (filePath.isEmpty()) {
+        Optional<SemanticTokensCache.Update> update = tokenize(semanticTokensContext);
+        if (update.isEmpty()) {
             return new SemanticTokens(Collections.emptyList());
         }
-        Optional<Document> document = semanticTokensContext.currentDocument();
-        if (document.isEmpty()) {
+        SemanticTokensCache.DocumentTokens current = update.get().current();
+        return new SemanticTokens(current.resultId(), asList(current.data()));
+    }
+
+    /**
+     * Returns the edits to the semantic tokens previously returned with the given result id for a given context. The
+     * whole semantic tokens are returned if the previous result is no longer available.
+     *
+     * @param semanticTokensContext context
+     * @param previousResultId      result id of the previous semantic tokens of the document
+     * @return {@link SemanticTokens} or {@link SemanticTokensDelta}
+     */
+    public static Either<SemanticTokens, SemanticTokensDelta> getSemanticTokensDelta(
+            SemanticTokensContext semanticTokensContext, String previousResultId) {
+        Optional<SemanticTokensCache.Update> update = tokenize(semanticTokensContext);
+        if (update.isEmpty()) {
+            return Either.forLeft(new SemanticTokens(Collections.emptyList()));
+        }
+        SemanticTokensCache.DocumentTokens previous = update.get().previous();
+        SemanticTokensCache.DocumentTokens current = update.get().current();
+        if (previous == null || !previous.resultId().equals(previousResultId)) {
+            return Either.forLeft(new SemanticTokens(current.resultId(), asList(current.data())));
+        }
+        return Either.forRight(new SemanticTokensDelta(
+                SemanticTokensCache.computeEdits(previous.data(), current.data()), current.resultId()));
+    }
+
+    /**
+     * Returns the semantic tokens within the given range for a given context.
+     *
+     * @param semanticTokensContext context
+     * @param range                 range of the document
+     * @return {@link SemanticTokens}
+     */
+    public static SemanticTokens getSemanticTokens(SemanticTokensContext semanticTokensContext, Range range) {
+        Optional<SemanticTokensCache.Update> update = tokenize(semanticTokensContext);
+        if (update.isEmpty()) {
             return new SemanticTokens(Collections.emptyList());
         }
-        return new SemanticTokensVisitor(semanticTokensContext).getSemanticTokens(document.get().syntaxTree()
-                .rootNode());
+        int[] tokens = update.get().current().tokens();
+        Position start = range.getStart();
+        Position end = range.getEnd();
+        // Skip the tokens which end at or before the start of the range, so that a token overlapping the start is kept
+        int fromIndex = 0;
+        while (fromIndex < tokens.length && SemanticTokensCache.compare(tokens[fromIndex],
+                tokens[fromIndex + 1] + tokens[fromIndex + 2], start.getLine(), start.getCharacter()) <= 0) {
+            fromIndex += SemanticTokensCache.TOKEN_SIZE;
+        }
+        int toIndex = fromIndex;
+        while (toIndex < tokens.length && SemanticTokensCache.compare(tokens[toIndex], tokens[toIndex + 1],
+                end.getLine(), end.getCharacter()) < 0) {
+            toIndex += SemanticTokensCache.TOKEN_SIZE;
+        }
+        return new SemanticTokens(asList(SemanticTokensCache.encode(tokens, fromIndex, toIndex)));
+    }
+
+    private static Optional<SemanticTokensCache.Update> tokenize(SemanticTokensContext semanticTokensContext) {
+        Optional<Path> filePath = PathUtil.getPathFromURI(semanticTokensContext.fileUri());
+        if (filePath.isEmpty()) {
+            return Optional.empty();
+        }
+        return SemanticTokensCache.getInstance(semanticTokensContext.languageServercontext())
+                .tokenize(semanticTokensContext);
+    }
+
+    /**
+     * Returns a list view of the given encoded tokens, which boxes the elements only when they are serialized.
+     *
+     * @param data encoded tokens
+     * @return List of the encoded tokens
+     */
+    static List<Integer> asList(int[] data) {
+        return new IntArrayList(data);
     }
 
     /**
@@ -93,7 +164,10 @@ public final class SemanticTokensUtils {
      */
     public static SemanticTokensWithRegistrationOptions getSemanticTokensRegistrationOptions() {
         SemanticTokensLegend semanticTokensLegend = new SemanticTokensLegend(getTokenTypes(), getTokenTypeModifiers());
-        return new SemanticTokensWithRegistrationOptions(semanticTokensLegend, new SemanticTokensServerFull(false));
+        SemanticTokensWithRegistrationOptions options =
+                new SemanticTokensWithRegistrationOptions(semanticTokensLegend, new SemanticTokensServerFull(true));
+        options.setRange(true);
+        return options;
     }
 
     /**
@@ -125,4 +199,26 @@ public final class SemanticTokensUtils {
         languageClient.unregisterCapability(
                 new UnregistrationParams(Collections.singletonList(unregistration)));
     }
+
+    /**
+     * Read-only list backed by an int array.
+     */
+    private static class IntArrayList extends AbstractList<Integer> implements RandomAccess {
+
+        private final int[] data;
+
+        IntArrayList(int[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return data[index];
+        }
+
+        @Override
+        public int size() {
+            return data.length;
+        }
+    }
 }
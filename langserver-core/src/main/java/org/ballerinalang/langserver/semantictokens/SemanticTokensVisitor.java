@@ -71,7 +71,6 @@ import org.ballerinalang.langserver.commons.SemanticTokensContext.TokenTypeModif
 import org.ballerinalang.langserver.commons.SemanticTokensContext.TokenTypes;
 import org.eclipse.lsp4j.SemanticTokens;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -103,13 +102,30 @@ public class SemanticTokensVisitor extends NodeVisitor {
      * @return {@link SemanticTokens}
      */
     public SemanticTokens getSemanticTokens(Node node) {
-        List<Integer> data = new ArrayList<>();
+        int[] tokens = collectTokens(node);
+        return new SemanticTokens(SemanticTokensUtils.asList(SemanticTokensCache.encode(tokens, 0, tokens.length)));
+    }
+
+    /**
+     * Collects the semantic tokens while traversing the given node, and returns them sorted by their positions. Each
+     * token takes five consecutive elements of the array, which are the line, the column, the length, the type and the
+     * modifiers of the token.
+     *
+     * @param node Node to traverse
+     * @return Tokens with absolute positions
+     */
+    int[] collectTokens(Node node) {
         visitSyntaxNode(node);
-        SemanticToken previousToken = null;
+        int[] tokens = new int[this.semanticTokens.size() * SemanticTokensCache.TOKEN_SIZE];
+        int index = 0;
         for (SemanticToken semanticToken : this.semanticTokens) {
-            previousToken = semanticToken.processSemanticToken(data, previousToken);
+            tokens[index++] = semanticToken.getLine();
+            tokens[index++] = semanticToken.getColumn();
+            tokens[index++] = semanticToken.getLength();
+            tokens[index++] = semanticToken.getType();
+            tokens[index++] = semanticToken.getModifiers();
         }
-        return new SemanticTokens(data);
+        return tokens;
     }
 
     @Override
@@ -758,26 +774,6 @@ public class SemanticTokensVisitor extends NodeVisitor {
             this.modifiers = modifiers;
         }
 
-        public SemanticToken processSemanticToken(List<Integer> data, SemanticToken previousToken) {
-            int line = this.getLine();
-            int column = this.getColumn();
-            int prevTokenLine = line;
-            int prevTokenColumn = column;
-
-            if (previousToken != null) {
-                if (line == previousToken.getLine()) {
-                    column -= previousToken.getColumn();
-                }
-                line -= previousToken.getLine();
-            }
-            data.add(line);
-            data.add(column);
-            data.add(this.getLength());
-            data.add(this.getType());
-            data.add(this.getModifiers());
-            return new SemanticToken(prevTokenLine, prevTokenColumn);
-        }
-
         @Override
         public boolean equals(Object obj) {
             if (this == obj) {
@@ -299,8 +299,8 @@ public final class SignatureHelpUtil {
             methodName = remoteMethodCall.methodName().name().text();
         } else if (nodeAtCursor.kind() == SyntaxKind.IMPLICIT_NEW_EXPRESSION
                 || nodeAtCursor.kind() == SyntaxKind.EXPLICIT_NEW_EXPRESSION) {
-            typeDesc = context.currentSemanticModel()
-                    .flatMap(semanticModel -> semanticModel.typeOf(nodeAtCursor))
+            typeDesc = context.semanticQueries()
+                    .flatMap(queries -> queries.typeOf(nodeAtCursor))
                     .flatMap(typeSymbol -> Optional.of(CommonUtil.getRawType(typeSymbol))).stream().findFirst();
             methodName = Names.USER_DEFINED_INIT_SUFFIX.getValue();
         } else if (nodeAtCursor.kind() == SyntaxKind.CLIENT_RESOURCE_ACCESS_ACTION) {
@@ -99,4 +99,25 @@ public final class LSClientUtil {
         return textDocument != null && textDocument.getRename() != null &&
                 Boolean.TRUE.equals(textDocument.getRename().getPrepareSupport());
     }
+
+    /**
+     * Whether the client supports pulling the diagnostics through the textDocument/diagnostic request.
+     *
+     * @param capabilities LS text document client capabilities
+     * @return True if pull diagnostics are supported, otherwise false
+     */
+    public static boolean isPullDiagnosticsSupported(TextDocumentClientCapabilities capabilities) {
+        return capabilities != null && capabilities.getDiagnostic() != null;
+    }
+
+    /**
+     * Whether the client supports the workspace/diagnostic/refresh request.
+     *
+     * @param capabilities LS workspace client capabilities
+     * @return True if the diagnostics refresh is supported, otherwise false
+     */
+    public static boolean isDiagnosticsRefreshSupported(WorkspaceClientCapabilities capabilities) {
+        return capabilities != null && capabilities.getDiagnostics() != null &&
+                Boolean.TRUE.equals(capabilities.getDiagnostics().getRefreshSupport());
+    }
 }
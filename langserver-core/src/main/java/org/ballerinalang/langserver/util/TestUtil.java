@@ -76,7 +76,9 @@ import org.eclipse.lsp4j.ReferenceParams;
 import org.eclipse.lsp4j.RenameCapabilities;
 import org.eclipse.lsp4j.RenameParams;
 import org.eclipse.lsp4j.SemanticTokensCapabilities;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
 import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
 import org.eclipse.lsp4j.SignatureHelpCapabilities;
 import org.eclipse.lsp4j.SignatureHelpParams;
 import org.eclipse.lsp4j.SignatureInformationCapabilities;
@@ -166,6 +168,10 @@ public final class TestUtil {
 
     private static final String SEMANTIC_TOKENS_FULL = "textDocument/semanticTokens/full";
 
+    private static final String SEMANTIC_TOKENS_DELTA = "textDocument/semanticTokens/full/delta";
+
+    private static final String SEMANTIC_TOKENS_RANGE = "textDocument/semanticTokens/range";
+
     private static final String RUNNER_DIAGNOSTICS = "ballerinaRunner/diagnostics";
     private static final String RUNNER_MAIN_FUNC_PARAMS = "ballerinaRunner/mainFunctionParams";
 
@@ -545,6 +551,35 @@ public final class TestUtil {
         return getResponseString(serviceEndpoint.request(SEMANTIC_TOKENS_FULL, semanticTokensParams));
     }
 
+    /**
+     * Returns semanticTokensFullDelta API response.
+     *
+     * @param serviceEndpoint  Language Server Service endpoint
+     * @param filePath         File path to evaluate semantic tokens
+     * @param previousResultId Result id of the previous semantic tokens response
+     * @return {@link String} Document semantic tokens delta response
+     */
+    public static String getSemanticTokensDeltaResponse(Endpoint serviceEndpoint, String filePath,
+                                                        String previousResultId) {
+        SemanticTokensDeltaParams semanticTokensDeltaParams =
+                new SemanticTokensDeltaParams(getTextDocumentIdentifier(filePath), previousResultId);
+        return getResponseString(serviceEndpoint.request(SEMANTIC_TOKENS_DELTA, semanticTokensDeltaParams));
+    }
+
+    /**
+     * Returns semanticTokensRange API response.
+     *
+     * @param serviceEndpoint Language Server Service endpoint
+     * @param filePath        File path to evaluate semantic tokens
+     * @param range           Range to evaluate semantic tokens
+     * @return {@link String} Document semantic tokens response
+     */
+    public static String getSemanticTokensRangeResponse(Endpoint serviceEndpoint, String filePath, Range range) {
+        SemanticTokensRangeParams semanticTokensRangeParams =
+                new SemanticTokensRangeParams(getTextDocumentIdentifier(filePath), range);
+        return getResponseString(serviceEndpoint.request(SEMANTIC_TOKENS_RANGE, semanticTokensRangeParams));
+    }
+
     /**
      * Open a document.
      *
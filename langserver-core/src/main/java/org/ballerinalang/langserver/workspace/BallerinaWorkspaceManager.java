@@ -46,6 +46,8 @@ import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectPaths;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.LSContextOperation;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
@@ -65,6 +67,8 @@ import org.ballerinalang.langserver.config.LSClientConfigHolder;
 import org.ballerinalang.langserver.contexts.ContextBuilder;
 import org.ballerinalang.langserver.eventsync.EventSyncPubSubHolder;
 import org.ballerinalang.langserver.exception.UserErrorException;
+import org.ballerinalang.langserver.references.SymbolReferenceIndex;
+import org.ballerinalang.langserver.workspacesymbol.WorkspaceSymbolIndex;
 import org.ballerinalang.util.diagnostic.DiagnosticErrorCode;
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
@@ -144,6 +148,11 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     protected final LSClientLogger clientLogger;
     private final LanguageServerContext serverContext;
     private final Set<Path> openedDocuments = new HashSet<>();
+    /**
+     * Latest content of the opened documents as seen by the client. Incremental content changes are applied on top of
+     * this content since the project documents can be modified by the server without notifying the client.
+     */
+    private final Map<Path, TextDocument> openedDocumentContents = new ConcurrentHashMap<>();
 
     public BallerinaWorkspaceManager(LanguageServerContext serverContext) {
         this.serverContext = serverContext;
@@ -427,6 +436,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         // Add the document to the opened documents set and the entry will only be removed via didClose.
         // Hence we assume the safe concurrent access for a given document path
         this.openedDocuments.add(filePath);
+        this.openedDocumentContents.put(filePath, TextDocuments.from(params.getTextDocument().getText()));
         ProjectContext projectContext = createOrGetProjectPair(filePath,
                 LSContextOperation.TXT_DID_OPEN.getName(), true);
         Project project = projectContext.project();
@@ -453,6 +463,9 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
             // Create a new .bal document.
             createBalDocument(filePath, params.getTextDocument().getText(), projectContext);
         }
+        if (project.kind() != ProjectKind.BALA_PROJECT) {
+            WorkspaceSymbolIndex.getInstance(serverContext).updateAsync(projectContext.project());
+        }
     }
 
     /**
@@ -469,28 +482,29 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                 LSContextOperation.TXT_DID_CHANGE.getName(), true);
 
         Project project = projectContext.project();
+        String content = applyContentChanges(filePath, project, params);
         if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.BALLERINA_TOML))) {
             // Check if this is a workspace or package Ballerina.toml
             if (isWorkspaceToml(filePath)) {
-                updateWorkspaceToml(params.getContentChanges().get(0).getText(), projectContext, false);
+                updateWorkspaceToml(content, projectContext, false);
             } else {
-                updateBallerinaToml(params.getContentChanges().get(0).getText(), projectContext, false);
+                updateBallerinaToml(content, projectContext, false);
             }
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.DEPENDENCIES_TOML))) {
             // create or update Dependencies.toml
-            updateDependenciesToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateDependenciesToml(content, projectContext, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.CLOUD_TOML))) {
             // create or update Cloud.toml
-            updateCloudToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateCloudToml(content, projectContext, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.COMPILER_PLUGIN_TOML))) {
             // create or update Compiler-plugin.toml
-            updateCompilerPluginToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateCompilerPluginToml(content, projectContext, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.BAL_TOOL_TOML))) {
             // create or update BalTool.toml
-            updateBalToolToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateBalToolToml(content, projectContext, false);
         } else if (ProjectPaths.isBalFile(filePath) && project.kind() != ProjectKind.BALA_PROJECT) {
             // Update .bal document
-            updateBalDocument(filePath, params.getContentChanges().get(0).getText(), projectContext);
+            updateBalDocument(filePath, content, projectContext);
         }
     }
 
@@ -517,6 +531,8 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
         ProjectContext projectContext = optProject.get();
         Project project = projectContext.project();
+        // The files may be changed outside the editor, hence the referred names indexed for the project are dropped
+        SymbolReferenceIndex.getInstance(serverContext).remove(project.sourceRoot());
         String fileName = filePath.getFileName().toString();
         boolean isBallerinaSourceChange = fileName.endsWith(ProjectConstants.BLANG_SOURCE_EXT);
         boolean isBallerinaTomlChange = filePath.endsWith(ProjectConstants.BALLERINA_TOML);
@@ -576,6 +592,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                 if (optProject.isPresent()) {
                     ProjectContext projectContext = optProject.get();
                     Project project = projectContext.project();
+                    WorkspaceSymbolIndex.getInstance(serverContext).updateAsync(project);
                     return List.of(project.sourceRoot());
                 }
             }
@@ -613,6 +630,8 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                     throw new WorkspaceDocumentException("Cannot find the project of uri: " + path.toString());
                 }
                 projectPair.get().setProject(projectContext.get().project());
+                SymbolReferenceIndex.getInstance(serverContext).remove(path);
+                WorkspaceSymbolIndex.getInstance(serverContext).updateAsync(projectContext.get().project());
             } catch (Throwable e) {
                 // Failed to reload the project
                 String message = "Failed to reload project: ["
@@ -1434,17 +1453,60 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
             throws WorkspaceDocumentException {
         // Lock Project Instance
         Lock lock = projectContext.lockAndGet();
+        Document updatedDocument;
         try {
             // Get document
             Optional<Document> document = document(filePath, projectContext.project(), null);
             if (document.isEmpty()) {
                 throw new WorkspaceDocumentException("Document does not exist in path: " + filePath.toString());
             }
-            document.get().modify().withContent(content).apply();
+            updatedDocument = document.get().modify().withContent(content).apply();
         } finally {
             // Unlock Project Instance
             lock.unlock();
         }
+        SymbolReferenceIndex.getInstance(serverContext).update(projectContext.project().sourceRoot(), updatedDocument);
+        WorkspaceSymbolIndex.getInstance(serverContext).updateAsync(projectContext.project(), filePath);
+    }
+
+    /**
+     * Applies the received content changes on top of the latest content of the document. The changes can either be
+     * range based incremental changes or a full content change. When the client has not opened the document, the
+     * changes are applied on top of the content of the file in the disk.
+     *
+     * @param filePath {@link Path} of the document
+     * @param project  project of the document
+     * @param params   {@link DidChangeTextDocumentParams}
+     * @return updated content of the document
+     * @throws WorkspaceDocumentException when the incremental changes cannot be applied
+     */
+    private String applyContentChanges(Path filePath, Project project, DidChangeTextDocumentParams params)
+            throws WorkspaceDocumentException {
+        TextDocument textDocument = this.openedDocumentContents.get(filePath);
+        if (textDocument == null && ProjectPaths.isBalFile(filePath)) {
+            textDocument = document(filePath, project, null).map(Document::textDocument).orElse(null);
+        }
+        if (textDocument == null && Files.isRegularFile(filePath)) {
+            try {
+                textDocument = TextDocuments.from(Files.readString(filePath));
+            } catch (IOException e) {
+                throw new WorkspaceDocumentException("Cannot read the content of the document: " + filePath, e);
+            }
+        }
+        TextDocument updatedTextDocument =
+                TextDocumentChangeUtil.applyContentChanges(textDocument, params.getContentChanges());
+        this.openedDocumentContents.put(filePath, updatedTextDocument);
+        return updatedTextDocument.toString();
+    }
+
+    /**
+     * Returns the latest content of the given document as synchronized by the client.
+     *
+     * @param filePath {@link Path} of the document
+     * @return content of the document if the document is opened
+     */
+    public Optional<String> openedDocumentContent(Path filePath) {
+        return Optional.ofNullable(this.openedDocumentContents.get(filePath)).map(TextDocument::toString);
     }
 
     private void createBalDocument(Path filePath, String content, ProjectContext projectContext)
@@ -1485,14 +1547,21 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     @Override
     public void didClose(Path filePath, DidCloseTextDocumentParams params) {
         this.openedDocuments.remove(filePath);
+        this.openedDocumentContents.remove(filePath);
         Optional<Project> project = project(filePath);
         if (project.isEmpty()) {
             return;
         }
+        // The names of the closed document are indexed again on the next references request referring to it
+        document(filePath, project.get(), null).ifPresent(document -> SymbolReferenceIndex.getInstance(serverContext)
+                .remove(project.get().sourceRoot(), document.documentId()));
         // If it is a single file project, remove project from mapping
         if (project.get().kind() == ProjectKind.SINGLE_FILE_PROJECT) {
             Path projectRoot = project.get().sourceRoot();
             sourceRootToProject.remove(projectRoot);
+            SymbolReferenceIndex.getInstance(serverContext).remove(projectRoot);
+            WorkspaceSymbolIndex.getInstance(serverContext).remove(projectRoot);
+            ProjectSnapshots.getInstance(serverContext).evict(projectRoot);
             clientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CLOSE.getName() +
                     "' {project: '" + projectRoot.toUri().toString() +
                     "' kind: '" + project.get().kind().name().toLowerCase(Locale.getDefault()) +
@@ -27,11 +27,14 @@ import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Ballerina workspace manager proxy implementation.
@@ -107,10 +110,11 @@ public class BallerinaWorkspaceManagerProxyImpl implements BallerinaWorkspaceMan
         } else {
             this.baseWorkspaceManager.didChange(path.get(), params);
 
-            // Send didChange if the project is already opened in the cloned workspace
+            // Send didChange if the project is already opened in the cloned workspace. The content of the cloned
+            // document can diverge from the base document, hence the changes are forwarded as a full content change.
             Optional<Project> project = this.clonedWorkspaceManager.project(path.get());
             if (project.isPresent()) {
-                this.clonedWorkspaceManager.didChange(path.get(), params);
+                this.clonedWorkspaceManager.didChange(path.get(), toFullContentChange(path.get(), params));
             }
         }
     }
@@ -131,9 +135,30 @@ public class BallerinaWorkspaceManagerProxyImpl implements BallerinaWorkspaceMan
         }
     }
 
+    private DidChangeTextDocumentParams toFullContentChange(Path filePath, DidChangeTextDocumentParams params) {
+        Optional<String> content =
+                ((BallerinaWorkspaceManager) this.baseWorkspaceManager).openedDocumentContent(filePath);
+        if (content.isEmpty()) {
+            return params;
+        }
+        return new DidChangeTextDocumentParams(params.getTextDocument(),
+                List.of(new TextDocumentContentChangeEvent(content.get())));
+    }
+
+    /**
+     * Workspace of the documents cloned from the workspace projects. The clones of the packages are leased from the
+     * {@link ProjectSnapshots} until the documents are closed, so that reopening a project reuses the compilation of
+     * the previous clone. Workspace projects are still duplicated, as a snapshot holds a single package.
+     */
     private static class ClonedWorkspace extends BallerinaWorkspaceManager {
+
+        private final ProjectSnapshots projectSnapshots;
+        private final Map<Path, ProjectSnapshot> snapshots;
+
         public ClonedWorkspace(LanguageServerContext serverContext) {
             super(serverContext);
+            this.projectSnapshots = ProjectSnapshots.getInstance(serverContext);
+            this.snapshots = new ConcurrentHashMap<>();
         }
 
         public void open(Project project) {
@@ -149,7 +174,12 @@ public class BallerinaWorkspaceManagerProxyImpl implements BallerinaWorkspaceMan
                 return;
             }
 
-            this.sourceRootToProject.put(project.sourceRoot(), ProjectContext.from(project.duplicate()));
+            ProjectSnapshot snapshot = projectSnapshots.acquire(project);
+            ProjectSnapshot previousSnapshot = snapshots.put(project.sourceRoot(), snapshot);
+            if (previousSnapshot != null) {
+                previousSnapshot.close();
+            }
+            this.sourceRootToProject.put(project.sourceRoot(), ProjectContext.from(snapshot.checkout()));
         }
 
         @Override
@@ -160,6 +190,10 @@ public class BallerinaWorkspaceManagerProxyImpl implements BallerinaWorkspaceMan
             }
             Path projectRoot = project.get().sourceRoot();
             sourceRootToProject.remove(projectRoot);
+            ProjectSnapshot snapshot = snapshots.remove(projectRoot);
+            if (snapshot != null) {
+                snapshot.close();
+            }
             this.clientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CLOSE.getName() +
                     "' {project: '" + projectRoot.toUri().toString() +
                     "' kind: '" + project.get().kind().name().toLowerCase(Locale.getDefault()) +
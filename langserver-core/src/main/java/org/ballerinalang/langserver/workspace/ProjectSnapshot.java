@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.workspace;
+
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.toml.syntax.tree.SyntaxTree;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+
+/**
+ * A snapshot of a project, which can be modified with scratch edits without affecting the workspace project. The
+ * snapshot is leased to a single request at a time, and it is returned to the {@link ProjectSnapshots} to be reused by
+ * the following requests when it is closed.
+ *
+ * <p>
+ * The package of the snapshot is immutable. A scratch edit creates a new package which shares the unchanged modules of
+ * the package of the snapshot, and it becomes the current package of the snapshot until the snapshot is released.
+ * </p>
+ *
+ * <p>
+ * When the workspace project is edited, an idle snapshot is rebased by applying the edited documents to the package of
+ * the snapshot, so that the unchanged modules and their compilation are retained. A snapshot can only be rebased while
+ * the modules, the documents and the manifests of the package are unchanged.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+public class ProjectSnapshot implements AutoCloseable {
+
+    private final ProjectSnapshots snapshots;
+    private final Project baseProject;
+    private final Project project;
+    private Package basePackage;
+    private Package snapshotPackage;
+    private Package leasedPackage;
+    private boolean leased;
+
+    ProjectSnapshot(ProjectSnapshots snapshots, Project baseProject, Package basePackage, Project project) {
+        this.snapshots = snapshots;
+        this.baseProject = baseProject;
+        this.basePackage = basePackage;
+        this.project = project;
+        this.snapshotPackage = project.currentPackage();
+    }
+
+    /**
+     * Returns the project of the snapshot. The current package of the project is only valid after a scratch edit is
+     * made within the lease, hence {@link #currentPackage()} should be used to access the package.
+     *
+     * @return Project of the snapshot
+     */
+    public Project project() {
+        return project;
+    }
+
+    /**
+     * Returns the package of the snapshot, without the scratch edits.
+     *
+     * @return Package of the snapshot
+     */
+    public Package basePackage() {
+        return snapshotPackage;
+    }
+
+    /**
+     * Returns the package of the snapshot including the scratch edits made within the lease.
+     *
+     * @return Current package of the snapshot
+     */
+    public Package currentPackage() {
+        Package currentPackage = project.currentPackage();
+        return currentPackage == leasedPackage ? snapshotPackage : currentPackage;
+    }
+
+    /**
+     * Returns the document of the snapshot corresponding to the given document of the workspace project.
+     *
+     * @param documentId ID of the document
+     * @return Document of the snapshot
+     */
+    public Document document(DocumentId documentId) {
+        return snapshotPackage.module(documentId.moduleId()).document(documentId);
+    }
+
+    /**
+     * Applies a scratch edit to the given document of the snapshot.
+     *
+     * @param documentId ID of the document
+     * @param content    Content of the modified document
+     * @return Modified document, of which the package is the current package of the snapshot
+     */
+    public Document modify(DocumentId documentId, String content) {
+        return document(documentId).modify().withContent(content).apply();
+    }
+
+    /**
+     * Returns the project of the snapshot with the scratch edits of the previous leases discarded. Used when the
+     * project is edited through a workspace manager rather than through {@link #modify(DocumentId, String)}.
+     *
+     * @return Project of the snapshot, of which the current package is the package of the snapshot
+     */
+    public synchronized Project checkout() {
+        if (project.currentPackage() != snapshotPackage) {
+            snapshotPackage = snapshotPackage.modify().apply();
+            leasedPackage = snapshotPackage;
+        }
+        return project;
+    }
+
+    /**
+     * Releases the snapshot, so that it can be reused by the following requests.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (!leased) {
+                return;
+            }
+            leased = false;
+        }
+        snapshots.release(this);
+    }
+
+    synchronized void lease() {
+        leased = true;
+        leasedPackage = project.currentPackage();
+    }
+
+    synchronized boolean isTakenFrom(Project project, Package currentPackage) {
+        return baseProject == project && basePackage == currentPackage;
+    }
+
+    boolean isTakenFrom(Project project) {
+        return baseProject == project;
+    }
+
+    /**
+     * Rebases the snapshot on the given package of the workspace project by applying the documents edited since the
+     * snapshot was taken or last rebased.
+     *
+     * @param currentPackage Current package of the workspace project
+     * @return Whether the snapshot was rebased, which is not possible once the structure of the package has changed
+     */
+    synchronized boolean rebase(Package currentPackage) {
+        if (!hasSameStructure(basePackage, currentPackage)) {
+            return false;
+        }
+        Package rebasedPackage = snapshotPackage;
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            Module baseModule = basePackage.module(moduleId);
+            Module currentModule = currentPackage.module(moduleId);
+            for (DocumentId documentId : currentModule.documentIds()) {
+                rebasedPackage = applyIfEdited(rebasedPackage, baseModule.document(documentId),
+                        currentModule.document(documentId));
+            }
+            for (DocumentId documentId : currentModule.testDocumentIds()) {
+                rebasedPackage = applyIfEdited(rebasedPackage, baseModule.document(documentId),
+                        currentModule.document(documentId));
+            }
+        }
+        basePackage = currentPackage;
+        snapshotPackage = rebasedPackage;
+        return true;
+    }
+
+    Path sourceRoot() {
+        return baseProject.sourceRoot();
+    }
+
+    /**
+     * Applies the content of the given document to the package if it is edited. The text of a document which is not
+     * edited is shared by all the packages derived from the package it was loaded to.
+     */
+    private static Package applyIfEdited(Package pkg, Document baseDocument, Document currentDocument) {
+        if (baseDocument.textDocument() == currentDocument.textDocument()) {
+            return pkg;
+        }
+        DocumentId documentId = currentDocument.documentId();
+        return pkg.module(documentId.moduleId()).document(documentId).modify()
+                .withContent(currentDocument.textDocument().toString())
+                .apply()
+                .module()
+                .packageInstance();
+    }
+
+    private static boolean hasSameStructure(Package basePackage, Package currentPackage) {
+        if (!hasSameIds(basePackage.moduleIds(), currentPackage.moduleIds())) {
+            return false;
+        }
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            Module baseModule = basePackage.module(moduleId);
+            Module currentModule = currentPackage.module(moduleId);
+            if (!hasSameIds(baseModule.documentIds(), currentModule.documentIds())
+                    || !hasSameIds(baseModule.testDocumentIds(), currentModule.testDocumentIds())) {
+                return false;
+            }
+        }
+        return tomlSource(basePackage.ballerinaToml().map(toml -> toml.tomlDocument().syntaxTree()))
+                .equals(tomlSource(currentPackage.ballerinaToml().map(toml -> toml.tomlDocument().syntaxTree())))
+                && tomlSource(basePackage.dependenciesToml().map(toml -> toml.tomlDocument().syntaxTree()))
+                .equals(tomlSource(currentPackage.dependenciesToml().map(toml -> toml.tomlDocument().syntaxTree())));
+    }
+
+    private static <T> boolean hasSameIds(Collection<T> baseIds, Collection<T> currentIds) {
+        return baseIds.size() == currentIds.size() && new HashSet<>(baseIds).containsAll(currentIds);
+    }
+
+    private static String tomlSource(Optional<SyntaxTree> syntaxTree) {
+        return syntaxTree.map(SyntaxTree::toSourceCode).orElse("");
+    }
+}
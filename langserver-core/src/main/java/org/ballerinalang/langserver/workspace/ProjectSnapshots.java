@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.workspace;
+
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hands out {@link ProjectSnapshot}s of the workspace projects, so that the requests which apply scratch edits to a
+ * project do not duplicate and recompile the project on each request.
+ *
+ * <p>
+ * A snapshot is a duplicate of the project taken at its current package. When a snapshot is released, it is kept idle
+ * and handed out to the next request on the same package of the project, along with the compilation of the package
+ * and the modules shared by the scratch edits made on it. Once the project is edited, an idle snapshot is rebased on
+ * the edited package instead of duplicating the project again, which only recompiles the edited modules. The idle
+ * snapshots are evicted once the project is removed or reloaded, once they cannot be rebased, or once the number of
+ * idle snapshots exceeds the limit, in which case the least recently used ones are evicted.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+public class ProjectSnapshots {
+
+    private static final LanguageServerContext.Key<ProjectSnapshots> PROJECT_SNAPSHOTS_KEY =
+            new LanguageServerContext.Key<>();
+    private static final int MAX_IDLE_SNAPSHOTS = 4;
+
+    // Idle snapshots of each project, ordered by the access of the projects
+    private final Map<Path, Deque<ProjectSnapshot>> idleSnapshots;
+    private int idleCount;
+
+    private ProjectSnapshots(LanguageServerContext serverContext) {
+        serverContext.put(PROJECT_SNAPSHOTS_KEY, this);
+        this.idleSnapshots = new LinkedHashMap<>(16, 0.75f, true);
+        this.idleCount = 0;
+    }
+
+    public static ProjectSnapshots getInstance(LanguageServerContext serverContext) {
+        ProjectSnapshots projectSnapshots = serverContext.get(PROJECT_SNAPSHOTS_KEY);
+        if (projectSnapshots == null) {
+            projectSnapshots = new ProjectSnapshots(serverContext);
+        }
+        return projectSnapshots;
+    }
+
+    /**
+     * Acquires a snapshot of the current package of the project. The snapshot should be released once the request is
+     * completed, preferably with a try-with-resources statement.
+     *
+     * @param project Project to take the snapshot of
+     * @return Snapshot of the project
+     */
+    public ProjectSnapshot acquire(Project project) {
+        Package basePackage = project.currentPackage();
+        ProjectSnapshot staleSnapshot = null;
+        synchronized (this) {
+            evictReplaced(project);
+            Deque<ProjectSnapshot> snapshots = idleSnapshots.get(project.sourceRoot());
+            if (snapshots != null) {
+                for (ProjectSnapshot snapshot : snapshots) {
+                    if (snapshot.isTakenFrom(project, basePackage)) {
+                        staleSnapshot = snapshot;
+                        break;
+                    }
+                }
+                if (staleSnapshot == null) {
+                    staleSnapshot = snapshots.peekFirst();
+                }
+                if (staleSnapshot != null) {
+                    snapshots.remove(staleSnapshot);
+                    idleCount--;
+                    if (snapshots.isEmpty()) {
+                        idleSnapshots.remove(project.sourceRoot());
+                    }
+                }
+            }
+        }
+
+        // Rebasing and duplicating the project can take a while, hence they are done without holding the lock
+        if (staleSnapshot != null && (staleSnapshot.isTakenFrom(project, basePackage)
+                || staleSnapshot.rebase(basePackage))) {
+            staleSnapshot.lease();
+            return staleSnapshot;
+        }
+        ProjectSnapshot snapshot = new ProjectSnapshot(this, project, basePackage, project.duplicate());
+        snapshot.lease();
+        return snapshot;
+    }
+
+    /**
+     * Evicts the idle snapshots of the given project. Invoked when the project is removed from the workspace.
+     *
+     * @param sourceRoot Source root of the project
+     */
+    public synchronized void evict(Path sourceRoot) {
+        Deque<ProjectSnapshot> snapshots = idleSnapshots.remove(sourceRoot);
+        if (snapshots != null) {
+            idleCount -= snapshots.size();
+        }
+    }
+
+    synchronized void release(ProjectSnapshot snapshot) {
+        idleSnapshots.computeIfAbsent(snapshot.sourceRoot(), key -> new ArrayDeque<>()).push(snapshot);
+        idleCount++;
+
+        Iterator<Deque<ProjectSnapshot>> iterator = idleSnapshots.values().iterator();
+        while (idleCount > MAX_IDLE_SNAPSHOTS && iterator.hasNext()) {
+            Deque<ProjectSnapshot> snapshots = iterator.next();
+            while (idleCount > MAX_IDLE_SNAPSHOTS && !snapshots.isEmpty()) {
+                snapshots.removeLast();
+                idleCount--;
+            }
+            if (snapshots.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    synchronized int idleCount() {
+        return idleCount;
+    }
+
+    /**
+     * Evicts the idle snapshots taken from a previous project of the same source root, which are not rebased as the
+     * project has been reloaded.
+     */
+    private void evictReplaced(Project project) {
+        Deque<ProjectSnapshot> snapshots = idleSnapshots.get(project.sourceRoot());
+        if (snapshots != null) {
+            int size = snapshots.size();
+            snapshots.removeIf(snapshot -> !snapshot.isTakenFrom(project));
+            idleCount -= size - snapshots.size();
+            if (snapshots.isEmpty()) {
+                idleSnapshots.remove(project.sourceRoot());
+            }
+        }
+    }
+}
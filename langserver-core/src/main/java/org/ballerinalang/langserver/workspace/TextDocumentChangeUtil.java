@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.workspace;
+
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextLine;
+import io.ballerina.tools.text.TextRange;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Applies the content changes received via the textDocument/didChange notification on top of a {@link TextDocument}.
+ * Supports both the full and the incremental text document synchronization kinds.
+ *
+ * @since 1.7.0
+ */
+public final class TextDocumentChangeUtil {
+
+    private TextDocumentChangeUtil() {
+    }
+
+    /**
+     * Applies the given content changes in order and returns the resulting text document.
+     *
+     * @param textDocument Text document the changes are relative to, can be null if the first applicable change
+     *                     carries the full content of the document
+     * @param changes      Content changes received from the client
+     * @return Updated text document
+     * @throws WorkspaceDocumentException when a range based change is received without a base document
+     */
+    public static TextDocument applyContentChanges(@Nullable TextDocument textDocument,
+                                                   List<TextDocumentContentChangeEvent> changes)
+            throws WorkspaceDocumentException {
+        // A full content change overrides all the changes received before it
+        int startIndex = 0;
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            if (changes.get(i).getRange() == null) {
+                startIndex = i;
+                break;
+            }
+        }
+
+        TextDocument updatedDocument = textDocument;
+        for (int i = startIndex; i < changes.size(); i++) {
+            TextDocumentContentChangeEvent change = changes.get(i);
+            Range range = change.getRange();
+            if (range == null) {
+                updatedDocument = TextDocuments.from(change.getText());
+                continue;
+            }
+            if (updatedDocument == null) {
+                throw new WorkspaceDocumentException("Cannot apply an incremental change without the document content");
+            }
+            int startOffset = toOffset(updatedDocument, range.getStart());
+            int endOffset = Math.max(startOffset, toOffset(updatedDocument, range.getEnd()));
+            TextEdit textEdit = TextEdit.from(TextRange.from(startOffset, endOffset - startOffset), change.getText());
+            updatedDocument = updatedDocument.apply(TextDocumentChange.from(new TextEdit[]{textEdit}));
+        }
+
+        if (updatedDocument == null) {
+            throw new WorkspaceDocumentException("No content changes found to apply");
+        }
+        return updatedDocument;
+    }
+
+    /**
+     * Converts the given LSP position to a character offset. As per the LSP specification, a character offset beyond
+     * the line length defaults back to the end of the line, and a line beyond the document refers to its end.
+     *
+     * @param textDocument Text document
+     * @param position     LSP position
+     * @return Character offset in the text document
+     */
+    private static int toOffset(TextDocument textDocument, Position position) {
+        TextLine textLine;
+        try {
+            textLine = textDocument.line(position.getLine());
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            return textDocument.toString().length();
+        }
+        return textLine.startOffset() + Math.min(Math.max(position.getCharacter(), 0), textLine.length());
+    }
+}
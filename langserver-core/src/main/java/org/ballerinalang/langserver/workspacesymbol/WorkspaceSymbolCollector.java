@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.workspacesymbol;
+
+import io.ballerina.compiler.syntax.tree.AnnotationDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ConstantDeclarationNode;
+import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
+import io.ballerina.compiler.syntax.tree.EnumMemberNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.ObjectFieldNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.langserver.documentsymbol.DocumentSymbolUtil;
+import org.eclipse.lsp4j.SymbolKind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the workspace symbols of a document from its syntax tree, so that a document is indexed without compiling
+ * the package. The module level declarations are collected along with the members of the classes and the services,
+ * whose container is the class or the service.
+ *
+ * @since 1.7.0
+ */
+final class WorkspaceSymbolCollector {
+
+    private static final String INIT_METHOD = "init";
+
+    private WorkspaceSymbolCollector() {
+    }
+
+    /**
+     * Collects the workspace symbols of the given syntax tree.
+     *
+     * @param syntaxTree Syntax tree of the document
+     * @param moduleName Name of the module of the document, which is the container of the module level symbols
+     * @return Symbols of the document
+     */
+    static List<WorkspaceSymbolIndex.SymbolEntry> collect(SyntaxTree syntaxTree, String moduleName) {
+        List<WorkspaceSymbolIndex.SymbolEntry> symbols = new ArrayList<>();
+        if (!(syntaxTree.rootNode() instanceof ModulePartNode modulePartNode)) {
+            return symbols;
+        }
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            collectMember(member, moduleName, symbols);
+        }
+        return symbols;
+    }
+
+    private static void collectMember(ModuleMemberDeclarationNode member, String moduleName,
+                                      List<WorkspaceSymbolIndex.SymbolEntry> symbols) {
+        switch (member) {
+            case FunctionDefinitionNode functionDefinition ->
+                    add(symbols, functionDefinition.functionName().text(), SymbolKind.Function, moduleName,
+                            functionDefinition, functionDefinition.metadata());
+            case ClassDefinitionNode classDefinition -> {
+                String className = classDefinition.className().text();
+                add(symbols, className, SymbolKind.Class, moduleName, classDefinition, classDefinition.metadata());
+                collectObjectMembers(classDefinition.members(), className, symbols);
+            }
+            case ServiceDeclarationNode serviceDeclaration -> {
+                String serviceName = "service " + serviceDeclaration.absoluteResourcePath().stream()
+                        .map(Node::toSourceCode).collect(Collectors.joining("")).trim();
+                add(symbols, serviceName, SymbolKind.Object, moduleName, serviceDeclaration,
+                        serviceDeclaration.metadata());
+                collectObjectMembers(serviceDeclaration.members(), serviceName, symbols);
+            }
+            case TypeDefinitionNode typeDefinition -> {
+                SymbolKind symbolKind = switch (typeDefinition.typeDescriptor().kind()) {
+                    case RECORD_TYPE_DESC -> SymbolKind.Struct;
+                    case OBJECT_TYPE_DESC -> SymbolKind.Interface;
+                    default -> SymbolKind.TypeParameter;
+                };
+                add(symbols, typeDefinition.typeName().text(), symbolKind, moduleName, typeDefinition,
+                        typeDefinition.metadata());
+            }
+            case EnumDeclarationNode enumDeclaration -> {
+                String enumName = enumDeclaration.identifier().text();
+                add(symbols, enumName, SymbolKind.Enum, moduleName, enumDeclaration, enumDeclaration.metadata());
+                for (Node enumMember : enumDeclaration.enumMemberList()) {
+                    if (enumMember instanceof EnumMemberNode enumMemberNode) {
+                        add(symbols, enumMemberNode.identifier().text(), SymbolKind.EnumMember, enumName,
+                                enumMemberNode, enumMemberNode.metadata());
+                    }
+                }
+            }
+            case ConstantDeclarationNode constantDeclaration ->
+                    add(symbols, constantDeclaration.variableName().text(), SymbolKind.Constant, moduleName,
+                            constantDeclaration, constantDeclaration.metadata());
+            case ModuleVariableDeclarationNode variableDeclaration -> {
+                // Only the capture binding patterns are considered, as in the document symbols
+                Node bindingPattern = variableDeclaration.typedBindingPattern().bindingPattern();
+                if (bindingPattern.kind() == SyntaxKind.CAPTURE_BINDING_PATTERN) {
+                    add(symbols, bindingPattern.toSourceCode().trim(), SymbolKind.Variable, moduleName,
+                            variableDeclaration, variableDeclaration.metadata());
+                }
+            }
+            case ListenerDeclarationNode listenerDeclaration ->
+                    add(symbols, listenerDeclaration.variableName().text(), SymbolKind.Object, moduleName,
+                            listenerDeclaration, listenerDeclaration.metadata());
+            case AnnotationDeclarationNode annotationDeclaration ->
+                    add(symbols, annotationDeclaration.annotationTag().text(), SymbolKind.Property, moduleName,
+                            annotationDeclaration, annotationDeclaration.metadata());
+            default -> {
+                // The imports, the XML namespace declarations and the module level statements are not indexed
+            }
+        }
+    }
+
+    private static void collectObjectMembers(NodeList<Node> members, String containerName,
+                                             List<WorkspaceSymbolIndex.SymbolEntry> symbols) {
+        for (Node member : members) {
+            if (member instanceof ObjectFieldNode objectField) {
+                add(symbols, objectField.fieldName().text(), SymbolKind.Field, containerName, objectField,
+                        objectField.metadata());
+            } else if (member instanceof FunctionDefinitionNode method) {
+                String methodName = method.functionName().text();
+                if (method.kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION) {
+                    String resourcePath = method.relativeResourcePath().stream()
+                            .map(Node::toSourceCode).collect(Collectors.joining("")).trim();
+                    add(symbols, methodName + " " + resourcePath, SymbolKind.Function, containerName, method,
+                            method.metadata());
+                } else {
+                    add(symbols, methodName, INIT_METHOD.equals(methodName) ? SymbolKind.Constructor :
+                            SymbolKind.Method, containerName, method, method.metadata());
+                }
+            }
+        }
+    }
+
+    private static void add(List<WorkspaceSymbolIndex.SymbolEntry> symbols, String name, SymbolKind kind,
+                            String containerName, Node node, Optional<MetadataNode> metadata) {
+        if (name.isBlank() || node.isMissing()) {
+            return;
+        }
+        LineRange lineRange = node.lineRange();
+        boolean deprecated = metadata.isPresent() && DocumentSymbolUtil.isDeprecated(metadata.get());
+        symbols.add(new WorkspaceSymbolIndex.SymbolEntry(name, kind, containerName,
+                lineRange.startLine().line(), lineRange.startLine().offset(), lineRange.endLine().line(),
+                lineRange.endLine().offset(), deprecated));
+    }
+}
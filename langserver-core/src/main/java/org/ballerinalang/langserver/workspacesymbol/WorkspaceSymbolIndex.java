@@ -0,0 +1,593 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.workspacesymbol;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectException;
+import io.ballerina.projects.ProjectKind;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
+import org.ballerinalang.langserver.LSClientLogger;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SymbolKind;
+import org.eclipse.lsp4j.SymbolTag;
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Indexes the module level symbols of the packages loaded by the workspace manager for the workspace symbol requests.
+ * The symbols of a document are collected from its syntax tree, so that a package is indexed without compiling it.
+ *
+ * <p>
+ * A document is re-indexed when it is changed, and a package is swept for the changed, added and removed documents when
+ * it is loaded or reloaded on a watched file change. Each document is fingerprinted by its content, so that a sweep
+ * only parses the documents which changed since they were indexed.
+ * </p>
+ *
+ * <p>
+ * The index of each package is persisted under the Ballerina user home. On a cold start, the persisted indexes of the
+ * packages within the workspace folders are loaded and validated against the files on the disk, so that the workspace
+ * symbol requests are served before the packages are loaded and compiled.
+ * </p>
+ *
+ * <p>
+ * The index of a project is removed when the project is closed. Each removal advances the generation of the project
+ * root, and an asynchronous update queued before the removal is discarded once its generation is outdated, so that a
+ * closed project is not indexed and persisted again.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+public class WorkspaceSymbolIndex {
+
+    private static final LanguageServerContext.Key<WorkspaceSymbolIndex> WORKSPACE_SYMBOL_INDEX_KEY =
+            new LanguageServerContext.Key<>();
+    private static final String INDEX_DIR_NAME = "ls-symbol-index";
+    private static final String INDEX_FILE_EXTENSION = ".json";
+    private static final int INDEX_VERSION = 1;
+    private static final int MAX_RESULTS = 256;
+    private static final long PERSIST_DELAY_SECONDS = 5;
+
+    private final Path indexDir;
+    private final LSClientLogger clientLogger;
+    private final Executor executor;
+    private final Map<Path, ProjectIndex> projectIndexes;
+    // Number of times the index of each project root was removed
+    private final Map<Path, Integer> generations;
+    private final Set<Path> unsavedProjects;
+    private final AtomicBoolean persistScheduled;
+
+    private WorkspaceSymbolIndex(LanguageServerContext serverContext) {
+        this(serverContext, RepoUtils.createAndGetHomeReposPath().resolve(INDEX_DIR_NAME));
+    }
+
+    WorkspaceSymbolIndex(LanguageServerContext serverContext, Path indexDir) {
+        serverContext.put(WORKSPACE_SYMBOL_INDEX_KEY, this);
+        this.indexDir = indexDir;
+        this.clientLogger = LSClientLogger.getInstance(serverContext);
+        this.executor = serverContext.executors().background();
+        this.projectIndexes = new ConcurrentHashMap<>();
+        this.generations = new ConcurrentHashMap<>();
+        this.unsavedProjects = ConcurrentHashMap.newKeySet();
+        this.persistScheduled = new AtomicBoolean();
+    }
+
+    public static WorkspaceSymbolIndex getInstance(LanguageServerContext serverContext) {
+        WorkspaceSymbolIndex workspaceSymbolIndex = serverContext.get(WORKSPACE_SYMBOL_INDEX_KEY);
+        if (workspaceSymbolIndex == null) {
+            workspaceSymbolIndex = new WorkspaceSymbolIndex(serverContext);
+        }
+        return workspaceSymbolIndex;
+    }
+
+    /**
+     * Returns the symbols matching the given query, ordered by the relevance of the match.
+     *
+     * @param query         Query of the workspace symbol request
+     * @param cancelChecker Cancel checker of the request
+     * @return Matching workspace symbols
+     */
+    public List<WorkspaceSymbol> search(String query, CancelChecker cancelChecker) {
+        String trimmedQuery = query == null ? "" : query.trim();
+        PriorityQueue<ScoredSymbol> topSymbols = new PriorityQueue<>(ScoredSymbol.ORDER.reversed());
+        for (ProjectIndex projectIndex : projectIndexes.values()) {
+            cancelChecker.checkCanceled();
+            for (DocumentIndex documentIndex : projectIndex.documents.values()) {
+                for (SymbolEntry symbol : documentIndex.symbols()) {
+                    int score = WorkspaceSymbolMatcher.score(trimmedQuery, symbol.name());
+                    if (score == WorkspaceSymbolMatcher.NO_MATCH) {
+                        continue;
+                    }
+                    topSymbols.add(new ScoredSymbol(symbol, documentIndex.path(), score));
+                    if (topSymbols.size() > MAX_RESULTS) {
+                        topSymbols.poll();
+                    }
+                }
+            }
+        }
+
+        List<ScoredSymbol> scoredSymbols = new ArrayList<>(topSymbols);
+        scoredSymbols.sort(ScoredSymbol.ORDER);
+        List<WorkspaceSymbol> workspaceSymbols = new ArrayList<>(scoredSymbols.size());
+        for (ScoredSymbol scoredSymbol : scoredSymbols) {
+            workspaceSymbols.add(scoredSymbol.symbol().toWorkspaceSymbol(scoredSymbol.path()));
+        }
+        return workspaceSymbols;
+    }
+
+    /**
+     * Indexes the documents of the given project which changed since they were indexed, and removes the documents
+     * which no longer belong to the project.
+     *
+     * @param project Project to be indexed
+     */
+    public void update(Project project) {
+        update(project, generation(project.sourceRoot()));
+    }
+
+    /**
+     * Re-indexes the given document of the given project.
+     *
+     * @param project      Project of the document
+     * @param documentPath Path of the document
+     */
+    public void update(Project project, Path documentPath) {
+        update(project, documentPath, generation(project.sourceRoot()));
+    }
+
+    /**
+     * Indexes the given project on the background executor. The update is discarded if the project is removed before
+     * it is executed.
+     *
+     * @param project Project to be indexed
+     * @return Future completed when the project is indexed
+     */
+    public CompletableFuture<Void> updateAsync(Project project) {
+        int generation = generation(project.sourceRoot());
+        return CompletableFuture.runAsync(() -> update(project, generation), executor);
+    }
+
+    /**
+     * Re-indexes the given document on the background executor. The update is discarded if the project is removed
+     * before it is executed.
+     *
+     * @param project      Project of the document
+     * @param documentPath Path of the document
+     * @return Future completed when the document is indexed
+     */
+    public CompletableFuture<Void> updateAsync(Project project, Path documentPath) {
+        int generation = generation(project.sourceRoot());
+        return CompletableFuture.runAsync(() -> update(project, documentPath, generation), executor);
+    }
+
+    /**
+     * Removes the index of the given project, along with its persisted index. The updates of the project queued
+     * before the removal are discarded.
+     *
+     * @param projectRoot Source root of the project
+     */
+    public void remove(Path projectRoot) {
+        projectIndexes.compute(projectRoot, (key, projectIndex) -> {
+            generations.merge(key, 1, Integer::sum);
+            return null;
+        });
+        unsavedProjects.remove(projectRoot);
+        try {
+            Files.deleteIfExists(indexDir.resolve(indexFileName(projectRoot)));
+        } catch (IOException e) {
+            clientLogger.logTrace("Failed to remove the workspace symbol index of " + projectRoot);
+        }
+    }
+
+    void update(Project project, int generation) {
+        Path projectRoot = project.sourceRoot();
+        // The index is created within the mapping function, so that it is not recreated by an outdated update
+        ProjectIndex projectIndex = projectIndexes.compute(projectRoot, (key, index) -> {
+            if (generation != generation(key)) {
+                return index;
+            }
+            return index == null ? new ProjectIndex(key, project.kind() != ProjectKind.SINGLE_FILE_PROJECT) : index;
+        });
+        if (projectIndex == null || generation != generation(projectRoot)) {
+            return;
+        }
+        // The updates of a project are serialized, so that an older state of a document never replaces a newer one
+        synchronized (projectIndex) {
+            Package currentPackage = project.currentPackage();
+            if (projectIndex.isSwept(currentPackage)) {
+                return;
+            }
+
+            Set<Path> documentPaths = new HashSet<>();
+            for (ModuleId moduleId : currentPackage.moduleIds()) {
+                Module module = currentPackage.module(moduleId);
+                String moduleName = module.moduleName().toString();
+                List<DocumentId> documentIds = new ArrayList<>(module.documentIds());
+                documentIds.addAll(module.testDocumentIds());
+                for (DocumentId documentId : documentIds) {
+                    Optional<Path> documentPath = project.documentPath(documentId);
+                    if (documentPath.isEmpty()) {
+                        continue;
+                    }
+                    documentPaths.add(documentPath.get());
+                    indexDocument(projectIndex, documentPath.get(), moduleName, module.document(documentId));
+                }
+            }
+            projectIndex.documents.keySet().retainAll(documentPaths);
+            projectIndex.sweptPackage = new WeakReference<>(currentPackage);
+        }
+        schedulePersist(projectRoot);
+    }
+
+    private void update(Project project, Path documentPath, int generation) {
+        ProjectIndex projectIndex = projectIndexes.get(project.sourceRoot());
+        if (projectIndex == null) {
+            update(project, generation);
+            return;
+        }
+        if (generation != generation(project.sourceRoot())) {
+            return;
+        }
+        synchronized (projectIndex) {
+            Package currentPackage = project.currentPackage();
+            try {
+                DocumentId documentId = project.documentId(documentPath);
+                Module module = currentPackage.module(documentId.moduleId());
+                indexDocument(projectIndex, documentPath, module.moduleName().toString(),
+                        module.document(documentId));
+            } catch (ProjectException e) {
+                // The document no longer belongs to the project
+                projectIndex.documents.remove(documentPath);
+            }
+            if (projectIndex.sweptPackage.get() != null) {
+                // The other documents of the package are unchanged since the package was swept
+                projectIndex.sweptPackage = new WeakReference<>(currentPackage);
+            }
+        }
+        schedulePersist(project.sourceRoot());
+    }
+
+    /**
+     * Loads the persisted indexes of the projects within the given workspace folders, which are not indexed yet. The
+     * persisted documents are validated against the files on the disk, and the changed documents are re-parsed.
+     *
+     * @param workspaceFolders Paths of the workspace folders
+     */
+    public void loadPersisted(List<Path> workspaceFolders) {
+        if (workspaceFolders.isEmpty() || !Files.isDirectory(indexDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> indexFiles = Files.newDirectoryStream(indexDir, "*" + INDEX_FILE_EXTENSION)) {
+            for (Path indexFile : indexFiles) {
+                readIndex(indexFile).ifPresent(projectIndex -> {
+                    Path projectRoot = projectIndex.projectRoot;
+                    if (workspaceFolders.stream().anyMatch(projectRoot::startsWith) && Files.isDirectory(projectRoot)) {
+                        validate(projectIndex);
+                        projectIndexes.putIfAbsent(projectRoot, projectIndex);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            clientLogger.logTrace("Failed to load the persisted workspace symbol indexes: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Loads the persisted indexes of the projects within the given workspace folders on the background executor.
+     *
+     * @param workspaceFolders Paths of the workspace folders
+     * @return Future completed when the indexes are loaded
+     */
+    public CompletableFuture<Void> loadPersistedAsync(List<Path> workspaceFolders) {
+        return CompletableFuture.runAsync(() -> loadPersisted(workspaceFolders), executor);
+    }
+
+    /**
+     * Persists the indexes of the projects which changed since they were last persisted.
+     */
+    public void persist() {
+        persistScheduled.set(false);
+        for (Path projectRoot : new ArrayList<>(unsavedProjects)) {
+            unsavedProjects.remove(projectRoot);
+            ProjectIndex projectIndex = projectIndexes.get(projectRoot);
+            // The single file projects are not persisted, since they are removed when the file is closed
+            if (projectIndex != null && projectIndex.persistent) {
+                writeIndex(projectIndex);
+            }
+        }
+    }
+
+    int generation(Path projectRoot) {
+        return generations.getOrDefault(projectRoot, 0);
+    }
+
+    private void indexDocument(ProjectIndex projectIndex, Path documentPath, String moduleName, Document document) {
+        TextDocument textDocument = document.textDocument();
+        long fingerprint = fingerprint(textDocument.toString());
+        DocumentIndex documentIndex = projectIndex.documents.get(documentPath);
+        if (documentIndex != null && documentIndex.fingerprint() == fingerprint
+                && documentIndex.moduleName().equals(moduleName)) {
+            return;
+        }
+        List<SymbolEntry> symbols = WorkspaceSymbolCollector.collect(document.syntaxTree(), moduleName);
+        projectIndex.documents.put(documentPath, new DocumentIndex(documentPath, moduleName, fingerprint, symbols));
+    }
+
+    /**
+     * Re-parses the persisted documents which changed on the disk, and removes the documents which were deleted.
+     */
+    private void validate(ProjectIndex projectIndex) {
+        boolean changed = false;
+        for (DocumentIndex documentIndex : new ArrayList<>(projectIndex.documents.values())) {
+            Path documentPath = documentIndex.path();
+            try {
+                if (!Files.isRegularFile(documentPath)) {
+                    projectIndex.documents.remove(documentPath);
+                    changed = true;
+                    continue;
+                }
+                String content = Files.readString(documentPath, StandardCharsets.UTF_8);
+                long fingerprint = fingerprint(content);
+                if (fingerprint == documentIndex.fingerprint()) {
+                    continue;
+                }
+                SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(content));
+                projectIndex.documents.put(documentPath, new DocumentIndex(documentPath, documentIndex.moduleName(),
+                        fingerprint, WorkspaceSymbolCollector.collect(syntaxTree, documentIndex.moduleName())));
+                changed = true;
+            } catch (IOException | RuntimeException e) {
+                projectIndex.documents.remove(documentPath);
+                changed = true;
+            }
+        }
+        if (changed) {
+            schedulePersist(projectIndex.projectRoot);
+        }
+    }
+
+    private void schedulePersist(Path projectRoot) {
+        unsavedProjects.add(projectRoot);
+        // The changes are persisted in batches, since a document is re-indexed on each change
+        if (persistScheduled.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(this::persist,
+                    CompletableFuture.delayedExecutor(PERSIST_DELAY_SECONDS, TimeUnit.SECONDS, executor));
+        }
+    }
+
+    private void writeIndex(ProjectIndex projectIndex) {
+        JsonObject json = new JsonObject();
+        json.addProperty("version", INDEX_VERSION);
+        json.addProperty("projectRoot", projectIndex.projectRoot.toString());
+        JsonArray documents = new JsonArray();
+        projectIndex.documents.values().forEach(documentIndex -> documents.add(documentIndex.toJson()));
+        json.add("documents", documents);
+
+        try {
+            Files.createDirectories(indexDir);
+            Path tempFile = Files.createTempFile(indexDir, "index", ".tmp");
+            try {
+                Files.writeString(tempFile, json.toString(), StandardCharsets.UTF_8);
+                Path target = indexDir.resolve(indexFileName(projectIndex.projectRoot));
+                try {
+                    Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            // The index remains in memory, and is rebuilt when the project is loaded in the next session
+            clientLogger.logTrace("Failed to persist the workspace symbol index of " + projectIndex.projectRoot);
+        }
+    }
+
+    private Optional<ProjectIndex> readIndex(Path indexFile) {
+        try {
+            JsonObject json = JsonParser.parseString(Files.readString(indexFile, StandardCharsets.UTF_8))
+                    .getAsJsonObject();
+            if (json.get("version") == null || json.get("version").getAsInt() != INDEX_VERSION) {
+                return Optional.empty();
+            }
+            ProjectIndex projectIndex = new ProjectIndex(Path.of(json.get("projectRoot").getAsString()), true);
+            for (JsonElement document : json.getAsJsonArray("documents")) {
+                DocumentIndex documentIndex = DocumentIndex.fromJson(document.getAsJsonObject());
+                projectIndex.documents.put(documentIndex.path(), documentIndex);
+            }
+            return Optional.of(projectIndex);
+        } catch (IOException | RuntimeException e) {
+            // A corrupted index is ignored, and replaced when the project is indexed again
+            clientLogger.logTrace("Failed to read the workspace symbol index: " + indexFile);
+            return Optional.empty();
+        }
+    }
+
+    private static String indexFileName(Path projectRoot) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(projectRoot.toString().getBytes(StandardCharsets.UTF_8)))
+                    + INDEX_FILE_EXTENSION;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long fingerprint(String content) {
+        return ((long) content.length() << 32) | (content.hashCode() & 0xffffffffL);
+    }
+
+    /**
+     * Index of the documents of a project.
+     */
+    private static class ProjectIndex {
+
+        private final Path projectRoot;
+        // Whether the index is persisted, which is not the case for the single file projects
+        private final boolean persistent;
+        private final Map<Path, DocumentIndex> documents;
+        // Package of the project when its documents were last swept, which is empty for a persisted index
+        private volatile WeakReference<Package> sweptPackage;
+
+        ProjectIndex(Path projectRoot, boolean persistent) {
+            this.projectRoot = projectRoot;
+            this.persistent = persistent;
+            this.documents = new ConcurrentHashMap<>();
+            this.sweptPackage = new WeakReference<>(null);
+        }
+
+        boolean isSwept(Package currentPackage) {
+            return sweptPackage.get() == currentPackage;
+        }
+    }
+
+    /**
+     * Index of the symbols of a document.
+     *
+     * @param path        Path of the document
+     * @param moduleName  Name of the module of the document
+     * @param fingerprint Fingerprint of the content of the document
+     * @param symbols     Symbols of the document
+     */
+    private record DocumentIndex(Path path, String moduleName, long fingerprint, List<SymbolEntry> symbols) {
+
+        JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("path", path.toString());
+            json.addProperty("module", moduleName);
+            json.addProperty("fingerprint", fingerprint);
+            JsonArray symbolsJson = new JsonArray();
+            symbols.forEach(symbol -> symbolsJson.add(symbol.toJson()));
+            json.add("symbols", symbolsJson);
+            return json;
+        }
+
+        static DocumentIndex fromJson(JsonObject json) {
+            List<SymbolEntry> symbols = new ArrayList<>();
+            for (JsonElement symbol : json.getAsJsonArray("symbols")) {
+                symbols.add(SymbolEntry.fromJson(symbol.getAsJsonObject()));
+            }
+            return new DocumentIndex(Path.of(json.get("path").getAsString()), json.get("module").getAsString(),
+                    json.get("fingerprint").getAsLong(), symbols);
+        }
+    }
+
+    /**
+     * Indexed symbol of a document.
+     *
+     * @param name          Name of the symbol
+     * @param kind          Kind of the symbol
+     * @param containerName Name of the module, the class or the service containing the symbol
+     * @param startLine     Start line of the symbol
+     * @param startColumn   Start column of the symbol
+     * @param endLine       End line of the symbol
+     * @param endColumn     End column of the symbol
+     * @param deprecated    Whether the symbol is deprecated
+     */
+    record SymbolEntry(String name, SymbolKind kind, String containerName, int startLine, int startColumn,
+                       int endLine, int endColumn, boolean deprecated) {
+
+        WorkspaceSymbol toWorkspaceSymbol(Path documentPath) {
+            Range range = new Range(new Position(startLine, startColumn), new Position(endLine, endColumn));
+            WorkspaceSymbol workspaceSymbol = new WorkspaceSymbol();
+            workspaceSymbol.setName(name);
+            workspaceSymbol.setKind(kind);
+            workspaceSymbol.setContainerName(containerName);
+            workspaceSymbol.setLocation(Either.forLeft(new Location(documentPath.toUri().toString(), range)));
+            if (deprecated) {
+                workspaceSymbol.setTags(List.of(SymbolTag.Deprecated));
+            }
+            return workspaceSymbol;
+        }
+
+        JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("name", name);
+            json.addProperty("kind", kind.getValue());
+            json.addProperty("container", containerName);
+            JsonArray range = new JsonArray();
+            range.add(startLine);
+            range.add(startColumn);
+            range.add(endLine);
+            range.add(endColumn);
+            json.add("range", range);
+            if (deprecated) {
+                json.addProperty("deprecated", true);
+            }
+            return json;
+        }
+
+        static SymbolEntry fromJson(JsonObject json) {
+            JsonArray range = json.getAsJsonArray("range");
+            return new SymbolEntry(json.get("name").getAsString(), SymbolKind.forValue(json.get("kind").getAsInt()),
+                    json.get("container").getAsString(), range.get(0).getAsInt(), range.get(1).getAsInt(),
+                    range.get(2).getAsInt(), range.get(3).getAsInt(), json.has("deprecated"));
+        }
+    }
+
+    /**
+     * Symbol matching a query, along with the score of the match.
+     */
+    private record ScoredSymbol(SymbolEntry symbol, Path path, int score) {
+
+        // Orders the better matches first, and the shorter names first among the equally scored matches
+        static final Comparator<ScoredSymbol> ORDER = Comparator.comparingInt(ScoredSymbol::score).reversed()
+                .thenComparingInt(scoredSymbol -> scoredSymbol.symbol().name().length())
+                .thenComparing(scoredSymbol -> scoredSymbol.symbol().name())
+                .thenComparing(ScoredSymbol::path);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.workspacesymbol;
+
+/**
+ * Matches the workspace symbol queries against the symbol names. A query matches a name if the characters of the query
+ * appear in the name in the same order, ignoring the case. The matches are scored so that the exact and the prefix
+ * matches rank above the camel-hump matches, such as {@code gCN} for {@code getCustomerName}, which in turn rank above
+ * the other fuzzy matches.
+ *
+ * @since 1.7.0
+ */
+final class WorkspaceSymbolMatcher {
+
+    static final int NO_MATCH = -1;
+
+    private static final int EXACT_MATCH = 1000;
+    private static final int CASE_INSENSITIVE_EXACT_MATCH = 900;
+    private static final int PREFIX_MATCH = 800;
+    private static final int CASE_INSENSITIVE_PREFIX_MATCH = 700;
+    private static final int CAMEL_HUMP_MATCH = 600;
+    private static final int SUBSTRING_MATCH = 400;
+    private static final int FUZZY_MATCH = 200;
+    // Keeps the penalties of the long names and the gaps within the band of the kind of the match
+    private static final int MAX_PENALTY = 99;
+
+    private WorkspaceSymbolMatcher() {
+    }
+
+    /**
+     * Scores the match of the given query against the given name.
+     *
+     * @param query Query of the workspace symbol request
+     * @param name  Name of the symbol
+     * @return Score of the match, which is higher for the better matches, or {@link #NO_MATCH}
+     */
+    static int score(String query, String name) {
+        if (query.isEmpty()) {
+            return FUZZY_MATCH;
+        }
+        if (query.length() > name.length()) {
+            return NO_MATCH;
+        }
+        if (name.equals(query)) {
+            return EXACT_MATCH;
+        }
+        if (name.equalsIgnoreCase(query)) {
+            return CASE_INSENSITIVE_EXACT_MATCH;
+        }
+
+        int lengthPenalty = Math.min(name.length() - query.length(), MAX_PENALTY);
+        if (name.startsWith(query)) {
+            return PREFIX_MATCH - lengthPenalty;
+        }
+        if (name.regionMatches(true, 0, query, 0, query.length())) {
+            return CASE_INSENSITIVE_PREFIX_MATCH - lengthPenalty;
+        }
+        if (matchesCamelHumps(query, name)) {
+            return CAMEL_HUMP_MATCH - lengthPenalty;
+        }
+        if (indexOfIgnoreCase(name, query) >= 0) {
+            return SUBSTRING_MATCH - lengthPenalty;
+        }
+        int gaps = fuzzyMatchGaps(query, name);
+        if (gaps < 0) {
+            return NO_MATCH;
+        }
+        return FUZZY_MATCH - Math.min(gaps, MAX_PENALTY);
+    }
+
+    /**
+     * Checks whether each character of the query either starts a hump of the name or continues the hump matched by
+     * the previous character, as in {@code getCN} and {@code gcn} for {@code getCustomerName}.
+     */
+    private static boolean matchesCamelHumps(String query, String name) {
+        if (!sameIgnoreCase(query.charAt(0), name.charAt(0))) {
+            return false;
+        }
+        int nameIndex = 1;
+        for (int queryIndex = 1; queryIndex < query.length(); queryIndex++) {
+            char queryChar = query.charAt(queryIndex);
+            if (nameIndex < name.length() && sameIgnoreCase(queryChar, name.charAt(nameIndex))
+                    && (!Character.isUpperCase(queryChar) || isHumpStart(name, nameIndex))) {
+                // Continues the current hump
+                nameIndex++;
+                continue;
+            }
+            int humpStart = nextHumpStart(name, nameIndex);
+            while (humpStart < name.length() && !sameIgnoreCase(queryChar, name.charAt(humpStart))) {
+                humpStart = nextHumpStart(name, humpStart + 1);
+            }
+            if (humpStart >= name.length()) {
+                return false;
+            }
+            nameIndex = humpStart + 1;
+        }
+        return true;
+    }
+
+    private static int nextHumpStart(String name, int fromIndex) {
+        int index = fromIndex;
+        while (index < name.length() && !isHumpStart(name, index)) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isHumpStart(String name, int index) {
+        if (index == 0) {
+            return true;
+        }
+        char current = name.charAt(index);
+        char previous = name.charAt(index - 1);
+        if (!Character.isLetterOrDigit(current)) {
+            return false;
+        }
+        if (!Character.isLetterOrDigit(previous)) {
+            return true;
+        }
+        if (Character.isUpperCase(current)) {
+            return !Character.isUpperCase(previous);
+        }
+        return Character.isDigit(current) != Character.isDigit(previous);
+    }
+
+    /**
+     * Returns the number of characters skipped when matching the query as a subsequence of the name, or -1 if the
+     * query is not a subsequence of the name.
+     */
+    private static int fuzzyMatchGaps(String query, String name) {
+        int nameIndex = 0;
+        int gaps = 0;
+        for (int queryIndex = 0; queryIndex < query.length(); queryIndex++) {
+            char queryChar = query.charAt(queryIndex);
+            while (nameIndex < name.length() && !sameIgnoreCase(queryChar, name.charAt(nameIndex))) {
+                nameIndex++;
+                if (queryIndex > 0) {
+                    gaps++;
+                }
+            }
+            if (nameIndex == name.length()) {
+                return -1;
+            }
+            nameIndex++;
+        }
+        return gaps;
+    }
+
+    private static int indexOfIgnoreCase(String name, String query) {
+        for (int index = 0; index <= name.length() - query.length(); index++) {
+            if (name.regionMatches(true, index, query, 0, query.length())) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean sameIgnoreCase(char first, char second) {
+        return first == second || Character.toLowerCase(first) == Character.toLowerCase(second);
+    }
+}
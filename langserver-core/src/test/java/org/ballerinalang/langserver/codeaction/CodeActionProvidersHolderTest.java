@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.codeaction;
+
+import org.ballerinalang.langserver.codeaction.providers.IgnoreUnusedVariableCodeAction;
+import org.ballerinalang.langserver.codeaction.providers.createvar.CreateVariableCodeAction;
+import org.ballerinalang.langserver.commons.CodeActionContext;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.codeaction.spi.DiagnosticBasedCodeActionProvider;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.util.diagnostic.DiagnosticWarningCode;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Tests the diagnostic based code action providers indexed by the diagnostic codes.
+ *
+ * @since 1.7.0
+ */
+public class CodeActionProvidersHolderTest {
+
+    private CodeActionProvidersHolder providersHolder;
+    private CodeActionContext context;
+
+    @BeforeClass
+    public void setUp() {
+        LanguageServerContext serverContext = new LanguageServerContextImpl();
+        providersHolder = CodeActionProvidersHolder.getInstance(serverContext);
+        context = Mockito.mock(CodeActionContext.class);
+        Mockito.when(context.languageServercontext()).thenReturn(serverContext);
+    }
+
+    @Test
+    public void testOnlyMatchingProvidersAreEvaluated() {
+        String diagnosticCode = DiagnosticWarningCode.UNUSED_LOCAL_VARIABLE.diagnosticId();
+        List<DiagnosticBasedCodeActionProvider> providers =
+                providersHolder.getActiveDiagnosticsBasedProviders(diagnosticCode, context);
+
+        Assert.assertTrue(providers.stream().anyMatch(IgnoreUnusedVariableCodeAction.class::isInstance));
+        for (DiagnosticBasedCodeActionProvider provider : providers) {
+            Assert.assertTrue(provider.getDiagnosticCodes().isEmpty() ||
+                            provider.getDiagnosticCodes().contains(diagnosticCode),
+                    "Provider " + provider.getName() + " is not interested in the diagnostic " + diagnosticCode);
+        }
+    }
+
+    @Test
+    public void testProvidersWithoutCodesAreEvaluatedForAllDiagnostics() {
+        String diagnosticCode = DiagnosticWarningCode.UNUSED_LOCAL_VARIABLE.diagnosticId();
+        Assert.assertTrue(providersHolder.getActiveDiagnosticsBasedProviders(diagnosticCode, context).stream()
+                .anyMatch(CreateVariableCodeAction.class::isInstance));
+
+        // A diagnostic code which no provider declares, as well as a diagnostic without a code
+        for (String unknownCode : new String[]{"UNKNOWN_DIAGNOSTIC_CODE", null}) {
+            List<DiagnosticBasedCodeActionProvider> providers =
+                    providersHolder.getActiveDiagnosticsBasedProviders(unknownCode, context);
+            Assert.assertTrue(providers.stream().anyMatch(CreateVariableCodeAction.class::isInstance));
+            Assert.assertTrue(providers.stream().allMatch(provider -> provider.getDiagnosticCodes().isEmpty()),
+                    "Only the providers without the diagnostic codes should be evaluated for " + unknownCode);
+        }
+    }
+}
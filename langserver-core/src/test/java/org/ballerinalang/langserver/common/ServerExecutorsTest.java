@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.common;
+
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests the lanes of the executors shared by the language server services.
+ *
+ * @since 1.7.0
+ */
+public class ServerExecutorsTest {
+
+    @Test
+    public void testExecutorsAreSharedPerContext() {
+        LanguageServerContext serverContext = new LanguageServerContextImpl();
+        ServerExecutors executors = serverContext.executors();
+        Assert.assertSame(ServerExecutors.getInstance(serverContext), executors);
+        Assert.assertNotSame(new LanguageServerContextImpl().executors(), executors);
+        executors.shutdown();
+    }
+
+    @Test
+    public void testLanesRunOffTheCommonPool() {
+        ServerExecutors executors = new LanguageServerContextImpl().executors();
+        String interactiveThread = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(),
+                executors.interactive()).join();
+        String backgroundThread = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(),
+                executors.background()).join();
+        boolean ioVirtual = CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(),
+                executors.io()).join();
+
+        Assert.assertTrue(interactiveThread.startsWith("ls-interactive"));
+        Assert.assertTrue(backgroundThread.startsWith("ls-background"));
+        Assert.assertTrue(ioVirtual);
+        executors.shutdown();
+    }
+
+    @Test
+    public void testSaturationMetrics() throws InterruptedException {
+        ServerExecutors executors = new LanguageServerContextImpl().executors();
+        int threads = executors.metrics(ServerExecutors.Lane.BACKGROUND).threads();
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < threads + 1; i++) {
+            executors.background().execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        await().atMost(10, TimeUnit.SECONDS)
+                .until(() -> executors.metrics(ServerExecutors.Lane.BACKGROUND).activeTasks() == threads);
+        ServerExecutors.Metrics saturated = executors.metrics(ServerExecutors.Lane.BACKGROUND);
+        Assert.assertEquals(saturated.queuedTasks(), 1);
+        Assert.assertEquals(saturated.submittedTasks(), threads + 1);
+        Assert.assertTrue(saturated.saturation() > 1);
+        Assert.assertEquals(executors.metrics(ServerExecutors.Lane.INTERACTIVE).saturation(), 0.0);
+
+        release.countDown();
+        await().atMost(10, TimeUnit.SECONDS)
+                .until(() -> executors.metrics(ServerExecutors.Lane.BACKGROUND).completedTasks() == threads + 1);
+        ServerExecutors.Metrics drained = executors.metrics(ServerExecutors.Lane.BACKGROUND);
+        Assert.assertEquals(drained.activeTasks() + drained.queuedTasks(), 0);
+        Assert.assertTrue(drained.maxWaitMillis() >= drained.averageWaitMillis());
+        executors.shutdown();
+    }
+}
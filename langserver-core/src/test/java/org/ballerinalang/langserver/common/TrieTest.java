@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.common;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the radix trie used by the completion search provider.
+ *
+ * @since 1.7.0
+ */
+public class TrieTest {
+
+    private static final List<String> WORDS =
+            List.of("http", "https", "httpx", "io", "int", "integer", "java", "xml", "http");
+
+    @Test(dataProvider = "suggestionProvider")
+    public void testSuggest(String prefix, List<String> expected) {
+        Trie trie = new Trie(WORDS);
+        Assert.assertEquals(trie.suggest(prefix), expected);
+    }
+
+    @DataProvider
+    public Object[][] suggestionProvider() {
+        return new Object[][]{
+                {"", List.of("http", "https", "httpx", "int", "integer", "io", "java", "xml")},
+                {"ht", List.of("http", "https", "httpx")},
+                {"http", List.of("http", "https", "httpx")},
+                {"in", List.of("int", "integer")},
+                {"integers", List.of()},
+                {"z", List.of()}
+        };
+    }
+
+    @Test
+    public void testFind() {
+        Trie trie = new Trie(WORDS);
+        Assert.assertEquals(trie.size(), 8);
+        Assert.assertTrue(trie.find("htt"));
+        Assert.assertFalse(trie.find("htt", true));
+        Assert.assertTrue(trie.find("http", true));
+        Assert.assertTrue(trie.find("integer", true));
+        Assert.assertFalse(trie.find("hx"));
+    }
+
+    @Test
+    public void testRankedSuggestions() {
+        Trie trie = new Trie(WORDS);
+        trie.insert("io", 5);
+        trie.recordUse("java");
+        trie.recordUse("integer");
+
+        // Weight takes precedence over recency, and the most recent use over the earlier ones
+        Assert.assertEquals(trie.suggest("", 3), List.of("io", "integer", "java"));
+        Assert.assertEquals(trie.suggest("i", 2), List.of("io", "integer"));
+        Assert.assertEquals(trie.suggest("ht", 10), List.of("http", "https", "httpx"));
+        Assert.assertEquals(trie.suggest(""),
+                List.of("io", "integer", "java", "http", "https", "httpx", "int", "xml"));
+
+        // A lower weight does not replace the existing weight
+        trie.insert("io", 1);
+        Assert.assertEquals(trie.suggest("", 1), List.of("io"));
+    }
+
+    @Test
+    public void testTopSuggestionsMatchFullTraversal() {
+        Random random = new Random(7);
+        TreeSet<String> words = new TreeSet<>();
+        Trie trie = new Trie(List.of());
+        for (int i = 0; i < 10000; i++) {
+            String word = Long.toString(random.nextLong() & 0xFFFFFF, 36);
+            words.add(word);
+            trie.insert(word);
+        }
+        Assert.assertEquals(trie.size(), words.size());
+
+        for (String prefix : List.of("", "a", "ab", "1", "zz")) {
+            List<String> expected = words.stream().filter(word -> word.startsWith(prefix)).toList();
+            Assert.assertEquals(trie.suggest(prefix), expected);
+            Assert.assertEquals(trie.suggest(prefix, 5), expected.subList(0, Math.min(5, expected.size())));
+        }
+    }
+
+    @Test
+    public void testConcurrentReadsWhileIndexing() throws Exception {
+        Trie trie = new Trie(List.of("http", "https"));
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            words.add("http" + Integer.toString(i, 36));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = executor.submit(() -> words.forEach(trie::insert));
+            Future<?> reader = executor.submit(() -> {
+                while (!writer.isDone()) {
+                    List<String> suggestions = trie.suggest("https");
+                    Assert.assertTrue(suggestions.contains("https"));
+                    Assert.assertTrue(suggestions.stream().allMatch(word -> word.startsWith("https")));
+                }
+            });
+            writer.get(1, TimeUnit.MINUTES);
+            reader.get(1, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(trie.suggest("http").size(), words.size() + 1);
+    }
+}
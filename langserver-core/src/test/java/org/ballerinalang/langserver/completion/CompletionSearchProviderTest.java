@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.completion;
+
+import org.ballerinalang.langserver.completions.CompletionSearchProvider;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Tests the ranking of the suggestions of the completion search provider.
+ *
+ * @since 1.7.0
+ */
+public class CompletionSearchProviderTest {
+
+    @Test
+    public void testSuggestionsAreRankedByPullCountAndRecency() {
+        CompletionSearchProvider searchProvider = CompletionSearchProvider.getInstance(new LanguageServerContextImpl());
+        searchProvider.indexName("slack", 1200);
+        searchProvider.indexName("salesforce", 5400);
+        searchProvider.indexName("snowflake", 300);
+        searchProvider.indexName("sap", 300);
+        searchProvider.indexName("stripe", 300);
+        searchProvider.indexNames(List.of("sendMessage"));
+
+        // Ordered by the pull counts rather than the names
+        Assert.assertEquals(searchProvider.getSuggestions("s", 3), List.of("salesforce", "slack", "sap"));
+
+        // A recently used package is ranked above the other packages with the same pull count
+        searchProvider.recordUsage("stripe");
+        searchProvider.recordUsage("Snowflake");
+        Assert.assertEquals(searchProvider.getSuggestions("s", 10),
+                List.of("salesforce", "slack", "snowflake", "stripe", "sap", "sendmessage"));
+        Assert.assertEquals(searchProvider.getSuggestions("s", 4), List.of("salesforce", "slack", "snowflake",
+                "stripe"));
+        Assert.assertEquals(searchProvider.getSuggestions("sn", 10), List.of("snowflake"));
+    }
+}
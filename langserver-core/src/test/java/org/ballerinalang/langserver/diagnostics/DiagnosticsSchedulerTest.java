@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.diagnostics;
+
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.langserver.diagnostic.DiagnosticsScheduler;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests the per-project scheduling of the diagnostics publishing tasks.
+ *
+ * @since 1.7.0
+ */
+public class DiagnosticsSchedulerTest {
+
+    private static final Path PROJECT_A = Path.of("project-a");
+    private static final Path PROJECT_B = Path.of("project-b");
+
+    @Test
+    public void testSupersededTasksAreDiscarded() {
+        DiagnosticsScheduler scheduler = DiagnosticsScheduler.getInstance(new LanguageServerContextImpl());
+        List<String> executedTasks = new CopyOnWriteArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            String taskName = "a" + i;
+            scheduler.schedule(PROJECT_A, () -> executedTasks.add(taskName));
+        }
+        scheduler.schedule(PROJECT_B, () -> executedTasks.add("b1"));
+
+        await().atMost(10, TimeUnit.SECONDS)
+                .until(() -> scheduler.metrics().completedTasks() == 2 && scheduler.metrics().runningProjects() == 0);
+        Assert.assertEquals(executedTasks.size(), 2);
+        Assert.assertTrue(executedTasks.containsAll(List.of("a3", "b1")));
+
+        DiagnosticsScheduler.Metrics metrics = scheduler.metrics();
+        Assert.assertEquals(metrics.scheduledTasks(), 4);
+        Assert.assertEquals(metrics.supersededTasks(), 2);
+        Assert.assertEquals(metrics.queuedProjects(), 0);
+        Assert.assertTrue(metrics.maxLatencyMillis() >= metrics.averageLatencyMillis());
+    }
+
+    @Test
+    public void testSlowProjectDoesNotBlockOtherProjects() throws InterruptedException {
+        DiagnosticsScheduler scheduler = DiagnosticsScheduler.getInstance(new LanguageServerContextImpl());
+        CountDownLatch slowTaskStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlowTask = new CountDownLatch(1);
+        List<String> executedTasks = new CopyOnWriteArrayList<>();
+        scheduler.schedule(PROJECT_A, () -> {
+            slowTaskStarted.countDown();
+            try {
+                releaseSlowTask.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            executedTasks.add("a1");
+        });
+        Assert.assertTrue(slowTaskStarted.await(10, TimeUnit.SECONDS));
+
+        // A task of the running project waits for the running task, while the other projects proceed
+        scheduler.schedule(PROJECT_A, () -> executedTasks.add("a2"));
+        scheduler.schedule(PROJECT_B, () -> executedTasks.add("b1"));
+        await().atMost(10, TimeUnit.SECONDS)
+                .until(() -> executedTasks.contains("b1") && scheduler.metrics().runningProjects() == 1);
+        Assert.assertEquals(scheduler.metrics().queuedProjects(), 1);
+
+        releaseSlowTask.countDown();
+        await().atMost(10, TimeUnit.SECONDS).until(() -> executedTasks.size() == 3);
+        Assert.assertEquals(executedTasks, List.of("b1", "a1", "a2"));
+    }
+}
@@ -24,6 +24,7 @@ import org.ballerinalang.langserver.LSContextOperation;
 import org.ballerinalang.langserver.common.utils.PathUtil;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
 import org.ballerinalang.langserver.contexts.ContextBuilder;
 import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
@@ -32,10 +33,21 @@ import org.ballerinalang.langserver.util.FileUtils;
 import org.ballerinalang.langserver.util.TestUtil;
 import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
 import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.DocumentDiagnosticReport;
+import org.eclipse.lsp4j.PreviousResultId;
+import org.eclipse.lsp4j.RelatedFullDocumentDiagnosticReport;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceDocumentDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceFolder;
+import org.eclipse.lsp4j.WorkspaceFullDocumentDiagnosticReport;
 import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -47,9 +59,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Diagnostics tests are covered here.
@@ -101,8 +117,118 @@ public class DiagnosticsTest {
         }
     }
 
+    @Test
+    public void testDocumentDiagnosticReport() throws IOException, WorkspaceDocumentException {
+        Path sourcePath = testRoot.resolve("sources").resolve("incomplete_const_expression.bal");
+        DocumentServiceContext serviceContext = openDocument(sourcePath);
+        DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(serverContext);
+
+        DocumentDiagnosticReport report = diagnosticsHelper.getDocumentDiagnosticReport(serviceContext, null);
+        Assert.assertTrue(report.isRelatedFullDocumentDiagnosticReport());
+        RelatedFullDocumentDiagnosticReport fullReport = report.getRelatedFullDocumentDiagnosticReport();
+        Assert.assertFalse(fullReport.getItems().isEmpty());
+        Assert.assertNotNull(fullReport.getResultId());
+
+        // The diagnostics have not changed, hence the report with the same result ID is not sent again
+        DocumentDiagnosticReport unchangedReport =
+                diagnosticsHelper.getDocumentDiagnosticReport(serviceContext, fullReport.getResultId());
+        Assert.assertTrue(unchangedReport.isRelatedUnchangedDocumentDiagnosticReport());
+        Assert.assertEquals(unchangedReport.getRelatedUnchangedDocumentDiagnosticReport().getResultId(),
+                fullReport.getResultId());
+
+        DocumentDiagnosticReport outdatedReport = diagnosticsHelper.getDocumentDiagnosticReport(serviceContext, "-1");
+        Assert.assertTrue(outdatedReport.isRelatedFullDocumentDiagnosticReport());
+        Assert.assertEquals(outdatedReport.getRelatedFullDocumentDiagnosticReport().getResultId(),
+                fullReport.getResultId());
+    }
+
+    @Test
+    public void testWorkspaceDiagnosticReport() throws Exception {
+        Path workspaceDir = Files.createTempDirectory("workspace-diagnostics");
+        Path firstFile = Files.writeString(workspaceDir.resolve("first.bal"), "int first = \"1\";\n");
+        Path secondFile = Files.writeString(workspaceDir.resolve("second.bal"), "int second = \"2\";\n");
+        String firstUri = firstFile.toUri().toString();
+        String secondUri = secondFile.toUri().toString();
+
+        ExtendedLanguageClient languageClient =
+                Mockito.mock(ExtendedLanguageClient.class, Mockito.withSettings().stubOnly());
+        Mockito.when(languageClient.workspaceFolders()).thenReturn(CompletableFuture.completedFuture(
+                List.of(new WorkspaceFolder(workspaceDir.toUri().toString(), "workspace-diagnostics"))));
+        LanguageServerContext context = new LanguageServerContextImpl();
+        context.put(ExtendedLanguageClient.class, languageClient);
+        BallerinaWorkspaceManager manager = new BallerinaWorkspaceManager(context);
+        DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(context);
+        try {
+            openDocument(manager, firstFile);
+            openDocument(manager, secondFile);
+
+            // Both the documents are reported in full, as the client has no reports yet
+            Map<String, WorkspaceDocumentDiagnosticReport> fullReports =
+                    reportsByUri(diagnosticsHelper.getWorkspaceDiagnosticReport(manager, List.of()));
+            Assert.assertEquals(fullReports.keySet(), Set.of(firstUri, secondUri));
+            List<PreviousResultId> previousResultIds = new ArrayList<>();
+            fullReports.forEach((uri, report) -> {
+                Assert.assertTrue(report.isWorkspaceFullDocumentDiagnosticReport());
+                WorkspaceFullDocumentDiagnosticReport fullReport = report.getWorkspaceFullDocumentDiagnosticReport();
+                Assert.assertFalse(fullReport.getItems().isEmpty());
+                previousResultIds.add(new PreviousResultId(uri, fullReport.getResultId()));
+            });
+
+            // Neither of the documents has changed
+            Map<String, WorkspaceDocumentDiagnosticReport> unchangedReports =
+                    reportsByUri(diagnosticsHelper.getWorkspaceDiagnosticReport(manager, previousResultIds));
+            Assert.assertEquals(unchangedReports.keySet(), Set.of(firstUri, secondUri));
+            unchangedReports.values().forEach(report ->
+                    Assert.assertTrue(report.isWorkspaceUnchangedDocumentDiagnosticReport()));
+
+            // Fixing the second document reports it in full without the diagnostics, while the first is unchanged
+            VersionedTextDocumentIdentifier identifier = new VersionedTextDocumentIdentifier(secondUri, 2);
+            manager.didChange(secondFile, new DidChangeTextDocumentParams(identifier,
+                    List.of(new TextDocumentContentChangeEvent("int second = 2;\n"))));
+            Map<String, WorkspaceDocumentDiagnosticReport> changedReports =
+                    reportsByUri(diagnosticsHelper.getWorkspaceDiagnosticReport(manager, previousResultIds));
+            Assert.assertTrue(changedReports.get(firstUri).isWorkspaceUnchangedDocumentDiagnosticReport());
+            WorkspaceDocumentDiagnosticReport changedReport = changedReports.get(secondUri);
+            Assert.assertTrue(changedReport.isWorkspaceFullDocumentDiagnosticReport());
+            Assert.assertTrue(changedReport.getWorkspaceFullDocumentDiagnosticReport().getItems().isEmpty());
+            Assert.assertNotEquals(changedReport.getWorkspaceFullDocumentDiagnosticReport().getResultId(),
+                    fullReports.get(secondUri).getWorkspaceFullDocumentDiagnosticReport().getResultId());
+        } finally {
+            Files.deleteIfExists(firstFile);
+            Files.deleteIfExists(secondFile);
+            Files.deleteIfExists(workspaceDir);
+        }
+    }
+
     String getResponse(JsonObject configJsonObject) throws IOException, WorkspaceDocumentException {
         Path sourcePath = testRoot.resolve(configJsonObject.get("source").getAsString());
+        DocumentServiceContext serviceContext = openDocument(sourcePath);
+        DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(serverContext);
+        Map<String, List<Diagnostic>> diagnostics = diagnosticsHelper.getLatestDiagnostics(serviceContext);
+
+        return gson.toJson(diagnostics).replace("\r\n", "\n").replace("\\r\\n", "\\n");
+    }
+
+    private static void openDocument(BallerinaWorkspaceManager manager, Path sourcePath)
+            throws IOException, WorkspaceDocumentException {
+        TextDocumentItem textDocumentItem = new TextDocumentItem();
+        textDocumentItem.setUri(sourcePath.toUri().toString());
+        textDocumentItem.setText(Files.readString(sourcePath));
+        manager.didOpen(sourcePath, new DidOpenTextDocumentParams(textDocumentItem));
+    }
+
+    private static Map<String, WorkspaceDocumentDiagnosticReport> reportsByUri(WorkspaceDiagnosticReport report) {
+        Map<String, WorkspaceDocumentDiagnosticReport> reports = new HashMap<>();
+        for (WorkspaceDocumentDiagnosticReport item : report.getItems()) {
+            String uri = item.isWorkspaceFullDocumentDiagnosticReport()
+                    ? item.getWorkspaceFullDocumentDiagnosticReport().getUri()
+                    : item.getWorkspaceUnchangedDocumentDiagnosticReport().getUri();
+            reports.put(uri, item);
+        }
+        return reports;
+    }
+
+    private DocumentServiceContext openDocument(Path sourcePath) throws IOException, WorkspaceDocumentException {
         String uri = sourcePath.toUri().toString();
         DocumentServiceContext serviceContext = ContextBuilder.buildDocumentServiceContext(uri,
                 this.workspaceManager,
@@ -119,10 +245,7 @@ public class DiagnosticsTest {
         documentParams.setTextDocument(textDocumentItem);
 
         workspaceManager.didOpen(sourcePath, documentParams);
-        DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(serverContext);
-        Map<String, List<Diagnostic>> diagnostics = diagnosticsHelper.getLatestDiagnostics(serviceContext);
-
-        return gson.toJson(diagnostics).replace("\r\n", "\n").replace("\\r\\n", "\\n");
+        return serviceContext;
     }
 
     JsonObject unifyResponse(JsonObject response) {
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.performance;
+
+import com.google.gson.Gson;
+import io.ballerina.projects.Document;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.langserver.util.FileUtils;
+import org.ballerinalang.langserver.util.PerformanceTestUtils;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Compares the per keystroke latency of the full and the incremental text document synchronization kinds.
+ *
+ * @since 1.7.0
+ */
+public class DidChangePerformanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DidChangePerformanceTest.class);
+    private static final int FUNCTION_COUNT = 2000;
+    private static final String FUNCTION_NAME = "func0";
+    private static final int KEYSTROKES = 50;
+    private static final String KEYSTROKE = "a";
+
+    private final Path sourcePath = FileUtils.RES_DIR.resolve("performance").resolve("sources")
+            .resolve("did_change_performance.bal").toAbsolutePath();
+    private final Gson gson = new Gson();
+
+    @Test
+    public void testPerKeystrokeLatency() throws WorkspaceDocumentException, IOException {
+        String content = generateContent();
+        KeystrokeResult fullSyncResult = typeKeystrokes(content, false);
+        KeystrokeResult incrementalSyncResult = typeKeystrokes(content, true);
+
+        LOG.info("didChange full sync: {} ms/keystroke, {} bytes/keystroke",
+                fullSyncResult.avgLatency(), fullSyncResult.avgPayloadSize());
+        LOG.info("didChange incremental sync: {} ms/keystroke, {} bytes/keystroke",
+                incrementalSyncResult.avgLatency(), incrementalSyncResult.avgPayloadSize());
+
+        Assert.assertEquals(incrementalSyncResult.content(), fullSyncResult.content());
+        Assert.assertTrue(incrementalSyncResult.avgPayloadSize() < fullSyncResult.avgPayloadSize());
+        int expectedResponseTime = PerformanceTestUtils.getOpenDocumentResponseTimeThreshold();
+        Assert.assertTrue(incrementalSyncResult.avgLatency() < expectedResponseTime,
+                String.format("Expected response time = %d, received %d.", expectedResponseTime,
+                        incrementalSyncResult.avgLatency()));
+    }
+
+    private KeystrokeResult typeKeystrokes(String content, boolean incremental) throws WorkspaceDocumentException {
+        BallerinaWorkspaceManager workspaceManager = new BallerinaWorkspaceManager(new LanguageServerContextImpl());
+        TextDocumentItem textDocumentItem = new TextDocumentItem();
+        textDocumentItem.setUri(sourcePath.toUri().toString());
+        textDocumentItem.setText(content);
+        workspaceManager.didOpen(sourcePath, new DidOpenTextDocumentParams(textDocumentItem));
+
+        // Types at the end of the first function name
+        int line = 0;
+        int character = content.indexOf(FUNCTION_NAME) + FUNCTION_NAME.length();
+        StringBuilder currentContent = new StringBuilder(content);
+        long totalLatency = 0;
+        long totalPayloadSize = 0;
+        for (int i = 0; i < KEYSTROKES; i++) {
+            currentContent.insert(character, KEYSTROKE);
+            TextDocumentContentChangeEvent changeEvent = incremental
+                    ? new TextDocumentContentChangeEvent(new Range(new Position(line, character),
+                    new Position(line, character)), KEYSTROKE)
+                    : new TextDocumentContentChangeEvent(currentContent.toString());
+            character++;
+
+            long start = System.nanoTime();
+            // Includes the JSON-RPC payload processing cost which is proportional to the size of the change
+            String payload = gson.toJson(new DidChangeTextDocumentParams(
+                    new VersionedTextDocumentIdentifier(sourcePath.toUri().toString(), i + 1), List.of(changeEvent)));
+            workspaceManager.didChange(sourcePath, gson.fromJson(payload, DidChangeTextDocumentParams.class));
+            totalLatency += System.nanoTime() - start;
+            totalPayloadSize += payload.length();
+        }
+
+        Document document = workspaceManager.document(sourcePath).orElseThrow();
+        return new KeystrokeResult(document.textDocument().toString(), totalLatency / KEYSTROKES / 1_000_000,
+                totalPayloadSize / KEYSTROKES);
+    }
+
+    /**
+     * Generates a large document by repeating the function of the source with a distinct name for each copy.
+     */
+    private String generateContent() throws IOException {
+        String function = Files.readString(sourcePath);
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < FUNCTION_COUNT; i++) {
+            content.append(function.replace(FUNCTION_NAME, "func" + i)).append(System.lineSeparator());
+        }
+        return content.toString();
+    }
+
+    private record KeystrokeResult(String content, long avgLatency, long avgPayloadSize) {
+    }
+}
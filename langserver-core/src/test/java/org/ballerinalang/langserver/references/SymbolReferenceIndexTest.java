@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.references;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.langserver.util.FileUtils;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidCloseTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the symbol reference index.
+ *
+ * @since 1.7.0
+ */
+public class SymbolReferenceIndexTest {
+
+    private static final Path PROJECT_ROOT =
+            FileUtils.RES_DIR.resolve("references").resolve("sources").resolve("projectls").toAbsolutePath();
+    private static final String FUNCTION_NAME = "testDefaultModuleFunction";
+
+    private BallerinaWorkspaceManager workspaceManager;
+    private SymbolReferenceIndex referenceIndex;
+
+    @BeforeMethod
+    public void init() {
+        LanguageServerContext serverContext = new LanguageServerContextImpl();
+        workspaceManager = new BallerinaWorkspaceManager(serverContext);
+        referenceIndex = SymbolReferenceIndex.getInstance(serverContext);
+    }
+
+    @Test
+    public void testReferencesMatchSemanticModel() throws Exception {
+        Path filePath = PROJECT_ROOT.resolve("defmodsource2.bal");
+        openFile(filePath);
+        Project project = workspaceManager.project(filePath).orElseThrow();
+        SemanticModel semanticModel = workspaceManager.semanticModel(filePath).orElseThrow();
+
+        for (Symbol symbol : semanticModel.moduleSymbols()) {
+            Map<String, Set<LineRange>> expected = toLineRanges(ReferencesUtil.getReferences(project, symbol));
+            Assert.assertEquals(toLineRanges(referenceIndex.getReferences(project, symbol)), expected,
+                    "Mismatched references for " + symbol.getName().orElse(""));
+            // The second request is served from the index
+            Assert.assertEquals(toLineRanges(referenceIndex.getReferences(project, symbol)), expected,
+                    "Mismatched indexed references for " + symbol.getName().orElse(""));
+        }
+    }
+
+    @Test
+    public void testReferencesAfterDocumentChange() throws Exception {
+        Path filePath = PROJECT_ROOT.resolve("defmodsource2.bal");
+        openFile(filePath);
+        Project project = workspaceManager.project(filePath).orElseThrow();
+        Symbol symbol = findFunction(workspaceManager.semanticModel(filePath).orElseThrow());
+        int referenceCount = countReferences(referenceIndex.getReferences(project, symbol));
+
+        String content = Files.readString(filePath).replace("lsmod2:mod2Function1();",
+                "lsmod2:mod2Function1();\n    " + FUNCTION_NAME + "();");
+        changeFile(filePath, content);
+
+        project = workspaceManager.project(filePath).orElseThrow();
+        symbol = findFunction(workspaceManager.semanticModel(filePath).orElseThrow());
+        Map<Module, List<Location>> references = referenceIndex.getReferences(project, symbol);
+        Assert.assertEquals(countReferences(references), referenceCount + 1);
+        Assert.assertEquals(toLineRanges(references), toLineRanges(ReferencesUtil.getReferences(project, symbol)));
+    }
+
+    @Test
+    public void testReturnedReferencesAreNotShared() throws Exception {
+        Path filePath = PROJECT_ROOT.resolve("defmodsource2.bal");
+        openFile(filePath);
+        Project project = workspaceManager.project(filePath).orElseThrow();
+        Symbol symbol = findFunction(workspaceManager.semanticModel(filePath).orElseThrow());
+
+        Map<Module, List<Location>> references = referenceIndex.getReferences(project, symbol);
+        int referenceCount = countReferences(references);
+        references.values().forEach(List::clear);
+        Assert.assertEquals(countReferences(referenceIndex.getReferences(project, symbol)), referenceCount);
+    }
+
+    @Test
+    public void testClosingDocumentKeepsIndexOfOtherDocuments() throws Exception {
+        Path filePath = PROJECT_ROOT.resolve("defmodsource2.bal");
+        Path closedFilePath = PROJECT_ROOT.resolve("defmodsource1.bal");
+        openFile(filePath);
+        openFile(closedFilePath);
+        Project project = workspaceManager.project(filePath).orElseThrow();
+        Symbol symbol = findFunction(workspaceManager.semanticModel(filePath).orElseThrow());
+        Map<String, Set<LineRange>> expected = toLineRanges(referenceIndex.getReferences(project, symbol));
+        DocumentId documentId = workspaceManager.document(filePath).orElseThrow().documentId();
+        DocumentId closedDocumentId = workspaceManager.document(closedFilePath).orElseThrow().documentId();
+
+        workspaceManager.didClose(closedFilePath,
+                new DidCloseTextDocumentParams(new TextDocumentIdentifier(closedFilePath.toUri().toString())));
+        Set<DocumentId> indexedDocuments = referenceIndex.indexedDocuments(project.sourceRoot());
+        Assert.assertTrue(indexedDocuments.contains(documentId), "Index of the open document should be kept");
+        Assert.assertFalse(indexedDocuments.contains(closedDocumentId),
+                "Index of the closed document should be removed");
+
+        project = workspaceManager.project(filePath).orElseThrow();
+        Assert.assertEquals(toLineRanges(referenceIndex.getReferences(project, symbol)), expected);
+    }
+
+    private void openFile(Path filePath) throws IOException, WorkspaceDocumentException {
+        TextDocumentItem textDocumentItem = new TextDocumentItem();
+        textDocumentItem.setUri(filePath.toUri().toString());
+        textDocumentItem.setText(Files.readString(filePath));
+        workspaceManager.didOpen(filePath, new DidOpenTextDocumentParams(textDocumentItem));
+    }
+
+    private void changeFile(Path filePath, String content) throws WorkspaceDocumentException {
+        VersionedTextDocumentIdentifier identifier =
+                new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 2);
+        workspaceManager.didChange(filePath, new DidChangeTextDocumentParams(identifier,
+                List.of(new TextDocumentContentChangeEvent(content))));
+    }
+
+    private static Symbol findFunction(SemanticModel semanticModel) {
+        return semanticModel.moduleSymbols().stream()
+                .filter(symbol -> symbol.getName().filter(FUNCTION_NAME::equals).isPresent())
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static int countReferences(Map<Module, List<Location>> references) {
+        return references.values().stream().mapToInt(List::size).sum();
+    }
+
+    private static Map<String, Set<LineRange>> toLineRanges(Map<Module, List<Location>> references) {
+        Map<String, Set<LineRange>> lineRanges = new HashMap<>();
+        references.forEach((module, locations) -> lineRanges.put(module.moduleName().toString(),
+                locations.stream().map(Location::lineRange).collect(Collectors.toSet())));
+        return lineRanges;
+    }
+}
@@ -1,9 +1,13 @@
 package org.ballerinalang.langserver.semantictokens;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import org.ballerinalang.langserver.util.FileUtils;
 import org.ballerinalang.langserver.util.TestUtil;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SemanticTokensEdit;
 import org.eclipse.lsp4j.jsonrpc.Endpoint;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
@@ -12,7 +16,9 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,6 +30,8 @@ public class SemanticTokensTest {
     private static final String CONFIG = "config";
     private static final String EXPECTED = "expected";
     private static final String RESULT = "result";
+    private static final String RESULT_ID = "resultId";
+    private static final String EDITS = "edits";
 
     private static final List<String> TOKEN_TYPES = SemanticTokensUtils.getTokenTypes();
 
@@ -49,6 +57,124 @@ public class SemanticTokensTest {
         compareResponse(expected, response);
     }
 
+    @Test(description = "Test semantic tokens of a range")
+    public void semanticTokensRangeTestCase() throws IOException {
+        Path sourcePath = RESOURCE_ROOT.resolve(CONFIG).resolve("single-file").resolve("main.bal");
+        String filePath = sourcePath.toAbsolutePath().toString();
+        TestUtil.openDocument(serviceEndpoint, sourcePath);
+        JsonArray tokens = decodeIntArray(getResult(TestUtil.getSemanticTokensResponse(serviceEndpoint, filePath))
+                .getAsJsonArray(DATA));
+        Range range = new Range(new Position(24, 0), new Position(43, 0));
+        JsonArray rangeTokens = decodeIntArray(getResult(
+                TestUtil.getSemanticTokensRangeResponse(serviceEndpoint, filePath, range)).getAsJsonArray(DATA));
+        TestUtil.closeDocument(serviceEndpoint, sourcePath);
+
+        JsonArray expected = new JsonArray();
+        for (int i = 0; i < tokens.size(); i = i + 5) {
+            int line = tokens.get(i).getAsInt();
+            if (line >= range.getStart().getLine() && line < range.getEnd().getLine()) {
+                for (int j = i; j < i + 5; j++) {
+                    expected.add(tokens.get(j));
+                }
+            }
+        }
+        Assert.assertFalse(expected.isEmpty());
+        Assert.assertEquals(rangeTokens, expected);
+    }
+
+    @Test(description = "Test semantic tokens of a range starting within a token")
+    public void semanticTokensRangeOverlapTestCase() throws IOException {
+        Path sourcePath = RESOURCE_ROOT.resolve(CONFIG).resolve("single-file").resolve("main.bal");
+        String filePath = sourcePath.toAbsolutePath().toString();
+        TestUtil.openDocument(serviceEndpoint, sourcePath);
+        JsonArray tokens = decodeIntArray(getResult(TestUtil.getSemanticTokensResponse(serviceEndpoint, filePath))
+                .getAsJsonArray(DATA));
+        int index = 0;
+        while (tokens.get(index).getAsInt() < 24 || tokens.get(index + 2).getAsInt() < 2) {
+            index += 5;
+        }
+        int line = tokens.get(index).getAsInt();
+        int column = tokens.get(index + 1).getAsInt();
+        Range range = new Range(new Position(line, column + 1), new Position(43, 0));
+        JsonArray rangeTokens = decodeIntArray(getResult(
+                TestUtil.getSemanticTokensRangeResponse(serviceEndpoint, filePath, range)).getAsJsonArray(DATA));
+        TestUtil.closeDocument(serviceEndpoint, sourcePath);
+
+        // The token overlapping the start of the range is the first token of the range
+        Assert.assertFalse(rangeTokens.isEmpty());
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(rangeTokens.get(i), tokens.get(index + i));
+        }
+    }
+
+    @Test(description = "Test semantic tokens delta after editing a function body")
+    public void semanticTokensDeltaTestCase() throws IOException {
+        Path sourcePath = RESOURCE_ROOT.resolve(CONFIG).resolve("single-file").resolve("main.bal");
+        String filePath = sourcePath.toAbsolutePath().toString();
+        String content = Files.readString(sourcePath);
+        TestUtil.openDocument(serviceEndpoint, sourcePath);
+        JsonObject tokens = getResult(TestUtil.getSemanticTokensResponse(serviceEndpoint, filePath));
+        List<Integer> data = new ArrayList<>();
+        tokens.getAsJsonArray(DATA).forEach(element -> data.add(element.getAsInt()));
+
+        JsonObject unchanged = getResult(TestUtil.getSemanticTokensDeltaResponse(serviceEndpoint, filePath,
+                tokens.get(RESULT_ID).getAsString()));
+        Assert.assertEquals(unchanged.getAsJsonArray(EDITS).size(), 0);
+
+        String editedContent = content.replace("    int sum = x + y;\n",
+                "    int sum = x + y;\n    int diff = x - y;\n");
+        TestUtil.didChangeDocument(serviceEndpoint, sourcePath, editedContent);
+        JsonObject delta = getResult(TestUtil.getSemanticTokensDeltaResponse(serviceEndpoint, filePath,
+                unchanged.get(RESULT_ID).getAsString()));
+        JsonArray edits = delta.getAsJsonArray(EDITS);
+        Assert.assertFalse(edits.isEmpty());
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            JsonObject edit = edits.get(i).getAsJsonObject();
+            int start = edit.get("start").getAsInt();
+            data.subList(start, start + edit.get("deleteCount").getAsInt()).clear();
+            List<Integer> insertedData = new ArrayList<>();
+            edit.getAsJsonArray(DATA).forEach(element -> insertedData.add(element.getAsInt()));
+            data.addAll(start, insertedData);
+        }
+
+        // The edited tokens should match the tokens of the whole edited document
+        TestUtil.closeDocument(serviceEndpoint, sourcePath);
+        TestUtil.openDocument(serviceEndpoint, sourcePath.toUri().toString(), editedContent);
+        JsonArray expected = getResult(TestUtil.getSemanticTokensResponse(serviceEndpoint, filePath))
+                .getAsJsonArray(DATA);
+        TestUtil.closeDocument(serviceEndpoint, sourcePath);
+        JsonArray actual = new JsonArray();
+        data.forEach(actual::add);
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test(description = "Test the edits between semantic tokens", dataProvider = "semantictokens-edits-data-provider")
+    public void semanticTokensEditsTestCase(int[] previous, int[] current, int start, int deleteCount,
+                                            List<Integer> data) {
+        List<SemanticTokensEdit> edits = SemanticTokensCache.computeEdits(previous, current);
+        Assert.assertEquals(edits, List.of(new SemanticTokensEdit(start, deleteCount, data)));
+    }
+
+    @DataProvider(name = "semantictokens-edits-data-provider")
+    public Object[][] getEditsDataProvider() {
+        return new Object[][]{
+                {new int[]{0, 1, 3, 0, 0}, new int[]{0, 1, 3, 0, 0, 2, 4, 5, 1, 0}, 5, 0, List.of(2, 4, 5, 1, 0)},
+                {new int[]{0, 1, 3, 0, 0, 2, 4, 5, 1, 0}, new int[]{0, 1, 3, 0, 0}, 5, 5, List.of()},
+                {new int[]{0, 1, 3, 0, 0, 2, 4, 5, 1, 0}, new int[]{0, 1, 3, 0, 0, 3, 4, 5, 1, 0}, 5, 1, List.of(3)},
+                {new int[]{1, 1, 3, 0, 0}, new int[]{1, 1, 3, 0, 0, 0, 4, 3, 0, 0}, 5, 0, List.of(0, 4, 3, 0, 0)}
+        };
+    }
+
+    @Test(description = "Test the edits between identical semantic tokens")
+    public void semanticTokensNoEditsTestCase() {
+        int[] tokens = {0, 1, 3, 0, 0, 2, 4, 5, 1, 0};
+        Assert.assertTrue(SemanticTokensCache.computeEdits(tokens, tokens.clone()).isEmpty());
+    }
+
+    private JsonObject getResult(String response) {
+        return JsonParser.parseString(response).getAsJsonObject().getAsJsonObject(RESULT);
+    }
+
     /**
      * Compares actual response and expected response.
      *
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.workspace;
+
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Project;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.langserver.util.FileUtils;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Tests for the project snapshots.
+ *
+ * @since 1.7.0
+ */
+public class ProjectSnapshotsTest {
+
+    private static final Path PROJECT_ROOT =
+            FileUtils.RES_DIR.resolve("references").resolve("sources").resolve("projectls").toAbsolutePath();
+    private static final Path FILE_PATH = PROJECT_ROOT.resolve("defmodsource2.bal");
+
+    private LanguageServerContext serverContext;
+    private ProjectSnapshots snapshots;
+    private BallerinaWorkspaceManager workspaceManager;
+
+    @BeforeMethod
+    public void init() throws Exception {
+        serverContext = new LanguageServerContextImpl();
+        snapshots = ProjectSnapshots.getInstance(serverContext);
+        workspaceManager = new BallerinaWorkspaceManager(serverContext);
+        TextDocumentItem textDocumentItem = new TextDocumentItem();
+        textDocumentItem.setUri(FILE_PATH.toUri().toString());
+        textDocumentItem.setText(Files.readString(FILE_PATH));
+        workspaceManager.didOpen(FILE_PATH, new DidOpenTextDocumentParams(textDocumentItem));
+    }
+
+    @AfterMethod
+    public void cleanUp() {
+        snapshots.evict(PROJECT_ROOT);
+    }
+
+    @Test
+    public void testSnapshotsAreScopedToServerContext() {
+        Assert.assertSame(ProjectSnapshots.getInstance(serverContext), snapshots);
+        Assert.assertNotSame(ProjectSnapshots.getInstance(new LanguageServerContextImpl()), snapshots);
+    }
+
+    @Test
+    public void testSnapshotIsReused() throws Exception {
+        Project project = workspaceManager.project(FILE_PATH).orElseThrow();
+        Project snapshotProject;
+        try (ProjectSnapshot snapshot = snapshots.acquire(project)) {
+            snapshotProject = snapshot.project();
+            Assert.assertNotSame(snapshotProject, project);
+        }
+        Assert.assertEquals(snapshots.idleCount(), 1);
+
+        try (ProjectSnapshot snapshot = snapshots.acquire(project)) {
+            Assert.assertSame(snapshot.project(), snapshotProject);
+            Assert.assertEquals(snapshots.idleCount(), 0);
+
+            // A concurrent request gets a snapshot of its own
+            try (ProjectSnapshot otherSnapshot = snapshots.acquire(project)) {
+                Assert.assertNotSame(otherSnapshot.project(), snapshotProject);
+            }
+        }
+        Assert.assertEquals(snapshots.idleCount(), 2);
+    }
+
+    @Test
+    public void testScratchEditsAreIsolated() throws Exception {
+        Project project = workspaceManager.project(FILE_PATH).orElseThrow();
+        DocumentId documentId = project.documentId(FILE_PATH);
+        String content = workspaceManager.document(FILE_PATH).orElseThrow().syntaxTree().toSourceCode();
+
+        try (ProjectSnapshot snapshot = snapshots.acquire(project)) {
+            Document modifiedDoc = snapshot.modify(documentId, content + "\nfunction scratchFunction() {}\n");
+            Assert.assertSame(snapshot.currentPackage(), modifiedDoc.module().packageInstance());
+            Assert.assertNotSame(snapshot.currentPackage(), snapshot.basePackage());
+        }
+        Assert.assertEquals(workspaceManager.document(FILE_PATH).orElseThrow().syntaxTree().toSourceCode(), content);
+
+        // The reused snapshot starts from the package of the snapshot, without the previous scratch edits
+        try (ProjectSnapshot snapshot = snapshots.acquire(project)) {
+            Assert.assertSame(snapshot.currentPackage(), snapshot.basePackage());
+            Assert.assertEquals(snapshot.document(documentId).syntaxTree().toSourceCode(), content);
+        }
+    }
+
+    @Test
+    public void testSnapshotIsRebasedOnChange() throws Exception {
+        Project project = workspaceManager.project(FILE_PATH).orElseThrow();
+        Project snapshotProject;
+        try (ProjectSnapshot snapshot = snapshots.acquire(project)) {
+            snapshotProject = snapshot.project();
+        }
+        Assert.assertEquals(snapshots.idleCount(), 1);
+
+        String content = Files.readString(FILE_PATH) + "\nfunction newFunction() {}\n";
+        changeFile(content);
+        project = workspaceManager.project(FILE_PATH).orElseThrow();
+        DocumentId documentId = project.documentId(FILE_PATH);
+        try (ProjectSnapshot snapshot = snapshots.acquire(project)) {
+            Assert.assertSame(snapshot.project(), snapshotProject, "Snapshot should be rebased on the edit");
+            Assert.assertEquals(snapshots.idleCount(), 0);
+            Assert.assertSame(snapshot.currentPackage(), snapshot.basePackage());
+            Assert.assertEquals(snapshot.document(documentId).syntaxTree().toSourceCode(), content);
+        }
+        Assert.assertEquals(snapshots.idleCount(), 1);
+
+        // The rebased snapshot is reused while the project is not edited again
+        try (ProjectSnapshot snapshot = snapshots.acquire(project)) {
+            Assert.assertSame(snapshot.project(), snapshotProject);
+            Assert.assertEquals(snapshot.document(documentId).syntaxTree().toSourceCode(), content);
+        }
+    }
+
+    @Test
+    public void testSnapshotIsEvictedOnReload() throws Exception {
+        Project project = workspaceManager.project(FILE_PATH).orElseThrow();
+        Project snapshotProject;
+        try (ProjectSnapshot snapshot = snapshots.acquire(project)) {
+            snapshotProject = snapshot.project();
+        }
+        Assert.assertEquals(snapshots.idleCount(), 1);
+
+        // A project reloaded from the same source root is not rebased on
+        Project reloadedProject = project.duplicate();
+        try (ProjectSnapshot snapshot = snapshots.acquire(reloadedProject)) {
+            Assert.assertNotSame(snapshot.project(), snapshotProject);
+            Assert.assertEquals(snapshots.idleCount(), 0);
+        }
+        Assert.assertEquals(snapshots.idleCount(), 1);
+    }
+
+    private void changeFile(String content) throws WorkspaceDocumentException {
+        VersionedTextDocumentIdentifier identifier =
+                new VersionedTextDocumentIdentifier(FILE_PATH.toUri().toString(), 2);
+        workspaceManager.didChange(FILE_PATH, new DidChangeTextDocumentParams(identifier,
+                List.of(new TextDocumentContentChangeEvent(content))));
+    }
+}
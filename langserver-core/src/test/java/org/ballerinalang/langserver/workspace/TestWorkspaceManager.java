@@ -51,6 +51,8 @@ import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FileEvent;
 import org.eclipse.lsp4j.LogTraceParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
@@ -178,6 +180,47 @@ public class TestWorkspaceManager {
         Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), dummyDidChangeContent);
     }
 
+    @Test(dataProvider = "fileOpenUpdateTestDataProvider", dependsOnMethods = "testOpenDocument")
+    public void testIncrementalUpdateDocument(Path filePath) throws WorkspaceDocumentException {
+        //Trigger didOpen to create a project instance corresponding to the filePath
+        openFile(filePath);
+
+        // Inputs from lang server, renames `foo` to `foo1`
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        VersionedTextDocumentIdentifier doc = new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 1);
+        params.setTextDocument(doc);
+        Range range = new Range(new Position(0, 12), new Position(0, 12));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(range, "1"));
+
+        // Notify workspace manager
+        workspaceManager.didChange(filePath, params);
+
+        Optional<Document> document = workspaceManager.document(filePath);
+        Assert.assertNotNull(document.get());
+        Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), dummyDidChangeContent);
+        Assert.assertEquals(workspaceManager.openedDocumentContent(filePath).orElseThrow(), dummyDidChangeContent);
+    }
+
+    @Test
+    public void testIncrementalUpdateOfUnopenedToml() throws WorkspaceDocumentException, IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("myproject").toAbsolutePath();
+        Path tomlPath = projectPath.resolve(ProjectConstants.BALLERINA_TOML);
+        // Opens a source file of the project, while the Ballerina.toml is never opened
+        openFile(projectPath.resolve("main.bal"));
+
+        // Inputs from lang server, changes the version `0.1.0` to `0.2.0`
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        params.setTextDocument(new VersionedTextDocumentIdentifier(tomlPath.toUri().toString(), 1));
+        Range range = new Range(new Position(3, 11), new Position(3, 16));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(range, "0.2.0"));
+        workspaceManager.didChange(tomlPath, params);
+
+        String expectedContent = Files.readString(tomlPath).replace("0.1.0", "0.2.0");
+        Assert.assertEquals(workspaceManager.openedDocumentContent(tomlPath).orElseThrow(), expectedContent);
+        Project project = workspaceManager.project(tomlPath).orElseThrow();
+        Assert.assertEquals(project.currentPackage().packageVersion().toString(), "0.2.0");
+    }
+
     @Test
     public void testWSEventsCreateBalSource() throws WorkspaceDocumentException, IOException {
         Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.workspacesymbol;
+
+import io.ballerina.projects.Project;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.langserver.util.FileUtils;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.SymbolKind;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the workspace symbol index.
+ *
+ * @since 1.7.0
+ */
+public class WorkspaceSymbolIndexTest {
+
+    private static final Path PROJECT_ROOT =
+            FileUtils.RES_DIR.resolve("references").resolve("sources").resolve("projectls").toAbsolutePath();
+    private static final CancelChecker NOT_CANCELLED = () -> { };
+
+    private Path indexDir;
+    private BallerinaWorkspaceManager workspaceManager;
+    private WorkspaceSymbolIndex symbolIndex;
+
+    @BeforeMethod
+    public void init() throws IOException {
+        indexDir = Files.createTempDirectory("ls-symbol-index");
+        LanguageServerContext serverContext = new LanguageServerContextImpl();
+        symbolIndex = new WorkspaceSymbolIndex(serverContext, indexDir);
+        workspaceManager = new BallerinaWorkspaceManager(serverContext);
+    }
+
+    @AfterMethod
+    public void cleanUp() throws IOException {
+        try (Stream<Path> paths = Files.walk(indexDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testSymbolsOfAllModulesAreIndexed() throws Exception {
+        openProject();
+
+        WorkspaceSymbol function = findFirst("testDefaultModuleFunction");
+        Assert.assertEquals(function.getName(), "testDefaultModuleFunction");
+        Assert.assertEquals(function.getKind(), SymbolKind.Function);
+        Assert.assertEquals(function.getContainerName(), "projectls");
+        Assert.assertEquals(function.getLocation().getLeft().getUri(),
+                PROJECT_ROOT.resolve("defmodsource1.bal").toUri().toString());
+
+        WorkspaceSymbol moduleFunction = findFirst("mod2Function1");
+        Assert.assertEquals(moduleFunction.getContainerName(), "projectls.lsmod2");
+        Assert.assertEquals(findFirst("Mod1Rec").getKind(), SymbolKind.Struct);
+        Assert.assertEquals(findFirst("User").getKind(), SymbolKind.Class);
+    }
+
+    @Test
+    public void testCamelHumpAndFuzzyQueries() throws Exception {
+        openProject();
+
+        Assert.assertEquals(findFirst("tDMF").getName(), "testDefaultModuleFunction");
+        Assert.assertEquals(findFirst("tdmf").getName(), "testDefaultModuleFunction");
+        Assert.assertEquals(findFirst("mod2fn1").getName(), "mod2Function1");
+        Assert.assertTrue(symbolIndex.search("zzzNoSuchSymbol", NOT_CANCELLED).isEmpty());
+    }
+
+    @Test
+    public void testMatchRanking() {
+        String name = "getCustomerName";
+        int exact = WorkspaceSymbolMatcher.score(name, name);
+        int prefix = WorkspaceSymbolMatcher.score("getCust", name);
+        int camelHump = WorkspaceSymbolMatcher.score("gCN", name);
+        int substring = WorkspaceSymbolMatcher.score("stomer", name);
+        int fuzzy = WorkspaceSymbolMatcher.score("gtcn", name);
+
+        Assert.assertTrue(exact > prefix);
+        Assert.assertTrue(prefix > camelHump);
+        Assert.assertTrue(camelHump > substring);
+        Assert.assertTrue(substring > fuzzy);
+        Assert.assertTrue(fuzzy > WorkspaceSymbolMatcher.NO_MATCH);
+        Assert.assertEquals(WorkspaceSymbolMatcher.score("gcx", name), WorkspaceSymbolMatcher.NO_MATCH);
+    }
+
+    @Test
+    public void testIndexUpdatedOnDocumentChange() throws Exception {
+        openProject();
+        Path filePath = PROJECT_ROOT.resolve("defmodsource2.bal");
+        Assert.assertTrue(symbolIndex.search("newlyAddedFunction", NOT_CANCELLED).isEmpty());
+
+        String content = Files.readString(filePath) + "\nfunction newlyAddedFunction() {\n}\n";
+        VersionedTextDocumentIdentifier identifier =
+                new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 2);
+        workspaceManager.didChange(filePath, new DidChangeTextDocumentParams(identifier,
+                List.of(new TextDocumentContentChangeEvent(content))));
+        symbolIndex.update(workspaceManager.project(filePath).orElseThrow(), filePath);
+
+        Assert.assertEquals(findFirst("newlyAddedFunction").getName(), "newlyAddedFunction");
+        Assert.assertEquals(findFirst("testDefaultModuleFunction").getName(), "testDefaultModuleFunction");
+    }
+
+    @Test
+    public void testPersistedIndexIsServedOnColdStart() throws Exception {
+        openProject();
+        symbolIndex.persist();
+
+        // A new index is served from the persisted index, without loading the project
+        WorkspaceSymbolIndex coldIndex = new WorkspaceSymbolIndex(new LanguageServerContextImpl(), indexDir);
+        coldIndex.loadPersisted(List.of(PROJECT_ROOT.resolve("modules")));
+        Assert.assertTrue(coldIndex.search("testDefaultModuleFunction", NOT_CANCELLED).isEmpty());
+
+        coldIndex.loadPersisted(List.of(PROJECT_ROOT.getParent()));
+        List<WorkspaceSymbol> symbols = coldIndex.search("testDefaultModuleFunction", NOT_CANCELLED);
+        Assert.assertFalse(symbols.isEmpty());
+        Assert.assertEquals(symbols.get(0).getName(), "testDefaultModuleFunction");
+        Assert.assertEquals(symbols.get(0).getContainerName(), "projectls");
+    }
+
+    @Test
+    public void testQueuedUpdateIsDiscardedAfterRemoval() throws Exception {
+        openProject();
+        Project project = workspaceManager.project(PROJECT_ROOT.resolve("defmodsource2.bal")).orElseThrow();
+        int generation = symbolIndex.generation(PROJECT_ROOT);
+
+        // An update queued before the project is closed runs after the removal
+        symbolIndex.remove(PROJECT_ROOT);
+        symbolIndex.update(project, generation);
+        symbolIndex.persist();
+        Assert.assertTrue(symbolIndex.search("testDefaultModuleFunction", NOT_CANCELLED).isEmpty());
+        try (Stream<Path> indexFiles = Files.list(indexDir)) {
+            Assert.assertEquals(indexFiles.count(), 0L, "Removed project should not be persisted again");
+        }
+
+        // The project is indexed again once it is reopened
+        symbolIndex.update(project);
+        Assert.assertEquals(findFirst("testDefaultModuleFunction").getName(), "testDefaultModuleFunction");
+    }
+
+    private void openProject() throws IOException, WorkspaceDocumentException {
+        Path filePath = PROJECT_ROOT.resolve("defmodsource2.bal");
+        TextDocumentItem textDocumentItem = new TextDocumentItem();
+        textDocumentItem.setUri(filePath.toUri().toString());
+        textDocumentItem.setText(Files.readString(filePath));
+        workspaceManager.didOpen(filePath, new DidOpenTextDocumentParams(textDocumentItem));
+        symbolIndex.update(workspaceManager.project(filePath).orElseThrow());
+    }
+
+    private WorkspaceSymbol findFirst(String query) {
+        List<WorkspaceSymbol> symbols = symbolIndex.search(query, NOT_CANCELLED);
+        Assert.assertFalse(symbols.isEmpty(), "No workspace symbols found for " + query);
+        return symbols.get(0);
+    }
+}
@@ -0,0 +1,4 @@
+function func0(int a, int b) returns int {
+    int c = a + b;
+    return c;
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.debugadapter;
+
+import org.ballerinalang.debugadapter.breakpoint.BalBreakpoint;
+import org.ballerinalang.debugadapter.breakpoint.TemplateLogMessage;
+import org.ballerinalang.debugadapter.evaluation.BExpressionValue;
+import org.ballerinalang.debugadapter.evaluation.DebugExpressionEvaluator;
+import org.ballerinalang.debugadapter.evaluation.EvaluationException;
+import org.ballerinalang.debugadapter.jdi.StackFrameProxyImpl;
+import org.ballerinalang.debugadapter.jdi.ThreadReferenceProxyImpl;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Caches the evaluators of the breakpoint conditions and the logpoint expressions, by the expression and the source
+ * location of the breakpoint.
+ * <p>
+ * The evaluator of an expression is built when the breakpoint is hit for the first time, along with the executable of
+ * the expression if the expression is evaluated as a program. The subsequent hits of the breakpoint reuse the
+ * evaluator by binding it to the stack frame of the hit, hence only the values of the variables used by the expression
+ * are fetched again.
+ *
+ * @since 1.0.0
+ */
+class BreakpointEvaluatorCache {
+
+    private final ExecutionContext context;
+    private final Map<EvaluatorKey, CachedEvaluator> evaluators = new ConcurrentHashMap<>();
+
+    BreakpointEvaluatorCache(ExecutionContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Evaluates the given expression of a breakpoint on the given stack frame.
+     *
+     * @param qualifiedClassName full-qualified classname of the source file of the breakpoint
+     * @param lineNumber         line number of the breakpoint
+     * @param expression         breakpoint condition or logpoint expression
+     * @param thread             suspended thread
+     * @param frame              top ballerina stack frame of the suspended thread
+     * @return result of the expression
+     */
+    BExpressionValue evaluate(String qualifiedClassName, int lineNumber, String expression,
+                              ThreadReferenceProxyImpl thread, StackFrameProxyImpl frame) throws EvaluationException {
+        EvaluatorKey key = new EvaluatorKey(qualifiedClassName, lineNumber, expression);
+        CachedEvaluator cachedEvaluator = evaluators.get(key);
+        if (cachedEvaluator == null) {
+            CachedEvaluator newEvaluator = createEvaluator(expression, thread, frame);
+            cachedEvaluator = evaluators.putIfAbsent(key, newEvaluator);
+            if (cachedEvaluator == null) {
+                cachedEvaluator = newEvaluator;
+            }
+        }
+
+        // An evaluator is bound to a single stack frame at a time.
+        synchronized (cachedEvaluator) {
+            cachedEvaluator.suspendedContext().rebind(thread, frame);
+            return cachedEvaluator.evaluator().evaluate();
+        }
+    }
+
+    /**
+     * Removes the evaluators of the breakpoints of the given source file, which are no longer configured.
+     *
+     * @param qualifiedClassName full-qualified classname of the source file
+     * @param breakpoints        breakpoints currently configured for the source file
+     */
+    void retain(String qualifiedClassName, Map<Integer, BalBreakpoint> breakpoints) {
+        Set<EvaluatorKey> configuredKeys = new HashSet<>();
+        for (BalBreakpoint breakpoint : breakpoints.values()) {
+            breakpoint.getCondition().ifPresent(condition ->
+                    configuredKeys.add(new EvaluatorKey(qualifiedClassName, breakpoint.getLine(), condition)));
+            breakpoint.getLogMessage()
+                    .filter(logMessage -> logMessage instanceof TemplateLogMessage)
+                    .ifPresent(logMessage -> ((TemplateLogMessage) logMessage).getExpressions().forEach(expression ->
+                            configuredKeys.add(new EvaluatorKey(qualifiedClassName, breakpoint.getLine(),
+                                    expression))));
+        }
+
+        removeIf(key -> key.qualifiedClassName().equals(qualifiedClassName) && !configuredKeys.contains(key));
+    }
+
+    /**
+     * Removes all the evaluators of the breakpoints of the given source file, since the evaluators are bound to the
+     * class previously loaded for the source file.
+     *
+     * @param qualifiedClassName full-qualified classname of the (re)loaded source file
+     */
+    void evict(String qualifiedClassName) {
+        removeIf(key -> key.qualifiedClassName().equals(qualifiedClassName));
+    }
+
+    /**
+     * Removes all the evaluators, along with the executables generated for them.
+     */
+    void clear() {
+        evaluators.values().forEach(cachedEvaluator -> cachedEvaluator.evaluationContext().dispose());
+        evaluators.clear();
+    }
+
+    /**
+     * Returns the number of the cached evaluators.
+     */
+    int size() {
+        return evaluators.size();
+    }
+
+    /**
+     * Builds an evaluator of the given expression, bound to the given stack frame.
+     */
+    CachedEvaluator createEvaluator(String expression, ThreadReferenceProxyImpl thread, StackFrameProxyImpl frame) {
+        SuspendedContext suspendedContext = new SuspendedContext(context, thread, frame);
+        EvaluationContext evaluationContext = new EvaluationContext(suspendedContext, true);
+        DebugExpressionEvaluator evaluator = new DebugExpressionEvaluator(evaluationContext);
+        evaluator.setExpression(expression);
+        return new CachedEvaluator(suspendedContext, evaluationContext, evaluator);
+    }
+
+    private void removeIf(Predicate<EvaluatorKey> predicate) {
+        Iterator<Map.Entry<EvaluatorKey, CachedEvaluator>> iterator = evaluators.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<EvaluatorKey, CachedEvaluator> entry = iterator.next();
+            if (predicate.test(entry.getKey())) {
+                iterator.remove();
+                entry.getValue().evaluationContext().dispose();
+            }
+        }
+    }
+
+    private record EvaluatorKey(String qualifiedClassName, int lineNumber, String expression) {
+    }
+
+    record CachedEvaluator(SuspendedContext suspendedContext, EvaluationContext evaluationContext,
+                                   DebugExpressionEvaluator evaluator) {
+    }
+}
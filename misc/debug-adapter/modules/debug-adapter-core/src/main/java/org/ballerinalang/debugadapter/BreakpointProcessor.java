@@ -19,14 +19,12 @@ package org.ballerinalang.debugadapter;
 import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.Location;
 import com.sun.jdi.ReferenceType;
-import com.sun.jdi.ThreadReference;
 import com.sun.jdi.event.BreakpointEvent;
 import com.sun.jdi.request.BreakpointRequest;
 import org.ballerinalang.debugadapter.breakpoint.BalBreakpoint;
 import org.ballerinalang.debugadapter.breakpoint.LogMessage;
 import org.ballerinalang.debugadapter.breakpoint.TemplateLogMessage;
 import org.ballerinalang.debugadapter.evaluation.BExpressionValue;
-import org.ballerinalang.debugadapter.evaluation.DebugExpressionEvaluator;
 import org.ballerinalang.debugadapter.evaluation.EvaluationException;
 import org.ballerinalang.debugadapter.evaluation.EvaluationExceptionKind;
 import org.ballerinalang.debugadapter.jdi.JDIUtils;
@@ -68,11 +66,13 @@ public class BreakpointProcessor {
     private final ExecutionContext context;
     private final JDIEventProcessor jdiEventProcessor;
     private final Map<String, LinkedHashMap<Integer, BalBreakpoint>> userBreakpoints = new ConcurrentHashMap<>();
+    private final BreakpointEvaluatorCache evaluatorCache;
     private static final Logger LOGGER = LoggerFactory.getLogger(BreakpointProcessor.class);
 
     public BreakpointProcessor(ExecutionContext context, JDIEventProcessor jdiEventProcessor) {
         this.context = context;
         this.jdiEventProcessor = jdiEventProcessor;
+        this.evaluatorCache = new BreakpointEvaluatorCache(context);
     }
 
     public Map<String, LinkedHashMap<Integer, BalBreakpoint>> getUserBreakpoints() {
@@ -88,6 +88,25 @@ public class BreakpointProcessor {
      */
     public void addSourceBreakpoints(String qualifiedClassName, LinkedHashMap<Integer, BalBreakpoint> breakpoints) {
         userBreakpoints.put(qualifiedClassName, breakpoints);
+        evaluatorCache.retain(qualifiedClassName, breakpoints);
+    }
+
+    /**
+     * Clears the evaluators cached for the breakpoint conditions and logpoint expressions, which are bound to the
+     * current debuggee VM.
+     */
+    void clearEvaluatorCache() {
+        evaluatorCache.clear();
+    }
+
+    /**
+     * Removes the evaluators cached for the breakpoints of the given class, as the evaluators are bound to the version
+     * of the class which was loaded previously.
+     *
+     * @param referenceType prepared class in the remote VM
+     */
+    void evictEvaluators(ReferenceType referenceType) {
+        evaluatorCache.evict(getQualifiedClassName(referenceType));
     }
 
     /**
@@ -132,36 +151,56 @@ public class BreakpointProcessor {
             return;
         }
 
-        // If there's a non-empty user defined log message and no breakpoint condition, resumes the remote VM
-        // after showing the log on the debug console.
-        if (logMessage.isPresent() && condition.isEmpty()) {
-            printLogMessage(event, logMessage.get(), lineNumber);
-            context.getDebuggeeVM().resume();
-            return;
-        }
-
-        CompletableFuture<Boolean> resultFuture = evaluateBreakpointCondition(condition, event.thread(), lineNumber);
+        long evaluationStartTime = System.nanoTime();
         try {
-            Boolean result = resultFuture.get(5000, TimeUnit.MILLISECONDS);
-            if (result) {
+            // If there's a non-empty user defined log message and no breakpoint condition, resumes the remote VM
+            // after showing the log on the debug console.
+            if (logMessage.isPresent() && condition.isEmpty()) {
+                printLogMessage(event, logMessage.get(), lineNumber);
+                context.getDebuggeeVM().resume();
+                return;
+            }
+
+            CompletableFuture<Boolean> resultFuture = evaluateBreakpointCondition(condition, event, lineNumber);
+            try {
+                Boolean result = resultFuture.get(5000, TimeUnit.MILLISECONDS);
+                if (result) {
+                    if (logMessage.isPresent()) {
+                        printLogMessage(event, logMessage.get(), lineNumber);
+                        context.getDebuggeeVM().resume();
+                    } else {
+                        jdiEventProcessor.notifyStopEvent(event);
+                    }
+                } else {
+                    context.getDebuggeeVM().resume();
+                }
+            } catch (InterruptedException | ExecutionException | TimeoutException e) {
+                context.getOutputLogger().sendErrorOutput(String.format("Warning: Skipping conditional breakpoint " +
+                        "at line: %d, due to timeout while evaluating the condition:'%s'.", lineNumber, condition));
                 if (logMessage.isPresent()) {
                     printLogMessage(event, logMessage.get(), lineNumber);
                     context.getDebuggeeVM().resume();
                 } else {
                     jdiEventProcessor.notifyStopEvent(event);
                 }
-            } else {
-                context.getDebuggeeVM().resume();
-            }
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            context.getOutputLogger().sendErrorOutput(String.format("Warning: Skipping conditional breakpoint at " +
-                    "line: %d, due to timeout while evaluating the condition:'%s'.", lineNumber, condition));
-            if (logMessage.isPresent()) {
-                printLogMessage(event, logMessage.get(), lineNumber);
-                context.getDebuggeeVM().resume();
-            } else {
-                jdiEventProcessor.notifyStopEvent(event);
             }
+        } finally {
+            reportEvaluationTime(breakpoint, System.nanoTime() - evaluationStartTime);
+        }
+    }
+
+    /**
+     * Records the time taken to evaluate the condition and the log message of the given breakpoint, and logs it along
+     * with the evaluation statistics of the breakpoint.
+     */
+    private void reportEvaluationTime(BalBreakpoint breakpoint, long evaluationNanos) {
+        breakpoint.recordEvaluation(evaluationNanos);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(String.format("Evaluated the breakpoint at line: %d of '%s' in %d ms (evaluations: %d, " +
+                            "average: %d ms, max: %d ms)", breakpoint.getLine(), breakpoint.getSource().getPath(),
+                    TimeUnit.NANOSECONDS.toMillis(evaluationNanos), breakpoint.getEvaluationCount(),
+                    TimeUnit.NANOSECONDS.toMillis(breakpoint.getAverageEvaluationNanos()),
+                    TimeUnit.NANOSECONDS.toMillis(breakpoint.getMaxEvaluationNanos())));
         }
     }
 
@@ -313,15 +352,15 @@ public class BreakpointProcessor {
     /**
      * Evaluates the given breakpoint condition (expression) using the ballerina debugger expression evaluation engine.
      *
-     * @param expression      breakpoint expression
-     * @param threadReference suspended thread reference, which should be used to get the top stack frame
+     * @param expression breakpoint expression
+     * @param event      breakpoint event, of which the thread should be used to get the top stack frame
      * @return result of the given breakpoint condition (logical expression).
      */
-    private CompletableFuture<Boolean> evaluateBreakpointCondition(String expression, ThreadReference threadReference,
+    private CompletableFuture<Boolean> evaluateBreakpointCondition(String expression, BreakpointEvent event,
                                                                    int lineNumber) {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                BExpressionValue evaluatorResult = evaluateExpressionSafely(expression, threadReference);
+                BExpressionValue evaluatorResult = evaluateExpressionSafely(expression, event);
                 String condition = evaluatorResult.getStringValue();
                 if (evaluatorResult.getType() != BVariableType.BOOLEAN) {
                     String errorMessage = String.format(EvaluationExceptionKind.TYPE_MISMATCH.getReason(),
@@ -355,7 +394,7 @@ public class BreakpointProcessor {
                 List<String> expressions = template.getExpressions();
                 List<String> evaluationResults = new ArrayList<>();
                 for (String expression : expressions) {
-                    evaluationResults.add(evaluateExpressionSafely(expression, event.thread()).getStringValue());
+                    evaluationResults.add(evaluateExpressionSafely(expression, event).getStringValue());
                 }
                 template.resolveInterpolations(evaluationResults);
                 context.getOutputLogger().sendProgramOutput(template.getMessage());
@@ -368,7 +407,7 @@ public class BreakpointProcessor {
         }
     }
 
-    private BExpressionValue evaluateExpressionSafely(String expression, ThreadReference threadReference)
+    private BExpressionValue evaluateExpressionSafely(String expression, BreakpointEvent event)
             throws EvaluationException, JdiProxyException {
         // When evaluating breakpoint conditions, we might need to invoke methods in the remote JVM and it can
         // cause deadlocks if 'invokeMethod' is called from the client's event handler thread. In that case, the
@@ -378,17 +417,16 @@ public class BreakpointProcessor {
         // the condition evaluation.
         JDIUtils.disableJDIRequests(context);
 
-        ThreadReferenceProxyImpl thread = context.getAdapter().getAllThreads().get((int) threadReference.uniqueID());
+        ThreadReferenceProxyImpl thread = context.getAdapter().getAllThreads().get((int) event.thread().uniqueID());
         List<BallerinaStackFrame> validFrames = jdiEventProcessor.filterValidBallerinaFrames(thread.frames());
         if (validFrames.isEmpty()) {
             throw new IllegalStateException("Failed to use stack frames for evaluation");
         }
 
-        SuspendedContext ctx = new SuspendedContext(context, thread, validFrames.get(0).getJStackFrame());
-        EvaluationContext evaluationContext = new EvaluationContext(ctx);
-        DebugExpressionEvaluator evaluator = new DebugExpressionEvaluator(evaluationContext);
-        evaluator.setExpression(expression);
-        BExpressionValue evaluationResult = evaluator.evaluate();
+        // The evaluator of the expression is reused across the hits of the breakpoint.
+        Location location = event.location();
+        BExpressionValue evaluationResult = evaluatorCache.evaluate(getQualifiedClassName(location.declaringType()),
+                location.lineNumber(), expression, thread, validFrames.get(0).getJStackFrame());
 
         // As we disabled all the breakpoint requests before evaluating the user's conditional
         // expression, need to re-enable all the breakpoints before continuing the remote VM execution.
@@ -18,9 +18,11 @@ package org.ballerinalang.debugadapter;
 
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import org.ballerinalang.debugadapter.evaluation.BImport;
+import org.ballerinalang.debugadapter.evaluation.engine.expression.EvaluationProgram;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Context holder which contain information of the evaluation state.
@@ -32,10 +34,24 @@ public class EvaluationContext {
     private final SuspendedContext suspendedContext;
     private Map<String, BImport> resolvedImports;
     private String expression;
+    // Executables generated for the evaluation snippets, which are retained only if the context is reused.
+    private final Map<String, EvaluationProgram> programs;
 
     public EvaluationContext(SuspendedContext suspendedContext) {
+        this(suspendedContext, false);
+    }
+
+    /**
+     * Creates an evaluation context.
+     *
+     * @param suspendedContext suspended context of the evaluation
+     * @param retainPrograms   if true, the executables generated while evaluating the expression are retained by the
+     *                         context to be reused by the subsequent evaluations, until the context is disposed
+     */
+    public EvaluationContext(SuspendedContext suspendedContext, boolean retainPrograms) {
         this.suspendedContext = suspendedContext;
         this.resolvedImports = new HashMap<>();
+        this.programs = retainPrograms ? new HashMap<>() : null;
     }
 
     public SuspendedContext getSuspendedContext() {
@@ -62,4 +78,44 @@ public class EvaluationContext {
             this.expression = expression;
         }
     }
+
+    /**
+     * Returns the executable retained for the given evaluation snippet, if any.
+     *
+     * @param snippet evaluation snippet
+     * @return executable generated for the snippet
+     */
+    public synchronized Optional<EvaluationProgram> getProgram(String snippet) {
+        return programs == null ? Optional.empty() : Optional.ofNullable(programs.get(snippet));
+    }
+
+    /**
+     * Retains the executable generated for the given evaluation snippet, if the context retains the executables.
+     *
+     * @param snippet evaluation snippet
+     * @param program executable generated for the snippet
+     * @return true if the executable is retained by the context, in which case it will be disposed along with the
+     * context
+     */
+    public synchronized boolean retainProgram(String snippet, EvaluationProgram program) {
+        if (programs == null) {
+            return false;
+        }
+        EvaluationProgram previous = programs.put(snippet, program);
+        if (previous != null && previous != program) {
+            previous.dispose();
+        }
+        return true;
+    }
+
+    /**
+     * Disposes the executables retained by the context.
+     */
+    public synchronized void dispose() {
+        if (programs == null) {
+            return;
+        }
+        programs.values().forEach(EvaluationProgram::dispose);
+        programs.clear();
+    }
 }
@@ -17,6 +17,7 @@
 package org.ballerinalang.debugadapter;
 
 import com.sun.jdi.Field;
+import com.sun.jdi.LocalVariable;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.ThreadReference;
 import com.sun.jdi.Value;
@@ -165,6 +166,8 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
     private final Map<Integer, Integer> scopeIdToFrameIds = new HashMap<>();
     private final Map<Integer, Integer> variableToStackFrames = new ConcurrentHashMap<>();
     private final Map<Integer, BCompoundVariable> loadedCompoundVariables = new ConcurrentHashMap<>();
+    // Child variables loaded during the current suspension, against the requested variable range.
+    private final Map<ChildVariablesKey, Variable[]> loadedChildVariables = new ConcurrentHashMap<>();
     // Multi-threading is avoided here due to observed intermittent VM crashes, likely related to JDI limitations.
     private final ExecutorService variableExecutor = Executors.newSingleThreadExecutor();
 
@@ -205,6 +208,7 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
         capabilities.setSupportsCompletionsRequest(true);
         capabilities.setCompletionTriggerCharacters(getTriggerCharacters().toArray(String[]::new));
         capabilities.setSupportsRestartRequest(true);
+        capabilities.setSupportsDelayedStackTraceLoading(true);
         // unsupported capabilities
         capabilities.setSupportsHitConditionalBreakpoints(false);
         capabilities.setSupportsModulesRequest(false);
@@ -344,16 +348,16 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
         StackTraceResponse stackTraceResponse = new StackTraceResponse();
         try {
             activeThread = getAllThreads().get(args.getThreadId());
-            if (threadStackTraces.containsKey(activeThread.uniqueID())) {
-                stackTraceResponse.setStackFrames(threadStackTraces.get(activeThread.uniqueID()));
-            } else {
-                StackFrame[] validFrames = activeThread.frames().stream()
+            StackFrame[] validFrames = threadStackTraces.get(activeThread.uniqueID());
+            if (validFrames == null) {
+                validFrames = activeThread.frames().stream()
                         .map(this::toDapStackFrame)
                         .filter(ServerUtils::isValidFrame)
                         .toArray(StackFrame[]::new);
-                stackTraceResponse.setStackFrames(validFrames);
                 threadStackTraces.put(activeThread.uniqueID(), validFrames);
             }
+            stackTraceResponse.setStackFrames(getRequestedFrames(validFrames, args));
+            stackTraceResponse.setTotalFrames(validFrames.length);
             return CompletableFuture.completedFuture(stackTraceResponse);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
@@ -390,8 +394,17 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
         try {
             Integer frameId = scopeIdToFrameIds.get(args.getVariablesReference());
             if (frameId == null) {
-                variablesResponse.setVariables(computeChildVariables(args));
-                return CompletableFuture.completedFuture(variablesResponse);
+                // Child variables are computed asynchronously, so that loading the children of a large variable does
+                // not block the other requests of the client.
+                return computeChildVariablesAsync(args)
+                        .exceptionally(e -> {
+                            LOGGER.error(e.getMessage(), e);
+                            return new Variable[0];
+                        })
+                        .thenApply(variables -> {
+                            variablesResponse.setVariables(variables);
+                            return variablesResponse;
+                        });
             }
 
             StackFrameProxyImpl stackFrame = stackFrames.get(Math.abs(frameId));
@@ -709,6 +722,10 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
             context.getClient().exited(exitedEventArguments);
         }
 
+        // Removes the executables generated for the breakpoint conditions and logpoint expressions.
+        Optional.ofNullable(eventProcessor).ifPresent(processor ->
+                processor.getBreakpointProcessor().clearEvaluatorCache());
+
         // Notifies user.
         if (executionManager != null && enableClientLogs) {
             outputLogger.sendDebugServerOutput(String.format(System.lineSeparator() + "Disconnected from the target " +
@@ -964,15 +981,22 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
         if (cls.size() != 1) {
             return new Variable[0];
         }
-        List<CompletableFuture<Variable>> scheduledVariables = new ArrayList<>();
         ReferenceType initClassReference = cls.get(0);
+        List<Field> globalFields = new ArrayList<>();
         for (Field field : initClassReference.allFields()) {
             String fieldName = Utils.decodeIdentifier(field.name());
             if (!field.isPublic() || !field.isStatic() || fieldName.startsWith(GENERATED_VAR_PREFIX)) {
                 continue;
             }
-            Value fieldValue = initClassReference.getValue(field);
-            scheduledVariables.add(computeVariableAsync(fieldName, fieldValue, stackFrameReference));
+            globalFields.add(field);
+        }
+
+        // Reads the values of all the global variables at once, instead of reading them one by one.
+        Map<Field, Value> fieldValues = initClassReference.getValues(globalFields);
+        List<CompletableFuture<Variable>> scheduledVariables = new ArrayList<>();
+        for (Field field : globalFields) {
+            scheduledVariables.add(computeVariableAsync(Utils.decodeIdentifier(field.name()), fieldValues.get(field),
+                    stackFrameReference));
         }
 
         return scheduledVariables.stream()
@@ -994,9 +1018,18 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
         List<CompletableFuture<Variable>> scheduledVariables = new ArrayList<>();
         List<CompletableFuture<Variable[]>> scheduledLambdaMapVariables = new ArrayList<>();
         List<LocalVariableProxyImpl> localVariableProxies = stackFrame.visibleVariables();
+        // Reads the values of all the visible variables at once, instead of reading them one by one. The values which
+        // cannot be read at once are read one by one.
+        Map<LocalVariable, Value> localValues;
+        try {
+            localValues = stackFrame.getAllValues();
+        } catch (Exception e) {
+            localValues = Map.of();
+        }
         for (LocalVariableProxyImpl var : localVariableProxies) {
             String name = var.name();
-            Value value = stackFrame.getValue(var);
+            Value value = localValues.containsKey(var.getVariable()) ? localValues.get(var.getVariable()) :
+                    stackFrame.getValue(var);
             // Since the ballerina variables used inside lambda functions are converted into maps during the
             // ballerina runtime code generation, such local variables needs to be extracted in a separate manner.
             if (VariableUtils.isLambdaParamMap(var)) {
@@ -1070,8 +1103,9 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
      * @param stackFrameRef reference ID of the parent stack frame
      */
     private CompletableFuture<Variable> computeVariableAsync(String name, Value value, Integer stackFrameRef) {
+        SuspendedContext variableContext = suspendedContext;
         return CompletableFuture.supplyAsync(() -> {
-            BVariable variable = VariableFactory.getVariable(suspendedContext, name, value);
+            BVariable variable = VariableFactory.getVariable(variableContext, name, value);
             if (variable == null) {
                 return null;
             }
@@ -1092,41 +1126,54 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
     }
 
     private Variable[] computeChildVariables(VariablesArguments args) {
-        // Todo: Add support for parallel child variable computations.
         BCompoundVariable parentVar = loadedCompoundVariables.get(args.getVariablesReference());
         Integer stackFrameId = variableToStackFrames.get(args.getVariablesReference());
-        if (stackFrameId == null) {
+        if (stackFrameId == null || parentVar == null) {
             return new Variable[0];
         }
+
+        int startIndex = (args.getStart() != null) ? args.getStart() : 0;
+        int count = (args.getCount() != null) ? args.getCount() : 0;
+        // The child variables are loaded only once per suspension, as the variable values cannot change while the
+        // program is suspended.
+        ChildVariablesKey key = new ChildVariablesKey(args.getVariablesReference(), startIndex, count);
+        Variable[] childVariables = loadedChildVariables.get(key);
+        if (childVariables != null) {
+            return childVariables;
+        }
+
         if (parentVar instanceof IndexedCompoundVariable) {
             // Handles indexed variables.
-            int startIndex = (args.getStart() != null) ? args.getStart() : 0;
-            int count = (args.getCount() != null) ? args.getCount() : 0;
-
             Either<Map<String, Value>, List<Value>> childVars = ((IndexedCompoundVariable) parentVar)
                     .getIndexedChildVariables(startIndex, count);
             if (childVars.isLeft()) {
                 // Handles map-type indexed variables.
-                return createVariableArrayFrom(args, childVars.getLeft());
+                childVariables = createVariableArrayFrom(args, parentVar.getContext(), childVars.getLeft());
             } else if (childVars.isRight()) {
                 // Handles list-type indexed variables.
-                return createVariableArrayFrom(args, childVars.getRight());
+                childVariables = createVariableArrayFrom(args, parentVar.getContext(), childVars.getRight());
+            } else {
+                childVariables = new Variable[0];
             }
-            return new Variable[0];
         } else if (parentVar instanceof NamedCompoundVariable) {
             // Handles named variables.
-            Map<String, Value> childVars = ((NamedCompoundVariable) parentVar).getNamedChildVariables();
-            return createVariableArrayFrom(args, childVars);
+            Map<String, Value> childVars = ((NamedCompoundVariable) parentVar).getNamedChildVariables(startIndex,
+                    count);
+            childVariables = createVariableArrayFrom(args, parentVar.getContext(), childVars);
+        } else {
+            childVariables = new Variable[0];
         }
 
-        return new Variable[0];
+        loadedChildVariables.put(key, childVariables);
+        return childVariables;
     }
 
-    private Variable[] createVariableArrayFrom(VariablesArguments args, Map<String, Value> varMap) {
+    private Variable[] createVariableArrayFrom(VariablesArguments args, SuspendedContext variableContext,
+                                               Map<String, Value> varMap) {
         return varMap.entrySet().stream().map(entry -> {
             String name = entry.getKey();
             Value value = entry.getValue();
-            BVariable variable = VariableFactory.getVariable(suspendedContext, name, value);
+            BVariable variable = VariableFactory.getVariable(variableContext, name, value);
             if (variable == null) {
                 return null;
             } else if (variable instanceof BSimpleVariable) {
@@ -1141,13 +1188,14 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
         }).filter(Objects::nonNull).toArray(Variable[]::new);
     }
 
-    private Variable[] createVariableArrayFrom(VariablesArguments args, List<Value> varMap) {
+    private Variable[] createVariableArrayFrom(VariablesArguments args, SuspendedContext variableContext,
+                                               List<Value> varMap) {
         int startIndex = (args.getStart() != null) ? args.getStart() : 0;
         AtomicInteger index = new AtomicInteger(startIndex);
 
         return varMap.stream().map(value -> {
             String name = String.format("[%d]", index.getAndIncrement());
-            BVariable variable = VariableFactory.getVariable(suspendedContext, name, value);
+            BVariable variable = VariableFactory.getVariable(variableContext, name, value);
             if (variable == null) {
                 return null;
             } else if (variable instanceof BSimpleVariable) {
@@ -1162,6 +1210,24 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
         }).filter(Objects::nonNull).toArray(Variable[]::new);
     }
 
+    /**
+     * Returns the stack frames in the range requested by the client, as the client may load the stack frames of a
+     * thread in pages.
+     *
+     * @param frames all the stack frames of the thread
+     * @param args   stack trace arguments
+     * @return stack frames in the requested range
+     */
+    private static StackFrame[] getRequestedFrames(StackFrame[] frames, StackTraceArguments args) {
+        int startFrame = (args.getStartFrame() != null) ? Math.max(args.getStartFrame(), 0) : 0;
+        int levels = (args.getLevels() != null) ? args.getLevels() : 0;
+        if (startFrame >= frames.length) {
+            return new StackFrame[0];
+        }
+        int endFrame = levels > 0 ? Math.min(frames.length, startFrame + levels) : frames.length;
+        return Arrays.copyOfRange(frames, startFrame, endFrame);
+    }
+
     /**
      * Creates a {@link EvaluateResponse} from the given evaluation result variable.
      *
@@ -1211,6 +1277,7 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
         activeThread = null;
         stackFrames.clear();
         loadedCompoundVariables.clear();
+        loadedChildVariables.clear();
         variableToStackFrames.clear();
         scopeIdToFrameIds.clear();
         threadStackTraces.clear();
@@ -1239,4 +1306,14 @@ public class JBallerinaDebugServer implements BallerinaExtendedDebugServer {
         continuedEventArguments.setAllThreadsContinued(true);
         context.getClient().continued(continuedEventArguments);
     }
+
+    /**
+     * Identifies a range of child variables of a compound variable.
+     *
+     * @param variablesReference reference ID of the compound variable
+     * @param start              index of the first child variable
+     * @param count              number of child variables, or 0 for all the child variables
+     */
+    private record ChildVariablesKey(int variablesReference, int start, int count) {
+    }
 }
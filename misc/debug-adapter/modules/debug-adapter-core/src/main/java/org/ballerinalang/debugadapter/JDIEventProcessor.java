@@ -139,6 +139,7 @@ public class JDIEventProcessor {
 
     private void processEvent(EventSet eventSet, Event event) {
         if (event instanceof ClassPrepareEvent evt) {
+            breakpointProcessor.evictEvaluators(evt.referenceType());
             if (context.getPrevInstruction() != DebugInstruction.STEP_OVER) {
                 breakpointProcessor.activateUserBreakPoints(evt.referenceType(), true);
             }
@@ -333,5 +334,6 @@ public class JDIEventProcessor {
         stopListening(true);
         stepRequests.clear();
         virtualThreads.clear();
+        breakpointProcessor.clearEvaluatorCache();
     }
 }
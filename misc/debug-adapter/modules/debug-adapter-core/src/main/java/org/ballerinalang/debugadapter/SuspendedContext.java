@@ -51,8 +51,8 @@ public class SuspendedContext {
 
     private final ExecutionContext executionContext;
     private final VirtualMachineProxyImpl attachedVm;
-    private final ThreadReferenceProxyImpl owningThread;
-    private final StackFrameProxyImpl frame;
+    private ThreadReferenceProxyImpl owningThread;
+    private StackFrameProxyImpl frame;
     private final Project project;
 
     private DebugSourceType sourceType;
@@ -74,6 +74,19 @@ public class SuspendedContext {
         this.project = resolveCurrentProject(executionContext.getSourceProject());
     }
 
+    /**
+     * Binds the context to the given suspended thread and stack frame, so that the evaluators built for the context
+     * can be reused. The stack frame must be suspended at the same source location as the stack frame the context was
+     * created with, since the information derived from the source location is retained.
+     *
+     * @param threadRef suspended thread
+     * @param frame     stack frame of the suspended thread
+     */
+    void rebind(ThreadReferenceProxyImpl threadRef, StackFrameProxyImpl frame) {
+        this.owningThread = threadRef;
+        this.frame = frame;
+    }
+
     public ExecutionContext getExecutionContext() {
         return executionContext;
     }
@@ -41,6 +41,9 @@ public class BalBreakpoint {
     private LogMessage logMessage;
     private boolean isVerified;
     private boolean supportsVerification;
+    private int evaluationCount;
+    private long totalEvaluationNanos;
+    private long maxEvaluationNanos;
 
     private static final AtomicInteger nextID = new AtomicInteger(0);
 
@@ -104,4 +107,27 @@ public class BalBreakpoint {
     public void setSupportsVerification(boolean supportsVerification) {
         this.supportsVerification = supportsVerification;
     }
+
+    /**
+     * Records the time taken to evaluate the condition and the log message of the breakpoint on a breakpoint hit.
+     *
+     * @param evaluationNanos evaluation time in nanoseconds
+     */
+    public synchronized void recordEvaluation(long evaluationNanos) {
+        evaluationCount++;
+        totalEvaluationNanos += evaluationNanos;
+        maxEvaluationNanos = Math.max(maxEvaluationNanos, evaluationNanos);
+    }
+
+    public synchronized int getEvaluationCount() {
+        return evaluationCount;
+    }
+
+    public synchronized long getAverageEvaluationNanos() {
+        return evaluationCount == 0 ? 0 : totalEvaluationNanos / evaluationCount;
+    }
+
+    public synchronized long getMaxEvaluationNanos() {
+        return maxEvaluationNanos;
+    }
 }
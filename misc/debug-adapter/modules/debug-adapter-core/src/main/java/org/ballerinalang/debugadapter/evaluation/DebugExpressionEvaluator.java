@@ -27,6 +27,10 @@ import static org.ballerinalang.debugadapter.evaluation.EvaluationException.crea
 
 /**
  * Ballerina expression evaluator.
+ * <p>
+ * The evaluator tree of the expression is built by the first evaluation and reused by the subsequent evaluations of
+ * the same expression. Hence, an instance can be evaluated again only while the debuggee is suspended at the same
+ * source location as in the first evaluation, though on a different stack frame.
  *
  * @since 1.0.0
  */
@@ -34,6 +38,7 @@ public class DebugExpressionEvaluator extends Evaluator {
 
     private final EvaluationContext evaluationContext;
     private String expression;
+    private Evaluator expressionEvaluator;
 
     public DebugExpressionEvaluator(EvaluationContext context) {
         super(context);
@@ -42,6 +47,7 @@ public class DebugExpressionEvaluator extends Evaluator {
 
     public void setExpression(String expression) {
         this.expression = expression;
+        this.expressionEvaluator = null;
     }
 
     /**
@@ -50,27 +56,33 @@ public class DebugExpressionEvaluator extends Evaluator {
     @Override
     public BExpressionValue evaluate() throws EvaluationException {
         try {
-            // Parses the given string expression.
-            SerialExpressionValidator expressionValidator = new SerialExpressionValidator();
-            ExpressionNode parsedExpression = expressionValidator.validateAndParse(expression);
-
-            EvaluationImportResolver importResolver = new EvaluationImportResolver(context);
-            Map<String, BImport> resolvedImports = importResolver.getAllImports();
-            evaluationContext.setResolvedImports(resolvedImports);
-            evaluationContext.setExpression(expression);
-            // Validates the import prefixes (qualified name references) within the expression.
-            importResolver.detectUsedImports(parsedExpression);
-
-            // Uses `ExpressionIdentifierModifier` to modify and encode all the identifiers within the expression.
-            parsedExpression = (ExpressionNode) parsedExpression.apply(new IdentifierModifier());
-
-            EvaluatorBuilder evaluatorBuilder = new EvaluatorBuilder(evaluationContext);
-            Evaluator evaluator = evaluatorBuilder.build(parsedExpression);
-            return evaluator.evaluate();
+            if (expressionEvaluator == null) {
+                expressionEvaluator = buildEvaluator();
+            }
+            return expressionEvaluator.evaluate();
         } catch (EvaluationException e) {
             throw e;
         } catch (Exception e) {
             throw createEvaluationException("internal error");
         }
     }
+
+    private Evaluator buildEvaluator() throws Exception {
+        // Parses the given string expression.
+        SerialExpressionValidator expressionValidator = new SerialExpressionValidator();
+        ExpressionNode parsedExpression = expressionValidator.validateAndParse(expression);
+
+        EvaluationImportResolver importResolver = new EvaluationImportResolver(context);
+        Map<String, BImport> resolvedImports = importResolver.getAllImports();
+        evaluationContext.setResolvedImports(resolvedImports);
+        evaluationContext.setExpression(expression);
+        // Validates the import prefixes (qualified name references) within the expression.
+        importResolver.detectUsedImports(parsedExpression);
+
+        // Uses `ExpressionIdentifierModifier` to modify and encode all the identifiers within the expression.
+        parsedExpression = (ExpressionNode) parsedExpression.apply(new IdentifierModifier());
+
+        EvaluatorBuilder evaluatorBuilder = new EvaluatorBuilder(evaluationContext);
+        return evaluatorBuilder.build(parsedExpression);
+    }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.debugadapter.evaluation.engine.expression;
+
+import org.ballerinalang.debugadapter.evaluation.utils.FileUtils;
+
+import java.nio.file.Path;
+
+/**
+ * Executable generated by the {@link ExpressionAsProgramEvaluator} for an evaluation snippet.
+ *
+ * @param projectDir     temporary evaluation project directory, which contains the executable
+ * @param executablePath path of the executable JAR
+ * @param mainClassName  name of the main class of the executable
+ * @since 1.0.0
+ */
+public record EvaluationProgram(Path projectDir, Path executablePath, String mainClassName) {
+
+    /**
+     * Deletes the temporary evaluation project of the program, including the executable.
+     */
+    public void dispose() {
+        FileUtils.deleteDirectory(projectDir);
+    }
+}
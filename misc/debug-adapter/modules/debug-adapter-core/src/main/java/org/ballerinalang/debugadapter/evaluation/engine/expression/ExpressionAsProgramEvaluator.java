@@ -141,20 +141,41 @@ public class ExpressionAsProgramEvaluator extends Evaluator {
         this.syntaxNode = syntaxNode;
     }
 
+    /**
+     * Evaluates the expression by executing the program generated for the expression. If the evaluation context
+     * retains the generated executables, the executable generated for the same evaluation snippet by a previous
+     * evaluation is reused, as the snippet captures both the expression and the types of the variables it uses.
+     */
     @Override
     public BExpressionValue evaluate() throws EvaluationException {
+        // The evaluator can be evaluated more than once, hence the state captured by a previous evaluation is cleared.
+        this.tempProjectDir = null;
+        this.externalVariableNames.clear();
+        this.externalVariableValues.clear();
+        this.capturedImports.clear();
+        boolean isRetained = false;
         try {
             String evaluationSnippet = generateEvaluationSnippet();
+            Optional<EvaluationProgram> retainedProgram = evaluationContext.getProgram(evaluationSnippet);
+            if (retainedProgram.isPresent()) {
+                return classAndInvokeExecutable(retainedProgram.get().executablePath(),
+                        retainedProgram.get().mainClassName());
+            }
+
             BuildProject project = createProject(evaluationSnippet);
             Path executablePath = createExecutables(project);
             String mainClassName = constructMainClassName(project);
+            isRetained = evaluationContext.retainProgram(evaluationSnippet,
+                    new EvaluationProgram(tempProjectDir, executablePath, mainClassName));
             return classAndInvokeExecutable(executablePath, mainClassName);
         } catch (EvaluationException e) {
             throw e;
         } catch (Exception e) {
             throw createEvaluationException(INTERNAL_ERROR, syntaxNode.toSourceCode().trim());
         } finally {
-            this.dispose();
+            if (!isRetained) {
+                this.dispose();
+            }
         }
     }
 
@@ -608,6 +629,8 @@ public class ExpressionAsProgramEvaluator extends Evaluator {
 
     private void dispose() {
         // Todo - anything else to be disposed?
-        FileUtils.deleteDirectory(this.tempProjectDir);
+        if (this.tempProjectDir != null) {
+            FileUtils.deleteDirectory(this.tempProjectDir);
+        }
     }
 }
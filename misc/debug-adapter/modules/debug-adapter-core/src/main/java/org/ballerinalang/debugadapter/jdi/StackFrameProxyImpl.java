@@ -309,7 +309,6 @@ public class StackFrameProxyImpl extends JdiProxy implements StackFrameProxy {
         throw new JdiProxyException(error.getMessage(), error);
     }
 
-    @SuppressWarnings("unused")
     public Map<LocalVariable, Value> getAllValues() throws JdiProxyException {
         checkValid();
         if (myAllValues == null) {
@@ -23,6 +23,7 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation for ballerina variable types which can contain a large number of child variable entries and
@@ -32,6 +33,10 @@ import java.util.Map;
  */
 public abstract class IndexedCompoundVariable extends BCompoundVariable {
 
+    // Child variables fetched from the remote VM, against the requested range.
+    private final Map<ChildRange, Either<Map<String, Value>, List<Value>>> loadedChildVariables =
+            new ConcurrentHashMap<>();
+
     public IndexedCompoundVariable(SuspendedContext context, String varName, BVariableType bVarType, Value jvmValue) {
         super(context, varName, bVarType, jvmValue);
     }
@@ -58,18 +63,23 @@ public abstract class IndexedCompoundVariable extends BCompoundVariable {
      * <li> a list of child variables (i.e. array elements, table entries etc.)
      * </ul>
      *
+     * <p>
+     * The child variables of a range are fetched from the remote VM only once, since a variable instance is only used
+     * while the program remains suspended.
+     *
      * @param start The index of the first variable to return; if omitted children start at 0.
      * @param count The number of variables to return. If count is missing or 0, all variables are returned.
      */
     public Either<Map<String, Value>, List<Value>> getIndexedChildVariables(int start, int count) {
-        return computeChildVariables(start, count);
+        return loadedChildVariables.computeIfAbsent(new ChildRange(start, count),
+                range -> computeChildVariables(range.start(), range.count()));
     }
 
     /**
      * Returns the JDI value representation of the child variable in a given index. (i.e. arrays, XML sequence, etc.)
      */
     public Value getChildByIndex(int index) throws DebugVariableException {
-        Either<Map<String, Value>, List<Value>> childVariables = computeChildVariables(index, 1);
+        Either<Map<String, Value>, List<Value>> childVariables = getIndexedChildVariables(index, 1);
         if (childVariables.isLeft()) {
             throw new DebugVariableException("Accessing map elements by index is not allowed.");
         } else if (childVariables.isRight()) {
@@ -86,7 +96,7 @@ public abstract class IndexedCompoundVariable extends BCompoundVariable {
      */
     public Value getChildByName(String key) throws DebugVariableException {
         // Todo - Avoid fetching all children values, which may cause performance impacts.
-        Either<Map<String, Value>, List<Value>> childVariables = computeChildVariables(0, getChildrenCount());
+        Either<Map<String, Value>, List<Value>> childVariables = getIndexedChildVariables(0, getChildrenCount());
         if (childVariables.isRight()) {
             throw new DebugVariableException("Accessing list elements by key is not allowed.");
         }
@@ -110,4 +120,7 @@ public abstract class IndexedCompoundVariable extends BCompoundVariable {
         }
         return dapVariable;
     }
+
+    private record ChildRange(int start, int count) {
+    }
 }
@@ -20,7 +20,9 @@ import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
 import org.eclipse.lsp4j.debug.Variable;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation for ballerina variable types with a known/limited number of child elements. (i.e. error variable
@@ -31,6 +33,8 @@ import java.util.Map;
 public abstract class NamedCompoundVariable extends BCompoundVariable {
 
     private Map<String, Value> namedChildVariables;
+    // Child variables fetched from the remote VM, against the requested range.
+    private final Map<ChildRange, Map<String, Value>> loadedChildVariables = new ConcurrentHashMap<>();
 
     public NamedCompoundVariable(SuspendedContext context, String varName, BVariableType bVarType, Value jvmValue) {
         super(context, varName, bVarType, jvmValue);
@@ -56,6 +60,53 @@ public abstract class NamedCompoundVariable extends BCompoundVariable {
         return namedChildVariables;
     }
 
+    /**
+     * Retrieves JDI value representations of the child variables in the given range, in the order of the map returned
+     * by {@link #computeChildVariables()}.
+     * <p>
+     * Types with a fixed number of child variables slice the map of all the child variables by default, while types
+     * with an unbounded number of child variables (i.e. record fields, object fields) override this to fetch only the
+     * child variables in the range from the remote VM.
+     *
+     * @param start The index of the first variable to return.
+     * @param count The number of variables to return.
+     */
+    protected Map<String, Value> computeChildVariables(int start, int count) {
+        return slice(getNamedChildVariables(), start, count);
+    }
+
+    /**
+     * Returns JDI value representations of the child variables in a given range, in the order of the map returned by
+     * {@link #getNamedChildVariables()}.
+     *
+     * <p>
+     * Only the child variables in the range are fetched from the remote VM, unless all the child variables are already
+     * fetched. The child variables of a range are fetched only once, since a variable instance is only used while the
+     * program remains suspended.
+     *
+     * @param start The index of the first variable to return; if omitted children start at 0.
+     * @param count The number of variables to return. If count is missing or 0, all variables are returned.
+     */
+    public Map<String, Value> getNamedChildVariables(int start, int count) {
+        if (count <= 0) {
+            return start <= 0 ? getNamedChildVariables() : slice(getNamedChildVariables(), start, count);
+        }
+        if (namedChildVariables != null) {
+            return slice(namedChildVariables, start, count);
+        }
+        return loadedChildVariables.computeIfAbsent(new ChildRange(Math.max(start, 0), count),
+                range -> computeChildVariables(range.start(), range.count()));
+    }
+
+    private static Map<String, Value> slice(Map<String, Value> childVariables, int start, int count) {
+        Map<String, Value> childVariablesInRange = new LinkedHashMap<>();
+        childVariables.entrySet().stream()
+                .skip(Math.max(start, 0))
+                .limit(count > 0 ? count : Long.MAX_VALUE)
+                .forEach(entry -> childVariablesInRange.put(entry.getKey(), entry.getValue()));
+        return childVariablesInRange;
+    }
+
     /**
      * Returns the JDI value representation of the child variable for a given name.
      */
@@ -81,4 +132,7 @@ public abstract class NamedCompoundVariable extends BCompoundVariable {
         }
         return dapVariable;
     }
+
+    private record ChildRange(int start, int count) {
+    }
 }
@@ -25,6 +25,7 @@ import org.ballerinalang.debugadapter.variable.NamedCompoundVariable;
 import org.ballerinalang.debugadapter.variable.VariableUtils;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -49,17 +50,25 @@ public class BObject extends NamedCompoundVariable {
 
     @Override
     public Map<String, Value> computeChildVariables() {
+        return computeChildVariables(0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    protected Map<String, Value> computeChildVariables(int start, int count) {
         try {
             if (!(jvmValue instanceof ObjectReference jvmValueRef)) {
                 return new LinkedHashMap<>();
             }
-            Map<Field, Value> fieldValueMap = jvmValueRef.getValues(jvmValueRef.referenceType().allFields());
+            // Only the values of the object fields in the range are read from the remote VM.
+            List<Field> fieldsInRange = jvmValueRef.referenceType().allFields()
+                    .stream()
+                    .filter(field -> field.toString().contains(OBJECT_FIELD_PATTERN_IDENTIFIER))
+                    .skip(Math.max(start, 0))
+                    .limit(count)
+                    .toList();
+            Map<Field, Value> fieldValueMap = jvmValueRef.getValues(fieldsInRange);
             Map<String, Value> values = new LinkedHashMap<>();
-            fieldValueMap.forEach((field, value) -> {
-                if (field.toString().contains(OBJECT_FIELD_PATTERN_IDENTIFIER)) {
-                    values.put(field.name(), value);
-                }
-            });
+            fieldsInRange.forEach(field -> values.put(field.name(), fieldValueMap.get(field)));
             return values;
         } catch (Exception ignored) {
             return new LinkedHashMap<>();
@@ -72,8 +81,7 @@ public class BObject extends NamedCompoundVariable {
             if (!(jvmValue instanceof ObjectReference jvmValueRef)) {
                 return 0;
             }
-            Map<Field, Value> fieldValueMap = jvmValueRef.getValues(jvmValueRef.referenceType().allFields());
-            long objectFieldCount = fieldValueMap.keySet()
+            long objectFieldCount = jvmValueRef.referenceType().allFields()
                     .stream()
                     .filter(field -> field.toString().contains(OBJECT_FIELD_PATTERN_IDENTIFIER))
                     .count();
@@ -80,14 +80,46 @@ public class BRecord extends NamedCompoundVariable {
         }
     }
 
+    @Override
+    protected Map<String, Value> computeChildVariables(int start, int count) {
+        try {
+            if (!(jvmValue instanceof ObjectReference)) {
+                return new LinkedHashMap<>();
+            }
+
+            Map<String, Value> childVarMap = new LinkedHashMap<>();
+            Map<Value, Value> recordFields = getRecordFields(start, count);
+
+            for (Map.Entry<Value, Value> mapEntry : recordFields.entrySet()) {
+                childVarMap.put(Utils.encodeNonFunctionIdentifier(
+                        Utils.escapeSpecialCharacters(VariableUtils.getStringFrom(mapEntry.getKey()))),
+                        mapEntry.getValue());
+            }
+            return childVarMap;
+        } catch (Exception ignored) {
+            return new LinkedHashMap<>();
+        }
+    }
+
     private Map<Value, Value> getRecordFields() {
+        return getRecordFields(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Fetches the record fields in the given range, by invoking the getter of the record only for the keys in the
+     * range.
+     */
+    private Map<Value, Value> getRecordFields(int start, int count) {
         try {
             loadAllKeys();
             Map<Value, Value> recordFields = new LinkedHashMap<>();
-            List<Value> keysRange = loadedKeys.getValues(0, loadedKeys.length());
+            int end = (int) Math.min((long) start + count, loadedKeys.length());
+            if (start >= end) {
+                return recordFields;
+            }
+            List<Value> keysRange = loadedKeys.getValues(start, end - start);
 
-            for (int i = 0; i < loadedKeys.length(); i++) {
-                Value key = keysRange.get(i);
+            for (Value key : keysRange) {
                 recordFields.put(key, getValueFor(key));
             }
             return recordFields;
@@ -48,13 +48,24 @@ public class BXmlItemAttributeMap extends NamedCompoundVariable {
 
     @Override
     public Map<String, Value> computeChildVariables() {
+        return computeChildVariables(0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    protected Map<String, Value> computeChildVariables(int start, int count) {
         Map<String, Value> childVarMap = new LinkedHashMap<>();
         try {
             Optional<Value> mapValues = VariableUtils.getFieldValue(jvmValue, FIELD_MAP_DATA);
             if (mapValues.isEmpty()) {
                 return childVarMap;
             }
-            for (Value map : ((ArrayReference) mapValues.get()).getValues()) {
+            // Only the attribute entries in the range are read from the remote VM.
+            ArrayReference attributesMap = (ArrayReference) mapValues.get();
+            int end = (int) Math.min((long) start + count, attributesMap.length());
+            if (start >= end) {
+                return childVarMap;
+            }
+            for (Value map : attributesMap.getValues(start, end - start)) {
                 if (map != null) {
                     Optional<Value> mapKey = VariableUtils.getFieldValue(map, FIELD_MAP_KEY);
                     Optional<Value> mapValue = VariableUtils.getFieldValue(map, FIELD_MAP_VALUE);
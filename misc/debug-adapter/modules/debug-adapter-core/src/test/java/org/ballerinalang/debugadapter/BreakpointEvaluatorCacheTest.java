@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://wso2.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.debugadapter;
+
+import org.ballerinalang.debugadapter.breakpoint.BalBreakpoint;
+import org.ballerinalang.debugadapter.evaluation.BExpressionValue;
+import org.ballerinalang.debugadapter.evaluation.DebugExpressionEvaluator;
+import org.ballerinalang.debugadapter.evaluation.EvaluationException;
+import org.ballerinalang.debugadapter.jdi.StackFrameProxyImpl;
+import org.ballerinalang.debugadapter.jdi.ThreadReferenceProxyImpl;
+import org.eclipse.lsp4j.debug.Source;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests the reuse and the invalidation of the evaluators cached for the breakpoint conditions and logpoint expressions.
+ *
+ * @since 1.7.0
+ */
+public class BreakpointEvaluatorCacheTest {
+
+    private static final String CLASS_NAME = "org.foo.main";
+    private static final String OTHER_CLASS_NAME = "org.foo.utils";
+    private static final int LINE_NUMBER = 10;
+    private static final String CONDITION = "count > 5";
+
+    private TestEvaluatorCache evaluatorCache;
+    private ThreadReferenceProxyImpl thread;
+
+    @BeforeMethod
+    public void setUp() {
+        evaluatorCache = new TestEvaluatorCache();
+        thread = Mockito.mock(ThreadReferenceProxyImpl.class);
+    }
+
+    @Test
+    public void testEvaluatorIsReusedAcrossHits() throws EvaluationException {
+        StackFrameProxyImpl firstFrame = Mockito.mock(StackFrameProxyImpl.class);
+        StackFrameProxyImpl secondFrame = Mockito.mock(StackFrameProxyImpl.class);
+        evaluatorCache.evaluate(CLASS_NAME, LINE_NUMBER, CONDITION, thread, firstFrame);
+        evaluatorCache.evaluate(CLASS_NAME, LINE_NUMBER, CONDITION, thread, secondFrame);
+
+        Assert.assertEquals(evaluatorCache.created.size(), 1, "The evaluator should be built only once");
+        BreakpointEvaluatorCache.CachedEvaluator cachedEvaluator = evaluatorCache.created.get(0);
+        Mockito.verify(cachedEvaluator.evaluator(), Mockito.times(2)).evaluate();
+        // Each hit binds the evaluator to the stack frame of the hit.
+        Mockito.verify(cachedEvaluator.suspendedContext()).rebind(thread, firstFrame);
+        Mockito.verify(cachedEvaluator.suspendedContext()).rebind(thread, secondFrame);
+    }
+
+    @Test
+    public void testEvaluatorsAreKeyedByLocationAndExpression() throws EvaluationException {
+        StackFrameProxyImpl frame = Mockito.mock(StackFrameProxyImpl.class);
+        evaluatorCache.evaluate(CLASS_NAME, LINE_NUMBER, CONDITION, thread, frame);
+        evaluatorCache.evaluate(CLASS_NAME, LINE_NUMBER, "count > 10", thread, frame);
+        evaluatorCache.evaluate(CLASS_NAME, LINE_NUMBER + 1, CONDITION, thread, frame);
+        evaluatorCache.evaluate(OTHER_CLASS_NAME, LINE_NUMBER, CONDITION, thread, frame);
+
+        Assert.assertEquals(evaluatorCache.created.size(), 4);
+        Assert.assertEquals(evaluatorCache.size(), 4);
+    }
+
+    @Test
+    public void testEvaluatorIsRemovedWhenBreakpointIsChanged() throws EvaluationException {
+        StackFrameProxyImpl frame = Mockito.mock(StackFrameProxyImpl.class);
+        evaluatorCache.evaluate(CLASS_NAME, LINE_NUMBER, CONDITION, thread, frame);
+        BreakpointEvaluatorCache.CachedEvaluator previousEvaluator = evaluatorCache.created.get(0);
+
+        // The same breakpoint configured again retains the evaluator.
+        evaluatorCache.retain(CLASS_NAME, breakpoints(CONDITION));
+        evaluatorCache.evaluate(CLASS_NAME, LINE_NUMBER, CONDITION, thread, frame);
+        Assert.assertEquals(evaluatorCache.created.size(), 1);
+        Mockito.verify(previousEvaluator.evaluationContext(), Mockito.never()).dispose();
+
+        // The breakpoint redefined with a different condition removes the evaluator of the previous condition.
+        evaluatorCache.retain(CLASS_NAME, breakpoints("count > 10"));
+        Mockito.verify(previousEvaluator.evaluationContext()).dispose();
+        Assert.assertEquals(evaluatorCache.size(), 0);
+
+        evaluatorCache.evaluate(CLASS_NAME, LINE_NUMBER, CONDITION, thread, frame);
+        Assert.assertEquals(evaluatorCache.created.size(), 2, "The removed evaluator should be built again");
+    }
+
+    @Test
+    public void testLogpointEvaluatorsAreRetained() throws EvaluationException {
+        StackFrameProxyImpl frame = Mockito.mock(StackFrameProxyImpl.class);
+        evaluatorCache.evaluate(CLASS_NAME, LINE_NUMBER, "count", thread, frame);
+
+        BalBreakpoint logpoint = new BalBreakpoint(new Source(), LINE_NUMBER);
+        logpoint.setLogMessage("count is ${count}");
+        LinkedHashMap<Integer, BalBreakpoint> breakpoints = new LinkedHashMap<>();
+        breakpoints.put(LINE_NUMBER, logpoint);
+        evaluatorCache.retain(CLASS_NAME, breakpoints);
+        Assert.assertEquals(evaluatorCache.size(), 1);
+
+        evaluatorCache.retain(CLASS_NAME, new LinkedHashMap<>());
+        Assert.assertEquals(evaluatorCache.size(), 0);
+    }
+
+    @Test
+    public void testEvaluatorsAreEvictedWhenClassIsReloaded() throws EvaluationException {
+        StackFrameProxyImpl frame = Mockito.mock(StackFrameProxyImpl.class);
+        evaluatorCache.evaluate(CLASS_NAME, LINE_NUMBER, CONDITION, thread, frame);
+        evaluatorCache.evaluate(OTHER_CLASS_NAME, LINE_NUMBER, CONDITION, thread, frame);
+        BreakpointEvaluatorCache.CachedEvaluator reloadedClassEvaluator = evaluatorCache.created.get(0);
+        BreakpointEvaluatorCache.CachedEvaluator otherClassEvaluator = evaluatorCache.created.get(1);
+
+        evaluatorCache.evict(CLASS_NAME);
+        Mockito.verify(reloadedClassEvaluator.evaluationContext()).dispose();
+        Mockito.verify(otherClassEvaluator.evaluationContext(), Mockito.never()).dispose();
+        Assert.assertEquals(evaluatorCache.size(), 1);
+
+        // The evaluator is built again for the class loaded afresh.
+        evaluatorCache.evaluate(CLASS_NAME, LINE_NUMBER, CONDITION, thread, frame);
+        Assert.assertEquals(evaluatorCache.created.size(), 3);
+    }
+
+    @Test
+    public void testClearDisposesAllEvaluators() throws EvaluationException {
+        StackFrameProxyImpl frame = Mockito.mock(StackFrameProxyImpl.class);
+        evaluatorCache.evaluate(CLASS_NAME, LINE_NUMBER, CONDITION, thread, frame);
+        evaluatorCache.evaluate(OTHER_CLASS_NAME, LINE_NUMBER, CONDITION, thread, frame);
+
+        evaluatorCache.clear();
+        Assert.assertEquals(evaluatorCache.size(), 0);
+        for (BreakpointEvaluatorCache.CachedEvaluator cachedEvaluator : evaluatorCache.created) {
+            Mockito.verify(cachedEvaluator.evaluationContext()).dispose();
+        }
+    }
+
+    private static LinkedHashMap<Integer, BalBreakpoint> breakpoints(String condition) {
+        BalBreakpoint breakpoint = new BalBreakpoint(new Source(), LINE_NUMBER);
+        breakpoint.setCondition(condition);
+        LinkedHashMap<Integer, BalBreakpoint> breakpoints = new LinkedHashMap<>();
+        breakpoints.put(LINE_NUMBER, breakpoint);
+        return breakpoints;
+    }
+
+    /**
+     * Evaluator cache which builds mock evaluators instead of compiling the expressions against a debuggee VM.
+     */
+    private static class TestEvaluatorCache extends BreakpointEvaluatorCache {
+
+        private final List<CachedEvaluator> created = new ArrayList<>();
+
+        TestEvaluatorCache() {
+            super(Mockito.mock(ExecutionContext.class));
+        }
+
+        @Override
+        CachedEvaluator createEvaluator(String expression, ThreadReferenceProxyImpl thread,
+                                        StackFrameProxyImpl frame) {
+            DebugExpressionEvaluator evaluator = Mockito.mock(DebugExpressionEvaluator.class);
+            try {
+                Mockito.when(evaluator.evaluate()).thenReturn(Mockito.mock(BExpressionValue.class));
+            } catch (EvaluationException e) {
+                throw new IllegalStateException(e);
+            }
+            CachedEvaluator cachedEvaluator = new CachedEvaluator(Mockito.mock(SuspendedContext.class),
+                    Mockito.mock(EvaluationContext.class), evaluator);
+            created.add(cachedEvaluator);
+            return cachedEvaluator;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.diagramutil;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import io.ballerina.compiler.api.ModuleID;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.directory.SingleFileProject;
+import org.apache.commons.lang3.ClassUtils;
+import org.ballerinalang.benchmark.BenchmarkWorkspace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the throughput of the syntax tree JSON generation, and compares the symbol serialization through the cached
+ * method handle accessors of the {@link SymbolJsonSerializer} with the reflective serialization it replaced, which
+ * resolves and invokes the symbol methods through reflection for every symbol.
+ *
+ * @since 1.7.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+public class SyntaxTreeJsonBenchmark {
+
+    private static final String SOURCE_FILE = "inventory.bal";
+    private static final Set<String> SKIPPED_PROPERTIES = Set.of("typeDefinitions", "functions", "classes",
+            "constants", "listeners", "services", "allSymbols", "resources", "methods", "langLibMethods", "location");
+
+    private BenchmarkWorkspace workspace;
+    private Document document;
+    private SemanticModel semanticModel;
+    private List<Symbol> symbols;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        workspace = BenchmarkWorkspace.create("syntax-tree-json-benchmark");
+        Path filePath = workspace.copy(SOURCE_FILE);
+
+        SingleFileProject project = SingleFileProject.load(filePath);
+        Module module = project.currentPackage().getDefaultModule();
+        semanticModel = project.currentPackage().getCompilation().getSemanticModel(module.moduleId());
+        document = module.document(module.documentIds().iterator().next());
+        symbols = semanticModel.moduleSymbols();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        workspace.close();
+    }
+
+    @Benchmark
+    public JsonElement syntaxTreeJson() {
+        return DiagramUtil.getSyntaxTreeJSON(document, semanticModel);
+    }
+
+    @Benchmark
+    public JsonArray symbolJson() throws JSONGenerationException {
+        JsonArray symbolsJson = new JsonArray();
+        for (Symbol symbol : symbols) {
+            symbolsJson.add(SymbolJsonSerializer.toJson(symbol));
+        }
+        return symbolsJson;
+    }
+
+    @Benchmark
+    public JsonArray reflectiveSymbolJson() throws JSONGenerationException {
+        JsonArray symbolsJson = new JsonArray();
+        for (Symbol symbol : symbols) {
+            symbolsJson.add(reflectiveJson(symbol));
+        }
+        return symbolsJson;
+    }
+
+    /**
+     * The reflective symbol serialization which was used by the {@link SyntaxTreeMapGenerator} before the accessors
+     * were cached, kept as the baseline of the comparison.
+     */
+    private static JsonElement reflectiveJson(Symbol symbol) throws JSONGenerationException {
+        if (symbol == null) {
+            return JsonNull.INSTANCE;
+        }
+
+        Set<Method> methods = ClassUtils.getAllInterfaces(symbol.getClass()).stream()
+                .flatMap(aClass -> Arrays.stream(aClass.getMethods()))
+                .collect(Collectors.toSet());
+        JsonObject nodeJson = new JsonObject();
+        for (Method m : methods) {
+            String jsonName = m.getName();
+            if (m.getParameterCount() > 0 || SKIPPED_PROPERTIES.contains(jsonName)) {
+                continue;
+            }
+
+            Object prop;
+            try {
+                prop = m.invoke(symbol);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new JSONGenerationException("Error occurred while generating JSON", e);
+            }
+
+            if (prop instanceof Symbol symbolProp) {
+                if (!jsonName.equals("typeDescriptor")) {
+                    nodeJson.add(jsonName, reflectiveJson(symbolProp));
+                }
+            } else if (prop instanceof Optional<?> optionalProp &&
+                    optionalProp.isPresent() && optionalProp.get() instanceof ModuleSymbol moduleSymbol) {
+                nodeJson.add("moduleID", moduleIdJson(moduleSymbol.id()));
+            } else if (prop instanceof ModuleID ballerinaModuleID) {
+                nodeJson.add(jsonName, moduleIdJson(ballerinaModuleID));
+            } else if (prop instanceof TypeDescKind typeDescKind) {
+                nodeJson.addProperty(jsonName, typeDescKind.getName());
+            } else if (prop instanceof SymbolKind symbolKind) {
+                nodeJson.addProperty(jsonName, symbolKind.name());
+            } else if (prop instanceof String s) {
+                nodeJson.addProperty(jsonName, s);
+            } else if (prop instanceof Boolean b) {
+                nodeJson.addProperty(jsonName, b);
+            }
+        }
+        return nodeJson;
+    }
+
+    private static JsonObject moduleIdJson(ModuleID moduleID) {
+        JsonObject moduleIdJson = new JsonObject();
+        moduleIdJson.addProperty("orgName", moduleID.orgName());
+        moduleIdJson.addProperty("packageName", moduleID.packageName());
+        moduleIdJson.addProperty("moduleName", moduleID.moduleName());
+        moduleIdJson.addProperty("version", moduleID.version());
+        return moduleIdJson;
+    }
+}
@@ -0,0 +1,100 @@
+type Item record {|
+    string id;
+    string name;
+    int quantity;
+    decimal price;
+|};
+
+type Order record {|
+    string id;
+    string customer;
+    Item[] items;
+    OrderStatus status;
+|};
+
+enum OrderStatus {
+    PENDING,
+    CONFIRMED,
+    SHIPPED
+}
+
+type InventoryError distinct error<record {|string itemId;|}>;
+
+const decimal DISCOUNT_THRESHOLD = 1000;
+
+final map<Item> inventory = {};
+
+class OrderStore {
+    private final map<Order> orders = {};
+
+    isolated function put(Order 'order) {
+        lock {
+            self.orders['order.id] = 'order.cloneReadOnly();
+        }
+    }
+
+    isolated function get(string id) returns Order? {
+        lock {
+            return self.orders[id].cloneReadOnly();
+        }
+    }
+
+    isolated function byStatus(OrderStatus status) returns Order[] {
+        lock {
+            return from Order 'order in self.orders
+                where 'order.status == status
+                select 'order.cloneReadOnly();
+        }
+    }
+}
+
+final OrderStore store = new;
+
+function reserve(Item item) returns InventoryError? {
+    Item? stock = inventory[item.id];
+    if stock is () || stock.quantity < item.quantity {
+        return error InventoryError("Insufficient stock", itemId = item.id);
+    }
+    inventory[item.id] = {...stock, quantity: stock.quantity - item.quantity};
+}
+
+function total(Order 'order) returns decimal {
+    decimal sum = 0;
+    foreach Item item in 'order.items {
+        sum += item.price * <decimal>item.quantity;
+    }
+    return sum > DISCOUNT_THRESHOLD ? sum * 0.9 : sum;
+}
+
+function placeOrder(Order 'order) returns decimal|error {
+    foreach Item item in 'order.items {
+        check reserve(item);
+    }
+    Order confirmed = {...'order, status: CONFIRMED};
+    store.put(confirmed);
+    return total(confirmed);
+}
+
+function summary(OrderStatus status) returns map<decimal> {
+    map<decimal> totals = {};
+    foreach Order 'order in store.byStatus(status) {
+        totals['order.id] = total('order);
+    }
+    return totals;
+}
+
+public function main() returns error? {
+    inventory["i1"] = {id: "i1", name: "Keyboard", quantity: 10, price: 45.5};
+    inventory["i2"] = {id: "i2", name: "Monitor", quantity: 4, price: 210};
+    Order 'order = {
+        id: "o1",
+        customer: "c1",
+        items: [{id: "i1", name: "Keyboard", quantity: 2, price: 45.5}, {id: "i2", name: "Monitor", quantity: 1, price: 210}],
+        status: PENDING
+    };
+    decimal amount = check placeOrder('order);
+    map<decimal> totals = summary(CONFIRMED);
+    if totals.length() == 0 || amount <= 0d {
+        return error("Order was not confirmed");
+    }
+}
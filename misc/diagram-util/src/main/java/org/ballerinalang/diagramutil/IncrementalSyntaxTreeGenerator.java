@@ -0,0 +1,291 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.diagramutil;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Generates the syntax tree JSON of a document incrementally, by reusing the JSON of the module members which did not
+ * change since the previous generation.
+ *
+ * <p>
+ * The JSON of a module member is cached by the kind, the start column and the source of the member, together with the
+ * visible endpoints the generation of the member depends on and the semantic diagnostics of the member. A member which
+ * only moved to another line is reused by shifting the lines of its positions. All the cached members are discarded
+ * when a declaration of the module other than a function body, or another document of the package, changes, since such
+ * a change can alter the type information of any member.
+ * </p>
+ *
+ * <p>
+ * Each generation is identified by a result id. When the result id of the previous generation is given, the members of
+ * the generated tree which did not change since then are replaced by a reference of the form
+ * {@code {"previousIndex": <index of the member in the previous tree>, "lineDelta": <lines the member moved>}}.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+public class IncrementalSyntaxTreeGenerator {
+
+    private static final String MEMBERS = "members";
+    private static final String POSITION = "position";
+    private static final String START_LINE = "startLine";
+    private static final String END_LINE = "endLine";
+
+    private Project project;
+    private String contextDigest;
+    private List<GeneratedMember> members = List.of();
+    private Map<MemberKey, MemberJson> memberJsons = Map.of();
+    private long resultCount;
+    private String resultId;
+
+    /**
+     * Generates the syntax tree JSON of the given document.
+     *
+     * @param document         document of the syntax tree
+     * @param semanticModel    semantic model of the module of the document
+     * @param previousResultId result id of the syntax tree held by the client, if any
+     * @return generated syntax tree JSON, which is a patch of the previous syntax tree if the given result id is the
+     * result id of the previous generation
+     */
+    public synchronized SyntaxTreeJson generate(Document document, SemanticModel semanticModel,
+                                                String previousResultId) {
+        String digest = contextDigest(document);
+        Project currentProject = document.module().project();
+        if (currentProject != this.project || !digest.equals(this.contextDigest)) {
+            // None of the members are reused, hence a patch carries the JSON of all the members
+            this.members = List.of();
+            this.memberJsons = Map.of();
+        }
+        this.project = currentProject;
+        this.contextDigest = digest;
+
+        JsonElement syntaxTree;
+        List<GeneratedMember> generatedMembers;
+        try {
+            SyntaxTreeMapGenerator mapGenerator = new SyntaxTreeMapGenerator(semanticModel, this.memberJsons);
+            ModulePartNode modulePartNode = document.syntaxTree().rootNode();
+            syntaxTree = mapGenerator.transform(modulePartNode);
+            generatedMembers = mapGenerator.generatedMembers();
+        } catch (NullPointerException e) {
+            syntaxTree = new JsonObject();
+            generatedMembers = List.of();
+        }
+
+        String basedOn = null;
+        if (previousResultId != null && previousResultId.equals(this.resultId) && syntaxTree.isJsonObject()
+                && syntaxTree.getAsJsonObject().has(MEMBERS)) {
+            syntaxTree = patch(syntaxTree.getAsJsonObject(), generatedMembers);
+            basedOn = previousResultId;
+        }
+
+        Map<MemberKey, MemberJson> generatedJsons = new HashMap<>();
+        generatedMembers.forEach(member -> generatedJsons.putIfAbsent(member.key(), member.json()));
+        this.members = generatedMembers;
+        this.memberJsons = generatedJsons;
+        this.resultId = String.valueOf(++this.resultCount);
+        return new SyntaxTreeJson(syntaxTree, this.resultId, basedOn);
+    }
+
+    private JsonObject patch(JsonObject syntaxTree, List<GeneratedMember> generatedMembers) {
+        Map<MemberKey, Integer> previousIndexes = new HashMap<>();
+        for (int i = 0; i < this.members.size(); i++) {
+            previousIndexes.putIfAbsent(this.members.get(i).key(), i);
+        }
+
+        JsonArray memberPatches = new JsonArray();
+        for (GeneratedMember member : generatedMembers) {
+            Integer previousIndex = previousIndexes.get(member.key());
+            if (previousIndex == null) {
+                memberPatches.add(member.json().json());
+                continue;
+            }
+            JsonObject reference = new JsonObject();
+            reference.addProperty("previousIndex", previousIndex);
+            reference.addProperty("lineDelta",
+                    member.json().startLine() - this.members.get(previousIndex).json().startLine());
+            memberPatches.add(reference);
+        }
+
+        JsonObject patch = new JsonObject();
+        for (Entry<String, JsonElement> entry : syntaxTree.entrySet()) {
+            patch.add(entry.getKey(), entry.getKey().equals(MEMBERS) ? memberPatches : entry.getValue());
+        }
+        return patch;
+    }
+
+    /**
+     * Computes the digest of the declarations the type information of the members depends on, which are the imports
+     * and the members of the document without the function bodies, and the other documents of the package.
+     */
+    private static String contextDigest(Document document) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        StringBuilder declarations = new StringBuilder();
+        appendDeclarations(document.syntaxTree().rootNode(), declarations);
+        digest.update(declarations.toString().getBytes(StandardCharsets.UTF_8));
+        for (Module module : document.module().packageInstance().modules()) {
+            for (DocumentId documentId : module.documentIds()) {
+                if (documentId.equals(document.documentId())) {
+                    continue;
+                }
+                digest.update(module.document(documentId).textDocument().toString().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void appendDeclarations(Node node, StringBuilder declarations) {
+        if (node instanceof FunctionBodyNode) {
+            declarations.append(node.kind()).append('{').append('}');
+        } else if (node instanceof Token token) {
+            declarations.append(token.text()).append(' ');
+        } else if (node instanceof NonTerminalNode nonTerminalNode) {
+            for (Node child : nonTerminalNode.children()) {
+                appendDeclarations(child, declarations);
+            }
+        }
+    }
+
+    /**
+     * Shifts the lines of the positions in the given JSON which are within the given lines.
+     */
+    static void shiftLines(JsonElement json, int startLine, int endLine, int lineDelta) {
+        if (json.isJsonArray()) {
+            json.getAsJsonArray().forEach(element -> shiftLines(element, startLine, endLine, lineDelta));
+        } else if (json.isJsonObject()) {
+            for (Entry<String, JsonElement> entry : json.getAsJsonObject().entrySet()) {
+                if (entry.getKey().equals(POSITION) && entry.getValue().isJsonObject()) {
+                    shiftPosition(entry.getValue().getAsJsonObject(), startLine, endLine, lineDelta);
+                } else {
+                    shiftLines(entry.getValue(), startLine, endLine, lineDelta);
+                }
+            }
+        }
+    }
+
+    private static void shiftPosition(JsonObject position, int startLine, int endLine, int lineDelta) {
+        if (!position.has(START_LINE) || !position.has(END_LINE)) {
+            return;
+        }
+        int positionStart = position.get(START_LINE).getAsInt();
+        int positionEnd = position.get(END_LINE).getAsInt();
+        // The positions outside the member, such as of the module level endpoints, do not move with the member
+        if (positionStart < startLine || positionEnd > endLine) {
+            return;
+        }
+        position.addProperty(START_LINE, positionStart + lineDelta);
+        position.addProperty(END_LINE, positionEnd + lineDelta);
+    }
+
+    /**
+     * Syntax tree JSON generated by the {@link IncrementalSyntaxTreeGenerator}.
+     *
+     * @param syntaxTree       syntax tree JSON, or the patch of the syntax tree of the base result
+     * @param resultId         result id of the syntax tree
+     * @param baseResultId     result id of the syntax tree the patch applies to, or null if the syntax tree is complete
+     */
+    public record SyntaxTreeJson(JsonElement syntaxTree, String resultId, String baseResultId) {
+
+        public boolean isPatch() {
+            return baseResultId != null;
+        }
+    }
+
+    /**
+     * Identifies the JSON of a module member.
+     *
+     * @param kind        kind of the member
+     * @param startColumn column the member starts at
+     * @param source      source of the member
+     * @param context     visible endpoints and semantic diagnostics the JSON of the member depends on
+     */
+    record MemberKey(SyntaxKind kind, int startColumn, String source, String context) {
+    }
+
+    /**
+     * JSON of a module member along with the visible endpoints after the member is generated.
+     *
+     * @param json            JSON of the member
+     * @param startLine       line the member starts at
+     * @param endLine         line the member ends at
+     * @param blockEndpoints  block level endpoints added by the member
+     * @param moduleEndpoints module level endpoints after the member
+     * @param classEndpoints  class level endpoints after the member
+     */
+    record MemberJson(JsonElement json, int startLine, int endLine, List<JsonObject> blockEndpoints,
+                      List<JsonObject> moduleEndpoints, List<JsonObject> classEndpoints) {
+
+        /**
+         * Returns a copy of the member JSON moved by the given number of lines.
+         */
+        MemberJson shift(int lineDelta) {
+            JsonElement shiftedJson = json.deepCopy();
+            shiftLines(shiftedJson, startLine, endLine, lineDelta);
+            return new MemberJson(shiftedJson, startLine + lineDelta, endLine + lineDelta,
+                    shift(blockEndpoints, lineDelta), shift(moduleEndpoints, lineDelta),
+                    shift(classEndpoints, lineDelta));
+        }
+
+        private List<JsonObject> shift(List<JsonObject> endpoints, int lineDelta) {
+            return endpoints.stream()
+                    .map(endpoint -> {
+                        JsonObject shiftedEndpoint = endpoint.deepCopy();
+                        shiftLines(shiftedEndpoint, startLine, endLine, lineDelta);
+                        return shiftedEndpoint;
+                    })
+                    .toList();
+        }
+    }
+
+    /**
+     * Module member generated in a syntax tree.
+     *
+     * @param key  key of the member JSON
+     * @param json JSON of the member
+     */
+    record GeneratedMember(MemberKey key, MemberJson json) {
+    }
+}
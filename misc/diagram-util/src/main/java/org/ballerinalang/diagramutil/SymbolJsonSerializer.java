@@ -0,0 +1,183 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.diagramutil;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import io.ballerina.compiler.api.ModuleID;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Serializes the symbols of the syntax tree JSON.
+ *
+ * <p>
+ * The properties of a symbol are the public no-arg methods of the interfaces implemented by the symbol class. The
+ * accessors of the properties are resolved once per symbol class as method handles, and the properties which can never
+ * be written to the JSON, either because they are excluded or because their type is not serialized, are dropped when
+ * the accessors are resolved. Hence, the serialization of a symbol only invokes the accessors of the properties that
+ * end up in the JSON.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+final class SymbolJsonSerializer {
+
+    private static final Set<String> EXCLUDED_PROPERTIES = Set.of("typeDefinitions", "functions", "classes",
+            "constants", "listeners", "services", "allSymbols", "resources", "methods", "langLibMethods", "location",
+            "typeDescriptor");
+    private static final List<Class<?>> SERIALIZED_TYPES = List.of(Symbol.class, Optional.class, ModuleID.class,
+            TypeDescKind.class, SymbolKind.class, String.class, Boolean.class);
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<List<PropertyAccessor>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected List<PropertyAccessor> computeValue(Class<?> symbolClass) {
+            return resolveAccessors(symbolClass);
+        }
+    };
+
+    private SymbolJsonSerializer() {
+    }
+
+    /**
+     * Generates the JSON of the given symbol.
+     *
+     * @param symbol symbol to be serialized
+     * @return JSON of the symbol
+     * @throws JSONGenerationException if a property of the symbol cannot be accessed
+     */
+    static JsonElement toJson(Symbol symbol) throws JSONGenerationException {
+        if (symbol == null) {
+            return JsonNull.INSTANCE;
+        }
+
+        List<PropertyAccessor> accessors;
+        try {
+            accessors = ACCESSORS.get(symbol.getClass());
+        } catch (IllegalStateException e) {
+            throw new JSONGenerationException("Error occurred while generating JSON", e.getCause());
+        }
+
+        JsonObject nodeJson = new JsonObject();
+        for (PropertyAccessor accessor : accessors) {
+            String jsonName = accessor.name();
+            Object prop;
+            try {
+                prop = accessor.handle().invokeExact((Object) symbol);
+            } catch (Throwable e) {
+                throw new JSONGenerationException("Error occurred while generating JSON", e);
+            }
+
+            if (prop instanceof Symbol symbolProp) {
+                nodeJson.add(jsonName, toJson(symbolProp));
+            } else if (prop instanceof Optional<?> optionalProp &&
+                    optionalProp.isPresent() && optionalProp.get() instanceof ModuleSymbol moduleSymbol) {
+                nodeJson.add("moduleID", moduleIdJson(moduleSymbol.id()));
+            } else if (prop instanceof ModuleID ballerinaModuleID) {
+                nodeJson.add(jsonName, moduleIdJson(ballerinaModuleID));
+            } else if (prop instanceof TypeDescKind typeDescKind) {
+                nodeJson.addProperty(jsonName, typeDescKind.getName());
+            } else if (prop instanceof SymbolKind symbolKind) {
+                nodeJson.addProperty(jsonName, symbolKind.name());
+            } else if (prop instanceof String s) {
+                nodeJson.addProperty(jsonName, s);
+            } else if (prop instanceof Boolean b) {
+                nodeJson.addProperty(jsonName, b);
+            }
+        }
+
+        return nodeJson;
+    }
+
+    private static JsonObject moduleIdJson(ModuleID ballerinaModuleID) {
+        JsonObject moduleIdJson = new JsonObject();
+        moduleIdJson.addProperty("orgName", ballerinaModuleID.orgName());
+        moduleIdJson.addProperty("packageName", ballerinaModuleID.packageName());
+        moduleIdJson.addProperty("moduleName", ballerinaModuleID.moduleName());
+        moduleIdJson.addProperty("version", ballerinaModuleID.version());
+        return moduleIdJson;
+    }
+
+    private static List<PropertyAccessor> resolveAccessors(Class<?> symbolClass) {
+        // A property declared by several interfaces is accessed once, since the implementation is the same
+        TreeMap<String, Method> properties = new TreeMap<>();
+        ClassUtils.getAllInterfaces(symbolClass).stream()
+                .flatMap(anInterface -> Arrays.stream(anInterface.getMethods()))
+                .filter(method -> method.getParameterCount() == 0 && !Modifier.isStatic(method.getModifiers()))
+                .filter(SymbolJsonSerializer::isSerialized)
+                .sorted(Comparator.comparing(method -> method.getDeclaringClass().getName()))
+                .forEach(method -> properties.putIfAbsent(method.getName(), method));
+
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        List<PropertyAccessor> accessors = new ArrayList<>(properties.size());
+        for (Method method : properties.values()) {
+            try {
+                accessors.add(new PropertyAccessor(method.getName(), lookup.unreflect(method).asType(ACCESSOR_TYPE)));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return List.copyOf(accessors);
+    }
+
+    private static boolean isSerialized(Method method) {
+        if (EXCLUDED_PROPERTIES.contains(method.getName())) {
+            return false;
+        }
+
+        Class<?> returnType = method.getReturnType();
+        if (returnType == boolean.class) {
+            return true;
+        }
+        // A property of a super type of a serialized type may still return a serialized value at runtime
+        for (Class<?> serializedType : SERIALIZED_TYPES) {
+            if (serializedType.isAssignableFrom(returnType) || returnType.isAssignableFrom(serializedType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Accessor of a symbol property.
+     *
+     * @param name   name of the property
+     * @param handle method handle of the type {@code (Object)Object} which returns the property of a symbol
+     */
+    private record PropertyAccessor(String name, MethodHandle handle) {
+    }
+}
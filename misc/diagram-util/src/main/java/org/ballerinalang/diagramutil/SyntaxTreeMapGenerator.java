@@ -19,15 +19,12 @@ package org.ballerinalang.diagramutil;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 import io.ballerina.compiler.api.ModuleID;
 import io.ballerina.compiler.api.SemanticModel;
-import io.ballerina.compiler.api.symbols.ModuleSymbol;
 import io.ballerina.compiler.api.symbols.ObjectTypeSymbol;
 import io.ballerina.compiler.api.symbols.Qualifier;
 import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.SymbolKind;
 import io.ballerina.compiler.api.symbols.TypeDescKind;
 import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
 import io.ballerina.compiler.api.symbols.TypeSymbol;
@@ -41,6 +38,7 @@ import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ClientResourceAccessActionNode;
 import io.ballerina.compiler.syntax.tree.Minutiae;
 import io.ballerina.compiler.syntax.tree.MinutiaeList;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
 import io.ballerina.compiler.syntax.tree.Node;
@@ -57,18 +55,18 @@ import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
-import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.ballerinalang.diagramutil.IncrementalSyntaxTreeGenerator.GeneratedMember;
+import org.ballerinalang.diagramutil.IncrementalSyntaxTreeGenerator.MemberJson;
+import org.ballerinalang.diagramutil.IncrementalSyntaxTreeGenerator.MemberKey;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -79,20 +77,43 @@ public class SyntaxTreeMapGenerator extends NodeTransformer<JsonElement> {
     private final List<JsonObject> visibleEpsForEachBlock;
     private final List<JsonObject> visibleEpsForModule;
     private final List<JsonObject> visibleEpsForClass;
+    private final Map<MemberKey, MemberJson> previousMembers;
+    private final List<GeneratedMember> generatedMembers;
 
 
     public SyntaxTreeMapGenerator(SemanticModel semanticModel) {
-        this.semanticModel = semanticModel;
-        this.visibleEpsForEachBlock = new ArrayList<>();
-        this.visibleEpsForModule = new ArrayList<>();
-        this.visibleEpsForClass = new ArrayList<>();
+        this(semanticModel, null);
     }
 
 
     public SyntaxTreeMapGenerator() {
+        this(null, null);
+    }
+
+    /**
+     * Creates a generator which reuses the given JSON of the module members generated for a previous version of the
+     * document, when the members did not change.
+     *
+     * @param semanticModel   semantic model of the syntax tree
+     * @param previousMembers JSON of the module members generated for the previous version, or null to generate all
+     *                        the members
+     */
+    SyntaxTreeMapGenerator(SemanticModel semanticModel, Map<MemberKey, MemberJson> previousMembers) {
+        this.semanticModel = semanticModel;
         this.visibleEpsForEachBlock = new ArrayList<>();
         this.visibleEpsForModule = new ArrayList<>();
         this.visibleEpsForClass = new ArrayList<>();
+        this.previousMembers = previousMembers;
+        this.generatedMembers = new ArrayList<>();
+    }
+
+    /**
+     * Returns the module members generated by the generator, in the order of the syntax tree.
+     *
+     * @return generated module members
+     */
+    List<GeneratedMember> generatedMembers() {
+        return generatedMembers;
     }
 
     @Override
@@ -564,86 +585,92 @@ public class SyntaxTreeMapGenerator extends NodeTransformer<JsonElement> {
     }
 
     private JsonElement generateTypeJson(Symbol symbol) throws JSONGenerationException {
-        if (symbol == null) {
-            return JsonNull.INSTANCE;
+        return SymbolJsonSerializer.toJson(symbol);
+    }
+
+    private JsonElement apply(Node node) {
+        if (this.previousMembers != null && node instanceof ModuleMemberDeclarationNode
+                && node.parent() != null && node.parent().kind() == SyntaxKind.MODULE_PART) {
+            return applyModuleMember(node);
         }
+        return applyNode(node);
+    }
 
-        Set<Method> methods = ClassUtils.getAllInterfaces(symbol.getClass()).stream()
-                .flatMap(aClass -> Arrays.stream(aClass.getMethods()))
-                .collect(Collectors.toSet());
-        JsonObject nodeJson = new JsonObject();
-        for (Method m : methods) {
-            String jsonName = m.getName();
-            if (m.getParameterCount() > 0
-                    || jsonName.equals("typeDefinitions")
-                    || jsonName.equals("functions")
-                    || jsonName.equals("classes")
-                    || jsonName.equals("constants")
-                    || jsonName.equals("listeners")
-                    || jsonName.equals("services")
-                    || jsonName.equals("allSymbols")
-                    || jsonName.equals("resources")
-                    || jsonName.equals("methods")
-                    || jsonName.equals("langLibMethods")
-                    || jsonName.equals("location")) {
-                continue;
+    private JsonElement applyModuleMember(Node node) {
+        LineRange lineRange = node.lineRange();
+        MemberKey key = new MemberKey(node.kind(), lineRange.startLine().offset(), node.toSourceCode(),
+                endpointsState() + diagnosticsState(node));
+        MemberJson memberJson = this.previousMembers.get(key);
+        if (memberJson != null) {
+            int lineDelta = lineRange.startLine().line() - memberJson.startLine();
+            if (lineDelta != 0) {
+                memberJson = memberJson.shift(lineDelta);
             }
+            // Restore the visible endpoints as if the member was generated
+            this.visibleEpsForEachBlock.addAll(copyOf(memberJson.blockEndpoints()));
+            this.visibleEpsForModule.clear();
+            this.visibleEpsForModule.addAll(copyOf(memberJson.moduleEndpoints()));
+            this.visibleEpsForClass.clear();
+            this.visibleEpsForClass.addAll(copyOf(memberJson.classEndpoints()));
+        } else {
+            int blockEndpoints = this.visibleEpsForEachBlock.size();
+            JsonElement json = applyNode(node);
+            memberJson = new MemberJson(json, lineRange.startLine().line(), lineRange.endLine().line(),
+                    copyOf(this.visibleEpsForEachBlock.subList(blockEndpoints, this.visibleEpsForEachBlock.size())),
+                    copyOf(this.visibleEpsForModule), copyOf(this.visibleEpsForClass));
+        }
+        this.generatedMembers.add(new GeneratedMember(key, memberJson));
+        return memberJson.json();
+    }
 
-            Object prop = null;
-            try {
-                prop = m.invoke(symbol);
-            } catch (IllegalAccessException | InvocationTargetException e) {
-                throw new JSONGenerationException("Error occurred while generating JSON", e);
+    /**
+     * Returns the state of the visible endpoints the JSON of a module member depends on. The block level endpoints of
+     * the previous members are only looked up by name, since their positions are outside the member.
+     */
+    private String endpointsState() {
+        StringBuilder state = new StringBuilder();
+        this.visibleEpsForModule.forEach(endpoint -> state.append(endpoint).append(';'));
+        state.append('|');
+        this.visibleEpsForClass.forEach(endpoint -> state.append(endpoint).append(';'));
+        state.append('|');
+        for (JsonObject endpoint : this.visibleEpsForEachBlock) {
+            if (endpoint.has("name") && endpoint.get("innerBlock") == null) {
+                state.append(endpoint.get("name").getAsString()).append(';');
             }
+        }
+        return state.toString();
+    }
 
-            if (prop instanceof Symbol symbolProp) {
-                if (!jsonName.equals("typeDescriptor")) {
-                    nodeJson.add(jsonName, generateTypeJson(symbolProp));
-                }
-                // TODO: verify if this is needed and enable (need to add to the nodeJson as well)
-//            } else if (prop instanceof List) {
-//                List listProp = (List) prop;
-//                JsonArray listPropJson = new JsonArray();
-//                for (Object listPropItem : listProp) {
-//                    if (listPropItem instanceof Symbol) {
-//                        listPropJson.add(generateTypeJson((Symbol) listPropItem));
-//                    } else if (listPropItem instanceof String) {
-//                        listPropJson.add((String) listPropItem);
-//                    } else if (listPropItem instanceof Boolean) {
-//                        listPropJson.add((Boolean) listPropItem);
-//                    }
-//                }
-            } else if (prop instanceof Optional<?> optionalProp &&
-                    optionalProp.isPresent() && optionalProp.get() instanceof ModuleSymbol moduleSymbol) {
-                ModuleID ballerinaModuleID = moduleSymbol.id();
-                JsonObject moduleIdJson = new JsonObject();
-                moduleIdJson.addProperty("orgName", ballerinaModuleID.orgName());
-                moduleIdJson.addProperty("packageName", ballerinaModuleID.packageName());
-                moduleIdJson.addProperty("moduleName", ballerinaModuleID.moduleName());
-                moduleIdJson.addProperty("version", ballerinaModuleID.version());
-                nodeJson.add("moduleID", moduleIdJson);
-            } else if (prop instanceof ModuleID ballerinaModuleID) {
-                JsonObject moduleIdJson = new JsonObject();
-                moduleIdJson.addProperty("orgName", ballerinaModuleID.orgName());
-                moduleIdJson.addProperty("packageName", ballerinaModuleID.packageName());
-                moduleIdJson.addProperty("moduleName", ballerinaModuleID.moduleName());
-                moduleIdJson.addProperty("version", ballerinaModuleID.version());
-                nodeJson.add(jsonName, moduleIdJson);
-            } else if (prop instanceof TypeDescKind typeDescKind) {
-                nodeJson.addProperty(jsonName, typeDescKind.getName());
-            } else if (prop instanceof SymbolKind symbolKind) {
-                nodeJson.addProperty(jsonName, symbolKind.name());
-            } else if (prop instanceof String s) {
-                nodeJson.addProperty(jsonName, s);
-            } else if (prop instanceof Boolean b) {
-                nodeJson.addProperty(jsonName, b);
+    /**
+     * Returns the semantic diagnostics of a module member, with the lines relative to the start of the member.
+     */
+    private String diagnosticsState(Node node) {
+        if (this.semanticModel == null) {
+            return "";
+        }
+        StringBuilder state = new StringBuilder("|");
+        try {
+            int startLine = node.lineRange().startLine().line();
+            for (Diagnostic diagnostic : this.semanticModel.diagnostics(node.lineRange())) {
+                LineRange diagnosticRange = diagnostic.location().lineRange();
+                state.append(diagnostic.diagnosticInfo().code()).append(':')
+                        .append(diagnostic.message()).append(':')
+                        .append(diagnosticRange.startLine().line() - startLine).append(':')
+                        .append(diagnosticRange.startLine().offset()).append(':')
+                        .append(diagnosticRange.endLine().line() - startLine).append(':')
+                        .append(diagnosticRange.endLine().offset()).append(';');
             }
+        } catch (RuntimeException e) {
+            // Ignore as semantic API calls cannot break the ST JSON creation.
         }
+        return state.toString();
+    }
 
-        return nodeJson;
+    private static List<JsonObject> copyOf(List<JsonObject> endpoints) {
+        return endpoints.stream().map(JsonObject::deepCopy).collect(Collectors.toList());
     }
 
-    private JsonElement apply(Node node) {
+    private JsonElement applyNode(Node node) {
         JsonObject nodeInfo = new JsonObject();
         nodeInfo.addProperty("kind", prettifyKind(node.kind().toString()));
         if (node instanceof Token token) {
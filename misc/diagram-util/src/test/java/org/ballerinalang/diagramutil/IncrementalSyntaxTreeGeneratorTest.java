@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.diagramutil;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.directory.SingleFileProject;
+import org.ballerinalang.diagramutil.IncrementalSyntaxTreeGenerator.SyntaxTreeJson;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Tests the incremental generation of the syntax tree JSON.
+ *
+ * @since 1.7.0
+ */
+public class IncrementalSyntaxTreeGeneratorTest {
+
+    private final Path sourceFile = TestUtil.RES_DIR.resolve("incremental").resolve("main.bal");
+
+    @Test(description = "Reuse the unchanged members and regenerate the edited member")
+    public void testIncrementalSyntaxTree() throws IOException {
+        SingleFileProject project = SingleFileProject.load(TestUtil.createTempFile(sourceFile));
+        Module module = project.currentPackage().getDefaultModule();
+        Document document = module.document(module.documentIds().iterator().next());
+
+        IncrementalSyntaxTreeGenerator generator = new IncrementalSyntaxTreeGenerator();
+        SyntaxTreeJson initialTree = generator.generate(document, semanticModel(document), null);
+        Assert.assertFalse(initialTree.isPatch());
+        JsonArray initialMembers = members(initialTree);
+        Assert.assertEquals(initialMembers.size(), 4);
+        Assert.assertEquals(initialTree.syntaxTree(), DiagramUtil.getSyntaxTreeJSON(document, semanticModel(document)));
+
+        // Add a statement to the body of the second member, which moves the members after it by one line
+        String source = document.syntaxTree().toSourceCode();
+        String editedSource = source.replace("    int total = 0;\n", "    int total = 0;\n    int visited = 0;\n");
+        Document editedDocument = document.modify().withContent(editedSource).apply();
+        SemanticModel editedSemanticModel = semanticModel(editedDocument);
+        SyntaxTreeJson patch = generator.generate(editedDocument, editedSemanticModel, initialTree.resultId());
+        Assert.assertTrue(patch.isPatch());
+        Assert.assertEquals(patch.baseResultId(), initialTree.resultId());
+
+        JsonArray memberPatches = members(patch);
+        Assert.assertEquals(memberPatches.size(), 4);
+        assertReference(memberPatches.get(0), 0, 0);
+        Assert.assertFalse(memberPatches.get(1).getAsJsonObject().has("previousIndex"));
+        assertReference(memberPatches.get(2), 2, 1);
+        assertReference(memberPatches.get(3), 3, 1);
+
+        // The reused members are the same as the members of a complete generation
+        JsonArray expectedMembers = DiagramUtil.getSyntaxTreeJSON(editedDocument, editedSemanticModel)
+                .getAsJsonObject().getAsJsonArray("members");
+        SyntaxTreeJson completeTree = generator.generate(editedDocument, editedSemanticModel, null);
+        Assert.assertFalse(completeTree.isPatch());
+        Assert.assertEquals(members(completeTree), expectedMembers);
+    }
+
+    private static SemanticModel semanticModel(Document document) {
+        return document.module().packageInstance().getCompilation().getSemanticModel(document.module().moduleId());
+    }
+
+    private static JsonArray members(SyntaxTreeJson syntaxTreeJson) {
+        return syntaxTreeJson.syntaxTree().getAsJsonObject().getAsJsonArray("members");
+    }
+
+    private static void assertReference(JsonElement member, int previousIndex, int lineDelta) {
+        JsonObject reference = member.getAsJsonObject();
+        Assert.assertEquals(reference.get("previousIndex").getAsInt(), previousIndex);
+        Assert.assertEquals(reference.get("lineDelta").getAsInt(), lineDelta);
+    }
+}
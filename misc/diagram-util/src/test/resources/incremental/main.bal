@@ -0,0 +1,22 @@
+type Item record {|
+    string id;
+    int quantity;
+|};
+
+function count(Item[] items) returns int {
+    int total = 0;
+    foreach Item item in items {
+        total += item.quantity;
+    }
+    return total;
+}
+
+function describe(Item item) returns string {
+    return item.id + ": " + item.quantity.toString();
+}
+
+public function main() {
+    Item[] items = [{id: "a", quantity: 2}, {id: "b", quantity: 3}];
+    int total = count(items);
+    string description = describe(items[0]);
+}
@@ -16,9 +16,13 @@
 package io.ballerina.shell.service;
 
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
+import org.eclipse.lsp4j.services.LanguageServer;
 
 import java.util.List;
 import java.util.Map;
@@ -32,6 +36,15 @@ import java.util.concurrent.CompletableFuture;
 @JavaSPIService("org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService")
 @JsonSegment("balShell")
 public class BalShellService implements ExtendedLanguageServerService {
+
+    private ServerExecutors executors;
+
+    @Override
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
+        this.executors = serverContext.executors();
+    }
+
     @Override
     public Class<?> getRemoteInterface() {
         return getClass();
@@ -45,7 +58,8 @@ public class BalShellService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<BalShellGetResultResponse> getResult(BalShellGetResultRequest request) {
-        return CompletableFuture.supplyAsync(() -> ShellWrapper.getInstance().getResult(request.getSource()));
+        return CompletableFuture.supplyAsync(() -> ShellWrapper.getInstance().getResult(request.getSource()),
+                executors.interactive());
     }
 
     /**
@@ -56,7 +70,8 @@ public class BalShellService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<ShellFileSourceResponse> getShellFileSource() {
-        return CompletableFuture.supplyAsync(() -> ShellWrapper.getInstance().getShellFileSource());
+        return CompletableFuture.supplyAsync(() -> ShellWrapper.getInstance().getShellFileSource(),
+                executors.interactive());
     }
 
     /**
@@ -65,7 +80,8 @@ public class BalShellService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<List<Map<String, String>>> getVariableValues() {
-        return CompletableFuture.supplyAsync(() -> ShellWrapper.getInstance().getAvailableVariables());
+        return CompletableFuture.supplyAsync(() -> ShellWrapper.getInstance().getAvailableVariables(),
+                executors.interactive());
     }
 
     /**
@@ -77,7 +93,7 @@ public class BalShellService implements ExtendedLanguageServerService {
     @JsonRequest
     public CompletableFuture<Boolean> deleteDeclarations(DeleteRequest request) {
         return CompletableFuture.supplyAsync(() ->
-                ShellWrapper.getInstance().deleteDeclarations(request.getVarToDelete()));
+                ShellWrapper.getInstance().deleteDeclarations(request.getVarToDelete()), executors.interactive());
     }
 
     /**
@@ -87,7 +103,7 @@ public class BalShellService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<Boolean> restartNotebook() {
-        return CompletableFuture.supplyAsync(() -> ShellWrapper.getInstance().restart());
+        return CompletableFuture.supplyAsync(() -> ShellWrapper.getInstance().restart(), executors.interactive());
     }
 
     @Override
@@ -28,6 +28,8 @@ import io.ballerina.jsonmapper.diagnostic.DiagnosticMessage;
 import io.ballerina.jsonmapper.diagnostic.DiagnosticUtils;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.formatter.core.FormatterException;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
@@ -48,11 +50,14 @@ import java.util.concurrent.CompletableFuture;
 @JsonSegment("jsonToRecord")
 public class JsonToRecordConverterService implements ExtendedLanguageServerService {
     private WorkspaceManager workspaceManager;
+    private ServerExecutors executors;
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
         ExtendedLanguageServerService.super.init(langServer, workspaceManager);
         this.workspaceManager = workspaceManager;
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -94,7 +99,7 @@ public class JsonToRecordConverterService implements ExtendedLanguageServerServi
                 return DiagnosticUtils.getDiagnosticResponse(List.of(message), response);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     @Override
@@ -35,6 +35,7 @@ import org.ballerinalang.diagramutil.DiagramUtil;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
@@ -65,11 +66,13 @@ enum Kind {
 @JsonSegment("partialParser")
 public class PartialParserService implements ExtendedLanguageServerService {
     private LanguageServerContext serverContext;
+    private ServerExecutors executors;
 
     @Override
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
                      LanguageServerContext serverContext) {
         this.serverContext = serverContext;
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -92,7 +95,7 @@ public class PartialParserService implements ExtendedLanguageServerService {
             STResponse response = new STResponse();
             response.setSyntaxTree(syntaxTreeJSON);
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -107,7 +110,7 @@ public class PartialParserService implements ExtendedLanguageServerService {
             STResponse response = new STResponse();
             response.setSyntaxTree(syntaxTreeJSON);
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -123,7 +126,7 @@ public class PartialParserService implements ExtendedLanguageServerService {
             STResponse response = new STResponse();
             response.setSyntaxTree(syntaxTreeJSON);
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -138,7 +141,7 @@ public class PartialParserService implements ExtendedLanguageServerService {
             STResponse response = new STResponse();
             response.setSyntaxTree(syntaxTreeJSON);
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -158,7 +161,7 @@ public class PartialParserService implements ExtendedLanguageServerService {
             STResponse response = new STResponse();
             response.setSyntaxTree(syntaxTreeJSON);
             return response;
-        });
+        }, executors.interactive());
     }
 
     @Override
@@ -25,6 +25,8 @@ import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
 import io.ballerina.tools.text.LineRange;
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.Position;
@@ -54,6 +56,7 @@ import static io.ballerina.PerformanceAnalyzerNodeVisitor.ENDPOINTS_KEY;
 public class PerformanceAnalyzerService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private ServerExecutors executors;
 
     @Override
     public Class<?> getRemoteInterface() {
@@ -62,9 +65,11 @@ public class PerformanceAnalyzerService implements ExtendedLanguageServerService
     }
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
 
         this.workspaceManager = workspaceManager;
+        this.executors = serverContext.executors();
     }
 
     @Deprecated
@@ -82,7 +87,7 @@ public class PerformanceAnalyzerService implements ExtendedLanguageServerService
             response.add(ACTION_INVOCATION_KEY, data.getActionInvocations());
             response.add(ENDPOINTS_KEY, data.getEndpoints());
             return response;
-        });
+        }, executors.interactive());
     }
 
     @JsonNotification
@@ -128,6 +133,6 @@ public class PerformanceAnalyzerService implements ExtendedLanguageServerService
                 resourcesWithEndpoints.add(response);
             }
             return resourcesWithEndpoints;
-        });
+        }, executors.interactive());
     }
 }
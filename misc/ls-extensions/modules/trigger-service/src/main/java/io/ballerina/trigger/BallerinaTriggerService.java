@@ -33,6 +33,7 @@ import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.central.client.CentralAPIClient;
 import org.ballerinalang.central.client.exceptions.CentralClientException;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
@@ -71,6 +72,7 @@ import static io.ballerina.projects.util.ProjectUtils.initializeProxy;
 public class BallerinaTriggerService implements ExtendedLanguageServerService {
     private LanguageClient languageClient;
     private final Map<String, InBuiltTrigger> inBuiltTriggers;
+    private ServerExecutors executors;
     private static final Type MAP_TYPE = MapTypeToken.TYPE;
 
 
@@ -114,6 +116,7 @@ public class BallerinaTriggerService implements ExtendedLanguageServerService {
     public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
                      LanguageServerContext serverContext) {
         this.languageClient = serverContext.get(ExtendedLanguageClient.class);
+        this.executors = serverContext.executors();
     }
 
     @JsonRequest
@@ -129,7 +132,7 @@ public class BallerinaTriggerService implements ExtendedLanguageServerService {
                 this.languageClient.logMessage(new MessageParams(MessageType.Error, msg));
                 return triggersList;
             }
-        });
+        }, executors.io());
     }
 
     @JsonRequest
@@ -139,7 +142,7 @@ public class BallerinaTriggerService implements ExtendedLanguageServerService {
             List<JsonObject> inBuiltTriggers = getInBuiltTriggers(request);
             triggersList.add("central", new Gson().toJsonTree(inBuiltTriggers));
             return triggersList;
-        });
+        }, executors.interactive());
     }
 
     @JsonRequest
@@ -147,7 +150,7 @@ public class BallerinaTriggerService implements ExtendedLanguageServerService {
         return CompletableFuture.supplyAsync(() -> {
             Optional<JsonObject> trigger = getTriggerFromCentral(request);
             return trigger.orElseGet(JsonObject::new);
-        });
+        }, executors.io());
     }
 
     @JsonRequest
@@ -163,7 +166,7 @@ public class BallerinaTriggerService implements ExtendedLanguageServerService {
                 }
             }
             return new JsonObject();
-        });
+        }, executors.interactive());
     }
 
     private static boolean expectsTriggerByName(BallerinaTriggerRequest request) {
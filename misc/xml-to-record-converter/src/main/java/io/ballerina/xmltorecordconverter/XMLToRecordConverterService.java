@@ -19,9 +19,13 @@
 package io.ballerina.xmltorecordconverter;
 
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
+import org.eclipse.lsp4j.services.LanguageServer;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -34,6 +38,14 @@ import java.util.concurrent.CompletableFuture;
 @JsonSegment("xmlToRecord")
 public class XMLToRecordConverterService implements ExtendedLanguageServerService {
 
+    private ServerExecutors executors;
+
+    @Override
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
+        this.executors = serverContext.executors();
+    }
+
     @Override
     public Class<?> getRemoteInterface() {
         return getClass();
@@ -53,7 +65,7 @@ public class XMLToRecordConverterService implements ExtendedLanguageServerServic
 
             return XMLToRecordConverter.convert(xmlValue, isRecordTypeDesc, isClosed, forceFormatRecordFields,
                     textFieldName, withNameSpace, withoutAttributes, withoutAttributeAnnot);
-        });
+        }, executors.interactive());
     }
 
     @Override
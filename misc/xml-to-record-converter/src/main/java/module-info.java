@@ -7,6 +7,7 @@ module io.ballerina.xmltorecordconverter {
     requires io.ballerina.tools.api;
     requires java.xml;
     requires org.apache.commons.lang3;
+    requires org.eclipse.lsp4j;
     requires org.eclipse.lsp4j.jsonrpc;
 
     exports io.ballerina.xmltorecordconverter;
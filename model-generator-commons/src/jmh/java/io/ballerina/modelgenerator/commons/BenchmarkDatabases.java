@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Generates the databases used by the benchmarks. The databases have the same shape as the function tables of the
+ * central index.
+ *
+ * @since 1.7.0
+ */
+final class BenchmarkDatabases {
+
+    static final String QUERY = "SELECT f.function_id, f.name, f.description, p.org, p.name AS package_name " +
+            "FROM Function f JOIN Package p ON f.package_id = p.package_id " +
+            "WHERE p.org = ? AND p.name = ? AND f.name = ?";
+
+    private static final int PACKAGE_COUNT = 200;
+    private static final int FUNCTIONS_PER_PACKAGE = 50;
+
+    private BenchmarkDatabases() {
+    }
+
+    /**
+     * Creates a database at the given path.
+     *
+     * @param dbFile path of the database file
+     * @throws SQLException if the database cannot be populated
+     */
+    static void create(Path dbFile) throws SQLException {
+        SqliteConnectionPool writablePool = SqliteConnectionPool.writable(dbFile, 1);
+        try (PooledConnection conn = writablePool.acquire()) {
+            populate(conn.connection());
+            try (Statement stmt = conn.connection().createStatement()) {
+                // Bundled databases are a single file
+                stmt.execute("PRAGMA journal_mode=DELETE");
+            }
+        } finally {
+            writablePool.close();
+        }
+    }
+
+    /**
+     * Packs the given database into a jar, similar to the databases bundled in the language server jar.
+     *
+     * @param dbFile    path of the database file
+     * @param jarFile   path of the jar file
+     * @param entryName name of the database in the jar
+     * @return URL of the database in the jar
+     * @throws IOException if the jar cannot be written
+     */
+    static URL createJar(Path dbFile, Path jarFile, String entryName) throws IOException {
+        try (JarOutputStream jarOutputStream = new JarOutputStream(Files.newOutputStream(jarFile))) {
+            jarOutputStream.putNextEntry(new JarEntry(entryName));
+            Files.copy(dbFile, jarOutputStream);
+            jarOutputStream.closeEntry();
+        }
+        return new URL("jar:" + jarFile.toUri() + "!/" + entryName);
+    }
+
+    /**
+     * Runs the benchmark query with random parameters.
+     *
+     * @param stmt prepared statement of {@link #QUERY}
+     * @return number of rows returned
+     * @throws SQLException if the query fails
+     */
+    static int executeQuery(PreparedStatement stmt) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int packageId = random.nextInt(PACKAGE_COUNT);
+        stmt.setString(1, "org" + (packageId % 10));
+        stmt.setString(2, "package" + packageId);
+        stmt.setString(3, "function" + random.nextInt(FUNCTIONS_PER_PACKAGE));
+        int rows = 0;
+        try (ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                rs.getString("description");
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static void populate(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE Package (package_id INTEGER PRIMARY KEY, org TEXT, name TEXT)");
+            stmt.execute("CREATE TABLE Function (function_id INTEGER PRIMARY KEY, package_id INTEGER, name TEXT, " +
+                    "description TEXT, FOREIGN KEY (package_id) REFERENCES Package(package_id))");
+            stmt.execute("CREATE INDEX idx_package_org_name ON Package(org, name)");
+            stmt.execute("CREATE INDEX idx_function_package ON Function(package_id, name)");
+        }
+
+        conn.setAutoCommit(false);
+        try (PreparedStatement packageStmt = conn.prepareStatement(
+                "INSERT INTO Package (package_id, org, name) VALUES (?, ?, ?)");
+             PreparedStatement functionStmt = conn.prepareStatement(
+                     "INSERT INTO Function (package_id, name, description) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < PACKAGE_COUNT; i++) {
+                packageStmt.setInt(1, i);
+                packageStmt.setString(2, "org" + (i % 10));
+                packageStmt.setString(3, "package" + i);
+                packageStmt.addBatch();
+                for (int j = 0; j < FUNCTIONS_PER_PACKAGE; j++) {
+                    functionStmt.setInt(1, i);
+                    functionStmt.setString(2, "function" + j);
+                    functionStmt.setString(3, "Description of the function " + j + " in the package " + i);
+                    functionStmt.addBatch();
+                }
+            }
+            packageStmt.executeBatch();
+            functionStmt.executeBatch();
+            conn.commit();
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sqlite.SQLiteConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from the language server start to the result of the first search query, when the bundled index
+ * database is copied to a temporary directory, extracted to an empty index cache (cold start) and reused from the
+ * index cache (warm start).
+ *
+ * @since 1.7.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class IndexDatabaseCacheBenchmark {
+
+    private static final String INDEX_FILE_NAME = "central-index.sqlite";
+
+    private Path workDir;
+    private URL resource;
+    private Path coldCacheDir;
+    private Path warmCacheDir;
+    private Path tempCopyDir;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, SQLException {
+        workDir = Files.createTempDirectory("index-cache-benchmark");
+        Path dbFile = workDir.resolve(INDEX_FILE_NAME);
+        BenchmarkDatabases.create(dbFile);
+        resource = BenchmarkDatabases.createJar(dbFile, workDir.resolve("index.jar"), INDEX_FILE_NAME);
+
+        warmCacheDir = workDir.resolve("warm-cache");
+        new IndexDatabaseCache(warmCacheDir).extract(INDEX_FILE_NAME, resource);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        coldCacheDir = workDir.resolve("cold-cache");
+        tempCopyDir = workDir.resolve("temp-copy");
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() throws IOException {
+        BenchmarkDatabases.deleteRecursively(coldCacheDir);
+        BenchmarkDatabases.deleteRecursively(tempCopyDir);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkDatabases.deleteRecursively(workDir);
+    }
+
+    @Benchmark
+    public int tempCopy() throws IOException, SQLException {
+        Files.createDirectories(tempCopyDir);
+        Path dbFile = tempCopyDir.resolve(INDEX_FILE_NAME);
+        try (InputStream inputStream = resource.openStream()) {
+            Files.copy(inputStream, dbFile);
+        }
+        return firstQuery(dbFile);
+    }
+
+    @Benchmark
+    public int coldCache() throws SQLException {
+        return firstQuery(new IndexDatabaseCache(coldCacheDir).extract(INDEX_FILE_NAME, resource));
+    }
+
+    @Benchmark
+    public int warmCache() throws SQLException {
+        return firstQuery(new IndexDatabaseCache(warmCacheDir).extract(INDEX_FILE_NAME, resource));
+    }
+
+    private static int firstQuery(Path dbFile) throws SQLException {
+        // Opens a dedicated connection as the shared pools keep the connections open across invocations
+        SQLiteConfig config = new SQLiteConfig();
+        config.setReadOnly(true);
+        config.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, String.valueOf(256L * 1024 * 1024));
+        try (Connection conn = config.createConnection("jdbc:sqlite:" + dbFile);
+             PreparedStatement stmt = conn.prepareStatement(BenchmarkDatabases.QUERY)) {
+            return BenchmarkDatabases.executeQuery(stmt);
+        }
+    }
+}
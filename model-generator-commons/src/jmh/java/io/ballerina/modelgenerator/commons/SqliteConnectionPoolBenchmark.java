@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of opening a new SQLite connection per query against the pooled connections.
+ *
+ * <p>
+ * The benchmark generates a database with the same shape as the function tables of the central index, and runs the
+ * lookup executed for each node of the node palette.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class SqliteConnectionPoolBenchmark {
+
+    private Path tempDir;
+    private String url;
+    private SqliteConnectionPool connectionPool;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, SQLException {
+        tempDir = Files.createTempDirectory("sqlite-pool-benchmark");
+        Path dbFile = tempDir.resolve("central-index.sqlite");
+        url = "jdbc:sqlite:" + dbFile;
+
+        BenchmarkDatabases.create(dbFile);
+        connectionPool = SqliteConnectionPool.readOnly(dbFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        connectionPool.close();
+        BenchmarkDatabases.deleteRecursively(tempDir);
+    }
+
+    @Benchmark
+    public void connectionPerQuery(Blackhole blackhole) throws SQLException {
+        try (Connection conn = DriverManager.getConnection(url);
+             PreparedStatement stmt = conn.prepareStatement(BenchmarkDatabases.QUERY)) {
+            blackhole.consume(BenchmarkDatabases.executeQuery(stmt));
+        }
+    }
+
+    @Benchmark
+    public void pooledConnection(Blackhole blackhole) throws SQLException {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            blackhole.consume(BenchmarkDatabases.executeQuery(conn.prepareStatement(BenchmarkDatabases.QUERY)));
+        }
+    }
+}
@@ -18,12 +18,8 @@
 
 package io.ballerina.modelgenerator.commons;
 
-import java.io.IOException;
 import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -43,7 +39,7 @@ public class DatabaseManager {
 
     private static final String INDEX_FILE_NAME = "central-index.sqlite";
     private static final Logger LOGGER = Logger.getLogger(DatabaseManager.class.getName());
-    private final String dbPath;
+    private final SqliteConnectionPool connectionPool;
 
     private static class Holder {
 
@@ -55,31 +51,12 @@ public class DatabaseManager {
     }
 
     private DatabaseManager() {
-        try {
-            Class.forName("org.sqlite.JDBC");
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException("Failed to load SQLite JDBC driver", e);
-        }
-
-        Path tempDir;
-        try {
-            tempDir = Files.createTempDirectory("central-index");
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to create a temporary directory", e);
-        }
-
         URL dbUrl = getClass().getClassLoader().getResource(INDEX_FILE_NAME);
         if (dbUrl == null) {
             throw new RuntimeException("Database resource not found: " + INDEX_FILE_NAME);
         }
-        Path tempFile = tempDir.resolve(INDEX_FILE_NAME);
-        try {
-            Files.copy(dbUrl.openStream(), tempFile);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
-        }
-
-        dbPath = "jdbc:sqlite:" + tempFile.toString();
+        Path dbFile = IndexDatabaseCache.getInstance().extract(INDEX_FILE_NAME, dbUrl);
+        connectionPool = SqliteConnectionPool.readOnly(dbFile);
     }
 
     @Deprecated
@@ -104,31 +81,32 @@ public class DatabaseManager {
                 "LIMIT ? " +
                 "OFFSET ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, kind.name());
             stmt.setString(2, queryMap.get("limit"));
             stmt.setString(3, queryMap.get("offset"));
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("module_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("module_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -155,30 +133,31 @@ public class DatabaseManager {
                 "JOIN Package p ON f.package_id = p.package_id " +
                 "WHERE f.kind = ? AND p.org = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, functionKind.name());
             stmt.setString(2, orgName);
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("module_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("module_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -212,33 +191,34 @@ public class DatabaseManager {
                 "OFFSET ?;";
         String wildcardKeyword = "%" + queryMap.get("q") + "%";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, kind.name());
             stmt.setString(2, wildcardKeyword);
             stmt.setString(3, wildcardKeyword);
             stmt.setString(4, queryMap.get("limit"));
             stmt.setString(5, queryMap.get("offset"));
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("module_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("module_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -272,8 +252,8 @@ public class DatabaseManager {
             sql.append("AND f.resource_path = ?");
         }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql.toString());
             stmt.setString(1, org);
             stmt.setString(2, packageName);
             stmt.setString(3, moduleName);
@@ -282,24 +262,25 @@ public class DatabaseManager {
             if (resourcePath != null) {
                 stmt.setString(6, resourcePath);
             }
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                return Optional.of(new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("module_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements")));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("module_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements")));
+                }
+                return Optional.empty();
             }
-            return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return Optional.empty();
@@ -325,27 +306,28 @@ public class DatabaseManager {
                 "JOIN Package p ON f.package_id = p.package_id " +
                 "WHERE f.function_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, functionId);
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                return Optional.of(new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("module_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements")));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("module_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements")));
+                }
+                return Optional.empty();
             }
-            return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return Optional.empty();
@@ -367,31 +349,32 @@ public class DatabaseManager {
                 "p.import_statements " +
                 "FROM Parameter p " +
                 "WHERE p.function_id = ?;";
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, functionId);
-            ResultSet rs = stmt.executeQuery();
-            List<ParameterData> parameterResults = new ArrayList<>();
-            while (rs.next()) {
-                ParameterData
-                        parameterData = new ParameterData(
-                        rs.getInt("parameter_id"),
-                        rs.getString("name"),
-                        rs.getString("type"),
-                        ParameterData.Kind.valueOf(rs.getString("kind")),
-                        rs.getString("placeholder"),
-                        rs.getString("default_value"),
-                        rs.getString("description"),
-                        rs.getString("label"),
-                        rs.getBoolean("optional"),
-                        false,
-                        rs.getString("import_statements"),
-                        new ArrayList<>(),
-                        null
-                );
-                parameterResults.add(parameterData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<ParameterData> parameterResults = new ArrayList<>();
+                while (rs.next()) {
+                    ParameterData
+                            parameterData = new ParameterData(
+                            rs.getInt("parameter_id"),
+                            rs.getString("name"),
+                            rs.getString("type"),
+                            ParameterData.Kind.valueOf(rs.getString("kind")),
+                            rs.getString("placeholder"),
+                            rs.getString("default_value"),
+                            rs.getString("description"),
+                            rs.getString("label"),
+                            rs.getBoolean("optional"),
+                            false,
+                            rs.getString("import_statements"),
+                            new ArrayList<>(),
+                            null
+                    );
+                    parameterResults.add(parameterData);
+                }
+                return parameterResults;
             }
-            return parameterResults;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -418,64 +401,65 @@ public class DatabaseManager {
                 "LEFT JOIN ParameterMemberType pmt ON p.parameter_id = pmt.parameter_id " +
                 "WHERE p.function_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, functionId);
-            ResultSet rs = stmt.executeQuery();
-
-            // Use a builder to accumulate parameter data and member types
-            LinkedHashMap<String, ParameterDataBuilder> builders = new LinkedHashMap<>();
-
-            while (rs.next()) {
-                String paramName = rs.getString("name");
-                int parameterId = rs.getInt("parameter_id");
-                String type = rs.getString("type");
-                ParameterData.Kind kind = ParameterData.Kind.valueOf(rs.getString("kind"));
-                String placeholder = rs.getString("placeholder");
-                String defaultValue = rs.getString("default_value");
-                String description = rs.getString("description");
-                String label = rs.getString("label");
-                boolean optional = rs.getBoolean("optional");
-                String importStatements = rs.getString("import_statements");
-
-                // Member type data
-                String memberType = rs.getString("member_type");
-                String memberKind = rs.getString("member_kind");
-                String memberPackageIdentifier = rs.getString("member_package_identifier");
-                String memberPackageName = rs.getString("member_package_name");
-
-                // Get or create the builder for this parameter
-                ParameterDataBuilder builder = builders.get(paramName);
-                if (builder == null) {
-                    builder = new ParameterDataBuilder();
-                    builder.parameterId = parameterId;
-                    builder.name = paramName;
-                    builder.type = type;
-                    builder.kind = kind;
-                    builder.placeholder = placeholder;
-                    builder.defaultValue = defaultValue;
-                    builder.description = description;
-                    builder.label = label;
-                    builder.optional = optional;
-                    builder.importStatements = importStatements;
-                    builders.put(paramName, builder);
+            try (ResultSet rs = stmt.executeQuery()) {
+
+                // Use a builder to accumulate parameter data and member types
+                LinkedHashMap<String, ParameterDataBuilder> builders = new LinkedHashMap<>();
+
+                while (rs.next()) {
+                    String paramName = rs.getString("name");
+                    int parameterId = rs.getInt("parameter_id");
+                    String type = rs.getString("type");
+                    ParameterData.Kind kind = ParameterData.Kind.valueOf(rs.getString("kind"));
+                    String placeholder = rs.getString("placeholder");
+                    String defaultValue = rs.getString("default_value");
+                    String description = rs.getString("description");
+                    String label = rs.getString("label");
+                    boolean optional = rs.getBoolean("optional");
+                    String importStatements = rs.getString("import_statements");
+
+                    // Member type data
+                    String memberType = rs.getString("member_type");
+                    String memberKind = rs.getString("member_kind");
+                    String memberPackageIdentifier = rs.getString("member_package_identifier");
+                    String memberPackageName = rs.getString("member_package_name");
+
+                    // Get or create the builder for this parameter
+                    ParameterDataBuilder builder = builders.get(paramName);
+                    if (builder == null) {
+                        builder = new ParameterDataBuilder();
+                        builder.parameterId = parameterId;
+                        builder.name = paramName;
+                        builder.type = type;
+                        builder.kind = kind;
+                        builder.placeholder = placeholder;
+                        builder.defaultValue = defaultValue;
+                        builder.description = description;
+                        builder.label = label;
+                        builder.optional = optional;
+                        builder.importStatements = importStatements;
+                        builders.put(paramName, builder);
+                    }
+
+                    // Add member type if present
+                    if (memberType != null) {
+                        ParameterMemberTypeData memberData = new ParameterMemberTypeData(
+                                memberType, memberKind, memberPackageIdentifier, memberPackageName);
+                        builder.typeMembers.add(memberData);
+                    }
                 }
 
-                // Add member type if present
-                if (memberType != null) {
-                    ParameterMemberTypeData memberData = new ParameterMemberTypeData(
-                            memberType, memberKind, memberPackageIdentifier, memberPackageName);
-                    builder.typeMembers.add(memberData);
+                // Convert builders to ParameterData
+                LinkedHashMap<String, ParameterData> parameterResults = new LinkedHashMap<>();
+                for (ParameterDataBuilder builder : builders.values()) {
+                    parameterResults.put(builder.name, builder.build());
                 }
-            }
+                return parameterResults;
 
-            // Convert builders to ParameterData
-            LinkedHashMap<String, ParameterData> parameterResults = new LinkedHashMap<>();
-            for (ParameterDataBuilder builder : builders.values()) {
-                parameterResults.put(builder.name, builder.build());
             }
-            return parameterResults;
-
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return new LinkedHashMap<>();
@@ -531,29 +515,30 @@ public class DatabaseManager {
                 "JOIN FunctionConnector fc ON f.function_id = fc.function_id " +
                 "WHERE fc.connector_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, connectorId);
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("description"),
-                        rs.getString("return_type"),
-                        null, // packageName is not selected in this query
-                        null, // moduleName is not selected in this query
-                        null, // org is not selected in this query
-                        null, // version is not selected in this query
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("description"),
+                            rs.getString("return_type"),
+                            null, // packageName is not selected in this query
+                            null, // moduleName is not selected in this query
+                            null, // org is not selected in this query
+                            null, // version is not selected in this query
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -582,31 +567,32 @@ public class DatabaseManager {
                 "AND p.package_name = ? " +
                 "AND c.kind = 'CONNECTOR';";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, connectorName);
             stmt.setString(2, org);
             stmt.setString(3, moduleName);
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        moduleName,
-                        org,
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            moduleName,
+                            org,
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -652,8 +638,8 @@ public class DatabaseManager {
 
         sql.append("LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql.toString());
             int paramIndex = 1;
 
             // Set package name parameters
@@ -675,26 +661,27 @@ public class DatabaseManager {
             stmt.setInt(paramIndex++, queryMap.containsKey("limit") ? Integer.parseInt(queryMap.get("limit")) : 10);
             stmt.setInt(paramIndex, queryMap.containsKey("offset") ? Integer.parseInt(queryMap.get("offset")) : 0);
 
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("module_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("module_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
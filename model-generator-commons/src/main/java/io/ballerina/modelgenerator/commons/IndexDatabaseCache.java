@@ -0,0 +1,222 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.jar.JarEntry;
+import java.util.logging.Logger;
+
+/**
+ * Extracts the index databases bundled in the language server jar to a persistent cache under the Ballerina user home.
+ *
+ * <p>
+ * The extracted files are keyed by the hash of their content, hence a later launch of the same language server reuses
+ * the extracted file without copying it again, while an upgraded language server extracts its own copy. A file is
+ * extracted to a temporary file and atomically moved to its final location, so concurrent launches never observe a
+ * partially written database. An extracted file whose size does not match the bundled database, such as one truncated
+ * by a full disk, is extracted again. Extracted files that have not been used for {@link #STALE_ENTRY_AGE} are
+ * removed.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+public class IndexDatabaseCache {
+
+    private static final Logger LOGGER = Logger.getLogger(IndexDatabaseCache.class.getName());
+    private static final String CACHE_DIR_NAME = "ls-index-cache";
+    private static final Duration STALE_ENTRY_AGE = Duration.ofDays(30);
+
+    private final Path cacheDir;
+
+    private static class Holder {
+
+        private static final IndexDatabaseCache INSTANCE = new IndexDatabaseCache(
+                RepoUtils.createAndGetHomeReposPath().resolve(CACHE_DIR_NAME));
+    }
+
+    public static IndexDatabaseCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    IndexDatabaseCache(Path cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    /**
+     * Returns the path of the extracted copy of the given bundled database, extracting it if it is not in the cache.
+     * Falls back to a temporary copy if the cache directory is not writable.
+     *
+     * @param fileName name of the bundled database file
+     * @param resource URL of the bundled database
+     * @return path to the extracted database file
+     */
+    public Path extract(String fileName, URL resource) {
+        try {
+            return extractToCache(fileName, resource);
+        } catch (IOException e) {
+            LOGGER.warning("Failed to use the index cache for " + fileName + ": " + e.getMessage());
+            return extractToTempDir(fileName, resource);
+        }
+    }
+
+    private Path extractToCache(String fileName, URL resource) throws IOException {
+        Path entryDir = cacheDir.resolve(fileName);
+        Files.createDirectories(entryDir);
+        ResourceDigest digest = digest(resource);
+        Path target = entryDir.resolve(digest.hash() + ".sqlite");
+        if (Files.isRegularFile(target)) {
+            if (Files.size(target) == digest.size()) {
+                // Refresh the last modified time so that the entry is not considered stale
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                return target;
+            }
+            LOGGER.warning("Extracting " + fileName + " again, as the extracted file does not match the bundled one");
+            Files.deleteIfExists(target);
+        }
+
+        Path tempFile = Files.createTempFile(entryDir, fileName, ".tmp");
+        try {
+            long size;
+            try (InputStream inputStream = resource.openStream()) {
+                size = Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (size != digest.size()) {
+                throw new IOException("Extracted " + size + " bytes of " + fileName + ", whereas " + digest.size() +
+                        " bytes are bundled");
+            }
+            moveAtomically(tempFile, target);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        removeStaleEntries(entryDir, target);
+        return target;
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Another language server instance has extracted the same content
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(source, target);
+            } catch (FileAlreadyExistsException ex) {
+                // Another language server instance has extracted the same content
+            }
+        }
+    }
+
+    private static void removeStaleEntries(Path entryDir, Path currentEntry) {
+        Instant staleBefore = Instant.now().minus(STALE_ENTRY_AGE);
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(entryDir)) {
+            for (Path entry : entries) {
+                if (entry.equals(currentEntry)) {
+                    continue;
+                }
+                try {
+                    if (Files.getLastModifiedTime(entry).toInstant().isBefore(staleBefore)) {
+                        Files.deleteIfExists(entry);
+                    }
+                } catch (IOException e) {
+                    // The entry may be in use by another language server instance
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Failed to remove the stale index cache entries: " + e.getMessage());
+        }
+    }
+
+    private static Path extractToTempDir(String fileName, URL resource) {
+        Path tempFile;
+        try {
+            Path tempDir = Files.createTempDirectory("ls-index");
+            tempDir.toFile().deleteOnExit();
+            tempFile = tempDir.resolve(fileName);
+            try (InputStream inputStream = resource.openStream()) {
+                Files.copy(inputStream, tempFile);
+            }
+            tempFile.toFile().deleteOnExit();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
+        }
+        return tempFile;
+    }
+
+    /**
+     * Returns a hash and the size of the content of the given resource. For a resource packed in a jar, the CRC and the
+     * size recorded in the jar are used, which avoids reading the resource. Otherwise, the SHA-256 digest of the
+     * content is computed.
+     *
+     * @param resource URL of the resource
+     * @return digest of the content
+     * @throws IOException if the resource cannot be read
+     */
+    static ResourceDigest digest(URL resource) throws IOException {
+        URLConnection connection = resource.openConnection();
+        if (connection instanceof JarURLConnection jarURLConnection) {
+            JarEntry jarEntry = jarURLConnection.getJarEntry();
+            if (jarEntry != null && jarEntry.getCrc() != -1 && jarEntry.getSize() != -1) {
+                return new ResourceDigest(
+                        Long.toHexString(jarEntry.getCrc()) + "-" + Long.toHexString(jarEntry.getSize()),
+                        jarEntry.getSize());
+            }
+        }
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("SHA-256 is not supported", e);
+        }
+        long size;
+        try (InputStream inputStream = new DigestInputStream(connection.getInputStream(), digest)) {
+            size = inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return new ResourceDigest(HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    /**
+     * Digest of the content of a bundled database.
+     *
+     * @param hash hex encoded hash of the content
+     * @param size size of the content in bytes
+     */
+    record ResourceDigest(String hash, long size) {
+    }
+}
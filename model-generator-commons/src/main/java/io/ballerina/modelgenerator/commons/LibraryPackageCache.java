@@ -0,0 +1,252 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageDescriptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * A bounded cache of the library packages resolved by the {@link PackageUtil}, along with the semantic models of their
+ * modules, keyed by the organization, name and version of the package.
+ *
+ * <p>
+ * Resolving a library package loads the bala of the package and compiles it, which takes seconds for packages such as
+ * <code>ballerina/http</code>, whereas the same package is requested repeatedly when generating the function data, the
+ * connectors and the listeners. The least recently used packages are evicted once the number of packages exceeds the
+ * limit, which can be configured with the <code>ls.library.package.cache.size</code> system property. Only the
+ * successful resolutions are cached, so that a package which failed to resolve (ex: due to a network failure) is
+ * resolved again on the next request.
+ * </p>
+ *
+ * <p>
+ * A request for the latest version of a package is served by the package of the version it was last resolved to, only
+ * until the time to live of the resolution elapses, so that a newer version published afterward is picked up. The
+ * time to live can be configured in minutes with the <code>ls.library.package.cache.latest.ttl</code> system property.
+ * The resolutions of the latest versions only refer to the cached packages, and hence are not counted against the
+ * limit.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+public class LibraryPackageCache {
+
+    private static final Logger LOGGER = Logger.getLogger(LibraryPackageCache.class.getName());
+    private static final String CACHE_SIZE_PROPERTY = "ls.library.package.cache.size";
+    private static final int DEFAULT_CACHE_SIZE = 32;
+    private static final String LATEST_VERSION_TTL_PROPERTY = "ls.library.package.cache.latest.ttl";
+    private static final long DEFAULT_LATEST_VERSION_TTL = 10;
+    private static final String LATEST_VERSION = "";
+
+    private final int maxSize;
+    private final Duration latestVersionTtl;
+    private final Clock clock;
+    private final Map<Key, Entry> entries;
+    private final Map<Key, LatestVersion> latestVersions;
+    private final ConcurrentHashMap<Key, ReentrantLock> loadLocks;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    private static class Holder {
+
+        private static final LibraryPackageCache INSTANCE =
+                new LibraryPackageCache(Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE),
+                        Duration.ofMinutes(Long.getLong(LATEST_VERSION_TTL_PROPERTY, DEFAULT_LATEST_VERSION_TTL)),
+                        Clock.systemUTC());
+    }
+
+    public static LibraryPackageCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    LibraryPackageCache(int maxSize, Duration latestVersionTtl, Clock clock) {
+        this.maxSize = Math.max(maxSize, 1);
+        this.latestVersionTtl = latestVersionTtl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.latestVersions = new HashMap<>();
+        this.loadLocks = new ConcurrentHashMap<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * Returns the cached package of the given organization, name and version, resolving it with the given resolver if
+     * it is not cached. Concurrent requests for the same package wait for a single resolution.
+     *
+     * @param org      organization of the package
+     * @param name     name of the package
+     * @param version  version of the package, or null for the latest version
+     * @param resolver resolves the package on a cache miss
+     * @return the package, or empty if it cannot be resolved
+     */
+    public Optional<Package> get(String org, String name, String version, Supplier<Optional<Package>> resolver) {
+        Key key = new Key(org, name, version == null ? LATEST_VERSION : version);
+        Entry entry = lookup(key);
+        if (entry != null) {
+            hits.increment();
+            return Optional.of(entry.pkg());
+        }
+
+        ReentrantLock lock = loadLocks.computeIfAbsent(key, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            // The package may have been resolved while waiting for the lock
+            entry = lookup(key);
+            if (entry != null) {
+                hits.increment();
+                return Optional.of(entry.pkg());
+            }
+            misses.increment();
+            return resolver.get().map(pkg -> put(key, pkg));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the semantic model of the given module of the package, which is cached along with the package if the
+     * package is cached.
+     *
+     * @param pkg      the package
+     * @param moduleId the module of the package
+     * @return the semantic model of the module
+     */
+    public SemanticModel semanticModel(Package pkg, ModuleId moduleId) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(Key.from(pkg.descriptor()));
+        }
+        if (entry == null || entry.pkg() != pkg) {
+            return PackageUtil.getCompilation(pkg).getSemanticModel(moduleId);
+        }
+        return entry.semanticModels().computeIfAbsent(moduleId,
+                id -> PackageUtil.getCompilation(pkg).getSemanticModel(id));
+    }
+
+    /**
+     * Returns the statistics of the cache.
+     *
+     * @return the statistics
+     */
+    public Stats stats() {
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    /**
+     * Removes all the packages from the cache.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        latestVersions.clear();
+    }
+
+    private synchronized Entry lookup(Key key) {
+        if (!key.isLatestVersion()) {
+            return entries.get(key);
+        }
+        LatestVersion latestVersion = latestVersions.get(key);
+        if (latestVersion == null) {
+            return null;
+        }
+        if (!clock.instant().isBefore(latestVersion.resolvedAt().plus(latestVersionTtl))) {
+            // The latest version is resolved again, as a newer version may have been published since
+            latestVersions.remove(key);
+            return null;
+        }
+        return entries.get(latestVersion.resolvedKey());
+    }
+
+    /**
+     * Caches the given package, and returns the cached package of the same version if there is one already, so that
+     * the semantic models of the package are shared by the requests for the latest version and the resolved version.
+     */
+    private synchronized Package put(Key key, Package pkg) {
+        Key entryKey = key.isLatestVersion() ? Key.from(pkg.descriptor()) : key;
+        Entry entry = entries.computeIfAbsent(entryKey, k -> new Entry(pkg, new ConcurrentHashMap<>()));
+        if (key.isLatestVersion()) {
+            latestVersions.put(key, new LatestVersion(entryKey, clock.instant()));
+        }
+
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            Map.Entry<Key, Entry> eldest = iterator.next();
+            iterator.remove();
+            latestVersions.values().removeIf(latestVersion -> latestVersion.resolvedKey().equals(eldest.getKey()));
+            evictions.increment();
+            LOGGER.fine(() -> "Evicted the library package: " + eldest.getKey());
+        }
+        return entry.pkg();
+    }
+
+    /**
+     * Statistics of the cache.
+     *
+     * @param hits      number of requests served from the cache
+     * @param misses    number of requests which resolved the package
+     * @param evictions number of packages evicted from the cache
+     * @param size      number of packages in the cache
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+    }
+
+    private record Key(String org, String name, String version) {
+
+        static Key from(PackageDescriptor descriptor) {
+            return new Key(descriptor.org().value(), descriptor.name().value(),
+                    descriptor.version().value().toString());
+        }
+
+        boolean isLatestVersion() {
+            return version.equals(LATEST_VERSION);
+        }
+
+        @Override
+        public String toString() {
+            return org + "/" + name + (version.isEmpty() ? "" : ":" + version);
+        }
+    }
+
+    private record LatestVersion(Key resolvedKey, Instant resolvedAt) {
+    }
+
+    private record Entry(Package pkg, Map<ModuleId, SemanticModel> semanticModels) {
+    }
+}
@@ -108,29 +108,32 @@ public class PackageUtil {
     }
 
     /**
-     * Retrieves the semantic model for a given package identified by organization, name, and version.
+     * Retrieves the semantic model for a given package identified by organization, name, and version. The package and
+     * the semantic model are served from the {@link LibraryPackageCache} if the package was resolved before.
      *
      * @param moduleInfo The module information
      * @return An Optional containing the semantic model.
      */
     public static Optional<SemanticModel> getSemanticModel(ModuleInfo moduleInfo) {
-        Optional<Package> modulePackage = getModulePackage(getSampleProject(), moduleInfo.org(),
-                moduleInfo.packageName(), moduleInfo.version());
+        Optional<Package> modulePackage = LibraryPackageCache.getInstance().get(moduleInfo.org(),
+                moduleInfo.packageName(), moduleInfo.version(), () -> getModulePackage(SAMPLE_PROJECT,
+                        moduleInfo.org(), moduleInfo.packageName(), moduleInfo.version()));
         if (modulePackage.isEmpty()) {
             return Optional.empty();
         }
         Package pkg = modulePackage.get();
         for (Module module : pkg.modules()) {
             if (module.moduleName().toString().equals(moduleInfo.moduleName())) {
-                return Optional.of(getCompilation(pkg).getSemanticModel(module.moduleId()));
+                return Optional.of(LibraryPackageCache.getInstance().semanticModel(pkg, module.moduleId()));
             }
         }
         return Optional.empty();
     }
 
     public static Optional<SemanticModel> getSemanticModel(String org, String name) {
-        return getModulePackage(getSampleProject(), org, name).map(
-                pkg -> getCompilation(pkg).getSemanticModel(pkg.getDefaultModule().moduleId()));
+        LibraryPackageCache packageCache = LibraryPackageCache.getInstance();
+        return packageCache.get(org, name, null, () -> getModulePackage(SAMPLE_PROJECT, org, name))
+                .map(pkg -> packageCache.semanticModel(pkg, pkg.getDefaultModule().moduleId()));
     }
 
     /**
@@ -296,7 +299,7 @@ public class PackageUtil {
         if (PackageUtil.isModuleUnresolved(completeModuleInfo.org(), completeModuleInfo.packageName(),
                 completeModuleInfo.version())) {
             notifyClient(lsClientLogger, completeModuleInfo, MessageType.Info, PULLING_THE_MODULE_MESSAGE);
-            modulePackage = getModulePackage(SAMPLE_PROJECT, completeModuleInfo.org(), completeModuleInfo.packageName(),
+            modulePackage = getLibraryPackage(completeModuleInfo.org(), completeModuleInfo.packageName(),
                     completeModuleInfo.version());
             if (modulePackage.isEmpty()) {
                 notifyClient(lsClientLogger, completeModuleInfo, MessageType.Error, MODULE_PULLING_FAILED_MESSAGE);
@@ -304,7 +307,7 @@ public class PackageUtil {
                 notifyClient(lsClientLogger, completeModuleInfo, MessageType.Info, MODULE_PULLING_SUCCESS_MESSAGE);
             }
         } else {
-            modulePackage = getModulePackage(SAMPLE_PROJECT, completeModuleInfo.org(), completeModuleInfo.packageName(),
+            modulePackage = getLibraryPackage(completeModuleInfo.org(), completeModuleInfo.packageName(),
                     completeModuleInfo.version());
         }
         return modulePackage;
@@ -351,11 +354,7 @@ public class PackageUtil {
      */
     public static Optional<Package> resolveModulePackage(String org, String packageName, String version) {
         try {
-            if (version == null) {
-                return getModulePackage(getSampleProject(), org, packageName);
-            } else {
-                return getModulePackage(getSampleProject(), org, packageName, version);
-            }
+            return getLibraryPackage(org, packageName, version);
         } catch (Exception e) {
             // If package resolution fails (e.g., package doesn't exist in Central),
             // treat it as a generated/test package and continue with empty resolved package
@@ -363,6 +362,21 @@ public class PackageUtil {
         }
     }
 
+    /**
+     * Retrieves the library package of the given organization, name and version through the
+     * {@link LibraryPackageCache}, resolving it with the shared sample project on a cache miss.
+     *
+     * @param org         The organization name of the package
+     * @param packageName The name of the package
+     * @param version     The version of the package, or null for the latest version
+     * @return An Optional containing the resolved Package
+     */
+    private static Optional<Package> getLibraryPackage(String org, String packageName, String version) {
+        return LibraryPackageCache.getInstance().get(org, packageName, version, () -> version == null
+                ? getModulePackage(SAMPLE_PROJECT, org, packageName)
+                : getModulePackage(SAMPLE_PROJECT, org, packageName, version));
+    }
+
     /**
      * Determines if a function is local to the current workspace project.
      *
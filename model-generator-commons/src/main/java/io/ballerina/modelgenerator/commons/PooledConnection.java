@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * A connection borrowed from a {@link SqliteConnectionPool}. Closing the connection returns it to the pool.
+ *
+ * <p>
+ * The prepared statements created through this connection are cached by their SQL text and must not be closed by the
+ * caller. Queries built with a varying number of parameters are kept in the cache as well, and the least recently used
+ * statements are closed once the cache is full.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+public class PooledConnection implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(PooledConnection.class.getName());
+    private static final int MAX_CACHED_STATEMENTS = 64;
+
+    private final SqliteConnectionPool pool;
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statementCache;
+    private boolean borrowed;
+
+    PooledConnection(SqliteConnectionPool pool, Connection connection) {
+        this.pool = pool;
+        this.connection = connection;
+        this.statementCache = new LinkedHashMap<>(MAX_CACHED_STATEMENTS, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() <= MAX_CACHED_STATEMENTS) {
+                    return false;
+                }
+                closeStatement(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns a prepared statement for the given SQL, reusing the cached statement if the same SQL was prepared before
+     * on this connection. The parameters of a reused statement are cleared.
+     *
+     * @param sql the SQL text
+     * @return the prepared statement
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        PreparedStatement statement = statementCache.get(sql);
+        if (statement != null && !statement.isClosed()) {
+            statement.clearParameters();
+            return statement;
+        }
+        statement = connection.prepareStatement(sql);
+        statementCache.put(sql, statement);
+        return statement;
+    }
+
+    /**
+     * Returns the underlying JDBC connection, which can be used to control the transactions. The returned connection
+     * must not be closed by the caller.
+     *
+     * @return the JDBC connection
+     */
+    public Connection connection() {
+        return connection;
+    }
+
+    /**
+     * Returns the connection to the pool. Closing an already returned connection has no effect.
+     */
+    @Override
+    public void close() {
+        if (!borrowed) {
+            return;
+        }
+        borrowed = false;
+        pool.release(this);
+    }
+
+    PooledConnection borrow() {
+        borrowed = true;
+        return this;
+    }
+
+    boolean isValid() {
+        try {
+            return !connection.isClosed() && connection.getAutoCommit();
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    void closePhysically() throws SQLException {
+        for (PreparedStatement statement : statementCache.values()) {
+            closeStatement(statement);
+        }
+        statementCache.clear();
+        connection.close();
+    }
+
+    private static void closeStatement(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.warning("Error closing the prepared statement: " + e.getMessage());
+        }
+    }
+}
@@ -18,12 +18,8 @@
 
 package io.ballerina.modelgenerator.commons;
 
-import java.io.IOException;
 import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -46,15 +42,15 @@ public class SearchDatabaseManager {
 
     private static final String INDEX_FILE_NAME = "search-index.sqlite";
     private static final Logger LOGGER = Logger.getLogger(SearchDatabaseManager.class.getName());
-    private final String dbPath;
+    private final SqliteConnectionPool connectionPool;
 
     /**
-     * Returns the JDBC database path for the search-index.sqlite file.
+     * Returns the shared connection pool of the search-index.sqlite file.
      *
-     * @return the JDBC connection string
+     * @return the connection pool
      */
-    public String getDbPath() {
-        return dbPath;
+    public SqliteConnectionPool getConnectionPool() {
+        return connectionPool;
     }
 
     private static class Holder {
@@ -67,31 +63,12 @@ public class SearchDatabaseManager {
     }
 
     private SearchDatabaseManager() {
-        try {
-            Class.forName("org.sqlite.JDBC");
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException("Failed to load SQLite JDBC driver", e);
-        }
-
-        Path tempDir;
-        try {
-            tempDir = Files.createTempDirectory("central-index");
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to create a temporary directory", e);
-        }
-
         URL dbUrl = getClass().getClassLoader().getResource(INDEX_FILE_NAME);
         if (dbUrl == null) {
             throw new RuntimeException("Database resource not found: " + INDEX_FILE_NAME);
         }
-        Path tempFile = tempDir.resolve(INDEX_FILE_NAME);
-        try {
-            Files.copy(dbUrl.openStream(), tempFile);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
-        }
-
-        dbPath = "jdbc:sqlite:" + tempFile;
+        Path dbFile = IndexDatabaseCache.getInstance().extract(INDEX_FILE_NAME, dbUrl);
+        connectionPool = SqliteConnectionPool.readOnly(dbFile);
     }
 
     /**
@@ -125,8 +102,8 @@ public class SearchDatabaseManager {
                 OFFSET ?;
                 """;
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
 
             stmt.setString(1, sanitizeQuery(q) + "*");
             stmt.setInt(2, limit);
@@ -187,8 +164,8 @@ public class SearchDatabaseManager {
                 OFFSET ?;
                 """;
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
 
             stmt.setString(1, sanitizeQuery(q) + "*");
             stmt.setInt(2, limit);
@@ -260,8 +237,8 @@ public class SearchDatabaseManager {
         }
         sqlBuilder.append(" LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString())) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString());
 
             // Set parameters for package names
             int paramIndex = 1;
@@ -336,8 +313,8 @@ public class SearchDatabaseManager {
         }
         sqlBuilder.append(" LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString())) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString());
 
             // Set parameters for package names and connector names
             int paramIndex = 1;
@@ -403,8 +380,8 @@ public class SearchDatabaseManager {
                 OFFSET ?;
                 """;
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
 
             stmt.setString(1, sanitizeQuery(q) + "*");
             stmt.setInt(2, limit);
@@ -464,8 +441,8 @@ public class SearchDatabaseManager {
                 .append(")");
         sqlBuilder.append(" LIMIT ? OFFSET ?");
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString())) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString());
 
             // Set parameters for package names
             int paramIndex = 1;
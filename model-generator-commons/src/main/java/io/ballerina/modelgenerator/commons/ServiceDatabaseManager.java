@@ -20,12 +20,8 @@ package io.ballerina.modelgenerator.commons;
 
 import io.ballerina.compiler.api.symbols.AnnotationAttachPoint;
 
-import java.io.IOException;
 import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -45,7 +41,7 @@ public class ServiceDatabaseManager {
 
     private static final String INDEX_FILE_NAME = "service-index.sqlite";
     private static final Logger LOGGER = Logger.getLogger(ServiceDatabaseManager.class.getName());
-    private final String dbPath;
+    private final SqliteConnectionPool connectionPool;
     private static class Holder {
 
         private static final ServiceDatabaseManager INSTANCE = new ServiceDatabaseManager();
@@ -56,31 +52,12 @@ public class ServiceDatabaseManager {
     }
 
     private ServiceDatabaseManager() {
-        try {
-            Class.forName("org.sqlite.JDBC");
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException("Failed to load SQLite JDBC driver", e);
-        }
-
-        Path tempDir;
-        try {
-            tempDir = Files.createTempDirectory("service-index");
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to create a temporary directory", e);
-        }
-
         URL dbUrl = getClass().getClassLoader().getResource(INDEX_FILE_NAME);
         if (dbUrl == null) {
             throw new RuntimeException("Database resource not found: " + INDEX_FILE_NAME);
         }
-        Path tempFile = tempDir.resolve(INDEX_FILE_NAME);
-        try {
-            Files.copy(dbUrl.openStream(), tempFile);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
-        }
-
-        dbPath = "jdbc:sqlite:" + tempFile.toString();
+        Path dbFile = IndexDatabaseCache.getInstance().extract(INDEX_FILE_NAME, dbUrl);
+        connectionPool = SqliteConnectionPool.readOnly(dbFile);
     }
 
     public Optional<FunctionData> getListener(String orgName, String module) {
@@ -100,34 +77,34 @@ public class ServiceDatabaseManager {
             sql.append(" AND p.org = ?");
         }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql.toString());
             stmt.setString(1, module);
             if (orgName != null) {
                 stmt.setString(2, orgName);
             }
 
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("listener_id"),
-                        rs.getString("listener_name"),
-                        rs.getString("listener_description"),
-                        null,
-                        rs.getString("package_name"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        null,
-                        null,
-                        rs.getBoolean("return_error"),
-                        false,
-                        null);
-                functionData.setPackageId(rs.getString("package_id"));
-                conn.close();
-                return Optional.of(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("listener_id"),
+                            rs.getString("listener_name"),
+                            rs.getString("listener_description"),
+                            null,
+                            rs.getString("package_name"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            null,
+                            null,
+                            rs.getBoolean("return_error"),
+                            false,
+                            null);
+                    functionData.setPackageId(rs.getString("package_id"));
+                    return Optional.of(functionData);
+                }
+                return Optional.empty();
             }
-            return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return Optional.empty();
@@ -151,60 +128,60 @@ public class ServiceDatabaseManager {
                 "LEFT JOIN ParameterMemberType pmt ON p.parameter_id = pmt.parameter_id " +
                 "WHERE p.listener_id = ?;";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, listenerId);
-            ResultSet rs = stmt.executeQuery();
-
-            // Use a builder to accumulate parameter data and member types
-            LinkedHashMap<String, ParameterDataBuilder> builders = new LinkedHashMap<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+
+                // Use a builder to accumulate parameter data and member types
+                LinkedHashMap<String, ParameterDataBuilder> builders = new LinkedHashMap<>();
+
+                while (rs.next()) {
+                    String paramName = rs.getString("name");
+                    int parameterId = rs.getInt("parameter_id");
+                    String type = rs.getString("type");
+                    ParameterData.Kind kind = ParameterData.Kind.valueOf(rs.getString("kind"));
+                    String defaultValue = rs.getString("default_value");
+                    String description = rs.getString("description");
+                    boolean optional = rs.getBoolean("optional");
+                    String importStatements = rs.getString("import_statements");
+
+                    // Member type data
+                    String memberType = rs.getString("member_type");
+                    String memberKind = rs.getString("member_kind");
+                    String memberPackage = rs.getString("member_package");
+
+                    // Get or create the builder for this parameter
+                    ParameterDataBuilder builder = builders.get(paramName);
+                    if (builder == null) {
+                        builder = new ParameterDataBuilder();
+                        builder.parameterId = parameterId;
+                        builder.name = paramName;
+                        builder.type = type;
+                        builder.kind = kind;
+                        builder.defaultValue = defaultValue;
+                        builder.description = description;
+                        builder.optional = optional;
+                        builder.importStatements = importStatements;
+                        builders.put(paramName, builder);
+                    }
 
-            while (rs.next()) {
-                String paramName = rs.getString("name");
-                int parameterId = rs.getInt("parameter_id");
-                String type = rs.getString("type");
-                ParameterData.Kind kind = ParameterData.Kind.valueOf(rs.getString("kind"));
-                String defaultValue = rs.getString("default_value");
-                String description = rs.getString("description");
-                boolean optional = rs.getBoolean("optional");
-                String importStatements = rs.getString("import_statements");
-
-                // Member type data
-                String memberType = rs.getString("member_type");
-                String memberKind = rs.getString("member_kind");
-                String memberPackage = rs.getString("member_package");
-
-                // Get or create the builder for this parameter
-                ParameterDataBuilder builder = builders.get(paramName);
-                if (builder == null) {
-                    builder = new ParameterDataBuilder();
-                    builder.parameterId = parameterId;
-                    builder.name = paramName;
-                    builder.type = type;
-                    builder.kind = kind;
-                    builder.defaultValue = defaultValue;
-                    builder.description = description;
-                    builder.optional = optional;
-                    builder.importStatements = importStatements;
-                    builders.put(paramName, builder);
+                    // Add member type if present
+                    if (memberType != null) {
+                        ParameterMemberTypeData memberData = new ParameterMemberTypeData(
+                                memberType, memberKind, memberPackage, memberPackage);
+                        builder.typeMembers.add(memberData);
+                    }
                 }
 
-                // Add member type if present
-                if (memberType != null) {
-                    ParameterMemberTypeData memberData = new ParameterMemberTypeData(
-                            memberType, memberKind, memberPackage, memberPackage);
-                    builder.typeMembers.add(memberData);
+                // Convert builders to ParameterData
+                LinkedHashMap<String, ParameterData> parameterResults = new LinkedHashMap<>();
+                for (ParameterDataBuilder builder : builders.values()) {
+                    parameterResults.put(builder.name, builder.build());
                 }
-            }
+                return parameterResults;
 
-            // Convert builders to ParameterData
-            LinkedHashMap<String, ParameterData> parameterResults = new LinkedHashMap<>();
-            for (ParameterDataBuilder builder : builders.values()) {
-                parameterResults.put(builder.name, builder.build());
             }
-            conn.close();
-            return parameterResults;
-
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return new LinkedHashMap<>();
@@ -240,46 +217,45 @@ public class ServiceDatabaseManager {
             sql.append(" AND p.org = ?");
         }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql.toString());
             stmt.setString(1, moduleName);
             if (orgName != null) {
                 stmt.setString(2, orgName);
             }
 
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                ServiceDeclaration.Package packageInfo = new ServiceDeclaration.Package(
-                        rs.getInt("package_id"),
-                        rs.getString("org"),
-                        rs.getString("package_name"),
-                        rs.getString("version")
-                );
-
-                ServiceDeclaration serviceDeclaration = new ServiceDeclaration(
-                        packageInfo,
-                        rs.getString("display_name"),
-                        rs.getInt("optional_type_descriptor"),
-                        rs.getString("type_descriptor_label"),
-                        rs.getString("type_descriptor_description"),
-                        rs.getString("type_descriptor_default_value"),
-                        rs.getInt("add_default_type_descriptor"),
-                        rs.getInt("optional_absolute_resource_path"),
-                        rs.getString("absolute_resource_path_label"),
-                        rs.getString("absolute_resource_path_description"),
-                        rs.getString("absolute_resource_path_default_value"),
-                        rs.getInt("optional_string_literal"),
-                        rs.getString("string_literal_label"),
-                        rs.getString("string_literal_description"),
-                        rs.getString("string_literal_default_value"),
-                        rs.getString("listener_kind"),
-                        rs.getString("kind")
-                );
-                conn.close();
-                return Optional.of(serviceDeclaration);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    ServiceDeclaration.Package packageInfo = new ServiceDeclaration.Package(
+                            rs.getInt("package_id"),
+                            rs.getString("org"),
+                            rs.getString("package_name"),
+                            rs.getString("version")
+                    );
+
+                    ServiceDeclaration serviceDeclaration = new ServiceDeclaration(
+                            packageInfo,
+                            rs.getString("display_name"),
+                            rs.getInt("optional_type_descriptor"),
+                            rs.getString("type_descriptor_label"),
+                            rs.getString("type_descriptor_description"),
+                            rs.getString("type_descriptor_default_value"),
+                            rs.getInt("add_default_type_descriptor"),
+                            rs.getInt("optional_absolute_resource_path"),
+                            rs.getString("absolute_resource_path_label"),
+                            rs.getString("absolute_resource_path_description"),
+                            rs.getString("absolute_resource_path_default_value"),
+                            rs.getInt("optional_string_literal"),
+                            rs.getString("string_literal_label"),
+                            rs.getString("string_literal_description"),
+                            rs.getString("string_literal_default_value"),
+                            rs.getString("listener_kind"),
+                            rs.getString("kind")
+                    );
+                    return Optional.of(serviceDeclaration);
+                }
+                return Optional.empty();
             }
-            conn.close();
-            return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return Optional.empty();
@@ -301,53 +277,50 @@ public class ServiceDatabaseManager {
             sql.append(" AND p.org = ?");
         }
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql.toString());
             stmt.setString(1, moduleName);
             if (orgName != null) {
                 stmt.setString(2, orgName);
             }
 
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                ServiceDeclaration.Package packageInfo = new ServiceDeclaration.Package(
-                        rs.getInt("package_id"),
-                        rs.getString("org"),
-                        rs.getString("package_name"),
-                        rs.getString("version")
-                );
-                String displayName = rs.getString("display_name");
-                String description = rs.getString("description");
-                conn.close();
-
-                StringBuilder sql2 = new StringBuilder("SELECT ");
-                sql2.append("sip.initializer_id, ");
-                sql2.append("sip.key_name as keyName, ");
-                sql2.append("sip.label, ");
-                sql2.append("sip.description, ");
-                sql2.append("sip.default_value, ");
-                sql2.append("sip.placeholder, ");
-                sql2.append("sip.types, ");
-                sql2.append("sip.source_kind as sourceKind ");
-                sql2.append("FROM ServiceInitializerProperty sip ");
-                sql2.append("WHERE sip.package_id = ?");
-
-                try (Connection conn2 = DriverManager.getConnection(dbPath);
-                     PreparedStatement stmt2 = conn2.prepareStatement(sql2.toString())) {
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    ServiceDeclaration.Package packageInfo = new ServiceDeclaration.Package(
+                            rs.getInt("package_id"),
+                            rs.getString("org"),
+                            rs.getString("package_name"),
+                            rs.getString("version")
+                    );
+                    String displayName = rs.getString("display_name");
+                    String description = rs.getString("description");
+
+                    StringBuilder sql2 = new StringBuilder("SELECT ");
+                    sql2.append("sip.initializer_id, ");
+                    sql2.append("sip.key_name as keyName, ");
+                    sql2.append("sip.label, ");
+                    sql2.append("sip.description, ");
+                    sql2.append("sip.default_value, ");
+                    sql2.append("sip.placeholder, ");
+                    sql2.append("sip.types, ");
+                    sql2.append("sip.source_kind as sourceKind ");
+                    sql2.append("FROM ServiceInitializerProperty sip ");
+                    sql2.append("WHERE sip.package_id = ?");
+
+                    PreparedStatement stmt2 = conn.prepareStatement(sql2.toString());
                     stmt2.setInt(1, packageInfo.packageId());
-
-                    ResultSet rs2 = stmt2.executeQuery();
-                    List<ServiceInitProperty> initProperties = new ArrayList<>();
-                    while (rs2.next()) {
-                        initProperties.add(getServiceInitProperty(rs2));
+                    try (ResultSet rs2 = stmt2.executeQuery()) {
+                        List<ServiceInitProperty> initProperties = new ArrayList<>();
+                        while (rs2.next()) {
+                            initProperties.add(getServiceInitProperty(rs2));
+                        }
+                        ServiceInitInfo serviceInitInfo = new ServiceInitInfo(packageInfo, displayName, description,
+                                initProperties);
+                        return Optional.of(serviceInitInfo);
                     }
-                    conn2.close();
-                    ServiceInitInfo serviceInitInfo = new ServiceInitInfo(packageInfo, displayName, description,
-                            initProperties);
-                    return Optional.of(serviceInitInfo);
                 }
+                return Optional.empty();
             }
-            return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return Optional.empty();
@@ -369,16 +342,16 @@ public class ServiceDatabaseManager {
     public List<String> getServiceTypes(int packageId) {
         String sql = "SELECT DISTINCT name FROM ServiceType WHERE package_id = ?";
         List<String> serviceTypes = new ArrayList<>();
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, packageId);
 
-            ResultSet rs = stmt.executeQuery();
-            while (rs.next()) {
-                serviceTypes.add(rs.getString("name"));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    serviceTypes.add(rs.getString("name"));
+                }
+                return serviceTypes;
             }
-            conn.close();
-            return serviceTypes;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -399,26 +372,26 @@ public class ServiceDatabaseManager {
                 "JOIN Package p ON a.package_id = p.package_id " +
                 "WHERE a.package_id = ?";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, packageId);
 
-            ResultSet rs = stmt.executeQuery();
-            List<AnnotationAttachment> annotations = new ArrayList<>();
-            while (rs.next()) {
-                annotations.add(new AnnotationAttachment(
-                        rs.getString("annot_name"),
-                        Arrays.stream(rs.getString("attachment_points").split(","))
-                                .map(AnnotationAttachPoint::valueOf).toList(),
-                        rs.getString("display_name"),
-                        rs.getString("description"),
-                        rs.getString("type_constraint"),
-                        rs.getString("packageInfo"),
-                        rs.getString("package_name")
-                ));
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<AnnotationAttachment> annotations = new ArrayList<>();
+                while (rs.next()) {
+                    annotations.add(new AnnotationAttachment(
+                            rs.getString("annot_name"),
+                            Arrays.stream(rs.getString("attachment_points").split(","))
+                                    .map(AnnotationAttachPoint::valueOf).toList(),
+                            rs.getString("display_name"),
+                            rs.getString("description"),
+                            rs.getString("type_constraint"),
+                            rs.getString("packageInfo"),
+                            rs.getString("package_name")
+                    ));
+                }
+                return annotations;
             }
-            conn.close();
-            return annotations;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -446,8 +419,8 @@ public class ServiceDatabaseManager {
         if (orgName != null) {
             sql.append(" AND p.org = ?");
         }
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql.toString());
             stmt.setString(1, moduleName);
             stmt.setString(2, serviceType);
             stmt.setString(3, functionName);
@@ -455,29 +428,29 @@ public class ServiceDatabaseManager {
                 stmt.setString(4, orgName);
             }
 
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                int functionId = rs.getInt("function_id");
-                List<ServiceTypeFunction.ServiceTypeFunctionParameter> params = getServiceFunctionParams(functionId);
-                ServiceTypeFunction function = new ServiceTypeFunction(
-                        rs.getInt("function_id"),
-                        rs.getString("name"),
-                        rs.getString("description"),
-                        rs.getString("accessor"),
-                        rs.getString("kind"),
-                        rs.getString("return_type"),
-                        rs.getInt("return_error"),
-                        rs.getInt("return_type_editable"),
-                        rs.getString("import_statements"),
-                        rs.getInt("enable"),
-                        rs.getInt("optional"),
-                        params
-                );
-                conn.close();
-                return Optional.of(function);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    int functionId = rs.getInt("function_id");
+                    List<ServiceTypeFunction.ServiceTypeFunctionParameter> params =
+                            getServiceFunctionParams(conn, functionId);
+                    ServiceTypeFunction function = new ServiceTypeFunction(
+                            rs.getInt("function_id"),
+                            rs.getString("name"),
+                            rs.getString("description"),
+                            rs.getString("accessor"),
+                            rs.getString("kind"),
+                            rs.getString("return_type"),
+                            rs.getInt("return_error"),
+                            rs.getInt("return_type_editable"),
+                            rs.getString("import_statements"),
+                            rs.getInt("enable"),
+                            rs.getInt("optional"),
+                            params
+                    );
+                    return Optional.of(function);
+                }
+                return Optional.empty();
             }
-            conn.close();
-            return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return Optional.empty();
@@ -502,40 +475,44 @@ public class ServiceDatabaseManager {
                 "JOIN ServiceType st ON f.service_type_id = st.service_type_id " +
                 "WHERE st.package_id = ? AND st.name = ?";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, packageId);
             stmt.setString(2, serviceType);
 
-            ResultSet rs = stmt.executeQuery();
-            List<ServiceTypeFunction> functions = new ArrayList<>();
-            while (rs.next()) {
-                int functionId = rs.getInt("function_id");
-                List<ServiceTypeFunction.ServiceTypeFunctionParameter> params = getServiceFunctionParams(functionId);
-                functions.add(new ServiceTypeFunction(
-                        rs.getInt("function_id"),
-                        rs.getString("name"),
-                        rs.getString("description"),
-                        rs.getString("accessor"),
-                        rs.getString("kind"),
-                        rs.getString("return_type"),
-                        rs.getInt("return_error"),
-                        rs.getInt("return_type_editable"),
-                        rs.getString("import_statements"),
-                        rs.getInt("enable"),
-                        rs.getInt("optional"),
-                        params
-                ));
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<ServiceTypeFunction> functions = new ArrayList<>();
+                while (rs.next()) {
+                    int functionId = rs.getInt("function_id");
+                    List<ServiceTypeFunction.ServiceTypeFunctionParameter> params =
+                            getServiceFunctionParams(conn, functionId);
+                    functions.add(new ServiceTypeFunction(
+                            rs.getInt("function_id"),
+                            rs.getString("name"),
+                            rs.getString("description"),
+                            rs.getString("accessor"),
+                            rs.getString("kind"),
+                            rs.getString("return_type"),
+                            rs.getInt("return_error"),
+                            rs.getInt("return_type_editable"),
+                            rs.getString("import_statements"),
+                            rs.getInt("enable"),
+                            rs.getInt("optional"),
+                            params
+                    ));
+                }
+                return functions;
             }
-            conn.close();
-            return functions;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
         }
     }
 
-    private List<ServiceTypeFunction.ServiceTypeFunctionParameter> getServiceFunctionParams(int functionId) {
+    private List<ServiceTypeFunction.ServiceTypeFunctionParameter> getServiceFunctionParams(PooledConnection conn,
+                                                                                        int functionId)
+            throws SQLException {
+        // Reuses the connection of the caller to avoid borrowing a second connection from the pool
         String sql = "SELECT " +
                 "parameter_id, " +
                 "name, " +
@@ -550,11 +527,10 @@ public class ServiceDatabaseManager {
                 "FROM ServiceTypeFunctionParameter " +
                 "WHERE function_id = ?";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, functionId);
+        PreparedStatement stmt = conn.prepareStatement(sql);
+        stmt.setInt(1, functionId);
 
-            ResultSet rs = stmt.executeQuery();
+        try (ResultSet rs = stmt.executeQuery()) {
             List<ServiceTypeFunction.ServiceTypeFunctionParameter> parameters = new ArrayList<>();
             while (rs.next()) {
                 parameters.add(new ServiceTypeFunction.ServiceTypeFunctionParameter(
@@ -570,11 +546,7 @@ public class ServiceDatabaseManager {
                         rs.getInt("editable_type")
                 ));
             }
-            conn.close();
             return parameters;
-        } catch (SQLException e) {
-            Logger.getGlobal().severe("Error executing query: " + e.getMessage());
-            return List.of();
         }
     }
 
@@ -589,28 +561,28 @@ public class ServiceDatabaseManager {
                 "FROM Annotation a " +
                 "JOIN Package p ON a.package_id = p.package_id " +
                 "WHERE p.name = ? AND p.org = ? AND a.attachment_points LIKE ?";
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, packageName);
             stmt.setString(2, org);
             stmt.setString(3, "%" + attachPoint + "%");
 
-            ResultSet rs = stmt.executeQuery();
-            List<Annotation> annotations = new ArrayList<>();
-            while (rs.next()) {
-                annotations.add(new Annotation(
-                        rs.getString("annot_name"),
-                        rs.getString("display_name"),
-                        rs.getString("description"),
-                        rs.getString("type_constraint"),
-                        rs.getString("packageInfo"),
-                        org,
-                        packageName,
-                        packageName
-                ));
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<Annotation> annotations = new ArrayList<>();
+                while (rs.next()) {
+                    annotations.add(new Annotation(
+                            rs.getString("annot_name"),
+                            rs.getString("display_name"),
+                            rs.getString("description"),
+                            rs.getString("type_constraint"),
+                            rs.getString("packageInfo"),
+                            org,
+                            packageName,
+                            packageName
+                    ));
+                }
+                return annotations;
             }
-            conn.close();
-            return annotations;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -626,21 +598,22 @@ public class ServiceDatabaseManager {
                 "FROM ServiceReadOnlyMetaData srmd " +
                 "JOIN Package p ON srmd.package_id = p.package_id " +
                 "WHERE p.name = ? AND p.org = ? ";
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, packageName);
             stmt.setString(2, orgName);
 
-            ResultSet rs = stmt.executeQuery();
-            List<ReadOnlyMetaData> metaDataList = new ArrayList<>();
-            while (rs.next()) {
-                metaDataList.add(new ReadOnlyMetaData(
-                        rs.getString("metadata_key"),
-                        rs.getString("display_name"),
-                        rs.getString("kind")
-                ));
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<ReadOnlyMetaData> metaDataList = new ArrayList<>();
+                while (rs.next()) {
+                    metaDataList.add(new ReadOnlyMetaData(
+                            rs.getString("metadata_key"),
+                            rs.getString("display_name"),
+                            rs.getString("kind")
+                    ));
+                }
+                return metaDataList;
             }
-            return metaDataList;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import org.sqlite.SQLiteConfig;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * A pool of long-lived SQLite connections to a database file.
+ *
+ * <p>
+ * Opening a SQLite connection re-opens the file, re-parses the schema and starts with an empty page cache. The pool
+ * keeps the connections open for the lifetime of the language server so that the schema and the page cache are reused
+ * across queries. Each pooled connection also caches its prepared statements keyed by the SQL text. A connection is
+ * used by a single thread at a time, hence the cached statements are never shared across threads.
+ * </p>
+ *
+ * <p>
+ * The bundled index databases are only read by the language server, so the connections of the shared pools are opened
+ * in the read-only mode with memory-mapped I/O enabled. Writable pools use the WAL journal mode so that readers are
+ * not blocked by the writer.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+public class SqliteConnectionPool {
+
+    private static final Logger LOGGER = Logger.getLogger(SqliteConnectionPool.class.getName());
+    private static final Map<Path, SqliteConnectionPool> READ_ONLY_POOLS = new ConcurrentHashMap<>();
+
+    private static final int DEFAULT_POOL_SIZE = Math.max(2, Math.min(Runtime.getRuntime().availableProcessors(), 8));
+    private static final long ACQUIRE_TIMEOUT_SECONDS = 30;
+    private static final String MMAP_SIZE = String.valueOf(256L * 1024 * 1024);
+    // Negative values are interpreted by SQLite as the cache size in KiB
+    private static final int CACHE_SIZE_KIB = -16 * 1024;
+
+    private final String url;
+    private final SQLiteConfig config;
+    private final int maxSize;
+    private final BlockingQueue<PooledConnection> idleConnections;
+    private final AtomicInteger openConnections;
+    private volatile boolean closed;
+
+    private SqliteConnectionPool(Path dbFile, boolean readOnly, int maxSize) {
+        try {
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException("Failed to load SQLite JDBC driver", e);
+        }
+        this.url = "jdbc:sqlite:" + dbFile;
+        this.config = createConfig(readOnly);
+        this.maxSize = maxSize;
+        this.idleConnections = new LinkedBlockingQueue<>();
+        this.openConnections = new AtomicInteger();
+        this.closed = false;
+    }
+
+    /**
+     * Returns the shared read-only connection pool of the given database file.
+     *
+     * @param dbFile path to the SQLite database file
+     * @return the shared connection pool
+     */
+    public static SqliteConnectionPool readOnly(Path dbFile) {
+        return READ_ONLY_POOLS.computeIfAbsent(dbFile.toAbsolutePath().normalize(),
+                path -> new SqliteConnectionPool(path, true, DEFAULT_POOL_SIZE));
+    }
+
+    /**
+     * Creates a new writable connection pool for the given database file. The caller owns the pool and is responsible
+     * for closing it.
+     *
+     * @param dbFile  path to the SQLite database file
+     * @param maxSize maximum number of connections in the pool
+     * @return the connection pool
+     */
+    public static SqliteConnectionPool writable(Path dbFile, int maxSize) {
+        return new SqliteConnectionPool(dbFile.toAbsolutePath().normalize(), false, maxSize);
+    }
+
+    /**
+     * Borrows a connection from the pool, opening a new one if the pool has not reached its maximum size. The
+     * connection must be closed to return it to the pool.
+     *
+     * @return a pooled connection
+     * @throws SQLException if a connection cannot be opened or the pool is exhausted for too long
+     */
+    public PooledConnection acquire() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed: " + url);
+        }
+        PooledConnection connection = idleConnections.poll();
+        if (connection != null) {
+            return connection.borrow();
+        }
+
+        if (openConnections.incrementAndGet() <= maxSize) {
+            try {
+                return new PooledConnection(this, config.createConnection(url)).borrow();
+            } catch (SQLException e) {
+                openConnections.decrementAndGet();
+                throw e;
+            }
+        }
+        openConnections.decrementAndGet();
+
+        try {
+            connection = idleConnections.poll(ACQUIRE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection: " + url, e);
+        }
+        if (connection == null) {
+            throw new SQLException("Timed out while waiting for a database connection: " + url);
+        }
+        return connection.borrow();
+    }
+
+    /**
+     * Returns the number of connections opened by the pool.
+     *
+     * @return the number of open connections
+     */
+    public int openConnections() {
+        return openConnections.get();
+    }
+
+    /**
+     * Closes all the idle connections of the pool. Connections in use are closed when they are returned.
+     */
+    public void close() {
+        closed = true;
+        PooledConnection connection;
+        while ((connection = idleConnections.poll()) != null) {
+            discard(connection);
+        }
+    }
+
+    void release(PooledConnection connection) {
+        if (closed || !connection.isValid()) {
+            discard(connection);
+            return;
+        }
+        idleConnections.offer(connection);
+    }
+
+    private void discard(PooledConnection connection) {
+        openConnections.decrementAndGet();
+        try {
+            connection.closePhysically();
+        } catch (SQLException e) {
+            LOGGER.warning("Error closing the database connection: " + e.getMessage());
+        }
+    }
+
+    private static SQLiteConfig createConfig(boolean readOnly) {
+        SQLiteConfig config = new SQLiteConfig();
+        config.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, MMAP_SIZE);
+        config.setCacheSize(CACHE_SIZE_KIB);
+        config.setTempStore(SQLiteConfig.TempStore.MEMORY);
+        if (readOnly) {
+            config.setReadOnly(true);
+        } else {
+            config.setJournalMode(SQLiteConfig.JournalMode.WAL);
+            config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        }
+        return config;
+    }
+}
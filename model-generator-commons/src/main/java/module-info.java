@@ -31,6 +31,7 @@ module io.ballerina.model.generator.commons {
     requires io.ballerina.lang;
     requires io.ballerina.runtime;
     requires java.sql;
+    requires org.xerial.sqlitejdbc;
 
     exports io.ballerina.modelgenerator.commons;
 }
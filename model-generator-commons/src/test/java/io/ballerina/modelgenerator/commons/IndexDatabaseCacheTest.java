@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Tests the extraction of the bundled index databases to the index cache.
+ *
+ * @since 1.7.0
+ */
+public class IndexDatabaseCacheTest {
+
+    private static final String INDEX_FILE_NAME = "index.sqlite";
+
+    private Path testDir;
+    private URL resource;
+    private byte[] content;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        testDir = Files.createTempDirectory("index-database-cache");
+        content = "bundled index database".repeat(64).getBytes();
+        Path bundledDatabase = testDir.resolve("bundled.sqlite");
+        Files.write(bundledDatabase, content);
+        resource = bundledDatabase.toUri().toURL();
+    }
+
+    @Test
+    public void testExtractedDatabaseIsReused() throws IOException {
+        IndexDatabaseCache cache = new IndexDatabaseCache(testDir.resolve("reuse-cache"));
+        Path extracted = cache.extract(INDEX_FILE_NAME, resource);
+        Assert.assertEquals(Files.readAllBytes(extracted), content);
+        Object fileKey = Files.readAttributes(extracted, BasicFileAttributes.class).fileKey();
+
+        Path reused = new IndexDatabaseCache(testDir.resolve("reuse-cache")).extract(INDEX_FILE_NAME, resource);
+        Assert.assertEquals(reused, extracted);
+        Assert.assertEquals(Files.readAttributes(reused, BasicFileAttributes.class).fileKey(), fileKey,
+                "The extracted database should be reused without extracting it again");
+    }
+
+    @Test
+    public void testMismatchingDatabaseIsExtractedAgain() throws IOException {
+        IndexDatabaseCache cache = new IndexDatabaseCache(testDir.resolve("mismatch-cache"));
+        Path extracted = cache.extract(INDEX_FILE_NAME, resource);
+        // Truncates the extracted database, as an interrupted copy would
+        Files.write(extracted, new byte[content.length / 2]);
+
+        Path reExtracted = cache.extract(INDEX_FILE_NAME, resource);
+        Assert.assertEquals(reExtracted, extracted);
+        Assert.assertEquals(Files.readAllBytes(reExtracted), content);
+    }
+
+    @Test
+    public void testStaleDatabasesArePruned() throws IOException {
+        Path cacheDir = testDir.resolve("prune-cache");
+        Path entryDir = Files.createDirectories(cacheDir.resolve(INDEX_FILE_NAME));
+        Path staleEntry = Files.writeString(entryDir.resolve("stale.sqlite"), "stale");
+        Files.setLastModifiedTime(staleEntry, FileTime.from(Instant.now().minus(Duration.ofDays(31))));
+        Path recentEntry = Files.writeString(entryDir.resolve("recent.sqlite"), "recent");
+
+        Path extracted = new IndexDatabaseCache(cacheDir).extract(INDEX_FILE_NAME, resource);
+        Assert.assertTrue(Files.exists(extracted));
+        Assert.assertFalse(Files.exists(staleEntry), "Stale versions of the database should be removed");
+        Assert.assertTrue(Files.exists(recentEntry), "Recently used versions of the database should be kept");
+    }
+
+    @Test
+    public void testTempDirIsUsedWhenCacheDirIsNotWritable() throws IOException {
+        // A file in place of the cache directory prevents creating the cache entries
+        Path cacheDir = Files.writeString(testDir.resolve("file-cache"), "not a directory");
+
+        Path extracted = new IndexDatabaseCache(cacheDir).extract(INDEX_FILE_NAME, resource);
+        Assert.assertFalse(extracted.startsWith(cacheDir));
+        Assert.assertEquals(extracted.getFileName().toString(), INDEX_FILE_NAME);
+        Assert.assertEquals(Files.readAllBytes(extracted), content);
+    }
+
+    @AfterClass
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(testDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import io.ballerina.projects.Package;
+import io.ballerina.projects.directory.BuildProject;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Tests the caching of the library packages, using packages loaded from the disk in place of the resolved bala
+ * packages.
+ *
+ * @since 1.7.0
+ */
+public class LibraryPackageCacheTest {
+
+    private static final Duration LATEST_VERSION_TTL = Duration.ofMinutes(10);
+
+    private Path packagesDir;
+    private MutableClock clock;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        packagesDir = Files.createTempDirectory("library-packages");
+        clock = new MutableClock(Instant.now());
+    }
+
+    @Test
+    public void testPackageIsResolvedOnce() throws IOException {
+        LibraryPackageCache cache = new LibraryPackageCache(4, LATEST_VERSION_TTL, clock);
+        Package pkg = loadPackage("http", "2.0.0");
+        AtomicInteger resolutions = new AtomicInteger();
+
+        Optional<Package> resolvedPackage = cache.get("test", "http", "2.0.0", resolver(pkg, resolutions));
+        Optional<Package> cachedPackage = cache.get("test", "http", "2.0.0", resolver(pkg, resolutions));
+        Assert.assertSame(resolvedPackage.orElseThrow(), pkg);
+        Assert.assertSame(cachedPackage.orElseThrow(), pkg);
+        Assert.assertEquals(resolutions.get(), 1);
+
+        LibraryPackageCache.Stats stats = cache.stats();
+        Assert.assertEquals(stats.hits(), 1);
+        Assert.assertEquals(stats.misses(), 1);
+        Assert.assertEquals(stats.size(), 1);
+    }
+
+    @Test
+    public void testFailedResolutionIsNotCached() {
+        LibraryPackageCache cache = new LibraryPackageCache(4, LATEST_VERSION_TTL, clock);
+        AtomicInteger resolutions = new AtomicInteger();
+        Supplier<Optional<Package>> failingResolver = () -> {
+            resolutions.incrementAndGet();
+            return Optional.empty();
+        };
+
+        Assert.assertTrue(cache.get("test", "missing", "1.0.0", failingResolver).isEmpty());
+        Assert.assertTrue(cache.get("test", "missing", "1.0.0", failingResolver).isEmpty());
+        Assert.assertEquals(resolutions.get(), 2, "A failed resolution should be retried");
+        Assert.assertEquals(cache.stats().size(), 0);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedPackageIsEvicted() throws IOException {
+        LibraryPackageCache cache = new LibraryPackageCache(2, LATEST_VERSION_TTL, clock);
+        Package http = loadPackage("http", "2.0.0");
+        Package io = loadPackage("io", "1.0.0");
+        Package log = loadPackage("log", "1.0.0");
+        AtomicInteger resolutions = new AtomicInteger();
+
+        cache.get("test", "http", "2.0.0", resolver(http, resolutions));
+        cache.get("test", "io", "1.0.0", resolver(io, resolutions));
+        // Uses the http package, so that the io package becomes the least recently used one
+        cache.get("test", "http", "2.0.0", resolver(http, resolutions));
+        cache.get("test", "log", "1.0.0", resolver(log, resolutions));
+        Assert.assertEquals(resolutions.get(), 3);
+        Assert.assertEquals(cache.stats().evictions(), 1);
+        Assert.assertEquals(cache.stats().size(), 2);
+
+        cache.get("test", "http", "2.0.0", resolver(http, resolutions));
+        Assert.assertEquals(resolutions.get(), 3, "Recently used package should not be evicted");
+        cache.get("test", "io", "1.0.0", resolver(io, resolutions));
+        Assert.assertEquals(resolutions.get(), 4, "Evicted package should be resolved again");
+    }
+
+    @Test
+    public void testLatestVersionIsServedUntilTtlElapses() throws IOException {
+        LibraryPackageCache cache = new LibraryPackageCache(2, LATEST_VERSION_TTL, clock);
+        Package oldVersion = loadPackage("graphql", "1.0.0");
+        Package newVersion = loadPackage("graphql", "1.1.0");
+        AtomicInteger resolutions = new AtomicInteger();
+
+        Assert.assertSame(cache.get("test", "graphql", null, resolver(oldVersion, resolutions)).orElseThrow(),
+                oldVersion);
+        Assert.assertSame(cache.get("test", "graphql", null, resolver(newVersion, resolutions)).orElseThrow(),
+                oldVersion, "Latest version should be served from the cache until the time to live elapses");
+        Assert.assertSame(cache.get("test", "graphql", "1.0.0", resolver(oldVersion, resolutions)).orElseThrow(),
+                oldVersion, "Resolved version should be served from the package of the latest version");
+        Assert.assertEquals(resolutions.get(), 1);
+        Assert.assertEquals(cache.stats().size(), 1, "Latest version should not be counted as a separate package");
+
+        clock.advance(LATEST_VERSION_TTL);
+        Assert.assertSame(cache.get("test", "graphql", null, resolver(newVersion, resolutions)).orElseThrow(),
+                newVersion, "Latest version should be resolved again once the time to live elapses");
+        Assert.assertEquals(resolutions.get(), 2);
+        Assert.assertEquals(cache.stats().size(), 2);
+        Assert.assertEquals(cache.stats().evictions(), 0);
+    }
+
+    @Test
+    public void testLatestVersionIsDroppedWithEvictedPackage() throws IOException {
+        LibraryPackageCache cache = new LibraryPackageCache(1, LATEST_VERSION_TTL, clock);
+        Package grpc = loadPackage("grpc", "1.0.0");
+        Package kafka = loadPackage("kafka", "1.0.0");
+        AtomicInteger resolutions = new AtomicInteger();
+
+        cache.get("test", "grpc", null, resolver(grpc, resolutions));
+        cache.get("test", "kafka", "1.0.0", resolver(kafka, resolutions));
+        Assert.assertEquals(cache.stats().evictions(), 1);
+
+        Assert.assertSame(cache.get("test", "grpc", null, resolver(grpc, resolutions)).orElseThrow(), grpc);
+        Assert.assertEquals(resolutions.get(), 3, "Latest version of an evicted package should be resolved again");
+    }
+
+    @AfterClass
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(packagesDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static Supplier<Optional<Package>> resolver(Package pkg, AtomicInteger resolutions) {
+        return () -> {
+            resolutions.incrementAndGet();
+            return Optional.of(pkg);
+        };
+    }
+
+    private Package loadPackage(String name, String version) throws IOException {
+        Path packageDir = Files.createDirectories(packagesDir.resolve(name + "-" + version));
+        Files.writeString(packageDir.resolve("Ballerina.toml"), String.format(
+                "[package]%norg = \"test\"%nname = \"%s\"%nversion = \"%s\"%n", name, version));
+        Files.writeString(packageDir.resolve("main.bal"), "public function main() {}\n");
+        return BuildProject.load(packageDir).currentPackage();
+    }
+
+    /**
+     * Clock which is moved forward by the tests to expire the latest versions.
+     */
+    private static class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -39,6 +39,8 @@ import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import io.ballerina.tools.diagnostics.Location;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.BallerinaCompilerApi;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
@@ -71,14 +73,17 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
     private static final String LOCATION = "location";
     private static final String FILE = "file";
     private WorkspaceManager workspaceManager;
+    private ServerExecutors executors;
 
     private static final Gson gson = new GsonBuilder()
             .serializeNulls()
             .create();
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -119,7 +124,7 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
                 }
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -176,7 +181,7 @@ public class OpenAPIConverterService implements ExtendedLanguageServerService {
             }
             response.setContent(specs);
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
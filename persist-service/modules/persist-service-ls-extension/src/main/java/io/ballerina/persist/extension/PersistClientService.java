@@ -20,6 +20,8 @@ package io.ballerina.persist.extension;
 
 import com.google.gson.JsonElement;
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
@@ -38,10 +40,13 @@ import java.util.concurrent.CompletableFuture;
 @JsonSegment("persistService")
 public class PersistClientService implements ExtendedLanguageServerService {
     private WorkspaceManager workspaceManager;
+    private ServerExecutors executors;
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -81,7 +86,7 @@ public class PersistClientService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -120,6 +125,6 @@ public class PersistClientService implements ExtendedLanguageServerService {
                 response.setError(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 }
@@ -26,6 +26,8 @@ import io.ballerina.projects.Project;
 import io.ballerina.sequencemodelgenerator.core.ModelGenerator;
 import io.ballerina.sequencemodelgenerator.core.model.Diagram;
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
@@ -48,10 +50,13 @@ import java.util.concurrent.CompletableFuture;
 public class SequenceModelGeneratorService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private ServerExecutors executors;
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -78,7 +83,7 @@ public class SequenceModelGeneratorService implements ExtendedLanguageServerServ
                 throw new RuntimeException(e);
             }
             return response;
-        });
+        }, executors.interactive());
     }
 
     private Project getCurrentProject(Path path) throws WorkspaceDocumentException, EventSyncException {
@@ -96,6 +96,7 @@ import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.CompletionItem;
@@ -148,6 +149,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
     private final Map<String, TriggerProperty> triggerProperties;
     private LSClientLogger lsClientLogger;
     private WorkspaceManager workspaceManager;
+    private ServerExecutors executors;
 
     public ServiceModelGeneratorService() {
         InputStream newPropertiesStream = getClass().getClassLoader()
@@ -181,6 +183,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
                      LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
         this.lsClientLogger = LSClientLogger.getInstance(serverContext);
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -214,7 +217,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return new ListenerDiscoveryResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -255,7 +258,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return new ListenerModelResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -291,7 +294,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return new CommonSourceResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -342,7 +345,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return new AddOrGetDefaultListenerResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -379,7 +382,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return new ServiceModelResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -406,7 +409,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return new CommonSourceResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -424,7 +427,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
                     .flatMap(Optional::stream)
                     .toList();
             return new TriggerListResponse(triggerBasicInfoList);
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -442,7 +445,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return new FunctionModelResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -479,7 +482,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Exception e) {
                 return new CommonSourceResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -515,7 +518,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             Service service = ServiceBuilderRouter.getServiceFromSource(serviceNode, project, semanticModel,
                     workspaceManager, request.filePath());
             return new ServiceFromSourceResponse(service);
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -552,7 +555,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             Function function = FunctionBuilderRouter.getFunctionFromSource(moduleName, semanticModelOp.get(),
                     functionDefinitionNode);
             return new FunctionFromSourceResponse(function);
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -584,7 +587,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Exception e) {
                 return new ListenerFromSourceResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -607,7 +610,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             }
             return new TriggerResponse(getTriggerBasicInfoByName(triggerProperty.orgName(),
                     triggerProperty.name()).orElse(null));
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -647,7 +650,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Exception e) {
                 return new CommonSourceResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -691,7 +694,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return new CommonSourceResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -723,7 +726,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return new CommonSourceResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -757,7 +760,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return new CommonSourceResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -794,7 +797,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return new ServiceClassModelResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -837,7 +840,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return new CommonSourceResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -881,7 +884,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return new CommonSourceResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -915,7 +918,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return new CommonSourceResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -934,7 +937,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return Either.forRight(new CompletionList());
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -960,7 +963,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return new ServiceInitModelResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -987,7 +990,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
             } catch (Throwable e) {
                 return new CommonSourceResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     private Optional<TriggerBasicInfo> getTriggerBasicInfoByName(String orgName, String name) {
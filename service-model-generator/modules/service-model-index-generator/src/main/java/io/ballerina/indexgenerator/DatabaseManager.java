@@ -23,8 +23,6 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
@@ -50,24 +48,8 @@ class DatabaseManager {
         return "jdbc:sqlite:" + destinationPath;
     }
 
-    private static int insertEntry(String sql, Object[] params) {
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            for (int i = 0; i < params.length; i++) {
-                stmt.setObject(i + 1, params[i]);
-            }
-            stmt.executeUpdate();
-            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    return generatedKeys.getInt(1);
-                } else {
-                    throw new SQLException("Creating package failed, no ID obtained.");
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.severe("Error executing query: " + e.getMessage());
-            return -1;
-        }
+    public static IndexBatchWriter createWriter() throws SQLException {
+        return new IndexBatchWriter(dbPath);
     }
 
     public static void createDatabase() {
@@ -92,36 +74,38 @@ class DatabaseManager {
         }
     }
 
-    public static int insertPackage(String org, String name, String version, List<String> keywords) {
+    public static int insertPackage(IndexBatch batch, String org, String name, String version,
+                                    List<String> keywords) {
         String sql = "INSERT INTO Package (org, name, version, keywords) VALUES (?, ?, ?, ?)";
-        return insertEntry(sql, new Object[]{org, name, version, keywords == null ? "" : String.join(",", keywords)});
+        return batch.insert(sql, org, name, version, keywords == null ? "" : String.join(",", keywords));
     }
 
-    public static int insertListener(int packageId, String name, String description, int returnError) {
+    public static int insertListener(IndexBatch batch, int packageId, String name, String description,
+                                     int returnError) {
         String sql = "INSERT INTO Listener (package_id, name, description, return_error) VALUES (?, ?, ?, ?)";
-        return insertEntry(sql, new Object[]{packageId, name, description, returnError});
+        return batch.insert(sql, IndexBatch.ref(packageId), name, description, returnError);
     }
 
-    public static int insertListenerParameter(int listenerId, String paramName, String paramDescription,
-                                              String paramType, String defaultValue,
+    public static int insertListenerParameter(IndexBatch batch, int listenerId, String paramName,
+                                              String paramDescription, String paramType, String defaultValue,
                                               ServiceIndexGenerator.FunctionParameterKind parameterKind,
                                               int optional, String importStatements) {
         String sql =
                 "INSERT INTO Parameter (listener_id, name, description, type, default_value, kind, optional, " +
                         "import_statements) " +
                         "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-        return insertEntry(sql,
-                new Object[]{listenerId, paramName, paramDescription, paramType, defaultValue,
-                        parameterKind.name(), optional, importStatements});
+        return batch.insert(sql, IndexBatch.ref(listenerId), paramName, paramDescription, paramType, defaultValue,
+                parameterKind.name(), optional, importStatements);
     }
 
-    public static void insertParameterMemberType(int parameterId, String type, String kind, String packageInfo) {
+    public static void insertParameterMemberType(IndexBatch batch, int parameterId, String type, String kind,
+                                                 String packageInfo) {
         String sql = "INSERT INTO ParameterMemberType (parameter_id, type, kind, packageInfo) " +
                 "VALUES (?, ?, ?, ?)";
-        insertEntry(sql, new Object[]{parameterId, type, kind, packageInfo});
+        batch.insert(sql, IndexBatch.ref(parameterId), type, kind, packageInfo);
     }
 
-    public static void insertServiceDeclaration(int packageId,
+    public static void insertServiceDeclaration(IndexBatch batch, int packageId,
                                                 ServiceIndexGenerator.ServiceDeclaration serviceDeclaration) {
         String sql = "INSERT INTO ServiceDeclaration (package_id, display_name, description, " +
                 "optional_type_descriptor, type_descriptor_label, type_descriptor_description, " +
@@ -130,64 +114,66 @@ class DatabaseManager {
                 "absolute_resource_path_default_value, optional_string_literal, string_literal_label, " +
                 "string_literal_description, string_literal_default_value, listener_kind, kind) " +
                 "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        insertEntry(sql, new Object[]{packageId, serviceDeclaration.displayName(), serviceDeclaration.description(),
-                serviceDeclaration.optionalTypeDescriptor(), serviceDeclaration.typeDescriptorLabel(),
-                serviceDeclaration.typeDescriptorDescription(),
+        batch.insert(sql, IndexBatch.ref(packageId), serviceDeclaration.displayName(),
+                serviceDeclaration.description(), serviceDeclaration.optionalTypeDescriptor(),
+                serviceDeclaration.typeDescriptorLabel(), serviceDeclaration.typeDescriptorDescription(),
                 serviceDeclaration.typeDescriptorDefaultValue(), serviceDeclaration.addDefaultTypeDescriptor(),
                 serviceDeclaration.optionalAbsoluteResourcePath(), serviceDeclaration.absoluteResourcePathLabel(),
                 serviceDeclaration.absoluteResourcePathDescription(),
                 serviceDeclaration.absoluteResourcePathDefaultValue(),
                 serviceDeclaration.optionalStringLiteral(), serviceDeclaration.stringLiteralLabel(),
                 serviceDeclaration.stringLiteralDescription(), serviceDeclaration.stringLiteralDefaultValue(),
-                serviceDeclaration.listenerKind(), serviceDeclaration.kind()});
+                serviceDeclaration.listenerKind(), serviceDeclaration.kind());
     }
 
-    public static int insertServiceType(int packageId, ServiceIndexGenerator.ServiceType serviceType) {
+    public static int insertServiceType(IndexBatch batch, int packageId,
+                                        ServiceIndexGenerator.ServiceType serviceType) {
         String sql = "INSERT INTO ServiceType (name, description, package_id) VALUES (?, ?, ?)";
-        return insertEntry(sql, new Object[]{serviceType.name(), serviceType.description(), packageId});
+        return batch.insert(sql, serviceType.name(), serviceType.description(), IndexBatch.ref(packageId));
     }
 
-    public static int insertServiceTypeFunction(int serviceTypeId, ServiceIndexGenerator.ServiceTypeFunction func) {
+    public static int insertServiceTypeFunction(IndexBatch batch, int serviceTypeId,
+                                                ServiceIndexGenerator.ServiceTypeFunction func) {
         String sql = "INSERT INTO ServiceTypeFunction (name, description, accessor, kind, return_type, " +
                 "return_type_editable, return_error, import_statements, enable, optional, service_type_id) " +
                 "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        return insertEntry(sql, new Object[]{func.name(), func.description(), func.accessor(), func.kind(),
+        return batch.insert(sql, func.name(), func.description(), func.accessor(), func.kind(),
                 func.returnType(), func.returnTypeEditable(), func.returnError(), func.importStatements(),
-                func.enable(), func.optional(), serviceTypeId});
+                func.enable(), func.optional(), IndexBatch.ref(serviceTypeId));
     }
 
-    public static void insertServiceTypeFunctionParameter(int functionId,
+    public static void insertServiceTypeFunctionParameter(IndexBatch batch, int functionId,
                                                           ServiceIndexGenerator.ServiceTypeFunctionParameter param) {
         String sql = "INSERT INTO ServiceTypeFunctionParameter (name, label, description, kind, type, default_value, "
                 + "import_statements, editable_name, editable_type, function_id) " +
                 "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        insertEntry(sql, new Object[]{param.name(), param.label(), param.description(), param.kind(), param.type(),
+        batch.insert(sql, param.name(), param.label(), param.description(), param.kind(), param.type(),
                 param.defaultValue(), param.importStatements(), param.nameEditable(), param.typeEditable(),
-                functionId});
+                IndexBatch.ref(functionId));
     }
 
-    public static void insertAnnotation(int packageId, String annotName, String attachmentPoints,
+    public static void insertAnnotation(IndexBatch batch, int packageId, String annotName, String attachmentPoints,
                                         String displayName, String description, String typeConstraint, String pkgInfo) {
         String sql = "INSERT INTO Annotation (package_id, annot_name, attachment_points, display_name, description, " +
                 "type_constraint, packageInfo) VALUES (?, ?, ?, ?, ?, ?, ?)";
-        insertEntry(sql, new Object[]{packageId, annotName, attachmentPoints, displayName, description, typeConstraint,
-                pkgInfo});
+        batch.insert(sql, IndexBatch.ref(packageId), annotName, attachmentPoints, displayName, description,
+                typeConstraint, pkgInfo);
     }
 
-    public static int insertServiceInitializerProperty(int packageId, String keyName, String label, String description,
-                                                       String defaultValue, String placeholder, String types,
-                                                       String sourceKind) {
+    public static int insertServiceInitializerProperty(IndexBatch batch, int packageId, String keyName,
+                                                       String label, String description, String defaultValue,
+                                                       String placeholder, String types, String sourceKind) {
         String sql = "INSERT INTO ServiceInitializerProperty (package_id, key_name, label, description, " +
                 "default_value, placeholder, types, source_kind) " +
                 "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-        return insertEntry(sql, new Object[]{packageId, keyName, label, description, defaultValue, placeholder,
-                types, sourceKind});
+        return batch.insert(sql, IndexBatch.ref(packageId), keyName, label, description, defaultValue, placeholder,
+                types, sourceKind);
     }
 
-    public static void insertServiceReadOnlyMetaData(int packageId, String metadataKey,
+    public static void insertServiceReadOnlyMetaData(IndexBatch batch, int packageId, String metadataKey,
                                                      String displayName, String kind) {
         String sql = "INSERT INTO ServiceReadOnlyMetaData (package_id, metadata_key, display_name, kind) " +
                 "VALUES (?, ?, ?, ?)";
-        insertEntry(sql, new Object[]{packageId, metadataKey, displayName, kind});
+        batch.insert(sql, IndexBatch.ref(packageId), metadataKey, displayName, kind);
     }
 }
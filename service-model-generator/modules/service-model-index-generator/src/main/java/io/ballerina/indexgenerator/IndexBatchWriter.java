@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Writes the {@link IndexBatch}es of an index generator to the index database over a single connection.
+ *
+ * <p>
+ * The rows are inserted in large transactions, which are committed once the configured number of rows are written,
+ * and the prepared statements are reused across the batches. The IDs generated for the rows are read back as the
+ * child rows of a batch refer them. Each batch is written within a savepoint, so that a batch that fails is rolled
+ * back without leaving partial rows of the package in the index.
+ * </p>
+ *
+ * @since 1.7.0
+ */
+public class IndexBatchWriter implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(IndexBatchWriter.class.getName());
+    private static final int DEFAULT_COMMIT_INTERVAL = 50_000;
+
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements;
+    private final int commitInterval;
+    private int uncommittedRows;
+    private int writtenRows;
+    private int failedBatches;
+
+    public IndexBatchWriter(String dbUrl) throws SQLException {
+        this(dbUrl, DEFAULT_COMMIT_INTERVAL);
+    }
+
+    public IndexBatchWriter(String dbUrl, int commitInterval) throws SQLException {
+        this.connection = DriverManager.getConnection(dbUrl);
+        try (Statement stmt = connection.createStatement()) {
+            // The index is regenerated from scratch if the generation fails, hence the writes are not synced
+            stmt.execute("PRAGMA synchronous = OFF");
+        }
+        this.connection.setAutoCommit(false);
+        this.statements = new HashMap<>();
+        this.commitInterval = commitInterval;
+    }
+
+    /**
+     * Writes the rows of the batch. The batch is skipped if any of its rows cannot be written.
+     *
+     * @param batch the batch to write
+     * @return whether the batch was written
+     */
+    public boolean write(IndexBatch batch) {
+        List<IndexBatch.Row> rows = batch.rows();
+        int[] generatedIds = new int[rows.size()];
+        Savepoint savepoint = null;
+        try {
+            savepoint = connection.setSavepoint();
+            for (int i = 0; i < rows.size(); i++) {
+                generatedIds[i] = insert(rows.get(i), generatedIds);
+            }
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            LOGGER.severe("Error writing " + batch.name() + " to the index: " + e.getMessage());
+            rollback(savepoint);
+            failedBatches++;
+            return false;
+        }
+
+        writtenRows += rows.size();
+        uncommittedRows += rows.size();
+        if (uncommittedRows >= commitInterval) {
+            commit();
+        }
+        return true;
+    }
+
+    public int writtenRows() {
+        return writtenRows;
+    }
+
+    public int failedBatches() {
+        return failedBatches;
+    }
+
+    private int insert(IndexBatch.Row row, int[] generatedIds) throws SQLException {
+        PreparedStatement stmt = statements.get(row.sql());
+        if (stmt == null) {
+            stmt = connection.prepareStatement(row.sql(), Statement.RETURN_GENERATED_KEYS);
+            statements.put(row.sql(), stmt);
+        }
+
+        Object[] params = row.params();
+        for (int i = 0; i < params.length; i++) {
+            if (params[i] instanceof IndexBatch.RowRef rowRef) {
+                stmt.setInt(i + 1, generatedIds[rowRef.localId()]);
+            } else {
+                stmt.setObject(i + 1, params[i]);
+            }
+        }
+        stmt.executeUpdate();
+        try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+            return generatedKeys.next() ? generatedKeys.getInt(1) : -1;
+        }
+    }
+
+    private void rollback(Savepoint savepoint) {
+        if (savepoint == null) {
+            return;
+        }
+        try {
+            connection.rollback(savepoint);
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            LOGGER.severe("Error rolling back the batch: " + e.getMessage());
+        }
+    }
+
+    private void commit() {
+        try {
+            connection.commit();
+            uncommittedRows = 0;
+        } catch (SQLException e) {
+            LOGGER.severe("Error committing the index: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        commit();
+        for (PreparedStatement stmt : statements.values()) {
+            try {
+                stmt.close();
+            } catch (SQLException e) {
+                LOGGER.warning("Error closing statement: " + e.getMessage());
+            }
+        }
+        statements.clear();
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.severe("Error closing the index connection: " + e.getMessage());
+        }
+    }
+}
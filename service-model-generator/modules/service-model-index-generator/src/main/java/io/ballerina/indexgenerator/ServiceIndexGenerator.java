@@ -78,13 +78,17 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 /**
@@ -100,8 +104,12 @@ class ServiceIndexGenerator {
     private static final Logger LOGGER = Logger.getLogger(ServiceIndexGenerator.class.getName());
     private static final String SERVICE_ARTIFACTS_JSON = "service_artifacts.json";
     private static final Gson GSON = new Gson();
+    private static final int THREAD_COUNT =
+            Integer.getInteger("indexgenerator.threads", Runtime.getRuntime().availableProcessors());
 
     public static void main(String[] args) {
+        long start = System.nanoTime();
+        StageTimings timings = new StageTimings();
         DatabaseManager.createDatabase();
 
         Gson gson = new Gson();
@@ -109,51 +117,93 @@ class ServiceIndexGenerator {
         try (FileReader reader = new FileReader(Objects.requireNonNull(resource).getFile(), StandardCharsets.UTF_8)) {
             Map<String, List<PackageMetadataInfo>> packagesMap = gson.fromJson(reader,
                     typeToken);
-            ForkJoinPool forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
-            forkJoinPool.submit(() -> packagesMap.forEach((key, value) -> value.forEach(
-                    packageMetadataInfo -> resolvePackage(key, packageMetadataInfo)))).join();
+            generateIndex(packagesMap, timings);
         } catch (IOException e) {
             LOGGER.severe("Error reading packages JSON file: " + e.getMessage());
         }
+        LOGGER.info("Service index generation completed in " + timings.summary(System.nanoTime() - start));
     }
 
-    private static void resolvePackage(String org,
-                                       PackageMetadataInfo packageMetadataInfo) {
+    /**
+     * Resolves, compiles and extracts the packages concurrently, while the extracted packages are written to the index
+     * by the calling thread in the order of the service artifacts list.
+     */
+    private static void generateIndex(Map<String, List<PackageMetadataInfo>> packagesMap, StageTimings timings) {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try (IndexBatchWriter writer = DatabaseManager.createWriter()) {
+            List<Future<Optional<IndexBatch>>> futures = new ArrayList<>();
+            packagesMap.forEach((key, value) -> value.forEach(packageMetadataInfo -> futures.add(
+                    executor.submit(() -> resolvePackage(key, packageMetadataInfo, timings)))));
+
+            for (Future<Optional<IndexBatch>> future : futures) {
+                Optional<IndexBatch> batch;
+                try {
+                    batch = future.get();
+                } catch (ExecutionException e) {
+                    LOGGER.severe("Error processing package: " + e.getCause());
+                    continue;
+                }
+                batch.ifPresent(indexBatch -> timings.time("write", () -> writer.write(indexBatch)));
+            }
+            LOGGER.info("Written " + writer.writtenRows() + " rows to the index using " + THREAD_COUNT +
+                    " threads, " + writer.failedBatches() + " packages failed");
+        } catch (SQLException e) {
+            LOGGER.severe("Error opening the index database: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.severe("Index generation interrupted");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Optional<IndexBatch> resolvePackage(String org, PackageMetadataInfo packageMetadataInfo,
+                                                       StageTimings timings) {
         Package resolvedPackage;
         try {
-            Optional<Package> packageOpt = PackageUtil.resolveModulePackage(org,
-
-                    packageMetadataInfo.name(), packageMetadataInfo.version());
+            Optional<Package> packageOpt = timings.time("resolve", () -> PackageUtil.resolveModulePackage(org,
+                    packageMetadataInfo.name(), packageMetadataInfo.version()));
             if (packageOpt.isEmpty()) {
                 LOGGER.warning("Package not found: " + org + "/" + packageMetadataInfo.name() + ":" +
                         packageMetadataInfo.version());
-                return;
+                return Optional.empty();
             }
             resolvedPackage = packageOpt.get();
         } catch (Throwable e) {
             LOGGER.severe("Error resolving package: " + packageMetadataInfo.name() + " - " + e.getMessage());
-            return;
+            return Optional.empty();
         }
+
         PackageDescriptor descriptor = resolvedPackage.descriptor();
 
         LOGGER.info("Processing package: " + descriptor.name().value());
-        int packageId = DatabaseManager.insertPackage(descriptor.org().value(), descriptor.name().value(),
+        IndexBatch batch = new IndexBatch(descriptor.name().value());
+        int packageId = DatabaseManager.insertPackage(batch, descriptor.org().value(), descriptor.name().value(),
                 descriptor.version().value().toString(), resolvedPackage.manifest().keywords());
-        if (packageId == -1) {
-            LOGGER.severe("Error inserting package to database: " + descriptor.name().value());
-            return;
-        }
 
         SemanticModel semanticModel;
         try {
-            semanticModel = PackageUtil.getCompilation(resolvedPackage)
-                    .getSemanticModel(resolvedPackage.getDefaultModule().moduleId());
+            semanticModel = timings.time("compile", () -> PackageUtil.getCompilation(resolvedPackage)
+                    .getSemanticModel(resolvedPackage.getDefaultModule().moduleId()));
         } catch (Exception e) {
             LOGGER.severe("Error reading semantic model: " + e.getMessage());
-            return;
+            return Optional.of(batch);
+        }
+
+        try {
+            timings.time("extract", () -> processPackage(batch, packageMetadataInfo, resolvedPackage, semanticModel,
+                    packageId));
+        } catch (RuntimeException e) {
+            LOGGER.severe("Error processing package: " + descriptor.name().value() + " - " + e.getMessage());
+            return Optional.empty();
         }
+        return Optional.of(batch);
+    }
 
-        DatabaseManager.insertServiceDeclaration(packageId, packageMetadataInfo.serviceDeclaration());
+    private static void processPackage(IndexBatch batch, PackageMetadataInfo packageMetadataInfo,
+                                       Package resolvedPackage, SemanticModel semanticModel, int packageId) {
+        PackageDescriptor descriptor = resolvedPackage.descriptor();
+        DatabaseManager.insertServiceDeclaration(batch, packageId, packageMetadataInfo.serviceDeclaration());
 
         TypeSymbol errorTypeSymbol = semanticModel.types().ERROR;
 
@@ -170,7 +220,7 @@ class ServiceIndexGenerator {
                     if (initMethodSymbol.isEmpty()) {
                         continue;
                     }
-                    processListenerInit(semanticModel, initMethodSymbol.get(), classSymbol, packageId,
+                    processListenerInit(batch, semanticModel, initMethodSymbol.get(), classSymbol, packageId,
                             errorTypeSymbol, resolvedPackage);
                 }
                 continue;
@@ -185,8 +235,8 @@ class ServiceIndexGenerator {
                             .contains(serviceName)) {
                         ServiceType serviceType = new ServiceType(serviceName, getDescription(typeDefinitionSymbol),
                                 null);
-                        int serviceTypeId = DatabaseManager.insertServiceType(packageId, serviceType);
-                        handleServiceType(objectTypeSymbol, semanticModel, serviceTypeId);
+                        int serviceTypeId = DatabaseManager.insertServiceType(batch, packageId, serviceType);
+                        handleServiceType(batch, objectTypeSymbol, semanticModel, serviceTypeId);
                     }
                 }
             }
@@ -196,11 +246,11 @@ class ServiceIndexGenerator {
         // insert hardcoded service types
         for (Map.Entry<String, ServiceType> entry : serviceTypes.entrySet()) {
             ServiceType serviceType = entry.getValue();
-            int serviceTypeId = DatabaseManager.insertServiceType(packageId, serviceType);
+            int serviceTypeId = DatabaseManager.insertServiceType(batch, packageId, serviceType);
             for (ServiceTypeFunction function : serviceType.functions()) {
-                int functionId = DatabaseManager.insertServiceTypeFunction(serviceTypeId, function);
+                int functionId = DatabaseManager.insertServiceTypeFunction(batch, serviceTypeId, function);
                 for (ServiceTypeFunctionParameter parameter : function.parameters()) {
-                    DatabaseManager.insertServiceTypeFunctionParameter(functionId, parameter);
+                    DatabaseManager.insertServiceTypeFunctionParameter(batch, functionId, parameter);
                 }
             }
         }
@@ -215,8 +265,8 @@ class ServiceIndexGenerator {
                 String pkgInfo = "%s:%s:%s".formatted(descriptor.org().value(), descriptor.name().value(),
                         descriptor.version().value().toString());
 
-                DatabaseManager.insertAnnotation(packageId, annotationName, attachPoints, annotation.displayName(),
-                        annotation.description(), annotation.typeConstraint(), pkgInfo);
+                DatabaseManager.insertAnnotation(batch, packageId, annotationName, attachPoints,
+                        annotation.displayName(), annotation.description(), annotation.typeConstraint(), pkgInfo);
             }
         }
 
@@ -225,7 +275,7 @@ class ServiceIndexGenerator {
             List<MetadataItem> metadataItems = packageMetadataInfo.readOnlyMetadata();
             for (MetadataItem item : metadataItems) {
                 // Insert metadata with the kind field
-                DatabaseManager.insertServiceReadOnlyMetaData(packageId, item.key(),
+                DatabaseManager.insertServiceReadOnlyMetaData(batch, packageId, item.key(),
                         item.displayName(), item.kind());
             }
         }
@@ -235,15 +285,15 @@ class ServiceIndexGenerator {
             for (Map.Entry<String, ServiceInitializerProperty> entry : packageMetadataInfo.initForm().entrySet()) {
                 String propertyName = entry.getKey();
                 ServiceInitializerProperty property = entry.getValue();
-                DatabaseManager.insertServiceInitializerProperty(packageId, propertyName, property.label(),
+                DatabaseManager.insertServiceInitializerProperty(batch, packageId, propertyName, property.label(),
                         property.description(), property.defaultValue(), property.placeholder(),
                         GSON.toJson(property.types()), property.sourceKind());
             }
         }
     }
 
-    private static void processListenerInit(SemanticModel semanticModel, FunctionSymbol functionSymbol,
-                                            Documentable documentable, int packageId,
+    private static void processListenerInit(IndexBatch batch, SemanticModel semanticModel,
+                                            FunctionSymbol functionSymbol, Documentable documentable, int packageId,
                                             TypeSymbol errorTypeSymbol, Package resolvedPackage) {
         // Capture the name of the function
         Optional<String> name = functionSymbol.getName();
@@ -262,22 +312,22 @@ class ServiceIndexGenerator {
         int returnError = functionTypeSymbol.returnTypeDescriptor().map(returnTypeDesc ->
                 CommonUtils.subTypeOf(returnTypeDesc, errorTypeSymbol) ? 1 : 0).orElse(0);
 
-        int functionId = DatabaseManager.insertListener(packageId, name.get(), description, returnError);
+        int functionId = DatabaseManager.insertListener(batch, packageId, name.get(), description, returnError);
 
         ModuleInfo defaultModuleInfo = ModuleInfo.from(resolvedPackage.getDefaultModule().descriptor());
         functionTypeSymbol.params().ifPresent(
-                paramList -> paramList.forEach(paramSymbol -> processParameterSymbol(paramSymbol,
+                paramList -> paramList.forEach(paramSymbol -> processParameterSymbol(batch, paramSymbol,
                         documentationMap, functionId, resolvedPackage, null,
                         defaultModuleInfo, semanticModel)));
         functionTypeSymbol.restParam()
-                .ifPresent(paramSymbol -> processParameterSymbol(paramSymbol,
+                .ifPresent(paramSymbol -> processParameterSymbol(batch, paramSymbol,
                         documentationMap, functionId, resolvedPackage, null,
                         defaultModuleInfo, semanticModel));
     }
 
-    private static void processParameterSymbol(ParameterSymbol paramSymbol, Map<String, String> documentationMap,
-                                               int functionId, Package resolvedPackage,
-                                               ParamForTypeInfer paramForTypeInfer,
+    private static void processParameterSymbol(IndexBatch batch, ParameterSymbol paramSymbol,
+                                               Map<String, String> documentationMap, int functionId,
+                                               Package resolvedPackage, ParamForTypeInfer paramForTypeInfer,
                                                ModuleInfo defaultModuleInfo, SemanticModel semanticModel) {
         String paramName = paramSymbol.getName().orElse("");
         String paramDescription = documentationMap.get(paramName);
@@ -304,7 +354,7 @@ class ServiceIndexGenerator {
                     documentation.ifPresent(documentation1 -> docMap.putAll(documentation1.parameterMap()));
                 }
             }
-            addIncludedRecordParamsToDb((RecordTypeSymbol) CommonUtils.getRawType(typeSymbol),
+            addIncludedRecordParamsToDb(batch, (RecordTypeSymbol) CommonUtils.getRawType(typeSymbol),
                     functionId, resolvedPackage, defaultModuleInfo, semanticModel, true, docMap);
             defaultValue = DefaultValueGeneratorUtil.getDefaultValueForType(typeSymbol);
         } else if (parameterKind == FunctionParameterKind.REQUIRED) {
@@ -316,7 +366,7 @@ class ServiceIndexGenerator {
                 if (paramForTypeInfer.paramName().equals(paramName)) {
                     defaultValue = paramForTypeInfer.type();
                     paramType = paramForTypeInfer.type();
-                    DatabaseManager.insertListenerParameter(functionId, paramName, paramDescription,
+                    DatabaseManager.insertListenerParameter(batch, functionId, paramName, paramDescription,
                             paramType, defaultValue, FunctionParameterKind.PARAM_FOR_TYPE_INFER, optional,
                             importStatements);
                     return;
@@ -331,14 +381,15 @@ class ServiceIndexGenerator {
             }
             paramType = CommonUtils.getTypeSignature(semanticModel, typeSymbol, false);
         }
-        int paramId = DatabaseManager.insertListenerParameter(functionId, paramName, paramDescription, paramType,
-                defaultValue, parameterKind, optional, importStatements);
-        insertParameterMemberTypes(paramId, typeSymbol, semanticModel);
+        int paramId = DatabaseManager.insertListenerParameter(batch, functionId, paramName, paramDescription,
+                paramType, defaultValue, parameterKind, optional, importStatements);
+        insertParameterMemberTypes(batch, paramId, typeSymbol, semanticModel);
     }
 
-    protected static void addIncludedRecordParamsToDb(RecordTypeSymbol recordTypeSymbol, int functionId,
-                                                      Package resolvedPackage, ModuleInfo defaultModuleInfo,
-                                                      SemanticModel semanticModel, boolean insert,
+    protected static void addIncludedRecordParamsToDb(IndexBatch batch, RecordTypeSymbol recordTypeSymbol,
+                                                      int functionId, Package resolvedPackage,
+                                                      ModuleInfo defaultModuleInfo, SemanticModel semanticModel,
+                                                      boolean insert,
                                                       Map<String, String> documentationMap) {
         recordTypeSymbol.typeInclusions().forEach(includedType -> {
             if (includedType.getModule().isPresent() && includedType.getName().isPresent()) {
@@ -350,8 +401,8 @@ class ServiceIndexGenerator {
                     documentation.ifPresent(documentation1 -> documentationMap.putAll(documentation1.parameterMap()));
                 }
             }
-            addIncludedRecordParamsToDb(((RecordTypeSymbol) CommonUtils.getRawType(includedType)), functionId,
-                    resolvedPackage, defaultModuleInfo, semanticModel, false, documentationMap);
+            addIncludedRecordParamsToDb(batch, ((RecordTypeSymbol) CommonUtils.getRawType(includedType)),
+                    functionId, resolvedPackage, defaultModuleInfo, semanticModel, false, documentationMap);
         });
 
         for (Map.Entry<String, RecordFieldSymbol> entry : recordTypeSymbol.fieldDescriptors().entrySet()) {
@@ -390,23 +441,23 @@ class ServiceIndexGenerator {
             if (recordFieldSymbol.isOptional() || recordFieldSymbol.hasDefaultValue()) {
                 optional = 1;
             }
-            int paramId = DatabaseManager.insertListenerParameter(functionId, paramName,
+            int paramId = DatabaseManager.insertListenerParameter(batch, functionId, paramName,
                     documentationMap.get(paramName), paramType, defaultValue,
                     FunctionParameterKind.INCLUDED_FIELD, optional,
                     CommonUtils.getImportStatements(typeSymbol, defaultModuleInfo).orElse(null));
-            insertParameterMemberTypes(paramId, typeSymbol, semanticModel);
+            insertParameterMemberTypes(batch, paramId, typeSymbol, semanticModel);
         }
         recordTypeSymbol.restTypeDescriptor().ifPresent(typeSymbol -> {
             String paramType = CommonUtils.getTypeSignature(semanticModel, typeSymbol, false);
             String defaultValue = DefaultValueGeneratorUtil.getDefaultValueForType(typeSymbol);
-            DatabaseManager.insertListenerParameter(functionId, "Additional Values",
+            DatabaseManager.insertListenerParameter(batch, functionId, "Additional Values",
                     "Capture key value pairs", paramType, defaultValue,
                     FunctionParameterKind.INCLUDED_RECORD_REST, 1,
                     CommonUtils.getImportStatements(typeSymbol, defaultModuleInfo).orElse(null));
         });
     }
 
-    private static void insertParameterMemberTypes(int parameterId, TypeSymbol typeSymbol,
+    private static void insertParameterMemberTypes(IndexBatch batch, int parameterId, TypeSymbol typeSymbol,
                                                    SemanticModel semanticModel) {
         Types types = semanticModel.types();
         TypeBuilder builder = semanticModel.types().builder();
@@ -416,7 +467,7 @@ class ServiceIndexGenerator {
 
         if (typeSymbol instanceof UnionTypeSymbol unionTypeSymbol) {
             unionTypeSymbol.memberTypeDescriptors().forEach(
-                    memberType -> insertParameterMemberTypes(parameterId, memberType, semanticModel));
+                    memberType -> insertParameterMemberTypes(batch, parameterId, memberType, semanticModel));
             return;
         }
 
@@ -482,15 +533,15 @@ class ServiceIndexGenerator {
             type = typeParts[1];
         }
 
-        DatabaseManager.insertParameterMemberType(parameterId, type, kind, packageIdentifier);
+        DatabaseManager.insertParameterMemberType(batch, parameterId, type, kind, packageIdentifier);
     }
 
     private static String getDescription(Documentable documentable) {
         return documentable.documentation().flatMap(Documentation::description).orElse("");
     }
 
-    private static void handleServiceType(ObjectTypeSymbol objectTypeSymbol, SemanticModel semanticModel,
-                                          int serviceTypeId) {
+    private static void handleServiceType(IndexBatch batch, ObjectTypeSymbol objectTypeSymbol,
+                                          SemanticModel semanticModel, int serviceTypeId) {
 
         TypeSymbol errorTypeSymbol = semanticModel.types().ERROR;
 
@@ -515,7 +566,7 @@ class ServiceIndexGenerator {
                         methodDescription, "", "REMOTE", returnTypeSignature,
                         0, returnError, "", 1, 0, parameters);
 
-                int functionId = DatabaseManager.insertServiceTypeFunction(serviceTypeId, function);
+                int functionId = DatabaseManager.insertServiceTypeFunction(batch, serviceTypeId, function);
 
                 FunctionTypeSymbol functionTypeSymbol = methodSymbol.typeDescriptor();
                 Optional<List<ParameterSymbol>> params = functionTypeSymbol.params();
@@ -528,7 +579,7 @@ class ServiceIndexGenerator {
                                 CommonUtils.getTypeSignature(semanticModel, param.typeDescriptor(), false),
                                 "", "", 0, 0
                         );
-                        DatabaseManager.insertServiceTypeFunctionParameter(functionId, parameter);
+                        DatabaseManager.insertServiceTypeFunctionParameter(batch, functionId, parameter);
                     }
                 }
             } else if (methodSymbol.qualifiers().contains(Qualifier.RESOURCE)) {
@@ -554,7 +605,7 @@ class ServiceIndexGenerator {
                         methodDescription, resourceMethodSymbol.getName().orElse("get"), "RESOURCE",
                         returnTypeSignature, 0, returnError, "", 1, 0, parameters);
 
-                int functionId = DatabaseManager.insertServiceTypeFunction(serviceTypeId, function);
+                int functionId = DatabaseManager.insertServiceTypeFunction(batch, serviceTypeId, function);
 
                 FunctionTypeSymbol functionTypeSymbol = methodSymbol.typeDescriptor();
                 Optional<List<ParameterSymbol>> params = functionTypeSymbol.params();
@@ -567,7 +618,7 @@ class ServiceIndexGenerator {
                                 CommonUtils.getTypeSignature(semanticModel, param.typeDescriptor(), false),
                                 "", "", 0, 0
                         );
-                        DatabaseManager.insertServiceTypeFunctionParameter(functionId, parameter);
+                        DatabaseManager.insertServiceTypeFunctionParameter(batch, functionId, parameter);
                     }
                 }
             }
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Accumulates the time spent in the stages of a generator. The stages can be timed from multiple threads, in which
+ * case the reported time of a stage is the time spent in it summed across the threads.
+ *
+ * @since 1.7.0
+ */
+public class StageTimings {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final Map<String, LongAdder> stageNanos = new LinkedHashMap<>();
+
+    public <T> T time(String stage, Supplier<T> task) {
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            record(stage, System.nanoTime() - start);
+        }
+    }
+
+    public void time(String stage, Runnable task) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            record(stage, System.nanoTime() - start);
+        }
+    }
+
+    public void record(String stage, long nanos) {
+        LongAdder adder;
+        synchronized (stageNanos) {
+            adder = stageNanos.computeIfAbsent(stage, key -> new LongAdder());
+        }
+        adder.add(nanos);
+    }
+
+    /**
+     * Returns the time spent in each stage, in the order the stages were first timed.
+     *
+     * @param wallClockNanos the elapsed time of the generator
+     * @return the summary of the timings
+     */
+    public String summary(long wallClockNanos) {
+        StringBuilder summary = new StringBuilder();
+        synchronized (stageNanos) {
+            stageNanos.forEach((stage, nanos) -> summary.append(stage).append(": ")
+                    .append(String.format("%.2fs", nanos.sum() / NANOS_PER_SECOND)).append(", "));
+        }
+        return summary.append("wall clock: ").append(String.format("%.2fs", wallClockNanos / NANOS_PER_SECOND))
+                .toString();
+    }
+}
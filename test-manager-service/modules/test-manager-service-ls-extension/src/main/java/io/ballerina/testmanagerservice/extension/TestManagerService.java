@@ -51,6 +51,8 @@ import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.common.utils.NameUtil;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.TextEdit;
@@ -77,10 +79,13 @@ import java.util.stream.Collectors;
 public class TestManagerService implements ExtendedLanguageServerService {
 
     private WorkspaceManager workspaceManager;
+    private ServerExecutors executors;
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -112,7 +117,7 @@ public class TestManagerService implements ExtendedLanguageServerService {
             } catch (Throwable e) {
                 return TestsDiscoveryResponse.from(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -139,7 +144,7 @@ public class TestManagerService implements ExtendedLanguageServerService {
             } catch (Throwable e) {
                 return TestsDiscoveryResponse.from(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -173,7 +178,7 @@ public class TestManagerService implements ExtendedLanguageServerService {
             } catch (Throwable e) {
                 return GetTestFunctionResponse.from(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -253,7 +258,7 @@ public class TestManagerService implements ExtendedLanguageServerService {
             } catch (Throwable e) {
                 return new CommonSourceResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     private String getDataProviderMode(TestFunction function) {
@@ -359,7 +364,7 @@ public class TestManagerService implements ExtendedLanguageServerService {
             } catch (Throwable e) {
                 return new CommonSourceResponse(e);
             }
-        });
+        }, executors.interactive());
     }
 
     /**
@@ -20,6 +20,8 @@ package io.ballerina.xsd.extension;
 
 import com.google.gson.JsonElement;
 import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.ServerExecutors;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
@@ -38,10 +40,13 @@ import java.util.concurrent.CompletableFuture;
 @JsonSegment("xsdService")
 public class XSDConverterService implements ExtendedLanguageServerService {
     private WorkspaceManager workspaceManager;
+    private ServerExecutors executors;
 
     @Override
-    public void init(LanguageServer langServer, WorkspaceManager workspaceManager) {
+    public void init(LanguageServer langServer, WorkspaceManager workspaceManager,
+                     LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
+        this.executors = serverContext.executors();
     }
 
     @Override
@@ -91,6 +96,6 @@ public class XSDConverterService implements ExtendedLanguageServerService {
             }
 
             return response;
-        });
+        }, executors.interactive());
     }
 }